@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -576,6 +576,49 @@ public interface BufferData {
         return BufferData.create(copy);
     }
 
+    /**
+     * Add views of the bytes available for reading to the provided list, in order.
+     * The views share the memory of this buffer where possible, so the data is not copied.
+     * This method does not modify the read position; to mark the bytes as read, use {@link #skip(int)}.
+     * The views must not be used after this buffer is modified or {@link #release() released}.
+     *
+     * @param views list to add views to, used for gathering writes
+     */
+    default void readableByteBuffers(List<ByteBuffer> views) {
+        int available = available();
+        if (available == 0) {
+            return;
+        }
+        byte[] copy = new byte[available];
+        for (int i = 0; i < available; i++) {
+            copy[i] = (byte) get(i);
+        }
+        views.add(ByteBuffer.wrap(copy));
+    }
+
+    /**
+     * Add a reference to this buffer.
+     * Only pooled buffers (see {@link io.helidon.common.buffers.BufferPool}) track references, each call
+     * must be paired with a call to {@link #release()}.
+     *
+     * @return this buffer
+     */
+    default BufferData retain() {
+        return this;
+    }
+
+    /**
+     * Release a reference to this buffer.
+     * When the last reference of a pooled buffer is released, its memory is returned to the
+     * {@link io.helidon.common.buffers.BufferPool}, and the buffer must not be used anymore.
+     * Buffers that are not pooled ignore this method.
+     *
+     * @return {@code true} if memory of this buffer was returned to a pool
+     */
+    default boolean release() {
+        return false;
+    }
+
     /**
      * Number of bytes available for reading.
      *
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.buffers;
+
+/**
+ * Pool of byte arrays backing {@link io.helidon.common.buffers.BufferData}.
+ * <p>
+ * Buffers obtained from a pool are reference counted. A new buffer has a single reference, that is owned
+ * by the code that obtained it, or by the code the buffer was handed to (such as a socket writer that writes it).
+ * Once the owner is done with the buffer, it must call {@link BufferData#release()}, which returns the
+ * backing array to the pool. Additional references can be added through {@link BufferData#retain()}.
+ * A buffer that is never released is simply garbage collected, so a missing release only lowers the efficiency
+ * of the pool. Use of a buffer after it was released is a bug, as its memory may already be used by another buffer.
+ * <p>
+ * Arrays are pooled in power of two size classes from {@code 256} bytes to {@link Builder#maxBufferSize(int)}.
+ * Released arrays are cached in per-thread stripes first, and in a bounded shared area when the stripe is full.
+ * Larger arrays are never pooled.
+ */
+public interface BufferPool {
+    /**
+     * Create a new pool with default configuration.
+     *
+     * @return a new buffer pool
+     */
+    static BufferPool create() {
+        return builder().build();
+    }
+
+    /**
+     * A new builder to configure a pool.
+     *
+     * @return a new builder
+     */
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * A pool that does not pool anything, buffers are allocated as if created through
+     * {@link BufferData#growing(int)}, and releasing them has no effect.
+     *
+     * @return pool that does not pool
+     */
+    static BufferPool unpooled() {
+        return UnpooledBufferPool.INSTANCE;
+    }
+
+    /**
+     * Growing buffer data backed by a pooled array.
+     * The buffer will grow when necessary to accommodate more bytes, returning the previous array to this pool.
+     *
+     * @param initialLength initial buffer length
+     * @return growing buffer data that must be {@link BufferData#release() released}
+     */
+    BufferData growing(int initialLength);
+
+    /**
+     * Current statistics of this pool.
+     *
+     * @return statistics
+     */
+    Stats stats();
+
+    /**
+     * Check that all buffers obtained from this pool were released.
+     * This method only checks buffers if {@link Builder#leakDetection(boolean)} is enabled, otherwise it does nothing.
+     *
+     * @throws java.lang.IllegalStateException in case there are buffers that were not released, the cause of the
+     *                                         exception contains the stack trace of the allocation of a leaked buffer
+     */
+    void checkLeaks();
+
+    /**
+     * Statistics of a buffer pool.
+     *
+     * @param hits        number of arrays obtained from the pool
+     * @param misses      number of arrays that had to be allocated, as there was none available in the pool
+     * @param returned    number of arrays returned to the pool
+     * @param dropped     number of released arrays that were discarded, as the pool was full, or they were too big
+     * @param outstanding number of buffers that were not released yet, only tracked with leak detection enabled
+     */
+    record Stats(long hits, long misses, long returned, long dropped, long outstanding) {
+    }
+
+    /**
+     * Fluent API builder for {@link io.helidon.common.buffers.BufferPool}.
+     */
+    final class Builder {
+        private int maxBufferSize = 64 * 1024;
+        private int stripes = Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) * 2;
+        private int buffersPerStripe = 4;
+        private int sharedBuffers = 32;
+        private boolean leakDetection;
+
+        private Builder() {
+        }
+
+        /**
+         * Build a new pool.
+         *
+         * @return buffer pool
+         */
+        public BufferPool build() {
+            return new SizeClassBufferPool(this);
+        }
+
+        /**
+         * Maximal size of a pooled array, rounded up to a power of two. Larger arrays are allocated and left
+         * to the garbage collector. Defaults to {@code 64 KiB}.
+         *
+         * @param maxBufferSize maximal size of a pooled array in bytes, at least {@code 256}
+         * @return updated builder
+         */
+        public Builder maxBufferSize(int maxBufferSize) {
+            if (maxBufferSize < SizeClassBufferPool.MIN_SIZE || maxBufferSize > (1 << 30)) {
+                throw new IllegalArgumentException("Max buffer size must be between " + SizeClassBufferPool.MIN_SIZE
+                                                           + " and 2^30, but is: " + maxBufferSize);
+            }
+            this.maxBufferSize = maxBufferSize;
+            return this;
+        }
+
+        /**
+         * Number of stripes, rounded up to a power of two. Each thread uses a single stripe (based on its id),
+         * to lower contention between threads. Defaults to twice the number of available processors.
+         *
+         * @param stripes number of stripes
+         * @return updated builder
+         */
+        public Builder stripes(int stripes) {
+            if (stripes < 1) {
+                throw new IllegalArgumentException("Number of stripes must be at least 1, but is: " + stripes);
+            }
+            this.stripes = stripes;
+            return this;
+        }
+
+        /**
+         * Number of arrays cached in each stripe for each size class. Defaults to {@code 4}.
+         *
+         * @param buffersPerStripe number of arrays per stripe and size class
+         * @return updated builder
+         */
+        public Builder buffersPerStripe(int buffersPerStripe) {
+            if (buffersPerStripe < 0) {
+                throw new IllegalArgumentException("Buffers per stripe must not be negative, but is: " + buffersPerStripe);
+            }
+            this.buffersPerStripe = buffersPerStripe;
+            return this;
+        }
+
+        /**
+         * Number of arrays cached in the shared area for each size class, used when the stripe of the current
+         * thread is full or empty. Defaults to {@code 32}.
+         *
+         * @param sharedBuffers number of shared arrays per size class
+         * @return updated builder
+         */
+        public Builder sharedBuffers(int sharedBuffers) {
+            if (sharedBuffers < 0) {
+                throw new IllegalArgumentException("Shared buffers must not be negative, but is: " + sharedBuffers);
+            }
+            this.sharedBuffers = sharedBuffers;
+            return this;
+        }
+
+        /**
+         * Track each buffer obtained from the pool until it is released, including the stack trace of its allocation.
+         * This is expensive, and intended for tests, see {@link BufferPool#checkLeaks()}.
+         * Defaults to {@code false}.
+         *
+         * @param leakDetection whether to track buffers
+         * @return updated builder
+         */
+        public Builder leakDetection(boolean leakDetection) {
+            this.leakDetection = leakDetection;
+            return this;
+        }
+
+        int maxBufferSize() {
+            return maxBufferSize;
+        }
+
+        int stripes() {
+            return stripes;
+        }
+
+        int buffersPerStripe() {
+            return buffersPerStripe;
+        }
+
+        int sharedBuffers() {
+            return sharedBuffers;
+        }
+
+        boolean leakDetection() {
+            return leakDetection;
+        }
+    }
+}
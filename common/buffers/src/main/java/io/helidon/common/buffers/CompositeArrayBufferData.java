@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.util.List;
 
 class CompositeArrayBufferData extends ReadOnlyBufferData implements CompositeBufferData {
     private final BufferData[] data;
@@ -273,6 +274,30 @@ class CompositeArrayBufferData extends ReadOnlyBufferData implements CompositeBu
         throw new ArrayIndexOutOfBoundsException("Invalid index to get: " + index);
     }
 
+    @Override
+    public void readableByteBuffers(List<ByteBuffer> views) {
+        for (BufferData datum : data) {
+            datum.readableByteBuffers(views);
+        }
+    }
+
+    @Override
+    public BufferData retain() {
+        for (BufferData datum : data) {
+            datum.retain();
+        }
+        return this;
+    }
+
+    @Override
+    public boolean release() {
+        boolean released = false;
+        for (BufferData datum : data) {
+            released |= datum.release();
+        }
+        return released;
+    }
+
     @Override
     public String toString() {
         return "comp-array: a=" + available();
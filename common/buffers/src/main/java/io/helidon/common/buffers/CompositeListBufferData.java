@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -279,6 +279,30 @@ class CompositeListBufferData extends ReadOnlyBufferData implements CompositeBuf
         throw new ArrayIndexOutOfBoundsException("Invalid index to get: " + index);
     }
 
+    @Override
+    public void readableByteBuffers(List<ByteBuffer> views) {
+        for (BufferData datum : data) {
+            datum.readableByteBuffers(views);
+        }
+    }
+
+    @Override
+    public BufferData retain() {
+        for (BufferData datum : data) {
+            datum.retain();
+        }
+        return this;
+    }
+
+    @Override
+    public boolean release() {
+        boolean released = false;
+        for (BufferData datum : data) {
+            released |= datum.release();
+        }
+        return released;
+    }
+
     @Override
     public String toString() {
         return "comp-list: a=" + available();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,11 @@ package io.helidon.common.buffers;
  * Write data to the underlying transport (most likely a socket).
  * Do not combine {@link #write(io.helidon.common.buffers.BufferData)} and {@link #writeNow(io.helidon.common.buffers.BufferData)}
  * to a single underlying transport, unless you can guarantee there will not be a race between these two methods.
+ * <p>
+ * A buffer passed to any of the write methods is owned by the writer. Writers that write to a transport
+ * {@link io.helidon.common.buffers.BufferData#release() release} the buffer once it is written, so buffers obtained from a
+ * {@link io.helidon.common.buffers.BufferPool} are returned to it. The caller must not use a pooled buffer after it was
+ * passed to a writer, unless it {@link io.helidon.common.buffers.BufferData#retain() retained} it.
  */
 public interface DataWriter extends AutoCloseable {
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.util.List;
 
 class FixedBufferData implements BufferData {
     private final byte[] bytes;
@@ -68,7 +69,7 @@ class FixedBufferData implements BufferData {
     @Override
     public void writeTo(OutputStream out) {
         try {
-            out.write(bytes, readPosition, writePosition);
+            out.write(bytes, readPosition, writePosition - readPosition);
             readPosition = writePosition;
         } catch (IOException e) {
             throw new UncheckedIOException(e);
@@ -183,6 +184,13 @@ class FixedBufferData implements BufferData {
         }
     }
 
+    @Override
+    public void readableByteBuffers(List<ByteBuffer> views) {
+        if (writePosition > readPosition) {
+            views.add(ByteBuffer.wrap(bytes, readPosition, writePosition - readPosition));
+        }
+    }
+
     @Override
     public int available() {
         return writePosition - readPosition;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,16 +23,29 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 class GrowingBufferData implements BufferData {
+    private static final AtomicIntegerFieldUpdater<GrowingBufferData> REF_COUNT =
+            AtomicIntegerFieldUpdater.newUpdater(GrowingBufferData.class, "refCount");
+
+    // null if not pooled
+    private final SizeClassBufferPool pool;
     private byte[] bytes;
     private int length;
     private int writePosition;
     private int readPosition;
+    private volatile int refCount = 1;
 
     GrowingBufferData(int initialLength) {
+        this(null, initialLength);
+    }
+
+    GrowingBufferData(SizeClassBufferPool pool, int initialLength) {
         int usedInitial = Math.max(initialLength, 256);
-        this.bytes = new byte[usedInitial];
+        this.pool = pool;
+        this.bytes = pool == null ? new byte[usedInitial] : pool.acquire(usedInitial);
         this.length = 0;
     }
 
@@ -150,20 +163,60 @@ class GrowingBufferData implements BufferData {
 
     @Override
     public void write(BufferData toWrite) {
-        ensureSize(toWrite.available());
-        byte[] buffer = new byte[toWrite.available()];
-        int read = toWrite.read(buffer);
-        System.arraycopy(buffer, 0, this.bytes, writePosition, read);
-        writePosition += read;
+        write(toWrite, toWrite.available());
     }
 
     @Override
     public void write(BufferData toWrite, int length) {
         ensureSize(length);
-        byte[] buffer = new byte[length];
-        int read = toWrite.read(buffer);
-        System.arraycopy(buffer, 0, this.bytes, writePosition, read);
+        // read directly into our array, no need for an intermediate copy
+        int read = toWrite.read(this.bytes, writePosition, length);
         writePosition += read;
+        this.length = Math.max(this.length, writePosition);
+    }
+
+    @Override
+    public void readableByteBuffers(List<ByteBuffer> views) {
+        if (writePosition > readPosition) {
+            views.add(ByteBuffer.wrap(bytes, readPosition, writePosition - readPosition));
+        }
+    }
+
+    @Override
+    public BufferData retain() {
+        if (pool == null) {
+            return this;
+        }
+        int current;
+        do {
+            current = refCount;
+            if (current <= 0) {
+                throw new IllegalStateException("Buffer was already released");
+            }
+        } while (!REF_COUNT.compareAndSet(this, current, current + 1));
+        return this;
+    }
+
+    @Override
+    public boolean release() {
+        if (pool == null) {
+            return false;
+        }
+        int current = REF_COUNT.decrementAndGet(this);
+        if (current > 0) {
+            return false;
+        }
+        if (current < 0) {
+            throw new IllegalStateException("Buffer was already released");
+        }
+        byte[] released = this.bytes;
+        this.bytes = EMPTY_BYTES;
+        this.length = 0;
+        this.writePosition = 0;
+        this.readPosition = 0;
+        pool.release(released);
+        pool.released(this);
+        return true;
     }
 
     @Override
@@ -249,7 +302,11 @@ class GrowingBufferData implements BufferData {
             // int overflow
             throw new IllegalStateException("Growing buffer too big, cannot increase size");
         }
-        this.bytes = new byte[newLength];
-        System.arraycopy(current, 0, this.bytes, 0, length);
+        byte[] grown = pool == null ? new byte[newLength] : pool.acquire(newLength);
+        System.arraycopy(current, 0, grown, 0, Math.max(length, writePosition));
+        this.bytes = grown;
+        if (pool != null) {
+            pool.release(current);
+        }
     }
 }
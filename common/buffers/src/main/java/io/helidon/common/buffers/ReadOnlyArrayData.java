@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.util.List;
 
 class ReadOnlyArrayData extends ReadOnlyBufferData {
     private final byte[] bytes;
@@ -45,7 +46,7 @@ class ReadOnlyArrayData extends ReadOnlyBufferData {
     @Override
     public void writeTo(OutputStream out) {
         try {
-            out.write(bytes, offset + position, length);
+            out.write(bytes, offset + position, length - position);
             position = length;
         } catch (IOException e) {
             throw new UncheckedIOException(e);
@@ -122,6 +123,13 @@ class ReadOnlyArrayData extends ReadOnlyBufferData {
 
     }
 
+    @Override
+    public void readableByteBuffers(List<ByteBuffer> views) {
+        if (length > position) {
+            views.add(ByteBuffer.wrap(bytes, offset + position, length - position));
+        }
+    }
+
     @Override
     public int available() {
         return length - position;
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.buffers;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * Power of two size classes, each with lock-free striped slots and a shared slab.
+ * No locks are used, so virtual threads never pin or block when obtaining or releasing arrays.
+ */
+final class SizeClassBufferPool implements BufferPool {
+    static final int MIN_SIZE = 256;
+    private static final int MIN_SHIFT = Integer.numberOfTrailingZeros(MIN_SIZE);
+
+    private final int maxBufferSize;
+    private final int stripeMask;
+    private final SizeClass[] classes;
+    private final Map<GrowingBufferData, Throwable> outstanding;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder returned = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    SizeClassBufferPool(BufferPool.Builder builder) {
+        this.maxBufferSize = powerOfTwo(builder.maxBufferSize());
+        int stripes = powerOfTwo(builder.stripes());
+        this.stripeMask = stripes - 1;
+        this.outstanding = builder.leakDetection() ? new ConcurrentHashMap<>() : null;
+
+        int classCount = Integer.numberOfTrailingZeros(maxBufferSize) - MIN_SHIFT + 1;
+        this.classes = new SizeClass[classCount];
+        for (int i = 0; i < classCount; i++) {
+            classes[i] = new SizeClass(stripes, builder.buffersPerStripe(), builder.sharedBuffers());
+        }
+    }
+
+    @Override
+    public BufferData growing(int initialLength) {
+        GrowingBufferData buffer = new GrowingBufferData(this, initialLength);
+        if (outstanding != null) {
+            outstanding.put(buffer, new Throwable("Buffer obtained from pool, but never released"));
+        }
+        return buffer;
+    }
+
+    @Override
+    public Stats stats() {
+        return new Stats(hits.sum(),
+                         misses.sum(),
+                         returned.sum(),
+                         dropped.sum(),
+                         outstanding == null ? 0 : outstanding.size());
+    }
+
+    @Override
+    public void checkLeaks() {
+        if (outstanding == null || outstanding.isEmpty()) {
+            return;
+        }
+        Throwable allocation = outstanding.values().iterator().next();
+        throw new IllegalStateException(outstanding.size() + " pooled buffer(s) were not released", allocation);
+    }
+
+    @Override
+    public String toString() {
+        return "pool: max=" + maxBufferSize + ", classes=" + classes.length + ", stripes=" + (stripeMask + 1);
+    }
+
+    byte[] acquire(int minLength) {
+        int classIndex = classIndex(minLength);
+        if (classIndex < 0) {
+            misses.increment();
+            return new byte[minLength];
+        }
+        byte[] found = classes[classIndex].poll(stripe());
+        if (found == null) {
+            misses.increment();
+            return new byte[MIN_SIZE << classIndex];
+        }
+        hits.increment();
+        return found;
+    }
+
+    void release(byte[] bytes) {
+        int length = bytes.length;
+        if (length < MIN_SIZE || length > maxBufferSize || Integer.bitCount(length) != 1) {
+            // not from this pool
+            dropped.increment();
+            return;
+        }
+        int classIndex = Integer.numberOfTrailingZeros(length) - MIN_SHIFT;
+        if (classes[classIndex].offer(stripe(), bytes)) {
+            returned.increment();
+        } else {
+            dropped.increment();
+        }
+    }
+
+    void released(GrowingBufferData buffer) {
+        if (outstanding != null) {
+            outstanding.remove(buffer);
+        }
+    }
+
+    private static int powerOfTwo(int value) {
+        int highest = Integer.highestOneBit(value);
+        return highest == value ? value : highest << 1;
+    }
+
+    private int classIndex(int length) {
+        if (length > maxBufferSize) {
+            return -1;
+        }
+        if (length <= MIN_SIZE) {
+            return 0;
+        }
+        return 32 - Integer.numberOfLeadingZeros(length - 1) - MIN_SHIFT;
+    }
+
+    private int stripe() {
+        return (int) Thread.currentThread().threadId() & stripeMask;
+    }
+
+    private static final class SizeClass {
+        private final int perStripe;
+        private final AtomicReferenceArray<byte[]> striped;
+        private final AtomicReferenceArray<byte[]> shared;
+        // only a hint to avoid scanning an empty (or full) shared slab
+        private final AtomicInteger sharedCount = new AtomicInteger();
+
+        private SizeClass(int stripes, int perStripe, int shared) {
+            this.perStripe = perStripe;
+            this.striped = new AtomicReferenceArray<>(stripes * perStripe);
+            this.shared = new AtomicReferenceArray<>(shared);
+        }
+
+        byte[] poll(int stripe) {
+            int base = stripe * perStripe;
+            for (int i = base; i < base + perStripe; i++) {
+                byte[] found = striped.get(i);
+                if (found != null && striped.compareAndSet(i, found, null)) {
+                    return found;
+                }
+            }
+            if (sharedCount.get() <= 0) {
+                return null;
+            }
+            int length = shared.length();
+            for (int i = 0; i < length; i++) {
+                int index = (stripe + i) % length;
+                byte[] found = shared.get(index);
+                if (found != null && shared.compareAndSet(index, found, null)) {
+                    sharedCount.decrementAndGet();
+                    return found;
+                }
+            }
+            return null;
+        }
+
+        boolean offer(int stripe, byte[] bytes) {
+            int base = stripe * perStripe;
+            for (int i = base; i < base + perStripe; i++) {
+                if (striped.get(i) == null && striped.compareAndSet(i, null, bytes)) {
+                    return true;
+                }
+            }
+            int length = shared.length();
+            if (sharedCount.get() >= length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                int index = (stripe + i) % length;
+                if (shared.get(index) == null && shared.compareAndSet(index, null, bytes)) {
+                    sharedCount.incrementAndGet();
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.buffers;
+
+final class UnpooledBufferPool implements BufferPool {
+    static final UnpooledBufferPool INSTANCE = new UnpooledBufferPool();
+
+    private static final Stats STATS = new Stats(0, 0, 0, 0, 0);
+
+    private UnpooledBufferPool() {
+    }
+
+    @Override
+    public BufferData growing(int initialLength) {
+        return new GrowingBufferData(initialLength);
+    }
+
+    @Override
+    public Stats stats() {
+        return STATS;
+    }
+
+    @Override
+    public void checkLeaks() {
+    }
+
+    @Override
+    public String toString() {
+        return "unpooled";
+    }
+}
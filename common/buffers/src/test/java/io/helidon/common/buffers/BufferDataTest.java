@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,9 @@
 
 package io.helidon.common.buffers;
 
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.HexFormat;
 import java.util.stream.Stream;
 
@@ -286,6 +288,20 @@ class BufferDataTest {
         assertThat(bd.debugDataHex(true), is(expected));
     }
 
+    @ParameterizedTest
+    @MethodSource("initParams")
+    void testWriteToAfterRead(TestContext context) {
+        BufferData b = context.bufferData();
+        b.writeAscii("Hello World");
+        b.skip(6);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        b.writeTo(out);
+
+        assertThat(out.toString(StandardCharsets.US_ASCII), is("World"));
+        assertThat(b.consumed(), is(true));
+    }
+
     @ParameterizedTest
     @MethodSource("initParams")
     void emptyInputStream(TestContext context) {
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.buffers;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BufferPoolTest {
+    @Test
+    void testReuse() {
+        BufferPool pool = BufferPool.builder()
+                .leakDetection(true)
+                .build();
+
+        BufferData first = pool.growing(100);
+        first.write("Hello".getBytes(StandardCharsets.US_ASCII));
+        assertThat(first.release(), is(true));
+
+        BufferData second = pool.growing(200);
+        assertThat(second.available(), is(0));
+        second.write("World".getBytes(StandardCharsets.US_ASCII));
+        assertThat(second.readString(5), is("World"));
+        assertThat(second.release(), is(true));
+
+        BufferPool.Stats stats = pool.stats();
+        assertThat(stats.misses(), is(1L));
+        assertThat(stats.hits(), is(1L));
+        assertThat(stats.returned(), is(2L));
+        assertThat(stats.outstanding(), is(0L));
+        pool.checkLeaks();
+    }
+
+    @Test
+    void testGrowReturnsArray() {
+        BufferPool pool = BufferPool.create();
+
+        BufferData buffer = pool.growing(256);
+        byte[] data = new byte[1000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        buffer.write(data);
+        // the initial array was replaced by a bigger one and returned to the pool
+        assertThat(pool.stats().returned(), is(1L));
+
+        assertThat(buffer.available(), is(1000));
+        byte[] read = new byte[1000];
+        buffer.read(read);
+        for (int i = 0; i < read.length; i++) {
+            assertThat(read[i], is((byte) i));
+        }
+        buffer.release();
+        assertThat(pool.stats().returned(), is(2L));
+    }
+
+    @Test
+    void testWriteBufferData() {
+        BufferPool pool = BufferPool.create();
+
+        BufferData buffer = pool.growing(10);
+        buffer.write(BufferData.create("Hello "));
+        buffer.write(BufferData.create(BufferData.create("World"), BufferData.create("!")));
+
+        assertThat(buffer.readString(buffer.available()), is("Hello World!"));
+        buffer.release();
+    }
+
+    @Test
+    void testReferenceCounting() {
+        BufferPool pool = BufferPool.builder()
+                .leakDetection(true)
+                .build();
+
+        BufferData buffer = pool.growing(10);
+        buffer.retain();
+        assertThat(buffer.release(), is(false));
+        assertThat(pool.stats().outstanding(), is(1L));
+        assertThrows(IllegalStateException.class, pool::checkLeaks);
+
+        assertThat(buffer.release(), is(true));
+        assertThat(pool.stats().outstanding(), is(0L));
+        pool.checkLeaks();
+
+        assertThrows(IllegalStateException.class, buffer::release);
+        assertThrows(IllegalStateException.class, buffer::retain);
+    }
+
+    @Test
+    void testCompositeRelease() {
+        BufferPool pool = BufferPool.builder()
+                .leakDetection(true)
+                .build();
+
+        BufferData composite = BufferData.create(pool.growing(10), BufferData.create("unpooled"), pool.growing(10));
+        assertThat(composite.release(), is(true));
+        assertThat(pool.stats().returned(), is(2L));
+        pool.checkLeaks();
+    }
+
+    @Test
+    void testOversizeNotPooled() {
+        BufferPool pool = BufferPool.builder()
+                .maxBufferSize(1024)
+                .build();
+
+        BufferData buffer = pool.growing(2048);
+        buffer.release();
+
+        BufferPool.Stats stats = pool.stats();
+        assertThat(stats.returned(), is(0L));
+        assertThat(stats.dropped(), is(1L));
+    }
+
+    @Test
+    void testPoolFull() {
+        BufferPool pool = BufferPool.builder()
+                .stripes(1)
+                .buffersPerStripe(1)
+                .sharedBuffers(1)
+                .build();
+
+        BufferData first = pool.growing(10);
+        BufferData second = pool.growing(10);
+        BufferData third = pool.growing(10);
+        first.release();
+        second.release();
+        third.release();
+
+        BufferPool.Stats stats = pool.stats();
+        assertThat(stats.returned(), is(2L));
+        assertThat(stats.dropped(), is(1L));
+    }
+
+    @Test
+    void testUnpooled() {
+        BufferPool pool = BufferPool.unpooled();
+
+        BufferData buffer = pool.growing(10);
+        buffer.write(1);
+        assertThat(buffer.release(), is(false));
+        // unpooled buffers stay usable
+        assertThat(buffer.read(), is(1));
+        assertThat(pool.stats().returned(), is(0L));
+    }
+}
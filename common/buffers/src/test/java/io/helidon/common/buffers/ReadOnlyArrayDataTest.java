@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,12 +16,14 @@
 
 package io.helidon.common.buffers;
 
+import java.io.ByteArrayOutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 class ReadOnlyArrayDataTest {
@@ -37,4 +39,17 @@ class ReadOnlyArrayDataTest {
                                    "|00000000| 65 6c 6c 6f 20 57 6f 72 6c 64 21                |ello World!     |",
                                    "+--------+-------------------------------------------------+----------------+"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testWriteToAfterRead() {
+        byte[] test = "Hello World!".getBytes(StandardCharsets.UTF_8);
+        ReadOnlyArrayData rad = new ReadOnlyArrayData(test, 1, test.length - 1);
+        rad.skip(5);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        rad.writeTo(out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8), is("World!"));
+        assertThat(rad.available(), is(0));
+    }
+}
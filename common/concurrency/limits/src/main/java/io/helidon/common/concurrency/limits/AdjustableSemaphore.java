@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.concurrency.limits;
+
+import java.io.Serial;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Semaphore that allows reducing the number of permits, used by limits that change over time.
+ */
+final class AdjustableSemaphore extends Semaphore {
+    @Serial
+    private static final long serialVersionUID = 114L;
+
+    AdjustableSemaphore(int permits, boolean fair) {
+        super(permits, fair);
+    }
+
+    @Override
+    protected void reducePermits(int reduction) {
+        super.reducePermits(reduction);
+    }
+}
@@ -16,7 +16,6 @@
 
 package io.helidon.common.concurrency.limits;
 
-import java.io.Serial;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Callable;
@@ -304,20 +303,6 @@ class AimdLimitImpl {
         }
     }
 
-    private static final class AdjustableSemaphore extends Semaphore {
-        @Serial
-        private static final long serialVersionUID = 114L;
-
-        private AdjustableSemaphore(int permits, boolean fair) {
-            super(permits, fair);
-        }
-
-        @Override
-        protected void reducePermits(int reduction) {
-            super.reducePermits(reduction);
-        }
-    }
-
     private class AimdToken implements LimitAlgorithm.Token {
         private final long startTime;
         private final int currentRequests;
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.concurrency.limits;
+
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+import io.helidon.builder.api.RuntimeType;
+import io.helidon.config.Config;
+
+/**
+ * Gradient based limiter.
+ * <p>
+ * The limit is adjusted continuously based on the ratio (gradient) of a long-term and a short-term average of round-trip
+ * times of requests, similar to TCP Vegas congestion control. When the latency grows over the long-term baseline (for
+ * example because requests start to queue), the limit is reduced before requests time out or fail; when latency is stable,
+ * the limit grows.
+ */
+@SuppressWarnings("removal")
+public class GradientLimit extends LimitAlgorithmDeprecatedBase implements Limit, RuntimeType.Api<GradientLimitConfig> {
+
+    /**
+     * Default length of the queue.
+     */
+    public static final int DEFAULT_QUEUE_LENGTH = 0;
+
+    /**
+     * Timeout of a request that is enqueued.
+     */
+    public static final String DEFAULT_QUEUE_TIMEOUT_DURATION = "PT1S";
+
+    static final String TYPE = "gradient";
+
+    private final GradientLimitConfig config;
+    private final GradientLimitImpl gradientLimitImpl;
+
+    private GradientLimit(GradientLimitConfig config) {
+        this.config = config;
+        this.gradientLimitImpl = new GradientLimitImpl(config);
+    }
+
+    /**
+     * Create a new fluent API builder to construct {@link io.helidon.common.concurrency.limits.GradientLimit}
+     * instance.
+     *
+     * @return fluent API builder
+     */
+    public static GradientLimitConfig.Builder builder() {
+        return GradientLimitConfig.builder();
+    }
+
+    /**
+     * Create a new instance with all defaults.
+     *
+     * @return a new limit instance
+     */
+    public static GradientLimit create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new instance from configuration.
+     *
+     * @param config configuration of the gradient limit
+     * @return a new limit instance configured from {@code config}
+     */
+    public static GradientLimit create(Config config) {
+        return builder()
+                .config(config)
+                .build();
+    }
+
+    /**
+     * Create a new instance from configuration.
+     *
+     * @param config configuration of the gradient limit
+     * @return a new limit instance configured from {@code config}
+     */
+    public static GradientLimit create(GradientLimitConfig config) {
+        return new GradientLimit(config);
+    }
+
+    /**
+     * Create a new instance customizing its configuration.
+     *
+     * @param consumer consumer of configuration builder
+     * @return a new limit instance configured from the builder
+     */
+    public static GradientLimit create(Consumer<GradientLimitConfig.Builder> consumer) {
+        return builder()
+                .update(consumer)
+                .build();
+    }
+
+    @Override
+    public <T> Result<T> call(Callable<T> callable) throws Exception {
+        return gradientLimitImpl.call(callable);
+    }
+
+    @Override
+    public Outcome run(Runnable runnable) throws Exception {
+        return gradientLimitImpl.run(runnable);
+    }
+
+    @Override
+    public Outcome tryAcquireOutcome(boolean wait) {
+        return gradientLimitImpl.tryAcquireOutcome(wait);
+    }
+
+    @Override
+    public String name() {
+        return config.name();
+    }
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public GradientLimitConfig prototype() {
+        return config;
+    }
+
+    @Override
+    public Limit copy() {
+        return config.build();
+    }
+
+    @Override
+    public void init(String socketName) {
+        gradientLimitImpl.initMetrics(socketName, config);
+    }
+
+    /**
+     * Current value of the limit.
+     *
+     * @return number of permits currently available for concurrent requests (excluding queued requests)
+     */
+    public int currentLimit() {
+        return gradientLimitImpl.currentLimit();
+    }
+
+    @Deprecated(since = "4.3.0", forRemoval = true)
+    @Override
+    <T> Result<T> doInvokeObs(Callable<T> callable) throws Exception {
+        return call(callable);
+    }
+
+    @Deprecated(since = "4.3.0", forRemoval = true)
+    @Override
+    Outcome doTryAcquireObs(boolean wait) {
+        return tryAcquireOutcome(wait);
+    }
+}
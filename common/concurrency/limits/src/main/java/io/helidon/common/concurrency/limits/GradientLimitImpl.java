@@ -0,0 +1,378 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.concurrency.limits;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import io.helidon.common.concurrency.limits.LimitAlgorithm.Outcome;
+import io.helidon.common.concurrency.limits.LimitAlgorithm.Result;
+import io.helidon.config.ConfigException;
+import io.helidon.metrics.api.Gauge;
+import io.helidon.metrics.api.MeterRegistry;
+import io.helidon.metrics.api.Metrics;
+import io.helidon.metrics.api.MetricsFactory;
+import io.helidon.metrics.api.Tag;
+import io.helidon.metrics.api.Timer;
+
+import static io.helidon.metrics.api.Meter.Scope.VENDOR;
+
+class GradientLimitImpl {
+    // bounds of the gradient, the limit is at most halved by a single sample
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double MAX_GRADIENT = 1.0;
+    // if the long-term round-trip time is this many times higher than the short-term, latency dropped
+    // and the long-term average is decayed faster, so the baseline follows
+    private static final double RTT_DROP_RATIO = 2.0;
+    private static final double RTT_DROP_DECAY = 0.95;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int headroom;
+    private final double rttTolerance;
+    private final double smoothing;
+
+    private final Supplier<Long> clock;
+    private final AtomicInteger concurrentRequests;
+    private final AtomicInteger rejectedRequests;
+    private final AdjustableSemaphore semaphore;
+    private final LimitHandlers.LimiterHandler handler;
+    private final AtomicInteger limit;
+    private final Lock limitLock = new ReentrantLock();
+    private final int queueLength;
+
+    // guarded by limitLock
+    private final ExpAverage shortRtt;
+    private final ExpAverage longRtt;
+    private double estimatedLimit;
+
+    private Timer rttTimer;
+    private Timer queueWaitTimer;
+    private String originName;
+
+    GradientLimitImpl(GradientLimitConfig config) {
+        int initialLimit = config.initialLimit();
+        this.minLimit = config.minLimit();
+        this.maxLimit = config.maxLimit();
+        this.headroom = config.headroom();
+        this.rttTolerance = config.rttTolerance();
+        this.smoothing = config.smoothing();
+        this.clock = config.clock().orElseGet(() -> System::nanoTime);
+
+        this.concurrentRequests = new AtomicInteger();
+        this.rejectedRequests = new AtomicInteger();
+        this.limit = new AtomicInteger(initialLimit);
+        this.estimatedLimit = initialLimit;
+
+        this.queueLength = config.queueLength();
+        this.semaphore = new AdjustableSemaphore(initialLimit, config.fair());
+        this.handler = new LimitHandlers.QueuedSemaphoreHandler(semaphore,
+                                                                queueLength,
+                                                                config.queueTimeout(),
+                                                                () -> new GradientToken(clock, concurrentRequests));
+        if (maxLimit < minLimit) {
+            throw new ConfigException("Max limit must be higher than min limit, or equal to it");
+        }
+        if (initialLimit > maxLimit) {
+            throw new ConfigException("Initial limit must be lower than max limit, or equal to it");
+        }
+        if (initialLimit < minLimit) {
+            throw new ConfigException("Initial limit must be higher than minimum limit, or equal to it");
+        }
+        if (config.shortWindow() < 1) {
+            throw new ConfigException("Short window must be at least 1");
+        }
+        if (config.longWindow() <= config.shortWindow()) {
+            throw new ConfigException("Long window must be higher than short window");
+        }
+        if (rttTolerance < 1.0) {
+            throw new ConfigException("RTT tolerance must be at least 1.0");
+        }
+        if (!(smoothing > 0.0 && smoothing <= 1.0)) {
+            throw new ConfigException("Smoothing must be within (0.0, 1.0]");
+        }
+        if (headroom < 0) {
+            throw new ConfigException("Headroom must not be negative");
+        }
+        this.shortRtt = new ExpAverage(config.shortWindow());
+        this.longRtt = new ExpAverage(config.longWindow());
+    }
+
+    int currentLimit() {
+        return limit.get();
+    }
+
+    Outcome tryAcquireOutcome(boolean wait) {
+        return doTryAcquire(wait);
+    }
+
+    Outcome run(Runnable runnable) throws Exception {
+        return call(() -> {
+            runnable.run();
+            return null;
+        }).outcome();
+    }
+
+    <T> Result<T> call(Callable<T> callable) throws Exception {
+        Outcome outcome = tryAcquireOutcome(true);
+        if (outcome instanceof Outcome.Accepted accepted) {
+            LimitAlgorithm.Token token = accepted.token();
+            try {
+                T response = callable.call();
+                token.success();
+                return Result.create(response, outcome);
+            } catch (IgnoreTaskException e) {
+                token.ignore();
+                return Result.create(e.handle(), outcome);
+            } catch (Throwable e) {
+                token.dropped();
+                throw e;
+            }
+        } else {
+            throw new LimitException("No more permits available for the semaphore");
+        }
+    }
+
+    void updateWithSample(long startTime, long endTime, int currentRequests, boolean success) {
+        long rtt = endTime - startTime;
+
+        if (rttTimer != null) {
+            rttTimer.record(rtt, TimeUnit.NANOSECONDS);
+        }
+        if (rtt <= 0) {
+            return;
+        }
+
+        // samples are processed by a single thread at a time; a sample that arrives while another one is processed
+        // is skipped, which does not change the averages significantly, and avoids contention under high load
+        if (!limitLock.tryLock()) {
+            return;
+        }
+        try {
+            double shortAverage = shortRtt.add(rtt);
+            double longAverage = longRtt.add(rtt);
+
+            if (longAverage / shortAverage > RTT_DROP_RATIO) {
+                longAverage = longRtt.set(longAverage * RTT_DROP_DECAY);
+            }
+
+            if (success && currentRequests < estimatedLimit / 2) {
+                // not enough load to learn anything about the limit
+                return;
+            }
+
+            double gradient = Math.max(MIN_GRADIENT, Math.min(MAX_GRADIENT, rttTolerance * longAverage / shortAverage));
+            double newLimit = estimatedLimit * gradient + headroom;
+            newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+            estimatedLimit = Math.min(maxLimit, Math.max(minLimit, newLimit));
+
+            setLimit((int) estimatedLimit);
+        } finally {
+            limitLock.unlock();
+        }
+    }
+
+    /**
+     * Initialize metrics for this limit.
+     *
+     * @param socketName name of socket for which this limit was created
+     * @param config this limit's config
+     */
+    void initMetrics(String socketName, GradientLimitConfig config) {
+        originName = socketName;
+        if (config.enableMetrics()) {
+            MetricsFactory metricsFactory = MetricsFactory.getInstance();
+            MeterRegistry meterRegistry = Metrics.globalRegistry();
+
+            // define tag if socket is not the default
+            List<Tag> tags = socketName.equals("@default")
+                    ? List.of()
+                    : List.of(Tag.create("socketName", socketName));
+
+            // actual value of limit at this time
+            meterRegistry.getOrCreate(metricsFactory.gaugeBuilder(config.name() + "_limit", limit::get)
+                                              .scope(VENDOR)
+                                              .tags(tags));
+
+            // count of current requests running
+            meterRegistry.getOrCreate(metricsFactory.gaugeBuilder(config.name() + "_concurrent_requests",
+                                                                  concurrentRequests::get)
+                                              .scope(VENDOR)
+                                              .tags(tags));
+
+            // count of number of requests rejected
+            meterRegistry.getOrCreate(metricsFactory.gaugeBuilder(config.name() + "_rejected_requests",
+                                                                  rejectedRequests::get)
+                                              .scope(VENDOR)
+                                              .tags(tags));
+
+            // actual number of requests queued
+            meterRegistry.getOrCreate(metricsFactory.gaugeBuilder(config.name() + "_queue_length",
+                                                                  semaphore::getQueueLength)
+                                              .scope(VENDOR)
+                                              .tags(tags));
+
+            // short-term and long-term round-trip time estimates in milliseconds
+            meterRegistry.getOrCreate(metricsFactory.gaugeBuilder(config.name() + "_short_rtt", shortRtt::millis)
+                                              .scope(VENDOR)
+                                              .tags(tags));
+            meterRegistry.getOrCreate(metricsFactory.gaugeBuilder(config.name() + "_long_rtt", longRtt::millis)
+                                              .scope(VENDOR)
+                                              .tags(tags));
+
+            // histogram of round-trip times, excluding any time queued
+            rttTimer = meterRegistry.getOrCreate(metricsFactory.timerBuilder(config.name() + "_rtt")
+                                                         .scope(VENDOR)
+                                                         .baseUnit(Timer.BaseUnits.MILLISECONDS)
+                                                         .tags(tags));
+
+            // histogram of wait times for a permit in queue
+            queueWaitTimer = meterRegistry.getOrCreate(metricsFactory.timerBuilder(config.name() + "_queue_wait_time")
+                                                               .scope(VENDOR)
+                                                               .baseUnit(Timer.BaseUnits.MILLISECONDS)
+                                                               .tags(tags));
+        }
+    }
+
+    private Outcome doTryAcquire(boolean wait) {
+        Optional<LimitAlgorithm.Token> token = handler.tryAcquireToken(false);
+
+        if (token.isPresent()) {
+            return Outcome.immediateAcceptance(originName,
+                                               GradientLimit.TYPE,
+                                               token.get());
+        }
+        Outcome outcome;
+        if (wait && queueLength > 0) {
+            long startWait = clock.get();
+            token = handler.tryAcquireToken(true);
+            long endWait = clock.get();
+            if (token.isPresent()) {
+                outcome = Outcome.deferredAcceptance(originName,
+                                                     GradientLimit.TYPE,
+                                                     token.get(),
+                                                     startWait,
+                                                     endWait);
+                if (queueWaitTimer != null) {
+                    queueWaitTimer.record(endWait - startWait, TimeUnit.NANOSECONDS);
+                }
+                return outcome;
+            }
+            outcome = Outcome.deferredRejection(originName,
+                                                GradientLimit.TYPE,
+                                                startWait,
+                                                endWait);
+        } else {
+            outcome = Outcome.immediateRejection(originName,
+                                                 GradientLimit.TYPE);
+        }
+        rejectedRequests.getAndIncrement();
+        return outcome;
+    }
+
+    // called with limitLock held
+    private void setLimit(int newLimit) {
+        int oldLimit = limit.get();
+        if (oldLimit == newLimit) {
+            return;
+        }
+        limit.set(newLimit);
+
+        if (newLimit > oldLimit) {
+            semaphore.release(newLimit - oldLimit);
+        } else {
+            semaphore.reducePermits(oldLimit - newLimit);
+        }
+    }
+
+    /**
+     * Exponential moving average, that uses a simple average until the window is filled.
+     * Updated with the limit lock held, the value may be read by metrics at any time.
+     */
+    private static final class ExpAverage {
+        private final int window;
+        private final double factor;
+        private volatile double value;
+        private int count;
+
+        private ExpAverage(int window) {
+            this.window = window;
+            this.factor = 2.0 / (window + 1);
+        }
+
+        private double add(double sample) {
+            if (count < window) {
+                count++;
+                value = value + (sample - value) / count;
+            } else {
+                value = value * (1 - factor) + sample * factor;
+            }
+            return value;
+        }
+
+        private double set(double newValue) {
+            value = newValue;
+            return newValue;
+        }
+
+        private double millis() {
+            return value / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+
+    private class GradientToken implements LimitAlgorithm.Token {
+        private final long startTime;
+        private final int currentRequests;
+
+        private GradientToken(Supplier<Long> clock, AtomicInteger concurrentRequests) {
+            startTime = clock.get();
+            currentRequests = concurrentRequests.incrementAndGet();
+        }
+
+        @Override
+        public void dropped() {
+            try {
+                updateWithSample(startTime, clock.get(), currentRequests, false);
+            } finally {
+                concurrentRequests.decrementAndGet();
+                semaphore.release();
+            }
+        }
+
+        @Override
+        public void ignore() {
+            concurrentRequests.decrementAndGet();
+            semaphore.release();
+        }
+
+        @Override
+        public void success() {
+            try {
+                updateWithSample(startTime, clock.get(), currentRequests, true);
+            } finally {
+                concurrentRequests.decrementAndGet();
+                semaphore.release();
+            }
+        }
+    }
+}
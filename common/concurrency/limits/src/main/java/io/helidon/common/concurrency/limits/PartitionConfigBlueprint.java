@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.concurrency.limits;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+
+/**
+ * Configuration of a partition of {@link io.helidon.common.concurrency.limits.PartitionedLimit}.
+ */
+@Prototype.Blueprint
+@Prototype.Configured
+interface PartitionConfigBlueprint {
+    /**
+     * Name of the partition, used to select it for a request.
+     *
+     * @return partition name
+     */
+    @Option.Configured
+    String name();
+
+    /**
+     * Percentage of permits of the limit guaranteed to this partition.
+     * A partition may use more permits than guaranteed, as long as the limit is not reached.
+     * Sum of percentages of all partitions must not exceed {@code 100}.
+     *
+     * @return percentage of guaranteed permits, defaults to {@code 0}
+     */
+    @Option.Configured
+    @Option.DefaultInt(0)
+    int percentage();
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.concurrency.limits;
+
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+import io.helidon.builder.api.RuntimeType;
+import io.helidon.config.Config;
+
+/**
+ * Limit that divides a shared number of permits among named partitions.
+ * <p>
+ * Each partition is guaranteed a percentage of the permits; a partition can use more permits than guaranteed
+ * (borrow idle capacity of other partitions), as long as the total number of permits is not reached.
+ * Requests are assigned to a partition by the user of this limit through {@link #partition(String)}, for example
+ * based on the path or headers of an HTTP request. Requests executed directly using this limit, or using a partition
+ * name that is not configured, use the {@code default} partition, which has no guaranteed permits unless
+ * configured explicitly.
+ * <p>
+ * Requests that cannot get a permit may be queued, either in first-in-first-out, or last-in-first-out order
+ * (see {@link io.helidon.common.concurrency.limits.QueueOrder}).
+ */
+@SuppressWarnings("removal")
+public class PartitionedLimit extends LimitAlgorithmDeprecatedBase implements Limit, RuntimeType.Api<PartitionedLimitConfig> {
+
+    /**
+     * Default length of the queue.
+     */
+    public static final int DEFAULT_QUEUE_LENGTH = 0;
+
+    /**
+     * Timeout of a request that is enqueued.
+     */
+    public static final String DEFAULT_QUEUE_TIMEOUT_DURATION = "PT1S";
+
+    static final String TYPE = "partitioned";
+
+    private final PartitionedLimitConfig config;
+    private final PartitionedLimitImpl partitionedLimitImpl;
+
+    private PartitionedLimit(PartitionedLimitConfig config) {
+        this.config = config;
+        this.partitionedLimitImpl = new PartitionedLimitImpl(config);
+    }
+
+    /**
+     * Create a new fluent API builder to construct {@link io.helidon.common.concurrency.limits.PartitionedLimit}
+     * instance.
+     *
+     * @return fluent API builder
+     */
+    public static PartitionedLimitConfig.Builder builder() {
+        return PartitionedLimitConfig.builder();
+    }
+
+    /**
+     * Create a new instance from configuration.
+     *
+     * @param config configuration of the partitioned limit
+     * @return a new limit instance configured from {@code config}
+     */
+    public static PartitionedLimit create(Config config) {
+        return builder()
+                .config(config)
+                .build();
+    }
+
+    /**
+     * Create a new instance from configuration.
+     *
+     * @param config configuration of the partitioned limit
+     * @return a new limit instance configured from {@code config}
+     */
+    public static PartitionedLimit create(PartitionedLimitConfig config) {
+        return new PartitionedLimit(config);
+    }
+
+    /**
+     * Create a new instance customizing its configuration.
+     *
+     * @param consumer consumer of configuration builder
+     * @return a new limit instance configured from the builder
+     */
+    public static PartitionedLimit create(Consumer<PartitionedLimitConfig.Builder> consumer) {
+        return builder()
+                .update(consumer)
+                .build();
+    }
+
+    /**
+     * Limit algorithm of a partition.
+     *
+     * @param name name of the partition
+     * @return limit algorithm of the partition, or of the {@code default} partition if there is no partition
+     *         with the provided name
+     */
+    public LimitAlgorithm partition(String name) {
+        return partitionedLimitImpl.partition(name);
+    }
+
+    @Override
+    public <T> Result<T> call(Callable<T> callable) throws Exception {
+        return partitionedLimitImpl.defaultPartition().call(callable);
+    }
+
+    @Override
+    public Outcome run(Runnable runnable) throws Exception {
+        return partitionedLimitImpl.defaultPartition().run(runnable);
+    }
+
+    @Override
+    public Outcome tryAcquireOutcome(boolean wait) {
+        return partitionedLimitImpl.defaultPartition().tryAcquireOutcome(wait);
+    }
+
+    @Override
+    public String name() {
+        return config.name();
+    }
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public PartitionedLimitConfig prototype() {
+        return config;
+    }
+
+    @Override
+    public Limit copy() {
+        return config.build();
+    }
+
+    @Override
+    public void init(String socketName) {
+        partitionedLimitImpl.initMetrics(socketName, config);
+    }
+
+    @Deprecated(since = "4.3.0", forRemoval = true)
+    @Override
+    <T> Result<T> doInvokeObs(Callable<T> callable) throws Exception {
+        return call(callable);
+    }
+
+    @Deprecated(since = "4.3.0", forRemoval = true)
+    @Override
+    Outcome doTryAcquireObs(boolean wait) {
+        return tryAcquireOutcome(wait);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.concurrency.limits;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+import io.helidon.common.concurrency.limits.spi.LimitProvider;
+
+/**
+ * Configuration of {@link io.helidon.common.concurrency.limits.PartitionedLimit}.
+ */
+@Prototype.Blueprint
+@Prototype.Configured(value = PartitionedLimit.TYPE, root = false)
+@Prototype.Provides(LimitProvider.class)
+interface PartitionedLimitConfigBlueprint extends Prototype.Factory<PartitionedLimit> {
+    /**
+     * Number of permits shared by all partitions.
+     *
+     * @return number of permits
+     */
+    @Option.Configured
+    int permits();
+
+    /**
+     * Partitions of the limit.
+     * Requests that do not belong to any partition can only use permits that are not in use,
+     * without any guarantee.
+     *
+     * @return partitions
+     */
+    @Option.Configured
+    @Option.Singular
+    List<PartitionConfig> partitions();
+
+    /**
+     * How many requests can be enqueued waiting for a permit.
+     * Default value is {@value PartitionedLimit#DEFAULT_QUEUE_LENGTH}.
+     * If set to {code 0}, there is no queueing.
+     *
+     * @return number of requests to enqueue
+     */
+    @Option.Configured
+    @Option.DefaultInt(PartitionedLimit.DEFAULT_QUEUE_LENGTH)
+    int queueLength();
+
+    /**
+     * How long to wait for a permit when enqueued.
+     * Defaults to {@value PartitionedLimit#DEFAULT_QUEUE_TIMEOUT_DURATION}
+     *
+     * @return duration of the timeout
+     */
+    @Option.Configured
+    @Option.Default(PartitionedLimit.DEFAULT_QUEUE_TIMEOUT_DURATION)
+    Duration queueTimeout();
+
+    /**
+     * Order in which queued requests obtain a permit.
+     * Defaults to {@link io.helidon.common.concurrency.limits.QueueOrder#FIFO}.
+     *
+     * @return queue order
+     */
+    @Option.Configured
+    @Option.Default("FIFO")
+    QueueOrder queueOrder();
+
+    /**
+     * A clock that supplies nanosecond time.
+     *
+     * @return supplier of current nanoseconds, defaults to {@link java.lang.System#nanoTime()}
+     */
+    Optional<Supplier<Long>> clock();
+
+    /**
+     * Name of this instance.
+     *
+     * @return name of the instance
+     */
+    @Option.Default(PartitionedLimit.TYPE)
+    String name();
+
+    /**
+     * Whether to collect metrics for the partitioned limit implementation.
+     *
+     * @return metrics flag
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean enableMetrics();
+}
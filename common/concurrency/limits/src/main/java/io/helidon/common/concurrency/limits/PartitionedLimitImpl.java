@@ -0,0 +1,362 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.concurrency.limits;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import io.helidon.common.concurrency.limits.LimitAlgorithm.Outcome;
+import io.helidon.common.concurrency.limits.LimitAlgorithm.Result;
+import io.helidon.config.ConfigException;
+import io.helidon.metrics.api.Gauge;
+import io.helidon.metrics.api.MeterRegistry;
+import io.helidon.metrics.api.Metrics;
+import io.helidon.metrics.api.MetricsFactory;
+import io.helidon.metrics.api.Tag;
+
+import static io.helidon.metrics.api.Meter.Scope.VENDOR;
+
+/*
+A partition may always use its guaranteed permits. Above that, it may borrow permits as long as the total number
+of requests in progress is below the limit. As a result, the total may exceed the limit for a short time, while
+partitions reclaim their guaranteed permits that were borrowed by others.
+ */
+class PartitionedLimitImpl {
+    private static final String DEFAULT_PARTITION = "default";
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final int permits;
+    private final int queueLength;
+    private final long queueTimeoutNanos;
+    private final boolean lifo;
+    private final Supplier<Long> clock;
+    private final Map<String, Partition> partitions;
+    private final Partition defaultPartition;
+    private final boolean hasGuarantees;
+
+    // guarded by lock
+    private final Deque<Waiter> queue = new ArrayDeque<>();
+    private int inProgress;
+
+    private String originName;
+
+    PartitionedLimitImpl(PartitionedLimitConfig config) {
+        this.permits = config.permits();
+        this.queueLength = config.queueLength();
+        this.queueTimeoutNanos = config.queueTimeout().toNanos();
+        this.lifo = config.queueOrder() == QueueOrder.LIFO;
+        this.clock = config.clock().orElseGet(() -> System::nanoTime);
+
+        if (permits <= 0) {
+            throw new ConfigException("Permits of a partitioned limit must be higher than 0");
+        }
+        if (queueLength < 0) {
+            throw new ConfigException("Queue length must not be negative");
+        }
+
+        Map<String, Partition> partitions = new LinkedHashMap<>();
+        int totalPercentage = 0;
+        for (PartitionConfig partition : config.partitions()) {
+            if (partition.percentage() < 0) {
+                throw new ConfigException("Percentage of partition " + partition.name() + " must not be negative");
+            }
+            totalPercentage += partition.percentage();
+            int guaranteed = (int) ((long) permits * partition.percentage() / 100);
+            if (partitions.putIfAbsent(partition.name(), new Partition(partition.name(), guaranteed)) != null) {
+                throw new ConfigException("Partition " + partition.name() + " is defined more than once");
+            }
+        }
+        if (totalPercentage > 100) {
+            throw new ConfigException("Sum of percentages of partitions must not exceed 100, but is " + totalPercentage);
+        }
+        this.partitions = partitions;
+        this.hasGuarantees = partitions.values().stream().anyMatch(it -> it.guaranteed > 0);
+        this.defaultPartition = partitions.computeIfAbsent(DEFAULT_PARTITION, it -> new Partition(it, 0));
+    }
+
+    Partition partition(String name) {
+        Partition partition = partitions.get(name);
+        return partition == null ? defaultPartition : partition;
+    }
+
+    Partition defaultPartition() {
+        return defaultPartition;
+    }
+
+    int inProgress() {
+        lock.lock();
+        try {
+            return inProgress;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int queueLength() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Initialize metrics for this limit.
+     *
+     * @param socketName name of socket for which this limit was created
+     * @param config this limit's config
+     */
+    void initMetrics(String socketName, PartitionedLimitConfig config) {
+        originName = socketName;
+        if (config.enableMetrics()) {
+            MetricsFactory metricsFactory = MetricsFactory.getInstance();
+            MeterRegistry meterRegistry = Metrics.globalRegistry();
+
+            // define tag if socket is not the default
+            List<Tag> socketTags = socketName.equals("@default")
+                    ? List.of()
+                    : List.of(Tag.create("socketName", socketName));
+
+            // actual number of requests queued
+            meterRegistry.getOrCreate(metricsFactory.gaugeBuilder(config.name() + "_queue_length", this::queueLength)
+                                              .scope(VENDOR)
+                                              .tags(socketTags));
+
+            for (Partition partition : partitions.values()) {
+                List<Tag> tags = new ArrayList<>(socketTags);
+                tags.add(Tag.create("partition", partition.name));
+
+                // count of current requests running in the partition
+                Gauge.Builder<Integer> concurrentRequestsBuilder = metricsFactory.gaugeBuilder(
+                        config.name() + "_concurrent_requests", partition::inProgress)
+                        .scope(VENDOR)
+                        .tags(tags);
+                meterRegistry.getOrCreate(concurrentRequestsBuilder);
+
+                // count of number of requests of the partition rejected
+                Gauge.Builder<Integer> rejectedRequestsBuilder = metricsFactory.gaugeBuilder(
+                        config.name() + "_rejected_requests", partition.rejectedRequests::get)
+                        .scope(VENDOR)
+                        .tags(tags);
+                meterRegistry.getOrCreate(rejectedRequestsBuilder);
+            }
+        }
+    }
+
+    private Outcome tryAcquire(Partition partition, boolean wait) {
+        Waiter waiter;
+        long startWait;
+
+        lock.lock();
+        try {
+            // waiting requests are admitted as soon as a permit is released, so a permit available now
+            // is not wanted by any of them
+            if (canAcquire(partition)) {
+                acquire(partition);
+                return Outcome.immediateAcceptance(originName, PartitionedLimit.TYPE, new PartitionToken(partition));
+            }
+            if (!wait || queueLength == 0) {
+                partition.rejectedRequests.incrementAndGet();
+                return Outcome.immediateRejection(originName, PartitionedLimit.TYPE);
+            }
+            if (queue.size() >= queueLength) {
+                if (!lifo) {
+                    partition.rejectedRequests.incrementAndGet();
+                    return Outcome.immediateRejection(originName, PartitionedLimit.TYPE);
+                }
+                // make room for a fresh request by rejecting the one that waits the longest
+                Waiter oldest = queue.pollFirst();
+                oldest.state = Waiter.REJECTED;
+                oldest.condition.signal();
+            }
+            startWait = clock.get();
+            waiter = new Waiter(partition, lock.newCondition());
+            queue.addLast(waiter);
+
+            long remaining = queueTimeoutNanos;
+            try {
+                while (waiter.state == Waiter.WAITING && remaining > 0) {
+                    remaining = waiter.condition.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (waiter.state == Waiter.WAITING) {
+                // timed out or interrupted
+                queue.remove(waiter);
+                waiter.state = Waiter.REJECTED;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        long endWait = clock.get();
+        if (waiter.state == Waiter.ACCEPTED) {
+            return Outcome.deferredAcceptance(originName,
+                                              PartitionedLimit.TYPE,
+                                              new PartitionToken(partition),
+                                              startWait,
+                                              endWait);
+        }
+        partition.rejectedRequests.incrementAndGet();
+        return Outcome.deferredRejection(originName, PartitionedLimit.TYPE, startWait, endWait);
+    }
+
+    private void release(Partition partition) {
+        lock.lock();
+        try {
+            inProgress--;
+            partition.inProgress--;
+
+            Iterator<Waiter> waiters = lifo ? queue.descendingIterator() : queue.iterator();
+            while (waiters.hasNext()) {
+                Waiter waiter = waiters.next();
+                if (canAcquire(waiter.partition)) {
+                    waiters.remove();
+                    acquire(waiter.partition);
+                    waiter.state = Waiter.ACCEPTED;
+                    waiter.condition.signal();
+                    if (inProgress >= permits && !hasGuarantees) {
+                        // no other waiter can be admitted
+                        break;
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // guarded by lock
+    private boolean canAcquire(Partition partition) {
+        return partition.inProgress < partition.guaranteed || inProgress < permits;
+    }
+
+    // guarded by lock
+    private void acquire(Partition partition) {
+        inProgress++;
+        partition.inProgress++;
+    }
+
+    /**
+     * Partition of the limit, with its own number of guaranteed permits.
+     */
+    @SuppressWarnings("removal")
+    final class Partition extends LimitAlgorithmDeprecatedBase {
+        private final String name;
+        private final int guaranteed;
+        private final AtomicInteger rejectedRequests = new AtomicInteger();
+
+        // guarded by lock
+        private int inProgress;
+
+        private Partition(String name, int guaranteed) {
+            this.name = name;
+            this.guaranteed = guaranteed;
+        }
+
+        @Override
+        public Outcome tryAcquireOutcome(boolean wait) {
+            return PartitionedLimitImpl.this.tryAcquire(this, wait);
+        }
+
+        @Override
+        public String toString() {
+            return name + " (guaranteed: " + guaranteed + ")";
+        }
+
+        String name() {
+            return name;
+        }
+
+        int guaranteed() {
+            return guaranteed;
+        }
+
+        int inProgress() {
+            lock.lock();
+            try {
+                return inProgress;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Deprecated(since = "4.3.0", forRemoval = true)
+        @Override
+        Outcome doTryAcquireObs(boolean wait) {
+            return tryAcquireOutcome(wait);
+        }
+
+        @Deprecated(since = "4.3.0", forRemoval = true)
+        @Override
+        <T> Result<T> doInvokeObs(Callable<T> callable) throws Exception {
+            return call(callable);
+        }
+    }
+
+    private static final class Waiter {
+        private static final int WAITING = 0;
+        private static final int ACCEPTED = 1;
+        private static final int REJECTED = 2;
+
+        private final Partition partition;
+        private final Condition condition;
+        // guarded by lock
+        private int state = WAITING;
+
+        private Waiter(Partition partition, Condition condition) {
+            this.partition = partition;
+            this.condition = condition;
+        }
+    }
+
+    private final class PartitionToken implements LimitAlgorithm.Token {
+        private final Partition partition;
+
+        private PartitionToken(Partition partition) {
+            this.partition = partition;
+        }
+
+        @Override
+        public void dropped() {
+            release(partition);
+        }
+
+        @Override
+        public void ignore() {
+            release(partition);
+        }
+
+        @Override
+        public void success() {
+            release(partition);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.concurrency.limits;
+
+/**
+ * Order in which queued requests obtain a permit.
+ */
+public enum QueueOrder {
+    /**
+     * The request that waits the longest gets the next permit.
+     */
+    FIFO,
+    /**
+     * The most recent request gets the next permit. When the queue is full, the request that waits the longest
+     * is rejected to make room for a new one. This favors fresh requests during overload, as the oldest ones
+     * are the most likely to be abandoned by their clients.
+     */
+    LIFO
+}
@@ -34,5 +34,7 @@ module io.helidon.common.concurrency.limits {
     provides io.helidon.common.concurrency.limits.spi.LimitProvider
             with io.helidon.common.concurrency.limits.FixedLimitProvider,
                     io.helidon.common.concurrency.limits.ThroughputLimitProvider,
-                    io.helidon.common.concurrency.limits.AimdLimitProvider;
+                    io.helidon.common.concurrency.limits.AimdLimitProvider,
+                    io.helidon.common.concurrency.limits.GradientLimitProvider,
+                    io.helidon.common.concurrency.limits.PartitionedLimitProvider;
 }
\ No newline at end of file
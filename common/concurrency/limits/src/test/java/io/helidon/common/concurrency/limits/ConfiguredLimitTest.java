@@ -88,4 +88,41 @@ public class ConfiguredLimitTest {
         assertThat("Duration", prototype.duration(), is(Duration.ofSeconds(5)));
     }
 
+    @Test
+    public void testGradient() {
+        LimitUsingConfig limitConfig = LimitUsingConfig.create(config.get("fourth"));
+        Optional<Limit> configuredLimit = limitConfig.concurrencyLimit();
+        assertThat(configuredLimit, not(Optional.empty()));
+        Limit limit = configuredLimit.get();
+
+        assertThat(limit.name(), is("gradient"));
+        assertThat(limit.type(), is("gradient"));
+
+        GradientLimitConfig prototype = ((GradientLimit) limit).prototype();
+        assertThat("Min limit", prototype.minLimit(), is(11));
+        assertThat("Max limit", prototype.maxLimit(), is(220));
+        assertThat("Initial limit", prototype.initialLimit(), is(14));
+        assertThat("Short window", prototype.shortWindow(), is(5));
+        assertThat("Long window", prototype.longWindow(), is(100));
+        assertThat("RTT tolerance", prototype.rttTolerance(), is(2.0));
+        assertThat("Headroom", prototype.headroom(), is(2));
+    }
+
+    @Test
+    public void testPartitioned() {
+        LimitUsingConfig limitConfig = LimitUsingConfig.create(config.get("fifth"));
+        Optional<Limit> configuredLimit = limitConfig.concurrencyLimit();
+        assertThat(configuredLimit, not(Optional.empty()));
+        Limit limit = configuredLimit.get();
+
+        assertThat(limit.name(), is("partitioned"));
+        assertThat(limit.type(), is("partitioned"));
+
+        PartitionedLimitConfig prototype = ((PartitionedLimit) limit).prototype();
+        assertThat("Permits", prototype.permits(), is(20));
+        assertThat("Queue length", prototype.queueLength(), is(10));
+        assertThat("Queue order", prototype.queueOrder(), is(QueueOrder.LIFO));
+        assertThat("Partitions", prototype.partitions().size(), is(2));
+        assertThat("Critical percentage", prototype.partitions().getFirst().percentage(), is(60));
+    }
 }
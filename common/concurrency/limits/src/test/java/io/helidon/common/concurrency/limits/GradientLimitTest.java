@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.concurrency.limits;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.helidon.config.ConfigException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GradientLimitTest {
+    private static final long RTT = Duration.ofMillis(10).toNanos();
+
+    @Test
+    void increaseOnStableLatency() {
+        GradientLimitConfig config = GradientLimitConfig.builder()
+                .initialLimit(20)
+                .minLimit(10)
+                .maxLimit(100)
+                .buildPrototype();
+        GradientLimitImpl limiter = new GradientLimitImpl(config);
+
+        for (int i = 0; i < 10; i++) {
+            limiter.updateWithSample(0, RTT, 20, true);
+        }
+        assertThat(limiter.currentLimit(), greaterThan(25));
+    }
+
+    @Test
+    void decreaseOnLatencyIncrease() {
+        GradientLimitConfig config = GradientLimitConfig.builder()
+                .initialLimit(50)
+                .minLimit(10)
+                .maxLimit(100)
+                .buildPrototype();
+        GradientLimitImpl limiter = new GradientLimitImpl(config);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.updateWithSample(0, RTT, 100, true);
+        }
+        assertThat(limiter.currentLimit(), is(100));
+
+        // requests start to queue somewhere, latency grows
+        for (int i = 0; i < 20; i++) {
+            limiter.updateWithSample(0, RTT * 10, 100, true);
+        }
+        assertThat(limiter.currentLimit(), lessThan(40));
+    }
+
+    @Test
+    void noChangeWhenApplicationLimited() {
+        GradientLimitConfig config = GradientLimitConfig.builder()
+                .initialLimit(20)
+                .minLimit(10)
+                .maxLimit(100)
+                .buildPrototype();
+        GradientLimitImpl limiter = new GradientLimitImpl(config);
+
+        for (int i = 0; i < 10; i++) {
+            limiter.updateWithSample(0, RTT, 2, true);
+        }
+        assertThat(limiter.currentLimit(), is(20));
+    }
+
+    @Test
+    void rejectWhenLimitReached() {
+        GradientLimit limit = GradientLimit.builder()
+                .initialLimit(1)
+                .minLimit(1)
+                .maxLimit(1)
+                .build();
+
+        LimitAlgorithm.Outcome first = limit.tryAcquireOutcome(false);
+        assertThat(first, instanceOf(LimitAlgorithm.Outcome.Accepted.class));
+        assertThat(limit.tryAcquireOutcome(false), not(instanceOf(LimitAlgorithm.Outcome.Accepted.class)));
+
+        ((LimitAlgorithm.Outcome.Accepted) first).token().success();
+        assertThat(limit.tryAcquireOutcome(false), instanceOf(LimitAlgorithm.Outcome.Accepted.class));
+    }
+
+    @Test
+    void invalidConfiguration() {
+        assertThrows(ConfigException.class, () -> GradientLimit.builder()
+                .shortWindow(10)
+                .longWindow(10)
+                .build());
+        assertThrows(ConfigException.class, () -> GradientLimit.builder()
+                .rttTolerance(0.9)
+                .build());
+    }
+
+    @Test
+    void testCall() throws Exception {
+        GradientLimit limit = GradientLimit.create();
+        Optional<String> result = Optional.ofNullable(limit.call(() -> "hello").result());
+
+        assertThat(result, is(Optional.of("hello")));
+        assertThat(limit.currentLimit(), is(20));
+    }
+}
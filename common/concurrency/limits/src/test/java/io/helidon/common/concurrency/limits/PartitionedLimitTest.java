@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.concurrency.limits;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.config.ConfigException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PartitionedLimitTest {
+    @Test
+    void testGuaranteedPermits() {
+        PartitionedLimitImpl limit = new PartitionedLimitImpl(PartitionedLimitConfig.builder()
+                                                                      .permits(4)
+                                                                      .addPartition(partition("critical", 50))
+                                                                      .buildPrototype());
+        LimitAlgorithm critical = limit.partition("critical");
+        LimitAlgorithm other = limit.defaultPartition();
+
+        // other requests may borrow all permits
+        for (int i = 0; i < 4; i++) {
+            assertThat(other.tryAcquire(false), not(Optional.empty()));
+        }
+        assertThat(other.tryAcquire(false), is(Optional.empty()));
+
+        // critical requests still get their guaranteed permits
+        assertThat(critical.tryAcquire(false), not(Optional.empty()));
+        assertThat(critical.tryAcquire(false), not(Optional.empty()));
+        assertThat(critical.tryAcquire(false), is(Optional.empty()));
+        assertThat(limit.inProgress(), is(6));
+    }
+
+    @Test
+    void testBorrowing() {
+        PartitionedLimitImpl limit = new PartitionedLimitImpl(PartitionedLimitConfig.builder()
+                                                                      .permits(4)
+                                                                      .addPartition(partition("critical", 50))
+                                                                      .addPartition(partition("batch", 25))
+                                                                      .buildPrototype());
+        LimitAlgorithm batch = limit.partition("batch");
+
+        // unused guarantees of other partitions may be borrowed
+        Optional<LimitAlgorithm.Token> token = Optional.empty();
+        for (int i = 0; i < 4; i++) {
+            token = batch.tryAcquire(false);
+            assertThat(token, not(Optional.empty()));
+        }
+        assertThat(batch.tryAcquire(false), is(Optional.empty()));
+
+        token.get().success();
+        assertThat(limit.inProgress(), is(3));
+        assertThat(batch.tryAcquire(false), not(Optional.empty()));
+    }
+
+    @Test
+    void testUnknownPartition() {
+        PartitionedLimitImpl limit = new PartitionedLimitImpl(PartitionedLimitConfig.builder()
+                                                                      .permits(4)
+                                                                      .addPartition(partition("critical", 50))
+                                                                      .buildPrototype());
+
+        assertThat(limit.partition("unknown"), sameInstance(limit.defaultPartition()));
+    }
+
+    @Test
+    void testLifoRejectsOldestWaiter() throws Exception {
+        PartitionedLimitImpl limit = new PartitionedLimitImpl(PartitionedLimitConfig.builder()
+                                                                      .permits(1)
+                                                                      .queueLength(1)
+                                                                      .queueTimeout(Duration.ofSeconds(10))
+                                                                      .queueOrder(QueueOrder.LIFO)
+                                                                      .buildPrototype());
+        LimitAlgorithm partition = limit.defaultPartition();
+        LimitAlgorithm.Token token = partition.tryAcquire(false).orElseThrow();
+
+        CompletableFuture<Optional<LimitAlgorithm.Token>> oldest =
+                CompletableFuture.supplyAsync(() -> partition.tryAcquire(true));
+        awaitQueueLength(limit, 1);
+        CompletableFuture<Optional<LimitAlgorithm.Token>> newest =
+                CompletableFuture.supplyAsync(() -> partition.tryAcquire(true));
+
+        assertThat(oldest.get(5, TimeUnit.SECONDS), is(Optional.empty()));
+        awaitQueueLength(limit, 1);
+
+        token.success();
+        assertThat(newest.get(5, TimeUnit.SECONDS), not(Optional.empty()));
+        assertThat(limit.inProgress(), is(1));
+    }
+
+    @Test
+    void testValidation() {
+        assertThrows(ConfigException.class, () -> new PartitionedLimitImpl(PartitionedLimitConfig.builder()
+                                                                                    .permits(0)
+                                                                                    .buildPrototype()));
+        assertThrows(ConfigException.class, () -> new PartitionedLimitImpl(PartitionedLimitConfig.builder()
+                                                                                    .permits(10)
+                                                                                    .addPartition(partition("a", 60))
+                                                                                    .addPartition(partition("b", 50))
+                                                                                    .buildPrototype()));
+        assertThrows(ConfigException.class, () -> new PartitionedLimitImpl(PartitionedLimitConfig.builder()
+                                                                                    .permits(10)
+                                                                                    .addPartition(partition("a", 10))
+                                                                                    .addPartition(partition("a", 10))
+                                                                                    .buildPrototype()));
+    }
+
+    private static PartitionConfig partition(String name, int percentage) {
+        return PartitionConfig.builder()
+                .name(name)
+                .percentage(percentage)
+                .build();
+    }
+
+    private static void awaitQueueLength(PartitionedLimitImpl limit, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (limit.queueLength() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(limit.queueLength(), is(expected));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package io.helidon.common.socket;
 
+import java.nio.channels.FileChannel;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.function.Supplier;
 
@@ -60,6 +62,42 @@ public interface HelidonSocket extends SocketContext, Supplier<byte[]> {
      */
     void write(BufferData buffer);
 
+    /**
+     * Write the buffers to the underlying socket, in order. This method blocks until all bytes are written.
+     * Implementations backed by a channel use a single gathering write where possible, the default implementation
+     * writes the buffers as a single composite buffer.
+     *
+     * @param buffers buffers to write
+     */
+    default void write(List<BufferData> buffers) {
+        write(BufferData.create(buffers));
+    }
+
+    /**
+     * Whether this socket can transfer file content directly to the underlying channel (such as using
+     * {@link java.nio.channels.FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}),
+     * without copying it through user space buffers.
+     * This is never the case for TLS sockets, as the data must be encrypted.
+     *
+     * @return whether {@link #transferFrom(java.nio.channels.FileChannel, long, long)} is supported
+     */
+    default boolean supportsFileTransfer() {
+        return false;
+    }
+
+    /**
+     * Transfer bytes of the file directly to the underlying socket. This method blocks until all bytes are written.
+     * Any data previously written to a socket writer must be flushed before calling this method.
+     *
+     * @param file     file to read from, its position is not modified
+     * @param position position in the file to start from
+     * @param count    number of bytes to transfer
+     * @throws java.lang.UnsupportedOperationException in case {@link #supportsFileTransfer()} returns {@code false}
+     */
+    default void transferFrom(FileChannel file, long position, long count) {
+        throw new UnsupportedOperationException("File transfer is not supported by this socket");
+    }
+
     /**
      * Whether a protocol was negotiated by the socket (such as ALPN when using TLS).
      * @return whether a protocol was negotiated
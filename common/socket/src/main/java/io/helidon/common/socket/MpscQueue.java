@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.socket;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free multi-producer single-consumer queue backed by a ring array.
+ * Producers claim a slot by incrementing the producer index, and then publish the element to the slot.
+ * Only a single thread at a time may call {@link #poll()}.
+ *
+ * @param <E> type of elements
+ */
+final class MpscQueue<E> {
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final int capacity;
+    private final AtomicLong producerIndex = new AtomicLong();
+    // only modified by the consumer
+    private volatile long consumerIndex;
+
+    MpscQueue(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be at least 1, but is: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size != capacity) {
+            size = size << 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Add an element to the queue, if there is space.
+     *
+     * @param element element to add
+     * @return whether the element was added, {@code false} if the queue is full
+     */
+    boolean offer(E element) {
+        long index;
+        do {
+            index = producerIndex.get();
+            if (index - consumerIndex >= capacity) {
+                return false;
+            }
+        } while (!producerIndex.compareAndSet(index, index + 1));
+        slots.set((int) index & mask, element);
+        return true;
+    }
+
+    /**
+     * Remove the next element from the queue. Must only be called by the consumer.
+     *
+     * @return next element, or {@code null} if the queue is empty
+     */
+    E poll() {
+        long index = consumerIndex;
+        int offset = (int) index & mask;
+        E element = slots.get(offset);
+        if (element == null) {
+            if (index == producerIndex.get()) {
+                return null;
+            }
+            // slot is claimed by a producer, but the element is not published yet
+            do {
+                Thread.onSpinWait();
+                element = slots.get(offset);
+            } while (element == null);
+        }
+        slots.lazySet(offset, null);
+        consumerIndex = index + 1;
+        return element;
+    }
+
+    boolean isEmpty() {
+        return producerIndex.get() == consumerIndex;
+    }
+
+    /**
+     * Number of elements in the queue, may be inaccurate when used concurrently with producers.
+     *
+     * @return number of queued elements
+     */
+    int size() {
+        return (int) Math.max(0, producerIndex.get() - consumerIndex);
+    }
+
+    /**
+     * Number of elements ever added to this queue.
+     *
+     * @return number of added elements (including the ones still being published)
+     */
+    long offered() {
+        return producerIndex.get();
+    }
+}
@@ -16,13 +16,17 @@
 
 package io.helidon.common.socket;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.net.UnixDomainSocketAddress;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
 
 import io.helidon.common.buffers.BufferData;
 
@@ -155,6 +159,54 @@ public sealed class NioSocket implements HelidonSocket permits TlsNioSocket {
         }
     }
 
+    @Override
+    public void write(List<BufferData> buffers) {
+        List<ByteBuffer> views = new ArrayList<>(buffers.size());
+        for (BufferData buffer : buffers) {
+            buffer.readableByteBuffers(views);
+        }
+        ByteBuffer[] toWrite = views.toArray(new ByteBuffer[0]);
+        try {
+            // gathering write, all buffers are sent without copying them into a single buffer first
+            int offset = 0;
+            while (offset < toWrite.length) {
+                delegate.write(toWrite, offset, toWrite.length - offset);
+                while (offset < toWrite.length && !toWrite[offset].hasRemaining()) {
+                    offset++;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        for (BufferData buffer : buffers) {
+            buffer.skip(buffer.available());
+        }
+    }
+
+    @Override
+    public boolean supportsFileTransfer() {
+        return true;
+    }
+
+    @Override
+    public void transferFrom(FileChannel file, long position, long count) {
+        try {
+            long current = position;
+            long end = position + count;
+            // transferTo may transfer fewer bytes than requested (depends on the operating system), we must loop
+            while (current < end) {
+                long transferred = file.transferTo(current, end - current, delegate);
+                if (transferred == 0 && current >= file.size()) {
+                    throw new EOFException("File is shorter than expected, transferred " + (current - position)
+                                                   + " bytes of " + count);
+                }
+                current += transferred;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Override
     public byte[] get() {
         try {
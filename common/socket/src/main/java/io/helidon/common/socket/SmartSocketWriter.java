@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,7 +22,7 @@ import io.helidon.common.buffers.BufferData;
 
 /**
  * A special socket write that starts async but may switch to sync mode if it
- * detects that the async queue size is below {@link #QUEUE_SIZE_THRESHOLD}.
+ * detects that the average number of buffers written in a single batch is below {@link #QUEUE_SIZE_THRESHOLD}.
  * If it switches to sync mode, it shall never return back to async mode.
  */
 public class SmartSocketWriter extends SocketWriter {
@@ -32,10 +32,12 @@ public class SmartSocketWriter extends SocketWriter {
     private final SocketWriterAsync asyncWriter;
     private volatile long windowIndex;
     private volatile boolean asyncMode;
+    private volatile long windowBatches;
+    private volatile long windowBuffers;
 
-    SmartSocketWriter(ExecutorService executor, HelidonSocket socket, int writeQueueLength) {
+    SmartSocketWriter(ExecutorService executor, HelidonSocket socket, int writeQueueLength, WriteQueueStats stats) {
         super(socket);
-        this.asyncWriter = new SocketWriterAsync(executor, socket, writeQueueLength);
+        this.asyncWriter = new SocketWriterAsync(executor, socket, writeQueueLength, stats);
         this.asyncMode = true;
         this.windowIndex = 0L;
     }
@@ -51,7 +53,7 @@ public class SmartSocketWriter extends SocketWriter {
     public void write(BufferData buffer) {
         if (asyncMode) {
             asyncWriter.write(buffer);
-            if (++windowIndex % WINDOW_SIZE == 0 && asyncWriter.avgQueueSize() < QUEUE_SIZE_THRESHOLD) {
+            if (++windowIndex % WINDOW_SIZE == 0 && windowBatchSize() < QUEUE_SIZE_THRESHOLD) {
                 asyncMode = false;
             }
         } else {
@@ -59,4 +61,24 @@ public class SmartSocketWriter extends SocketWriter {
             writeNow(buffer);       // blocking write
         }
     }
+
+    @Override
+    public void flush() {
+        asyncWriter.flush();
+    }
+
+    // average number of buffers written by a single batch since the last check
+    private double windowBatchSize() {
+        long batches = asyncWriter.batches();
+        long buffers = asyncWriter.buffersWritten();
+        long batchDelta = batches - windowBatches;
+        long bufferDelta = buffers - windowBuffers;
+        windowBatches = batches;
+        windowBuffers = buffers;
+        if (batchDelta == 0) {
+            // nothing was written in this window, writer thread cannot keep up
+            return Double.MAX_VALUE;
+        }
+        return (double) bufferDelta / batchDelta;
+    }
 }
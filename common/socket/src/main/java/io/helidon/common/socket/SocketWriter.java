@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package io.helidon.common.socket;
 
+import java.util.Arrays;
 import java.util.concurrent.ExecutorService;
 
 import io.helidon.common.buffers.BufferData;
@@ -51,12 +52,32 @@ public abstract class SocketWriter implements DataWriter {
                                       HelidonSocket socket,
                                       int writeQueueLength,
                                       boolean smartAsyncWrites) {
+        return create(executor, socket, writeQueueLength, smartAsyncWrites, null);
+    }
+
+    /**
+     * Create a new socket writer that updates write queue statistics.
+     *
+     * @param executor         executor used to create a thread for asynchronous writes
+     * @param socket           socket to write to
+     * @param writeQueueLength maximal number of queued writes, write operation will block if the queue is full; if set to
+     *                         {code 1} or lower, write queue is disabled and writes are direct to socket (blocking)
+     * @param smartAsyncWrites flag to enable smart async writes, see {@link io.helidon.common.socket.SmartSocketWriter}
+     * @param stats            statistics to update when the write queue is used, may be shared by multiple writers;
+     *                         {@code null} to disable statistics
+     * @return a new socket writer
+     */
+    public static SocketWriter create(ExecutorService executor,
+                                      HelidonSocket socket,
+                                      int writeQueueLength,
+                                      boolean smartAsyncWrites,
+                                      WriteQueueStats stats) {
         if (writeQueueLength <= 1) {
             return new SocketWriterDirect(socket);
         } else {
             return smartAsyncWrites
-                    ? new SmartSocketWriter(executor, socket, writeQueueLength)
-                    : new SocketWriterAsync(executor, socket, writeQueueLength);
+                    ? new SmartSocketWriter(executor, socket, writeQueueLength, stats)
+                    : new SocketWriterAsync(executor, socket, writeQueueLength, stats);
         }
     }
 
@@ -70,15 +91,34 @@ public abstract class SocketWriter implements DataWriter {
         return new SocketWriterDirect(socket);
     }
 
+    /**
+     * Write the buffers to the socket using a single gathering write (if supported by the socket), and release them.
+     *
+     * @param buffers buffers to write
+     */
     @Override
     public void writeNow(BufferData... buffers) {
-        BufferData composite = BufferData.create(buffers);
-        writeNow(composite);
+        try {
+            socket.write(Arrays.asList(buffers));
+        } finally {
+            for (BufferData buffer : buffers) {
+                buffer.release();
+            }
+        }
     }
 
+    /**
+     * Write the buffer to the socket, and release it.
+     *
+     * @param buffer buffer to write
+     */
     @Override
     public void writeNow(BufferData buffer) {
-        socket.write(buffer);
+        try {
+            socket.write(buffer);
+        } finally {
+            buffer.release();
+        }
     }
 
     /**
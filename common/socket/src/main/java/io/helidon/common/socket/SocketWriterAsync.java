@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,32 +16,45 @@
 
 package io.helidon.common.socket;
 
-import java.util.concurrent.ArrayBlockingQueue;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 import io.helidon.common.buffers.BufferData;
-import io.helidon.common.buffers.CompositeBufferData;
 import io.helidon.common.buffers.DataWriter;
 
 /**
  * Socket writer (possibly) used from multiple threads, takes care of writing to a single
  * socket.
+ * <p>
+ * Buffers are enqueued to a lock-free queue, and written by a single writer thread. The writer thread takes
+ * all buffers available in the queue, and writes them using a single gathering write.
  */
 class SocketWriterAsync extends SocketWriter implements DataWriter {
     private static final System.Logger LOGGER = System.getLogger(SocketWriterAsync.class.getName());
-    private static final BufferData CLOSING_TOKEN = BufferData.empty();
+    // we only want to write a certain number of buffers at once, if somebody writes huge amounts
+    // we could spin here forever and run out of memory
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final long OFFER_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final long WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
 
     private final ExecutorService executor;
-    private final ArrayBlockingQueue<BufferData> writeQueue;
+    private final MpscQueue<BufferData> writeQueue;
+    private final WriteQueueStats stats;
+    private final List<BufferData> batch = new ArrayList<>();
     private final CountDownLatch cdl = new CountDownLatch(1);
     private final AtomicBoolean started = new AtomicBoolean(false);
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
     private volatile Throwable caught;
     private volatile boolean run = true;
-    private Thread thread;
-    private double avgQueueSize;
+    private volatile boolean parked;
+    private volatile Thread thread;
 
     /**
      * A new socket writer.
@@ -50,11 +63,13 @@ class SocketWriterAsync extends SocketWriter implements DataWriter {
      * @param socket           socket to write to
      * @param writeQueueLength maximal number of queued writes, write operation will block if the queue is full; if set to
      *                         {code 1} or lower, write queue is disabled and writes are direct to socket (blocking)
+     * @param stats            statistics to update, may be {@code null}
      */
-    SocketWriterAsync(ExecutorService executor, HelidonSocket socket, int writeQueueLength) {
+    SocketWriterAsync(ExecutorService executor, HelidonSocket socket, int writeQueueLength, WriteQueueStats stats) {
         super(socket);
         this.executor = executor;
-        this.writeQueue = new ArrayBlockingQueue<>(writeQueueLength);
+        this.writeQueue = new MpscQueue<>(writeQueueLength);
+        this.stats = stats;
     }
 
     @Override
@@ -67,13 +82,24 @@ class SocketWriterAsync extends SocketWriter implements DataWriter {
     @Override
     public void write(BufferData buffer) {
         checkRunning();
-        try {
-            if (!writeQueue.offer(buffer, 10, TimeUnit.SECONDS)) {
-                checkRunning();
-                throw new IllegalStateException("Failed to write data to queue, timed out");
-            }
-        } catch (InterruptedException e) {
-            throw new IllegalStateException("Interrupted while trying to write to a queue", e);
+        if (!writeQueue.offer(buffer)) {
+            awaitOffer(buffer);
+        }
+        if (stats != null) {
+            stats.enqueued();
+        }
+        if (parked) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Blocks until all buffers enqueued so far are written to the socket.
+     */
+    @Override
+    public void flush() {
+        if (started.get()) {
+            drainQueue();
         }
     }
 
@@ -86,11 +112,16 @@ class SocketWriterAsync extends SocketWriter implements DataWriter {
             // thread never started
             return;
         }
+        Thread writerThread = thread;
+        if (writerThread != null) {
+            // wake up parked writer thread
+            LockSupport.unpark(writerThread);
+        }
         try {
-            writeQueue.put(CLOSING_TOKEN); // wake up blocked take() operation
             if (cdl.await(1000, TimeUnit.MILLISECONDS)) {
-                // reads finished because we set run to false
+                // writer thread finished because we set run to false, we are the only consumer now
                 BufferData available;
+                int drained = 0;
                 while ((available = writeQueue.poll()) != null) {
                     try {
                         writeNow(available);
@@ -99,11 +130,17 @@ class SocketWriterAsync extends SocketWriter implements DataWriter {
                         // in case we fail to write to socket when closing, it is probably because it is already closed
                         // we still need to release all buffers
                     }
+                    drained++;
+                }
+                if (stats != null && drained > 0) {
+                    // report the drained buffers as a single batch
+                    stats.written(drained);
                 }
             }
-            if (thread != null) {
+            writerThread = thread;
+            if (writerThread != null) {
                 // fail blocked writers
-                thread.interrupt();
+                writerThread.interrupt();
             }
         } catch (InterruptedException e) {            // failed to get
         }
@@ -115,25 +152,83 @@ class SocketWriterAsync extends SocketWriter implements DataWriter {
         this.thread.setName("[" + socket().socketId() + " " + socket().childSocketId() + "]");
         try {
             while (run) {
-                CompositeBufferData toWrite = BufferData.createComposite(writeQueue.take());  // wait if the queue is empty
-                // we only want to read a certain amount of data, if somebody writes huge amounts
-                // we could spin here forever and run out of memory
-                int queueSize = 1;
-                for (; queueSize <= 1000; queueSize++) {
-                    BufferData newBuf = writeQueue.poll(); // drain ~all elements from the queue, don't wait.
-                    if (newBuf == null) {
-                        break;
-                    }
-                    toWrite.add(newBuf);
+                BufferData buffer = writeQueue.poll();
+                if (buffer == null) {
+                    awaitData();
+                    continue;
                 }
-                writeNow(toWrite);
-                avgQueueSize = (avgQueueSize + queueSize) / 2.0;
+                batch.add(buffer);
+                // drain ~all elements from the queue, don't wait.
+                while (batch.size() < MAX_BATCH_SIZE && (buffer = writeQueue.poll()) != null) {
+                    batch.add(buffer);
+                }
+                writeBatch();
             }
             cdl.countDown();
         } catch (Throwable e) {
             this.caught = e;
             this.run = false;
+            discardQueued();
+        }
+    }
+
+    // we are still the only consumer, release buffers that will never be written
+    private void discardQueued() {
+        BufferData buffer;
+        int discarded = 0;
+        while ((buffer = writeQueue.poll()) != null) {
+            buffer.release();
+            discarded++;
+        }
+        if (stats != null) {
+            stats.discarded(discarded);
+        }
+    }
+
+    private void writeBatch() {
+        int batchSize = batch.size();
+        try {
+            socket().write(batch);
+        } catch (RuntimeException e) {
+            if (stats != null) {
+                stats.discarded(batchSize);
+            }
+            throw e;
+        } finally {
+            for (BufferData buffer : batch) {
+                buffer.release();
+            }
+            batch.clear();
         }
+        batches.incrementAndGet();
+        written.addAndGet(batchSize);
+        if (stats != null) {
+            stats.written(batchSize);
+        }
+    }
+
+    private void awaitData() {
+        parked = true;
+        // a producer may have added data before it could see we are about to park
+        if (run && writeQueue.isEmpty()) {
+            LockSupport.park(this);
+        }
+        parked = false;
+    }
+
+    private void awaitOffer(BufferData buffer) {
+        long deadline = System.nanoTime() + OFFER_TIMEOUT_NANOS;
+        do {
+            LockSupport.parkNanos(this, WAIT_NANOS);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while trying to write to a queue");
+            }
+            checkRunning();
+            if (System.nanoTime() - deadline > 0) {
+                throw new IllegalStateException("Failed to write data to queue, timed out");
+            }
+        } while (!writeQueue.offer(buffer));
     }
 
     private void checkRunning() {
@@ -146,14 +241,43 @@ class SocketWriterAsync extends SocketWriter implements DataWriter {
         }
     }
 
+    /**
+     * Wait until all buffers enqueued so far are written by the writer thread.
+     */
     void drainQueue() {
-        BufferData buffer;
-        while ((buffer = writeQueue.poll()) != null) {
-            writeNow(buffer);
+        long offered = writeQueue.offered();
+        while (written.get() < offered) {
+            if (!run) {
+                throw new SocketWriterException(caught);
+            }
+            LockSupport.parkNanos(this, WAIT_NANOS);
         }
     }
 
-    double avgQueueSize() {
-        return avgQueueSize;
+    /**
+     * Number of buffers currently waiting in the queue.
+     *
+     * @return queue depth
+     */
+    int queueDepth() {
+        return writeQueue.size();
+    }
+
+    /**
+     * Number of gathering writes done by the writer thread.
+     *
+     * @return number of batches
+     */
+    long batches() {
+        return batches.get();
+    }
+
+    /**
+     * Number of buffers written by the writer thread.
+     *
+     * @return number of buffers
+     */
+    long buffersWritten() {
+        return written.get();
     }
 }
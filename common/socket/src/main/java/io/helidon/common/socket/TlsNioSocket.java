@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2025, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,7 @@ import java.nio.channels.SocketChannel;
 import java.security.Principal;
 import java.security.cert.Certificate;
 import java.util.Arrays;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.concurrent.locks.Lock;
@@ -195,6 +196,18 @@ public final class TlsNioSocket extends NioSocket {
         }
     }
 
+    @Override
+    public void write(List<BufferData> buffers) {
+        // data must be encrypted, cannot use gathering writes
+        write(BufferData.create(buffers));
+    }
+
+    @Override
+    public boolean supportsFileTransfer() {
+        // data must be encrypted, so it cannot be transferred directly from the file to the channel
+        return false;
+    }
+
     @Override
     public void close() {
         try {
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.socket;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of write queues of asynchronous socket writers.
+ * A single instance is usually shared by all writers of a server listener, see
+ * {@link io.helidon.common.socket.SocketWriter#create(java.util.concurrent.ExecutorService,
+ * io.helidon.common.socket.HelidonSocket, int, boolean, WriteQueueStats)}.
+ */
+public final class WriteQueueStats {
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAccumulator maxBatchSize = new LongAccumulator(Long::max, 0);
+
+    private WriteQueueStats() {
+    }
+
+    /**
+     * Create new empty statistics.
+     *
+     * @return new statistics
+     */
+    public static WriteQueueStats create() {
+        return new WriteQueueStats();
+    }
+
+    /**
+     * Number of buffers currently waiting in write queues.
+     * The value is approximate, as it is computed from counters updated concurrently.
+     *
+     * @return number of queued buffers
+     */
+    public long queueDepth() {
+        return Math.max(0, enqueued.sum() - written.sum() - discarded.sum());
+    }
+
+    /**
+     * Number of batches written to sockets. Each batch is a single (gathering) write of all buffers available
+     * in the queue.
+     *
+     * @return number of written batches
+     */
+    public long batches() {
+        return batches.sum();
+    }
+
+    /**
+     * Number of buffers taken from write queues and written to sockets.
+     *
+     * @return number of written buffers
+     */
+    public long buffers() {
+        return written.sum();
+    }
+
+    /**
+     * Average number of buffers written in a single batch.
+     *
+     * @return average batch size, {@code 0} if nothing was written yet
+     */
+    public double averageBatchSize() {
+        long batchCount = batches.sum();
+        return batchCount == 0 ? 0 : (double) written.sum() / batchCount;
+    }
+
+    /**
+     * Largest number of buffers written in a single batch.
+     *
+     * @return maximal batch size
+     */
+    public long maxBatchSize() {
+        return maxBatchSize.get();
+    }
+
+    @Override
+    public String toString() {
+        return "WriteQueueStats{"
+                + "queueDepth=" + queueDepth()
+                + ", batches=" + batches()
+                + ", buffers=" + buffers()
+                + ", maxBatchSize=" + maxBatchSize()
+                + "}";
+    }
+
+    void enqueued() {
+        enqueued.increment();
+    }
+
+    void written(int batchSize) {
+        written.add(batchSize);
+        batches.increment();
+        maxBatchSize.accumulate(batchSize);
+    }
+
+    void discarded(int count) {
+        discarded.add(count);
+    }
+}
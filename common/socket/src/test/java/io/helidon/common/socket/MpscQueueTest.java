@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.socket;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class MpscQueueTest {
+    @Test
+    void testBounded() {
+        MpscQueue<String> queue = new MpscQueue<>(3);
+
+        assertThat(queue.offer("a"), is(true));
+        assertThat(queue.offer("b"), is(true));
+        assertThat(queue.offer("c"), is(true));
+        assertThat(queue.offer("d"), is(false));
+        assertThat(queue.size(), is(3));
+
+        assertThat(queue.poll(), is("a"));
+        assertThat(queue.offer("d"), is(true));
+        assertThat(queue.poll(), is("b"));
+        assertThat(queue.poll(), is("c"));
+        assertThat(queue.poll(), is("d"));
+        assertThat(queue.poll(), nullValue());
+        assertThat(queue.isEmpty(), is(true));
+        assertThat(queue.offered(), is(4L));
+    }
+
+    @Test
+    void testConcurrentProducers() {
+        int producers = 8;
+        int perProducer = 10_000;
+        MpscQueue<int[]> queue = new MpscQueue<>(64);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int producer = 0; producer < producers; producer++) {
+                int producerId = producer;
+                executor.submit(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        int[] element = new int[] {producerId, i};
+                        while (!queue.offer(element)) {
+                            Thread.yield();
+                        }
+                    }
+                });
+            }
+
+            // elements of each producer must be received in order, and none may be lost
+            int[] next = new int[producers];
+            int received = 0;
+            while (received < producers * perProducer) {
+                int[] element = queue.poll();
+                if (element == null) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                assertThat(element[1], is(next[element[0]]));
+                next[element[0]]++;
+                received++;
+            }
+        }
+        assertThat(queue.poll(), nullValue());
+    }
+}
@@ -27,7 +27,10 @@ import java.nio.channels.spi.SelectorProvider;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -88,6 +91,53 @@ public class NioSocketTest {
                            "0\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
     }
 
+    @Test
+    void gatheringWriteHandlesPartialSocketChannelWrites() {
+        byte[] json = jsonPayload(300);
+        int split = json.length / 2;
+        byte[] headers = "HTTP/1.1 200 OK\r\n\r\n".getBytes(StandardCharsets.US_ASCII);
+        byte[] firstPart = Arrays.copyOfRange(json, 0, split);
+        byte[] secondPart = Arrays.copyOfRange(json, split, json.length);
+
+        CapturingSocketChannel channel = new CapturingSocketChannel(11);
+        NioSocket socket = NioSocket.server(channel, "child", "server");
+        BufferData first = BufferData.create(headers);
+        BufferData second = BufferData.create(BufferData.create(firstPart), BufferData.create(secondPart));
+
+        socket.write(List.of(first, second));
+
+        assertEquals(new String(concat(headers, json), StandardCharsets.UTF_8),
+                     new String(channel.writtenBytes(), StandardCharsets.UTF_8));
+        assertEquals(0, first.available());
+        assertEquals(0, second.available());
+    }
+
+    @Test
+    void asyncWriterWritesAllBuffersInOrder() {
+        CapturingSocketChannel channel = new CapturingSocketChannel(23);
+        WriteQueueStats stats = WriteQueueStats.create();
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            SocketWriter writer = SocketWriter.create(executor,
+                                                      NioSocket.server(channel, "child", "server"),
+                                                      4,
+                                                      false,
+                                                      stats);
+            for (int i = 0; i < 100; i++) {
+                byte[] data = ("buffer-" + i + "\n").getBytes(StandardCharsets.US_ASCII);
+                expected.writeBytes(data);
+                writer.write(BufferData.create(data));
+            }
+            writer.close();
+        }
+
+        assertEquals(expected.toString(StandardCharsets.UTF_8),
+                     new String(channel.writtenBytes(), StandardCharsets.UTF_8));
+        assertEquals(100, stats.buffers());
+        assertEquals(0, stats.queueDepth());
+    }
+
     private static void assertWrittenBytes(int maxBytesPerWrite, byte[]... writes) {
         CapturingSocketChannel channel = new CapturingSocketChannel(maxBytesPerWrite);
         SocketWriter writer = SocketWriter.create(NioSocket.server(channel, "child", "server"));
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package io.helidon.faulttolerance;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -63,6 +64,16 @@ interface BulkheadConfigBlueprint extends Prototype.Factory<Bulkhead> {
     @Option.DefaultInt(DEFAULT_QUEUE_LENGTH)
     int queueLength();
 
+    /**
+     * Maximal time a request waits in the queue for a permit.
+     * When the time passes, the request receives a {@link BulkheadException}.
+     * If not configured, requests wait until a permit is available.
+     *
+     * @return maximal time to wait in the queue
+     */
+    @Option.Configured
+    Optional<Duration> maxWaitTime();
+
     /**
      * Queue listeners of this bulkhead.
      *
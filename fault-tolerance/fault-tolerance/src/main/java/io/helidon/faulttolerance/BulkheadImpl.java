@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,20 +17,14 @@
 package io.helidon.faulttolerance;
 
 import java.lang.System.Logger.Level;
-import java.util.IdentityHashMap;
+import java.time.Duration;
 import java.util.List;
-import java.util.Map;
 import java.util.Queue;
-import java.util.Set;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Supplier;
 
 import io.helidon.metrics.api.Counter;
@@ -38,20 +32,33 @@ import io.helidon.metrics.api.Tag;
 import io.helidon.metrics.api.Timer;
 import io.helidon.service.registry.Service;
 
+/*
+Permits are a counter updated using compare and set, so calls that get a permit immediately never block each other.
+Calls that do not get a permit wait in a lock-free FIFO queue, parked using LockSupport, which releases the carrier
+thread when running on a virtual thread.
+
+A released permit is handed over directly to the first waiting call, so the permit counter is only increased when
+there is nobody waiting. A call that enqueues itself checks the counter once more afterwards, and a call that
+releases a permit checks the queue once more after increasing the counter; this way a permit cannot stay unused
+while a call waits for it.
+ */
 @Service.PerInstance(BulkheadConfigBlueprint.class)
 class BulkheadImpl implements Bulkhead {
     private static final System.Logger LOGGER = System.getLogger(BulkheadImpl.class.getName());
 
-    private final Lock inProgressLock;
-    private final Semaphore inProgress;
+    private final AtomicInteger permits;
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    // number of calls in WAITING state, used to bound the queue
+    private final AtomicInteger waiting = new AtomicInteger();
+    // number of calls that entered the queue, reported by stats and metrics
+    private final AtomicInteger queued = new AtomicInteger();
+    private final int queueLength;
+    private final long maxWaitNanos;
     private final String name;
-    private final BarrierQueue queue;
     private final AtomicLong concurrentExecutions = new AtomicLong(0L);
     private final AtomicLong callsAccepted = new AtomicLong(0L);
     private final AtomicLong callsRejected = new AtomicLong(0L);
-    private final AtomicLong callsWaiting = new AtomicLong(0L);
     private final List<QueueListener> listeners;
-    private final Set<Supplier<?>> cancelledSuppliers = new CopyOnWriteArraySet<>();
     private final BulkheadConfig config;
     private final boolean metricsEnabled;
 
@@ -60,13 +67,13 @@ class BulkheadImpl implements Bulkhead {
 
     @Service.Inject
     BulkheadImpl(BulkheadConfig config) {
-        this.inProgress = new Semaphore(config.limit(), true);
+        this.permits = new AtomicInteger(config.limit());
+        this.queueLength = Math.max(0, config.queueLength());
+        this.maxWaitNanos = config.maxWaitTime()
+                .map(Duration::toNanos)
+                .orElse(0L);
         this.name = config.name().orElseGet(() -> "bulkhead-" + System.identityHashCode(config));
         this.listeners = config.queueListeners();
-        this.queue = config.queueLength() > 0
-                ? new BlockingQueue(config.queueLength())
-                : new ZeroCapacityQueue();
-        this.inProgressLock = new ReentrantLock(true);
         this.config = config;
 
         this.metricsEnabled = config.enableMetrics() || MetricsUtils.defaultEnabled();
@@ -75,7 +82,7 @@ class BulkheadImpl implements Bulkhead {
             callsCounterMetric = MetricsUtils.counterBuilder(FT_BULKHEAD_CALLS_TOTAL, nameTag);
             waitingDurationMetric = MetricsUtils.timerBuilder(FT_BULKHEAD_WAITINGDURATION, nameTag);
             MetricsUtils.gaugeBuilder(FT_BULKHEAD_EXECUTIONSRUNNING, concurrentExecutions::get, nameTag);
-            MetricsUtils.gaugeBuilder(FT_BULKHEAD_EXECUTIONSWAITING, callsWaiting::get, nameTag);
+            MetricsUtils.gaugeBuilder(FT_BULKHEAD_EXECUTIONSWAITING, () -> (long) queued.get(), nameTag);
             MetricsUtils.gaugeBuilder(FT_BULKHEAD_EXECUTIONSREJECTED, callsRejected::get, nameTag);
         }
     }
@@ -92,88 +99,60 @@ class BulkheadImpl implements Bulkhead {
 
     @Override
     public <T> T invoke(Supplier<? extends T> supplier) {
-        // we need to hold the lock until we decide what to do with this request
-        // cannot release it in between attempts, as that would give window for another thread to change the state
-        inProgressLock.lock();
-
-        // execute immediately if semaphore can be acquired
-        boolean acquired;
-        try {
-            if (metricsEnabled) {
-                callsCounterMetric.increment();
-            }
-            acquired = inProgress.tryAcquire();
-        } catch (Throwable t) {
-            inProgressLock.unlock();
-            throw t;
+        if (metricsEnabled) {
+            callsCounterMetric.increment();
         }
-        if (acquired) {
-            inProgressLock.unlock(); // we managed to get a semaphore permit, in progress lock can be released for now
+
+        // execute immediately if a permit can be acquired
+        if (tryAcquirePermit()) {
             if (LOGGER.isLoggable(Level.DEBUG)) {
                 LOGGER.log(Level.DEBUG, name + " invoke immediate " + supplier);
             }
             return execute(supplier);
         }
 
-        boolean full;
-        try {
-            full = queue.isFull();
-        } catch (Throwable t) {
-            inProgressLock.unlock();
-            throw t;
-        }
-        if (full) {
-            inProgressLock.unlock(); // this request will fail, release lock
+        if (!reserveQueueSlot()) {
             callsRejected.incrementAndGet();
             throw new BulkheadException("Bulkhead queue \"" + name + "\" is full");
         }
 
+        long start = System.nanoTime();
         try {
-            // block current thread until barrier is retracted
-            Barrier barrier;
-            long start = 0L;
-            try {
-                listeners.forEach(l -> l.enqueueing(supplier));
-                if (metricsEnabled) {
-                    start = System.nanoTime();
-                    callsWaiting.incrementAndGet();
-                }
-                barrier = queue.enqueue(supplier);
-            } finally {
-                try {
-                    if (metricsEnabled) {
-                        waitingDurationMetric.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
-                        callsWaiting.decrementAndGet();
-                    }
-                } finally {
-                    inProgressLock.unlock(); // we have enqueued, now we can wait
-                }
-            }
-
-            if (barrier == null) {
-                throw new BulkheadException("Bulkhead queue \"" + name + "\" is full");
-            }
-            barrier.waitOn();
-
-            // unblocked so we can proceed with execution
-            listeners.forEach(l -> l.dequeued(supplier));
+            listeners.forEach(l -> l.enqueueing(supplier));
+        } catch (Throwable t) {
+            waiting.decrementAndGet();
+            throw t;
+        }
+        Waiter waiter = new Waiter(supplier);
+        if (metricsEnabled) {
+            waitingDurationMetric.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        queued.incrementAndGet();
+        waiters.add(waiter);
+        int state = await(waiter, start);
 
+        if (state == Waiter.CANCELLED) {
             // do not run if cancelled while queued
-            if (cancelledSuppliers.remove(supplier)) {
-                return null;
-            }
-
-            // invoke supplier now
-            if (LOGGER.isLoggable(Level.DEBUG)) {
-                LOGGER.log(Level.DEBUG, name + " invoking " + supplier);
-            }
-            return execute(supplier);
-        } catch (InterruptedException e) {
+            listeners.forEach(l -> l.dequeued(supplier));
+            return null;
+        }
+        if (state == Waiter.TIMED_OUT) {
+            callsRejected.incrementAndGet();
+            throw new BulkheadException("Bulkhead \"" + name + "\" timed out while waiting in queue");
+        }
+        if (state == Waiter.INTERRUPTED) {
             callsRejected.incrementAndGet();
             throw new BulkheadException("Bulkhead \"" + name + "\" interrupted while acquiring");
-        } catch (ExecutionException e) {
-            throw new BulkheadException(e.getMessage());
         }
+
+        // unblocked so we can proceed with execution
+        listeners.forEach(l -> l.dequeued(supplier));
+
+        // invoke supplier now
+        if (LOGGER.isLoggable(Level.DEBUG)) {
+            LOGGER.log(Level.DEBUG, name + " invoking " + supplier);
+        }
+        return execute(supplier);
     }
 
     @Override
@@ -196,11 +175,24 @@ class BulkheadImpl implements Bulkhead {
 
             @Override
             public long waitingQueueSize() {
-                return queue.size();
+                return queued.get();
             }
         };
     }
 
+    @Override
+    public boolean cancelSupplier(Supplier<?> supplier) {
+        for (Waiter waiter : waiters) {
+            if (waiter.supplier == supplier && waiter.complete(Waiter.CANCELLED)) {
+                waiters.remove(waiter);
+                leaveQueue();
+                LockSupport.unpark(waiter.thread);
+                return true;
+            }
+        }
+        return false;
+    }
+
     // this method must be called while holding a permit
     private <T> T execute(Supplier<? extends T> supplier) {
         callsAccepted.incrementAndGet();
@@ -219,197 +211,123 @@ class BulkheadImpl implements Bulkhead {
             throw SupplierHelper.toRuntimeException(throwable);
         } finally {
             concurrentExecutions.decrementAndGet();
-            inProgressLock.lock();
-            try {
-                boolean dequeued = queue.dequeueAndRetract();
-                if (!dequeued) {
-                    inProgress.release();       // nothing dequeued, one more permit
-                }
-            } finally {
-                inProgressLock.unlock();
-            }
+            releasePermit();
         }
     }
 
-    @Override
-    public boolean cancelSupplier(Supplier<?> supplier) {
-        boolean cancelled = queue.remove(supplier);
-        if (cancelled) {
-            cancelledSuppliers.add(supplier);
-        }
-        return cancelled;
-    }
-
-    /**
-     * A queue for suppliers that block on barriers.
-     */
-    private interface BarrierQueue {
-
-        /**
-         * Number of suppliers in queue.
-         *
-         * @return current number of suppliers
-         */
-        int size();
-
-        /**
-         * Check if queue is full.
-         *
-         * @return outcome of test
-         */
-        boolean isFull();
-
-        /**
-         * Enqueue supplier and block thread on barrier.
-         *
-         * @param supplier the supplier
-         * @return barrier if supplier was enqueued or null otherwise
-         */
-        Barrier enqueue(Supplier<?> supplier);
-
-        /**
-         * Dequeue supplier and retract its barrier.
-         *
-         * @return {@code true} if a supplier was dequeued or {@code false} otherwise
-         */
-        boolean dequeueAndRetract();
-
-        /**
-         * Remove supplier from queue, if present.
-         *
-         * @param supplier the supplier
-         * @return {@code true} if supplier was removed or {@code false} otherwise
-         */
-        boolean remove(Supplier<?> supplier);
-    }
-
-    /**
-     * A queue with capacity 0.
-     */
-    private static class ZeroCapacityQueue implements BarrierQueue {
-
-        @Override
-        public int size() {
-            return 0;
-        }
-
-        @Override
-        public boolean isFull() {
-            return true;
-        }
-
-        @Override
-        public Barrier enqueue(Supplier<?> supplier) {
-            // never enqueue, should always fail execution if permits are not available
-            return null;
-        }
-
-        @Override
-        public boolean dequeueAndRetract() {
-            return false;
-        }
-
-        @Override
-        public boolean remove(Supplier<?> supplier) {
-            return false;
+    // wait until the waiter leaves the WAITING state, returns the final state
+    private int await(Waiter waiter, long start) {
+        // a permit may have been released before we were visible in the queue
+        if (tryAcquirePermit()) {
+            if (waiter.complete(Waiter.GRANTED)) {
+                waiters.remove(waiter);
+                leaveQueue();
+                return Waiter.GRANTED;
+            }
+            // already granted a permit by another thread (or cancelled), do not keep two
+            releasePermit();
         }
-    }
-
-    /**
-     * A queue that holds all those suppliers that don't have permits to execute at a
-     * certain time. The thread running the supplier will be forced to wait on a barrier
-     * until a new permit becomes available.
-     */
-    private static class BlockingQueue implements BarrierQueue {
 
-        private final int capacity;
-        private final ReentrantLock lock;
-        private final Queue<Supplier<?>> queue;
-        private final Map<Supplier<?>, Barrier> map;
-
-        BlockingQueue(int capacity) {
-            if (capacity <= 0) {
-                throw new IllegalArgumentException("Queue capacity must be greater than 0");
+        boolean interrupted = false;
+        while (waiter.state.get() == Waiter.WAITING) {
+            if (maxWaitNanos > 0) {
+                long remaining = maxWaitNanos - (System.nanoTime() - start);
+                if (remaining <= 0) {
+                    abandon(waiter, Waiter.TIMED_OUT);
+                    break;
+                }
+                LockSupport.parkNanos(this, remaining);
+            } else {
+                LockSupport.park(this);
+            }
+            if (Thread.interrupted()) {
+                interrupted = true;
+                abandon(waiter, Waiter.INTERRUPTED);
+                break;
             }
-            this.capacity = capacity;
-            this.queue = new LinkedBlockingQueue<>(capacity);
-            this.map = new IdentityHashMap<>();     // just use references
-            this.lock = new ReentrantLock();
         }
-
-        @Override
-        public int size() {
-            return queue.size();
+        if (interrupted) {
+            Thread.currentThread().interrupt();
         }
+        return waiter.state.get();
+    }
 
-        @Override
-        public boolean isFull() {
-            lock.lock();
-            try {
-                return queue.size() == capacity;
-            } finally {
-                lock.unlock();
-            }
+    private void abandon(Waiter waiter, int state) {
+        if (waiter.complete(state)) {
+            waiters.remove(waiter);
+            leaveQueue();
         }
+        // otherwise the waiter was granted a permit or cancelled concurrently, the caller uses the final state
+    }
 
-        @Override
-        public Barrier enqueue(Supplier<?> supplier) {
-            lock.lock();
-            try {
-                return doEnqueue(supplier);
-            } finally {
-                lock.unlock();
+    private boolean tryAcquirePermit() {
+        int current = permits.get();
+        while (current > 0) {
+            int witness = permits.compareAndExchange(current, current - 1);
+            if (witness == current) {
+                return true;
             }
+            current = witness;
         }
+        return false;
+    }
 
-        @Override
-        public boolean dequeueAndRetract() {
-            lock.lock();
-            try {
-                Barrier barrier = dequeue();
-                if (barrier != null) {
-                    barrier.retract();
-                    return true;
+    private void releasePermit() {
+        while (true) {
+            Waiter waiter;
+            while ((waiter = waiters.poll()) != null) {
+                if (waiter.complete(Waiter.GRANTED)) {
+                    leaveQueue();
+                    LockSupport.unpark(waiter.thread);
+                    return;
                 }
-                return false;
-            } finally {
-                lock.unlock();
+                // cancelled or timed out, skip
             }
-        }
-
-        @Override
-        public boolean remove(Supplier<?> supplier) {
-            lock.lock();
-            try {
-                return queue.remove(supplier);
-            } finally {
-                lock.unlock();
+            permits.incrementAndGet();
+            // a call may have enqueued itself after we checked the queue and before it could see the permit
+            if (waiters.isEmpty() || !tryAcquirePermit()) {
+                return;
             }
         }
+    }
 
-        private Barrier dequeue() {
-            Supplier<?> supplier = queue.poll();
-            return supplier == null ? null : map.remove(supplier);
-        }
+    private void leaveQueue() {
+        queued.decrementAndGet();
+        waiting.decrementAndGet();
+    }
 
-        private Barrier doEnqueue(Supplier<?> supplier) {
-            boolean added = queue.offer(supplier);
-            return added ? map.computeIfAbsent(supplier, s -> new Barrier()) : null;
+    private boolean reserveQueueSlot() {
+        int current = waiting.get();
+        while (current < queueLength) {
+            int witness = waiting.compareAndExchange(current, current + 1);
+            if (witness == current) {
+                return true;
+            }
+            current = witness;
         }
+        return false;
     }
 
     /**
-     * A barrier is used to force a thread to wait (block) until it is retracted.
+     * A call waiting for a permit. The state moves from {@link #WAITING} exactly once.
      */
-    private static class Barrier {
-        private final CompletableFuture<Void> future = new CompletableFuture<>();
-
-        void waitOn() throws ExecutionException, InterruptedException {
-            future.get();
+    private static final class Waiter {
+        private static final int WAITING = 0;
+        private static final int GRANTED = 1;
+        private static final int CANCELLED = 2;
+        private static final int TIMED_OUT = 3;
+        private static final int INTERRUPTED = 4;
+
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private final Thread thread = Thread.currentThread();
+        private final Supplier<?> supplier;
+
+        private Waiter(Supplier<?> supplier) {
+            this.supplier = supplier;
         }
 
-        void retract() {
-            future.complete(null);
+        boolean complete(int newState) {
+            return state.compareAndSet(WAITING, newState);
         }
     }
 }
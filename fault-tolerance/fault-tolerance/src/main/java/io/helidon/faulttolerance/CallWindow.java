@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.faulttolerance;
+
+/**
+ * Window of call results used by a circuit breaker to decide whether to open.
+ */
+interface CallWindow {
+    /**
+     * Record a completed call.
+     *
+     * @param failure whether the call failed
+     * @param slow    whether the call took longer than the slow call threshold
+     */
+    void update(boolean failure, boolean slow);
+
+    /**
+     * Whether the window contains enough calls, and the ratio of failed or slow calls reached its threshold.
+     *
+     * @return whether the breaker should open
+     */
+    boolean shouldOpen();
+
+    /**
+     * Forget all recorded calls.
+     */
+    void reset();
+}
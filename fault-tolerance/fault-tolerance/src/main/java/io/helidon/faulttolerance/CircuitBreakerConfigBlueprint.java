@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -42,6 +42,14 @@ interface CircuitBreakerConfigBlueprint extends Prototype.Factory<CircuitBreaker
      * Default volume.
      */
     int DEFAULT_VOLUME = 10;
+    /**
+     * Default number of buckets of a time window.
+     */
+    int DEFAULT_WINDOW_BUCKETS = 10;
+    /**
+     * Default slow call ratio.
+     */
+    int DEFAULT_SLOW_CALL_RATIO = 100;
 
     /**
      * Name of this circuit breaker.
@@ -83,6 +91,54 @@ interface CircuitBreakerConfigBlueprint extends Prototype.Factory<CircuitBreaker
     @Option.DefaultInt(DEFAULT_VOLUME)
     int volume();
 
+    /**
+     * Duration of a sliding time window used to calculate ratio of failed and slow calls.
+     * When configured, the breaker considers calls completed within this duration instead of the last
+     * {@link #volume()} calls, and the volume is the minimal number of calls within the window needed
+     * to open the circuit.
+     * <p>If errorRatio is 40, window is 10 seconds and volume is 100, the circuit opens once at least
+     * 100 calls completed in the last 10 seconds, and at least 40% of them failed.
+     * If not configured, a window of the last {@link #volume()} calls is used.
+     *
+     * @return duration of the time window
+     * @see #windowBuckets()
+     */
+    @Option.Configured
+    Optional<Duration> window();
+
+    /**
+     * Number of buckets the time {@link #window()} is split into. Calls are counted per bucket,
+     * and the oldest bucket is dropped as time passes.
+     * Default is {@value #DEFAULT_WINDOW_BUCKETS}.
+     *
+     * @return number of buckets of the time window
+     */
+    @Option.Configured
+    @Option.DefaultInt(DEFAULT_WINDOW_BUCKETS)
+    int windowBuckets();
+
+    /**
+     * Calls that take at least this long are considered slow, even if they succeed.
+     * If not configured, duration of calls is not considered.
+     *
+     * @return duration of a slow call
+     * @see #slowCallRatio()
+     */
+    @Option.Configured
+    Optional<Duration> slowCallDuration();
+
+    /**
+     * How many slow calls out of 100 will trigger the circuit to open, same as {@link #errorRatio()} for failures.
+     * Only used when {@link #slowCallDuration()} is configured.
+     * A slow call when the circuit is half-open opens the circuit again.
+     * Default is {@value #DEFAULT_SLOW_CALL_RATIO}.
+     *
+     * @return percent of slow calls that trigger the circuit to open
+     */
+    @Option.Configured
+    @Option.DefaultInt(DEFAULT_SLOW_CALL_RATIO)
+    int slowCallRatio();
+
     /**
      * How many successful calls will close a half-open circuit.
      * Nevertheless, the first failed call will open the circuit again.
@@ -96,9 +152,14 @@ interface CircuitBreakerConfigBlueprint extends Prototype.Factory<CircuitBreaker
 
     /**
      * Executor service to schedule future tasks.
+     * The transition from open to half-open is scheduled on a timer shared by all fault tolerance handlers,
+     * so this executor is no longer used by the circuit breaker.
      *
      * @return executor to use
+     * @deprecated the executor is ignored, the circuit breaker uses the shared fault tolerance timer; this option will be
+     *              removed in a future Helidon version
      */
+    @Deprecated(forRemoval = true, since = "27.0.0")
     Optional<ExecutorService> executor();
 
     /**
@@ -133,12 +194,20 @@ interface CircuitBreakerConfigBlueprint extends Prototype.Factory<CircuitBreaker
     boolean enableMetrics();
 
     class BuilderDecorator implements Prototype.BuilderDecorator<CircuitBreakerConfig.BuilderBase<?, ?>> {
+        private static final System.Logger LOGGER = System.getLogger(CircuitBreakerConfigBlueprint.class.getName());
+
         @Override
+        @SuppressWarnings("removal")
         public void decorate(CircuitBreakerConfig.BuilderBase<?, ?> target) {
             if (target.name().isEmpty()) {
                 target.config()
                         .ifPresent(cfg -> target.name(cfg.name()));
             }
+            if (target.executor().isPresent() && LOGGER.isLoggable(System.Logger.Level.WARNING)) {
+                LOGGER.log(System.Logger.Level.WARNING, "Circuit breaker " + target.name().orElse("") + " is configured"
+                        + " with an executor, which is ignored; the transition to half-open is scheduled on the timer"
+                        + " shared by all fault tolerance handlers");
+            }
         }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,8 @@
 
 package io.helidon.faulttolerance;
 
-import java.util.concurrent.ExecutorService;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -32,9 +33,10 @@ class CircuitBreakerImpl implements CircuitBreaker {
     /*
      Configuration options
      */
-    private final ExecutorService executor;
     // how long to transition from open to half-open
-    private final long delayMillis;
+    private final long delayNanos;
+    // calls that take longer are slow, zero if slow calls are ignored
+    private final long slowCallNanos;
     // how many successful calls will close a half-open breaker
     private final int successThreshold;
 
@@ -43,11 +45,11 @@ class CircuitBreakerImpl implements CircuitBreaker {
      */
     private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
     // rolling window for counting errors to (maybe) open the breaker
-    private final ResultWindow results;
+    private final CallWindow results;
     // to close from half-open
     private final AtomicInteger successCounter = new AtomicInteger();
     private final AtomicBoolean halfOpenInProgress = new AtomicBoolean();
-    private final AtomicReference<Future<Boolean>> schedule = new AtomicReference<>();
+    private final AtomicReference<HalfOpenTransition> schedule = new AtomicReference<>();
     private final ErrorChecker errorChecker;
     private final String name;
     private final CircuitBreakerConfig config;
@@ -58,10 +60,18 @@ class CircuitBreakerImpl implements CircuitBreaker {
 
     @Service.Inject
     CircuitBreakerImpl(CircuitBreakerConfig config) {
-        this.delayMillis = config.delay().toMillis();
+        this.delayNanos = config.delay().toNanos();
         this.successThreshold = config.successThreshold();
-        this.results = new ResultWindow(config.volume(), config.errorRatio());
-        this.executor = config.executor().orElseGet(FaultTolerance.executor());
+        this.slowCallNanos = config.slowCallDuration().map(Duration::toNanos).orElse(0L);
+        int slowCallRatio = config.slowCallDuration().isPresent() ? config.slowCallRatio() : -1;
+        this.results = config.window()
+                .<CallWindow>map(window -> new TimeWindow(window,
+                                                          config.windowBuckets(),
+                                                          config.volume(),
+                                                          config.errorRatio(),
+                                                          slowCallRatio,
+                                                          System::nanoTime))
+                .orElseGet(() -> new ResultWindow(config.volume(), config.errorRatio(), slowCallRatio));
         this.errorChecker = ErrorChecker.create(config.skipOn(), config.applyOn());
         this.name = config.name().orElseGet(() -> "circuit-breaker-" + System.identityHashCode(config));
         this.config = config;
@@ -110,17 +120,17 @@ class CircuitBreakerImpl implements CircuitBreaker {
                 return;
             }
 
-            Future<Boolean> future = schedule.getAndSet(null);
-            if (future != null) {
-                future.cancel(false);
+            HalfOpenTransition transition = schedule.getAndSet(null);
+            if (transition != null) {
+                transition.cancel();
             }
             resetCounters();
             state.set(State.CLOSED);
         } else if (newState == State.OPEN) {
             state.set(State.OPEN);
-            Future<Boolean> future = schedule.getAndSet(null);
-            if (future != null) {
-                future.cancel(false);
+            HalfOpenTransition transition = schedule.getAndSet(null);
+            if (transition != null) {
+                transition.cancel();
             }
             resetCounters();
         } else {
@@ -130,21 +140,19 @@ class CircuitBreakerImpl implements CircuitBreaker {
     }
 
     Future<Boolean> schedule() {
-        return schedule.get();
+        HalfOpenTransition transition = schedule.get();
+        return transition == null ? null : transition.future;
     }
 
     private <U> U executeTask(Supplier<? extends U> supplier) {
+        long start = slowCallNanos == 0 ? 0 : System.nanoTime();
         try {
             U result = supplier.get();
-            results.update(ResultWindow.Result.SUCCESS);
+            results.update(false, slow(start));
             return result;
         } catch (Throwable t) {
             Throwable throwable = SupplierHelper.unwrapThrowable(t);
-            if (errorChecker.shouldSkip(throwable)) {
-                results.update(ResultWindow.Result.SUCCESS);
-            } else {
-                results.update(ResultWindow.Result.FAILURE);
-            }
+            results.update(!errorChecker.shouldSkip(throwable), slow(start));
             throw SupplierHelper.toRuntimeException(throwable);
         } finally {
             if (results.shouldOpen() && state.compareAndSet(State.CLOSED, State.OPEN)) {
@@ -162,32 +170,23 @@ class CircuitBreakerImpl implements CircuitBreaker {
     private <U> U halfOpenTask(Supplier<? extends U> supplier) {
         // half-open
         if (halfOpenInProgress.compareAndSet(false, true)) {
+            long start = slowCallNanos == 0 ? 0 : System.nanoTime();
             try {
                 U result = supplier.get();
-                // success
-                int successes = successCounter.incrementAndGet();
-                if (successes >= successThreshold) {
-                    // transition to closed
-                    successCounter.set(0);
-                    state.compareAndSet(State.HALF_OPEN, State.CLOSED);
+                if (slow(start)) {
+                    // slow call is not a success, open again
+                    reopen();
+                } else {
+                    halfOpenSuccess();
                 }
                 return result;
             } catch (Throwable t) {
                 Throwable throwable = SupplierHelper.unwrapThrowable(t);
-                if (errorChecker.shouldSkip(throwable)) {
-                    // success
-                    int successes = successCounter.incrementAndGet();
-                    if (successes >= successThreshold) {
-                        // transition to closed
-                        successCounter.set(0);
-                        state.compareAndSet(State.HALF_OPEN, State.CLOSED);
-                    }
+                if (errorChecker.shouldSkip(throwable) && !slow(start)) {
+                    halfOpenSuccess();
                 } else {
                     // failure
-                    successCounter.set(0);
-                    state.set(State.OPEN);
-                    // if we successfully switch to open, we need to schedule switch to half-open
-                    scheduleHalf();
+                    reopen();
                 }
                 throw SupplierHelper.toRuntimeException(throwable);
             } finally {
@@ -198,17 +197,53 @@ class CircuitBreakerImpl implements CircuitBreaker {
         }
     }
 
+    private void halfOpenSuccess() {
+        int successes = successCounter.incrementAndGet();
+        if (successes >= successThreshold) {
+            // transition to closed
+            successCounter.set(0);
+            state.compareAndSet(State.HALF_OPEN, State.CLOSED);
+        }
+    }
+
+    private void reopen() {
+        successCounter.set(0);
+        state.set(State.OPEN);
+        // if we successfully switch to open, we need to schedule switch to half-open
+        scheduleHalf();
+    }
+
+    private boolean slow(long start) {
+        return slowCallNanos != 0 && System.nanoTime() - start >= slowCallNanos;
+    }
+
     private void scheduleHalf() {
-        schedule.set(executor.submit(
-                FaultTolerance.toDelayedCallable(() -> {
-                    state.compareAndSet(State.OPEN, State.HALF_OPEN);
-                    schedule.set(null);
-                    return true;
-                }, delayMillis)));
+        HalfOpenTransition transition = new HalfOpenTransition();
+        HalfOpenTransition previous = schedule.getAndSet(transition);
+        if (previous != null) {
+            previous.cancel();
+        }
+        TimingWheel.instance().schedule(transition, delayNanos);
     }
 
     private void resetCounters() {
         results.reset();
         successCounter.set(0);
     }
+
+    private final class HalfOpenTransition extends TimingWheel.Task {
+        private final CompletableFuture<Boolean> future = new CompletableFuture<>();
+
+        @Override
+        void expire() {
+            state.compareAndSet(State.OPEN, State.HALF_OPEN);
+            schedule.compareAndSet(this, null);
+            future.complete(true);
+        }
+
+        void cancel() {
+            TimingWheel.instance().cancel(this);
+            future.cancel(false);
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,14 +25,30 @@ import java.util.concurrent.atomic.AtomicInteger;
  * This should not be a significant issue, as the calculations work on a state (that may change anyway when checking
  * whether to open the circuit).
  */
-final class ResultWindow {
+final class ResultWindow implements CallWindow {
+    private static final int FAILURE = 1;
+    private static final int SLOW = 2;
+
     private final AtomicInteger currentSum = new AtomicInteger();
+    private final AtomicInteger slowSum = new AtomicInteger();
     private final AtomicCycle index;
     private final AtomicInteger[] results;
     private final AtomicInteger totalResults = new AtomicInteger();
     private final int thresholdSum;
+    private final int slowThresholdSum;
 
     ResultWindow(int size, int ratio) {
+        this(size, ratio, -1);
+    }
+
+    /**
+     * Create a new window.
+     *
+     * @param size      number of results in the window
+     * @param ratio     percent of failures that open the breaker
+     * @param slowRatio percent of slow calls that open the breaker, negative to ignore slow calls
+     */
+    ResultWindow(int size, int ratio, int slowRatio) {
         results = new AtomicInteger[size];
         for (int i = 0; i < size; i++) {
             results[i] = new AtomicInteger();
@@ -41,15 +57,25 @@ final class ResultWindow {
         // calculate the sum needed to open the breaker
         int threshold = (size * ratio) / 100;
         thresholdSum = threshold == 0 ? 1 : threshold;
-
+        if (slowRatio < 0) {
+            slowThresholdSum = Integer.MAX_VALUE;
+        } else {
+            int slowThreshold = (size * slowRatio) / 100;
+            slowThresholdSum = slowThreshold == 0 ? 1 : slowThreshold;
+        }
     }
 
     void update(Result resultEnum) {
+        update(resultEnum == Result.FAILURE, false);
+    }
+
+    @Override
+    public void update(boolean failure, boolean slow) {
         // update total number of results
         totalResults.incrementAndGet();
 
-        // success is zero, failure is 1
-        int result = resultEnum.ordinal();
+        // success is zero, failure and slow calls are flags
+        int result = (failure ? FAILURE : 0) | (slow ? SLOW : 0);
 
         AtomicInteger mine = results[index.incrementAndGet()];
         int origValue = mine.getAndSet(result);
@@ -57,10 +83,20 @@ final class ResultWindow {
             // no change
             return;
         }
-        if (origValue == 1) {
-            currentSum.decrementAndGet();
-        } else {
-            currentSum.incrementAndGet();
+        int changed = origValue ^ result;
+        if ((changed & FAILURE) != 0) {
+            if ((origValue & FAILURE) != 0) {
+                currentSum.decrementAndGet();
+            } else {
+                currentSum.incrementAndGet();
+            }
+        }
+        if ((changed & SLOW) != 0) {
+            if ((origValue & SLOW) != 0) {
+                slowSum.decrementAndGet();
+            } else {
+                slowSum.incrementAndGet();
+            }
         }
     }
 
@@ -69,15 +105,19 @@ final class ResultWindow {
      *
      * @return outcome of test.
      */
-    boolean shouldOpen() {
-        return totalResults.get() >= results.length && currentSum.get() >= thresholdSum;
+    @Override
+    public boolean shouldOpen() {
+        return totalResults.get() >= results.length
+                && (currentSum.get() >= thresholdSum || slowSum.get() >= slowThresholdSum);
     }
 
-    void reset() {
+    @Override
+    public void reset() {
         for (int i = 0; i < results.length; i++) {
             results[i].set(Result.SUCCESS.ordinal());
         }
         currentSum.set(0);
+        slowSum.set(0);
         index.set(results.length - 1);
         totalResults.set(0);
     }
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.faulttolerance;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Sliding window of results over wall-clock time.
+ * The window is split into buckets of the same duration, each bucket counts calls completed within its time
+ * using striped counters, so parallel updates do not contend. Buckets are reused once they fall out of the window.
+ * Same as with {@link io.helidon.faulttolerance.ResultWindow}, the status is eventually consistent.
+ */
+final class TimeWindow implements CallWindow {
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final Bucket[] buckets;
+    private final long bucketNanos;
+    private final int minimumCalls;
+    private final int ratio;
+    private final int slowRatio;
+    private final LongSupplier nanoTime;
+
+    /**
+     * Create a new window.
+     *
+     * @param window       duration of the window
+     * @param bucketCount  number of buckets the window is split into
+     * @param minimumCalls minimal number of calls within the window before the breaker can open
+     * @param ratio        percent of failures that open the breaker
+     * @param slowRatio    percent of slow calls that open the breaker, negative to ignore slow calls
+     * @param nanoTime     source of time
+     */
+    TimeWindow(Duration window, int bucketCount, int minimumCalls, int ratio, int slowRatio, LongSupplier nanoTime) {
+        if (bucketCount < 1) {
+            throw new IllegalArgumentException("Number of window buckets must be at least 1, but is " + bucketCount);
+        }
+        this.bucketNanos = Math.max(1, window.toNanos() / bucketCount);
+        this.minimumCalls = Math.max(1, minimumCalls);
+        this.ratio = ratio;
+        this.slowRatio = slowRatio;
+        this.nanoTime = nanoTime;
+        this.buckets = new Bucket[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    @Override
+    public void update(boolean failure, boolean slow) {
+        long epoch = Math.floorDiv(nanoTime.getAsLong(), bucketNanos);
+        Bucket bucket = buckets[(int) Math.floorMod(epoch, buckets.length)];
+        long bucketEpoch = bucket.epoch.get();
+        // only the thread that moves the bucket to the new epoch clears it, results of calls that were counted
+        // concurrently may be lost, which is fine for the purpose of the breaker
+        if (bucketEpoch < epoch && bucket.epoch.compareAndSet(bucketEpoch, epoch)) {
+            bucket.reset();
+        }
+        bucket.calls.increment();
+        if (failure) {
+            bucket.failures.increment();
+        }
+        if (slow) {
+            bucket.slow.increment();
+        }
+    }
+
+    @Override
+    public boolean shouldOpen() {
+        long epoch = Math.floorDiv(nanoTime.getAsLong(), bucketNanos);
+        long oldest = epoch - buckets.length + 1;
+
+        long calls = 0;
+        long failures = 0;
+        long slow = 0;
+        for (Bucket bucket : buckets) {
+            long bucketEpoch = bucket.epoch.get();
+            if (bucketEpoch >= oldest && bucketEpoch <= epoch) {
+                calls += bucket.calls.sum();
+                failures += bucket.failures.sum();
+                slow += bucket.slow.sum();
+            }
+        }
+        if (calls < minimumCalls) {
+            return false;
+        }
+        if (failures > 0 && failures * 100 >= ratio * calls) {
+            return true;
+        }
+        return slowRatio >= 0 && slow > 0 && slow * 100 >= slowRatio * calls;
+    }
+
+    @Override
+    public void reset() {
+        for (Bucket bucket : buckets) {
+            bucket.epoch.set(EMPTY);
+            bucket.reset();
+        }
+    }
+
+    private static final class Bucket {
+        private final AtomicLong epoch = new AtomicLong(EMPTY);
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder slow = new LongAdder();
+
+        private void reset() {
+            calls.reset();
+            failures.reset();
+            slow.reset();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -57,7 +57,9 @@ interface TimeoutConfigBlueprint extends Prototype.Factory<Timeout> {
     boolean currentThread();
 
     /**
-     * Executor service to schedule the timeout.
+     * Executor service to execute the supplier in, unless {@link #currentThread()} is used.
+     * When the supplier runs in the current thread, the timeout is scheduled on a timer shared
+     * by all fault tolerance handlers.
      *
      * @return executor service to use
      */
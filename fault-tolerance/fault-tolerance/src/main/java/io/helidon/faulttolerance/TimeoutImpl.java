@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,10 +18,7 @@ package io.helidon.faulttolerance;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 import io.helidon.metrics.api.Counter;
@@ -34,6 +31,7 @@ class TimeoutImpl implements Timeout {
     private static final System.Logger LOGGER = System.getLogger(TimeoutImpl.class.getName());
 
     private final long timeoutMillis;
+    private final long timeoutNanos;
     private final ExecutorService executor;
     private final boolean currentThread;
     private final String name;
@@ -46,6 +44,7 @@ class TimeoutImpl implements Timeout {
     @Service.Inject
     TimeoutImpl(TimeoutConfig config) {
         this.timeoutMillis = config.timeout().toMillis();
+        this.timeoutNanos = config.timeout().toNanos();
         this.executor = config.executor().orElseGet(FaultTolerance.executor());
         this.currentThread = config.currentThread();
         this.name = config.name().orElseGet(() -> "timeout-" + System.identityHashCode(config));
@@ -82,72 +81,87 @@ class TimeoutImpl implements Timeout {
                         .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
                         .get();
             } catch (Throwable t) {
-                throw mapThrowable(t, null);
+                throw mapThrowable(t, false);
             } finally {
                 if (metricsEnabled) {
                     executionDurationMetric.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
                 }
             }
         } else {
-            Thread thisThread = Thread.currentThread();
-            ReentrantLock interruptLock = new ReentrantLock();
-            AtomicBoolean callReturned = new AtomicBoolean(false);
-            AtomicBoolean interrupted = new AtomicBoolean(false);
-
-            Future<?> monitor = executor.submit(FaultTolerance.toDelayedRunnable(() -> {
-                interruptLock.lock();
-                try {
-                    if (callReturned.compareAndSet(false, true)) {
-                        thisThread.interrupt();
-                        interrupted.set(true);      // needed if InterruptedException caught in supplier
-                    }
-                } finally {
-                    interruptLock.unlock();
-                }
-            }, timeoutMillis));
+            Interrupt monitor = new Interrupt(Thread.currentThread());
+            TimingWheel timer = TimingWheel.instance();
+            timer.schedule(monitor, timeoutNanos);
 
             try {
                 T result = supplier.get();
-                if (interrupted.get()) {
+                if (monitor.interrupted()) {
                     throw new TimeoutException("Supplier execution interrupted");
                 }
                 return result;
             } catch (Throwable t) {
-                throw mapThrowable(t, interrupted);
+                throw mapThrowable(t, monitor.interrupted());
             } finally {
                 if (metricsEnabled) {
                     executionDurationMetric.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
                 }
 
-                interruptLock.lock();
-                try {
-                    boolean cancelMonitor = monitor.cancel(true);
-                    if (!cancelMonitor) {
-                        LOGGER.log(System.Logger.Level.DEBUG, "Unable to cancel monitor thread");
-                    }
-
-                    callReturned.set(true);
-                    // Run invocation in current thread
-                    // Clear interrupted flag here -- required for uninterruptible busy loops
-                    if (Thread.interrupted()) {
-                        LOGGER.log(System.Logger.Level.DEBUG, "Current thread interrupted, clearing status");
-                    }
-                } finally {
-                    interruptLock.unlock();
+                if (!timer.cancel(monitor)) {
+                    // timeout expired, make sure the interrupt is delivered before we clear it
+                    monitor.awaitInterrupt();
+                }
+                // Run invocation in current thread
+                // Clear interrupted flag here -- required for uninterruptible busy loops
+                if (Thread.interrupted()) {
+                    LOGGER.log(System.Logger.Level.DEBUG, "Current thread interrupted, clearing status");
                 }
             }
         }
     }
 
-    private static RuntimeException mapThrowable(Throwable t, AtomicBoolean interrupted) {
+    private static RuntimeException mapThrowable(Throwable t, boolean interrupted) {
         Throwable throwable = SupplierHelper.unwrapThrowable(t);
         if (throwable instanceof InterruptedException) {
             return new TimeoutException("Call interrupted", throwable);
         } else if (throwable instanceof java.util.concurrent.TimeoutException) {
             return new TimeoutException("Timeout reached", throwable);
-        } else if (interrupted != null && interrupted.get()) {
+        } else if (interrupted) {
             return new TimeoutException("Supplier execution interrupted", t);
         }
         return SupplierHelper.toRuntimeException(throwable);
     }
+
+    /**
+     * Interrupts the calling thread when the timeout expires.
+     */
+    private static final class Interrupt extends TimingWheel.Task {
+        private static final int WAITING = 0;
+        private static final int INTERRUPTING = 1;
+        private static final int INTERRUPTED = 2;
+
+        private final Thread thread;
+        private volatile int state = WAITING;
+
+        private Interrupt(Thread thread) {
+            this.thread = thread;
+        }
+
+        @Override
+        void expire() {
+            // must be visible before the interrupt, needed if InterruptedException caught in supplier
+            state = INTERRUPTING;
+            thread.interrupt();
+            state = INTERRUPTED;
+        }
+
+        boolean interrupted() {
+            return state != WAITING;
+        }
+
+        // called only when the task could not be cancelled, the interrupt is delivered right away
+        void awaitInterrupt() {
+            while (state != INTERRUPTED) {
+                Thread.onSpinWait();
+            }
+        }
+    }
 }
@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.faulttolerance;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+import io.helidon.common.LazyValue;
+
+/**
+ * Hierarchical timing wheel used to schedule delayed actions of fault tolerance handlers, such as interrupting
+ * a call that timed out, or moving an open circuit breaker to half-open.
+ * <p>
+ * The wheel has a resolution of one millisecond and is advanced by a single daemon thread, that only ticks while
+ * there are tasks scheduled. The slots are only accessed by the ticker thread: scheduling and cancelling a task
+ * push it to a lock free inbox (or list of cancelled tasks), which the ticker drains on each tick, so callers never
+ * contend on a lock. Neither operation allocates, as the task itself is the node of the wheel and of the inbox.
+ * Tasks are executed on the ticker thread, so they must be short and must not block.
+ */
+final class TimingWheel {
+    private static final System.Logger LOGGER = System.getLogger(TimingWheel.class.getName());
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    // each level has 64 slots, one slot of a level spans all slots of the level below
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    // 64^5 ticks is more than 12 days, tasks with longer delays are re-inserted when their top level slot is reached
+    private static final int LEVELS = 5;
+    private static final long MAX_SPAN = 1L << (SLOT_BITS * LEVELS);
+    private static final LazyValue<TimingWheel> INSTANCE = LazyValue.create(() -> {
+        TimingWheel wheel = new TimingWheel(System::nanoTime);
+        wheel.ticker = Thread.ofPlatform()
+                .daemon()
+                .name("helidon-ft-timer")
+                .start(wheel::run);
+        return wheel;
+    });
+
+    // scheduled tasks not yet added to the slots, pushed by any thread, drained by the ticker
+    private final AtomicReference<Task> inbox = new AtomicReference<>();
+    // cancelled tasks that may still be in the slots, pushed by any thread, drained by the ticker
+    private final AtomicReference<Task> cancelled = new AtomicReference<>();
+    // scheduled tasks that did not expire and were not cancelled
+    private final AtomicInteger size = new AtomicInteger();
+    private final Task[][] slots = new Task[LEVELS][SLOTS];
+    private final LongSupplier nanoTime;
+    private final long startNanos;
+
+    private volatile Thread ticker;
+
+    // only accessed by the ticker thread (or the thread calling advance() in tests)
+    private long currentTick;
+    // number of tasks in the slots
+    private int linked;
+
+    TimingWheel(LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+        this.startNanos = nanoTime.getAsLong();
+    }
+
+    /**
+     * The wheel shared by all fault tolerance handlers.
+     *
+     * @return shared timing wheel
+     */
+    static TimingWheel instance() {
+        return INSTANCE.get();
+    }
+
+    /**
+     * Schedule a task to expire after the delay.
+     *
+     * @param task       task to schedule, each task can be scheduled only once
+     * @param delayNanos delay in nanoseconds
+     * @throws IllegalStateException if the task was already scheduled
+     */
+    void schedule(Task task, long delayNanos) {
+        if (!task.transition(Task.NEW, Task.SCHEDULED)) {
+            throw new IllegalStateException("Task was already scheduled");
+        }
+        long elapsed = nanoTime.getAsLong() - startNanos;
+        // round up, so the task never expires before the delay elapses
+        task.deadline = Math.ceilDiv(elapsed, TICK_NANOS) + Math.ceilDiv(Math.max(0, delayNanos), TICK_NANOS);
+        boolean wakeUp = size.incrementAndGet() == 1;
+        push(inbox, task, false);
+        if (wakeUp) {
+            LockSupport.unpark(ticker);
+        }
+    }
+
+    /**
+     * Cancel a scheduled task.
+     *
+     * @param task task to cancel
+     * @return {@code true} if the task was cancelled before it expired, {@code false} if it already expired
+     *         (its {@link Task#expire()} may still be running), or was not scheduled
+     */
+    boolean cancel(Task task) {
+        if (!task.transition(Task.SCHEDULED, Task.CANCELLED)) {
+            return false;
+        }
+        size.decrementAndGet();
+        // the ticker removes it from the slots, so the task is not retained until its deadline
+        push(cancelled, task, true);
+        return true;
+    }
+
+    /**
+     * Number of scheduled tasks.
+     *
+     * @return tasks waiting to expire
+     */
+    int size() {
+        return size.get();
+    }
+
+    /**
+     * Advance the wheel to the current time and run the expired tasks.
+     * Must only be called by a single thread.
+     */
+    void advance() {
+        long now = (nanoTime.getAsLong() - startNanos) / TICK_NANOS;
+        for (Task task = cancelled.getAndSet(null); task != null; ) {
+            Task next = task.cancelledNext;
+            task.cancelledNext = null;
+            if (task.linked) {
+                unlink(task);
+            }
+            task = next;
+        }
+
+        if (linked == 0) {
+            // the wheel is not advanced while idle; the slots are empty, so skip the idle period at once,
+            // rather than walking through every tick of it
+            currentTick = Math.max(currentTick, now);
+        }
+
+        Task expired = null;
+        for (Task task = inbox.getAndSet(null); task != null; ) {
+            Task next = task.inboxNext;
+            task.inboxNext = null;
+            if (task.deadline <= currentTick) {
+                // the ticker is late, or the wheel was idle
+                expired = expire(task, expired);
+            } else if (task.state() == Task.SCHEDULED) {
+                add(task);
+            }
+            task = next;
+        }
+
+        while (currentTick < now) {
+            if (linked == 0) {
+                // nothing to expire, no need to go through the empty slots
+                currentTick = now;
+                break;
+            }
+            currentTick++;
+            cascade();
+
+            int index = (int) (currentTick & SLOT_MASK);
+            Task task = slots[0][index];
+            slots[0][index] = null;
+            while (task != null) {
+                Task next = task.next;
+                task.prev = null;
+                task.linked = false;
+                linked--;
+                expired = expire(task, expired);
+                task = next;
+            }
+        }
+
+        while (expired != null) {
+            Task next = expired.next;
+            expired.next = null;
+            try {
+                expired.expire();
+            } catch (Throwable e) {
+                LOGGER.log(System.Logger.Level.WARNING, "Failed to run expired fault tolerance task", e);
+            }
+            expired = next;
+        }
+    }
+
+    private void run() {
+        while (true) {
+            advance();
+            while (size.get() == 0) {
+                // woken up by schedule
+                LockSupport.park(this);
+            }
+            LockSupport.parkNanos(TICK_NANOS);
+        }
+    }
+
+    // add the task to the list of expired tasks, unless it was cancelled in the meantime
+    private Task expire(Task task, Task expired) {
+        if (task.transition(Task.SCHEDULED, Task.EXPIRED)) {
+            size.decrementAndGet();
+            task.next = expired;
+            return task;
+        }
+        task.next = null;
+        return expired;
+    }
+
+    // move tasks from the slots of higher levels reached by the current tick to lower levels, highest level first,
+    // so tasks moved to a slot that is also reached are moved again
+    private void cascade() {
+        for (int level = LEVELS - 1; level > 0; level--) {
+            int shift = level * SLOT_BITS;
+            if ((currentTick & ((1L << shift) - 1)) != 0) {
+                continue;
+            }
+            int index = (int) ((currentTick >>> shift) & SLOT_MASK);
+            Task task = slots[level][index];
+            slots[level][index] = null;
+            while (task != null) {
+                Task next = task.next;
+                linked--;
+                add(task);
+                task = next;
+            }
+        }
+    }
+
+    private void add(Task task) {
+        long ticks = Math.max(0, task.deadline - currentTick);
+        long placement = task.deadline;
+        if (ticks >= MAX_SPAN) {
+            ticks = MAX_SPAN - 1;
+            placement = currentTick + ticks;
+        }
+        int level = ticks == 0 ? 0 : (63 - Long.numberOfLeadingZeros(ticks)) / SLOT_BITS;
+        int index = (int) ((placement >>> (level * SLOT_BITS)) & SLOT_MASK);
+
+        Task head = slots[level][index];
+        task.level = level;
+        task.index = index;
+        task.prev = null;
+        task.next = head;
+        task.linked = true;
+        if (head != null) {
+            head.prev = task;
+        }
+        slots[level][index] = task;
+        linked++;
+    }
+
+    private void unlink(Task task) {
+        if (task.prev == null) {
+            slots[task.level][task.index] = task.next;
+        } else {
+            task.prev.next = task.next;
+        }
+        if (task.next != null) {
+            task.next.prev = task.prev;
+        }
+        task.prev = null;
+        task.next = null;
+        task.linked = false;
+        linked--;
+    }
+
+    private static void push(AtomicReference<Task> stack, Task task, boolean cancelledStack) {
+        Task head;
+        do {
+            head = stack.get();
+            if (cancelledStack) {
+                task.cancelledNext = head;
+            } else {
+                task.inboxNext = head;
+            }
+        } while (!stack.compareAndSet(head, task));
+    }
+
+    /**
+     * Task that can be scheduled on a {@link io.helidon.faulttolerance.TimingWheel}.
+     */
+    abstract static class Task {
+        private static final int NEW = 0;
+        private static final int SCHEDULED = 1;
+        private static final int CANCELLED = 2;
+        private static final int EXPIRED = 3;
+        private static final VarHandle STATE;
+
+        static {
+            try {
+                STATE = MethodHandles.lookup().findVarHandle(Task.class, "state", int.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        // only accessed by the ticker thread
+        private Task prev;
+        private Task next;
+        private int level;
+        private int index;
+        private boolean linked;
+        // written before the task is pushed to the inbox (or cancelled tasks), read by the ticker after it is drained
+        private long deadline;
+        private Task inboxNext;
+        private Task cancelledNext;
+        private volatile int state = NEW;
+
+        /**
+         * Invoked on the ticker thread once the delay elapsed, unless the task was cancelled before.
+         */
+        abstract void expire();
+
+        private boolean transition(int from, int to) {
+            return STATE.compareAndSet(this, from, to);
+        }
+
+        private int state() {
+            return state;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2025, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package io.helidon.faulttolerance;
 
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
@@ -32,6 +33,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -202,4 +204,61 @@ class BulkheadTest extends BulkheadBaseTest {
         assertThat(cause, notNullValue());
         assertThat(cause, instanceOf(IllegalStateException.class));
     }
+
+    @Test
+    void testBulkheadMaxWaitTime() throws InterruptedException, ExecutionException, java.util.concurrent.TimeoutException {
+        String name = "unit:testBulkheadMaxWaitTime";
+        Bulkhead bulkhead = Bulkhead.builder()
+                .limit(1)
+                .queueLength(1)
+                .maxWaitTime(Duration.ofMillis(100))
+                .name(name)
+                .build();
+
+        Task inProgress = new Task(0);
+        CompletableFuture<?> inProgressFuture = Async.invokeStatic(() -> bulkhead.invoke(inProgress::run));
+        if (!inProgress.waitUntilStarted(WAIT_TIMEOUT_MILLIS)) {
+            fail("Task inProgress not started");
+        }
+
+        // waits in queue longer than allowed
+        BulkheadException exception = assertThrows(BulkheadException.class, () -> bulkhead.invoke(() -> 1));
+        assertThat(exception.getMessage(), is("Bulkhead \"" + name + "\" timed out while waiting in queue"));
+        assertThat(bulkhead.stats().waitingQueueSize(), is(0L));
+        assertThat(bulkhead.stats().callsRejected(), is(1L));
+
+        inProgress.unblock();
+        inProgressFuture.get(WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+        // the permit is available again
+        assertThat(bulkhead.invoke(() -> 2), is(2));
+    }
+
+    @Test
+    void testBulkheadCancelQueued() throws InterruptedException, ExecutionException, java.util.concurrent.TimeoutException {
+        Bulkhead bulkhead = Bulkhead.builder()
+                .limit(1)
+                .queueLength(1)
+                .build();
+
+        Task inProgress = new Task(0);
+        CompletableFuture<?> inProgressFuture = Async.invokeStatic(() -> bulkhead.invoke(inProgress::run));
+        if (!inProgress.waitUntilStarted(WAIT_TIMEOUT_MILLIS)) {
+            fail("Task inProgress not started");
+        }
+
+        Task queued = new Task(1);
+        Supplier<Integer> queuedSupplier = queued::run;
+        CompletableFuture<Integer> queuedFuture = Async.invokeStatic(() -> bulkhead.invoke(queuedSupplier));
+        assertEventually(() -> bulkhead.stats().waitingQueueSize() == 1, WAIT_TIMEOUT_MILLIS);
+
+        // cancelled supplier is never invoked
+        assertThat(bulkhead.cancelSupplier(queuedSupplier), is(true));
+        assertThat(queuedFuture.get(WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS), nullValue());
+        assertThat(queued.isStarted(), is(false));
+        assertThat(bulkhead.stats().waitingQueueSize(), is(0L));
+
+        inProgress.unblock();
+        inProgressFuture.get(WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -96,4 +96,46 @@ class CircuitBreakerTest extends CircuitBreakerBaseTest {
 
         assertThat(breaker.state(), is(CircuitBreaker.State.OPEN));
     }
+
+    @Test
+    void testOpenOnSlowCalls() {
+        CircuitBreaker breaker = CircuitBreaker.builder()
+                .volume(2)
+                .slowCallDuration(Duration.ofMillis(10))
+                .slowCallRatio(50)
+                .build();
+
+        good(breaker);
+        breaker.invoke(() -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return 1;
+        });
+
+        assertThat(breaker.state(), is(CircuitBreaker.State.OPEN));
+    }
+
+    @Test
+    void testTimeWindow() {
+        CircuitBreaker breaker = CircuitBreaker.builder()
+                .window(Duration.ofMinutes(1))
+                .volume(4)
+                .errorRatio(50)
+                .build();
+
+        bad(breaker);
+        good(breaker);
+        good(breaker);
+        good(breaker);
+        good(breaker);
+        bad(breaker);
+        assertThat(breaker.state(), is(CircuitBreaker.State.CLOSED));
+
+        bad(breaker);
+        bad(breaker);
+        assertThat(breaker.state(), is(CircuitBreaker.State.OPEN));
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -95,4 +95,28 @@ class ResultWindowTest {
         window.reset();
         assertThat("Empty should not open", window.shouldOpen(), is(false));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testOpenOnSlowCalls() {
+        ResultWindow window = new ResultWindow(4, 50, 50);
+        window.update(false, false);
+        window.update(false, true);
+        window.update(false, false);
+        window.update(false, false);
+        assertThat("Should not open with 25% slow calls", window.shouldOpen(), is(false));
+        window.update(false, true);
+        assertThat("Should open with 50% slow calls", window.shouldOpen(), is(true));
+        // slow calls move out of the window
+        window.update(false, false);
+        window.update(false, false);
+        assertThat("Should not open with 25% slow calls", window.shouldOpen(), is(false));
+    }
+
+    @Test
+    void testSlowCallsIgnored() {
+        ResultWindow window = new ResultWindow(2, 50);
+        window.update(false, true);
+        window.update(false, true);
+        assertThat("Slow calls are ignored by default", window.shouldOpen(), is(false));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.faulttolerance;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class TimeWindowTest {
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void testNotOpenBeforeMinimumCalls() {
+        TimeWindow window = window(4, 50, -1);
+        window.update(true, false);
+        window.update(true, false);
+        window.update(true, false);
+        assertThat("Should not open before minimum calls", window.shouldOpen(), is(false));
+        window.update(false, false);
+        assertThat("Should open with 75% failures", window.shouldOpen(), is(true));
+    }
+
+    @Test
+    void testFailuresExpire() {
+        TimeWindow window = window(2, 50, -1);
+        window.update(true, false);
+        window.update(true, false);
+        assertThat(window.shouldOpen(), is(true));
+
+        // after the whole window, the failures are no longer considered
+        advance(Duration.ofSeconds(10));
+        assertThat(window.shouldOpen(), is(false));
+        window.update(false, false);
+        window.update(false, false);
+        assertThat(window.shouldOpen(), is(false));
+    }
+
+    @Test
+    void testSlidingWindow() {
+        TimeWindow window = window(4, 50, -1);
+        window.update(true, false);
+        window.update(true, false);
+        advance(Duration.ofSeconds(5));
+        window.update(false, false);
+        window.update(false, false);
+        window.update(false, false);
+        window.update(false, false);
+        // 2 out of 6
+        assertThat(window.shouldOpen(), is(false));
+        window.update(true, false);
+        window.update(true, false);
+        // 4 out of 8
+        assertThat(window.shouldOpen(), is(true));
+
+        // first bucket is out of the window, 2 out of 6
+        advance(Duration.ofSeconds(5));
+        assertThat(window.shouldOpen(), is(false));
+    }
+
+    @Test
+    void testSlowCalls() {
+        TimeWindow window = window(4, 50, 50);
+        window.update(false, true);
+        window.update(false, true);
+        window.update(false, false);
+        assertThat(window.shouldOpen(), is(false));
+        window.update(false, false);
+        assertThat("Should open with 50% slow calls", window.shouldOpen(), is(true));
+    }
+
+    @Test
+    void testReset() {
+        TimeWindow window = window(1, 50, -1);
+        window.update(true, false);
+        assertThat(window.shouldOpen(), is(true));
+        window.reset();
+        assertThat(window.shouldOpen(), is(false));
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+
+    private TimeWindow window(int minimumCalls, int ratio, int slowRatio) {
+        return new TimeWindow(Duration.ofSeconds(10), 10, minimumCalls, ratio, slowRatio, now::get);
+    }
+}
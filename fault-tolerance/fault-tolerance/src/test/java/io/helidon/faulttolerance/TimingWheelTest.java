@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.faulttolerance;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class TimingWheelTest {
+    private final AtomicLong now = new AtomicLong(42);
+    private final TimingWheel wheel = new TimingWheel(now::get);
+    private final List<String> expired = new ArrayList<>();
+
+    @Test
+    void testExpiresAfterDelay() {
+        wheel.schedule(task("a"), millis(10));
+
+        advance(Duration.ofMillis(9));
+        assertThat(expired, is(empty()));
+
+        advance(Duration.ofMillis(1));
+        assertThat(expired, contains("a"));
+        assertThat(wheel.size(), is(0));
+    }
+
+    @Test
+    void testCancel() {
+        TestTask task = task("a");
+        wheel.schedule(task, millis(10));
+        assertThat(wheel.size(), is(1));
+
+        assertThat(wheel.cancel(task), is(true));
+        assertThat(wheel.cancel(task), is(false));
+        assertThat(wheel.size(), is(0));
+
+        advance(Duration.ofMillis(20));
+        assertThat(expired, is(empty()));
+    }
+
+    @Test
+    void testCancelExpired() {
+        TestTask task = task("a");
+        wheel.schedule(task, millis(1));
+        advance(Duration.ofMillis(1));
+
+        assertThat(expired, contains("a"));
+        assertThat(wheel.cancel(task), is(false));
+    }
+
+    @Test
+    void testScheduleTwice() {
+        TestTask task = task("a");
+        wheel.schedule(task, millis(1));
+        assertThrows(IllegalStateException.class, () -> wheel.schedule(task, millis(1)));
+    }
+
+    @Test
+    void testCascade() {
+        // delays on all levels of the wheel
+        wheel.schedule(task("hours"), Duration.ofHours(5).toNanos());
+        wheel.schedule(task("minutes"), Duration.ofMinutes(3).toNanos());
+        wheel.schedule(task("seconds"), Duration.ofSeconds(2).toNanos());
+        wheel.schedule(task("millis"), millis(100));
+
+        advance(Duration.ofMillis(99));
+        assertThat(expired, is(empty()));
+        advance(Duration.ofMillis(1));
+        assertThat(expired, contains("millis"));
+
+        advance(Duration.ofMillis(1899));
+        assertThat(expired, contains("millis"));
+        advance(Duration.ofMillis(1));
+        assertThat(expired, contains("millis", "seconds"));
+
+        advance(Duration.ofMinutes(3).minusSeconds(2).minusMillis(1));
+        assertThat(expired, contains("millis", "seconds"));
+        advance(Duration.ofMillis(1));
+        assertThat(expired, contains("millis", "seconds", "minutes"));
+
+        advance(Duration.ofHours(5).minusMinutes(3).minusMillis(1));
+        assertThat(expired, contains("millis", "seconds", "minutes"));
+        advance(Duration.ofMillis(1));
+        assertThat(expired, contains("millis", "seconds", "minutes", "hours"));
+        assertThat(wheel.size(), is(0));
+    }
+
+    @Test
+    void testScheduleAfterIdle() {
+        wheel.schedule(task("a"), millis(1));
+        advance(Duration.ofMillis(1));
+        assertThat(expired, contains("a"));
+
+        // the wheel is not advanced while there are no tasks; walking each tick of 30 days would take far too long
+        now.addAndGet(Duration.ofDays(30).toNanos());
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            wheel.schedule(task("b"), millis(10));
+            advance(Duration.ofMillis(9));
+            assertThat(expired, contains("a"));
+            advance(Duration.ofMillis(1));
+            assertThat(expired, contains("a", "b"));
+        });
+    }
+
+    @Test
+    void testSharedInstance() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        TimingWheel.instance().schedule(new TimingWheel.Task() {
+            @Override
+            void expire() {
+                latch.countDown();
+            }
+        }, millis(10));
+
+        assertThat(latch.await(5, TimeUnit.SECONDS), is(true));
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+        wheel.advance();
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    private TestTask task(String name) {
+        return new TestTask(name);
+    }
+
+    private final class TestTask extends TimingWheel.Task {
+        private final String name;
+
+        private TestTask(String name) {
+            this.name = name;
+        }
+
+        @Override
+        void expire() {
+            expired.add(name);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,26 +16,49 @@
 
 package io.helidon.http.http2;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.locks.Lock;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
 import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.BufferPool;
 import io.helidon.common.buffers.DataWriter;
 import io.helidon.common.socket.SocketContext;
 
 /**
  * HTTP/2 connection writer.
+ * <p>
+ * When write batching is enabled, frames written while other threads wait to write are collected and written
+ * with a single (gathering) write once the last waiting thread is done, similar to TCP corking. Batches are bounded
+ * by size in bytes and by the time the oldest frame waits in the batch; a timer writes the batch once the delay
+ * expires, even if no other thread releases the lock in the meantime.
  */
 public class Http2ConnectionWriter implements Http2StreamWriter {
+    private static final System.Logger LOGGER = System.getLogger(Http2ConnectionWriter.class.getName());
+
     private final DataWriter writer;
+    private final BufferPool bufferPool;
 
-    private final Lock streamLock = new ReentrantLock(true);
+    private final ReentrantLock streamLock = new ReentrantLock(true);
     private final SocketContext ctx;
     private final Http2FrameListener listener;
     private final Http2Headers.DynamicTable outboundDynamicTable;
     private final Http2HuffmanEncoder responseHuffman;
     private final BufferData headerBuffer = BufferData.growing(512);
+    private final boolean batching;
+    private final int maxBatchBytes;
+    private final long maxBatchDelayNanos;
+    private final Http2WriteBatchStats batchStats;
+    // frames waiting to be written, guarded by stream lock
+    private final List<BufferData> batch;
+    private int batchFrames;
+    private long batchBytes;
+    private long batchStartNanos;
+    private boolean flushScheduled;
 
     /**
      * A new writer.
@@ -45,13 +68,59 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
      * @param sendFrameListeners send frame listeners
      */
     public Http2ConnectionWriter(SocketContext ctx, DataWriter writer, List<Http2FrameListener> sendFrameListeners) {
+        this(ctx, writer, sendFrameListeners, BufferPool.unpooled());
+    }
+
+    /**
+     * A new writer that copies frame data into buffers obtained from a pool.
+     * The buffers are released by the data writer once written.
+     *
+     * @param ctx                connection context
+     * @param writer             data writer
+     * @param sendFrameListeners send frame listeners
+     * @param bufferPool         pool to obtain buffers for frame data
+     */
+    public Http2ConnectionWriter(SocketContext ctx,
+                                 DataWriter writer,
+                                 List<Http2FrameListener> sendFrameListeners,
+                                 BufferPool bufferPool) {
+        this(ctx, writer, sendFrameListeners, bufferPool, 0, Duration.ZERO, null);
+    }
+
+    /**
+     * A new writer that collects frames written concurrently by multiple streams and writes them in batches.
+     *
+     * @param ctx                connection context
+     * @param writer             data writer
+     * @param sendFrameListeners send frame listeners
+     * @param bufferPool         pool to obtain buffers for frame data
+     * @param maxBatchBytes      maximal number of bytes to collect before the batch is written; if set to {@code 0}
+     *                           or lower, batching is disabled and each frame is written immediately
+     * @param maxBatchDelay      maximal time a frame waits in a batch while other streams keep writing
+     * @param stats              statistics to update when a batch is written, may be shared by multiple writers;
+     *                           {@code null} to disable statistics
+     */
+    public Http2ConnectionWriter(SocketContext ctx,
+                                 DataWriter writer,
+                                 List<Http2FrameListener> sendFrameListeners,
+                                 BufferPool bufferPool,
+                                 int maxBatchBytes,
+                                 Duration maxBatchDelay,
+                                 Http2WriteBatchStats stats) {
         this.ctx = ctx;
         this.listener = Http2FrameListener.create(sendFrameListeners);
         this.writer = writer;
+        this.bufferPool = bufferPool;
 
         // initial size is based on our settings, then updated with client settings
         this.outboundDynamicTable = Http2Headers.DynamicTable.create(Http2Setting.HEADER_TABLE_SIZE.defaultValue());
         this.responseHuffman = Http2HuffmanEncoder.create();
+
+        this.batching = maxBatchBytes > 0;
+        this.maxBatchBytes = maxBatchBytes;
+        this.maxBatchDelayNanos = maxBatchDelay.toNanos();
+        this.batchStats = stats;
+        this.batch = batching ? new ArrayList<>() : List.of();
     }
 
     @Override
@@ -132,7 +201,7 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
             noLockWrite(new Http2FrameData(frameHeader, fragment));
             return written;
         } finally {
-            streamLock.unlock();
+            unlock();
         }
     }
 
@@ -163,7 +232,7 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
         try {
             outboundDynamicTable.protocolMaxTableSize(newSize);
         } finally {
-            streamLock.unlock();
+            unlock();
         }
     }
 
@@ -172,7 +241,7 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
         try {
             noLockWrite(frame);
         } finally {
-            streamLock.unlock();
+            unlock();
         }
     }
 
@@ -180,10 +249,91 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
         try {
             streamLock.lockInterruptibly();
         } catch (InterruptedException e) {
+            if (batching && streamLock.tryLock()) {
+                // the previous lock owner may have left the batch for us to write
+                unlock();
+            }
             throw new IllegalStateException("Interrupted", e);
         }
     }
 
+    private void unlock() {
+        try {
+            if (batchFrames > 0) {
+                if (flushBatch()) {
+                    writeBatch();
+                } else if (!flushScheduled) {
+                    // the next lock owner writes the batch, the timer makes sure the delay is bounded
+                    flushScheduled = true;
+                    long delay = maxBatchDelayNanos - (System.nanoTime() - batchStartNanos);
+                    FlushTimer.TIMER.schedule(() -> Thread.ofVirtual()
+                                                      .name("helidon-http2-batch-flush")
+                                                      .start(this::flushExpired),
+                                              delay,
+                                              TimeUnit.NANOSECONDS);
+                }
+            }
+        } finally {
+            streamLock.unlock();
+        }
+    }
+
+    // invoked by the timer once the oldest frame of a batch waited for the maximal delay
+    private void flushExpired() {
+        if (!streamLock.tryLock()) {
+            // the current owner writes the batch when it unlocks, as the delay has expired
+            return;
+        }
+        try {
+            if (batchFrames > 0 && System.nanoTime() - batchStartNanos >= maxBatchDelayNanos) {
+                writeBatch();
+            }
+        } catch (RuntimeException e) {
+            // the connection may have been closed in the meantime, it handles its own write failures
+            LOGGER.log(System.Logger.Level.DEBUG, "Failed to write delayed HTTP/2 frames", e);
+        } finally {
+            unlock();
+        }
+    }
+
+    // must be called while holding the stream lock
+    private boolean flushBatch() {
+        // nobody else is waiting to write, the batch would not grow any more
+        return !streamLock.hasQueuedThreads()
+                || batchBytes >= maxBatchBytes
+                || System.nanoTime() - batchStartNanos >= maxBatchDelayNanos;
+    }
+
+    private void writeBatch() {
+        BufferData[] buffers = batch.toArray(new BufferData[0]);
+        int frames = batchFrames;
+        long bytes = batchBytes;
+
+        batch.clear();
+        batchFrames = 0;
+        batchBytes = 0;
+        flushScheduled = false;
+
+        // gathering write of all frames
+        writer.writeNow(buffers);
+        if (batchStats != null) {
+            batchStats.flushed(frames, bytes);
+        }
+    }
+
+    private void write(BufferData frameData) {
+        if (!batching) {
+            writer.writeNow(frameData);
+            return;
+        }
+        if (batchFrames == 0) {
+            batchStartNanos = System.nanoTime();
+        }
+        batch.add(frameData);
+        batchFrames++;
+        batchBytes += frameData.available();
+    }
+
     private void noLockWrite(Http2FrameData frame) {
         Http2FrameHeader frameHeader = frame.header();
         int streamId = frameHeader.streamId();
@@ -193,11 +343,14 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
         listener.frameHeader(ctx, streamId, headerData);
 
         if (frameHeader.length() == 0) {
-            writer.writeNow(headerData);
+            write(headerData);
         } else {
-            BufferData data = frame.data().copy();
+            // copy, as frame data may be reused by the caller once we return
+            BufferData frameData = frame.data();
+            BufferData data = bufferPool.growing(frameData.available());
+            data.write(frameData);
             listener.frame(ctx, streamId, data);
-            writer.writeNow(BufferData.create(headerData, data));
+            write(BufferData.create(headerData, data));
         }
     }
 
@@ -222,4 +375,15 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
             }
         }
     }
+
+    // created on first use, only needed when batching is enabled
+    private static final class FlushTimer {
+        private static final ScheduledExecutorService TIMER =
+                Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual()
+                                                                   .name("helidon-http2-batch-timer")
+                                                                   .factory());
+
+        private FlushTimer() {
+        }
+    }
 }
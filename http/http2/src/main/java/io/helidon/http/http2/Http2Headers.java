@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,7 +17,6 @@
 package io.helidon.http.http2;
 
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -74,7 +73,7 @@ public class Http2Headers {
      * Header name of the status pseudo header.
      */
     public static final HeaderName STATUS_NAME = HeaderNames.create(STATUS);
-    static final DynamicHeader EMPTY_HEADER_RECORD = new DynamicHeader(null, null, 0);
+    static final DynamicHeader EMPTY_HEADER_RECORD = new DynamicHeader(null, null, 0, 0);
     private static final System.Logger LOGGER = System.getLogger(Http2Headers.class.getName());
     private static final String TRAILERS = "trailers";
     private static final String HTTP = "http";
@@ -1129,7 +1128,19 @@ public class Http2Headers {
      * The table caches header names and values and then uses indexes only when transferring headers over network.
      */
     public static class DynamicTable {
-        private final List<DynamicHeader> headers = new ArrayList<>();
+        private static final int INITIAL_CAPACITY = 16;
+
+        // ring buffer of entries, entry with insertion sequence number N is stored at index N & mask
+        private DynamicHeader[] entries = new DynamicHeader[INITIAL_CAPACITY];
+        private int mask = INITIAL_CAPACITY - 1;
+        // sequence number of the next added entry
+        private long nextSequence;
+        private int count;
+        // newest entry for each (lower case) header name, and for each header name and value
+        // only maintained once the table is used for encoding (decoder never looks up by name)
+        private final Map<String, DynamicHeader> byName = new HashMap<>();
+        private final Map<String, Map<String, DynamicHeader>> byNameValue = new HashMap<>();
+        private boolean indexed;
         private volatile long protocolMaxTableSize;
         private long maxTableSize;
         private int currentTableSize;
@@ -1176,8 +1187,7 @@ public class Http2Headers {
             }
             this.maxTableSize = number;
             if (maxTableSize == 0) {
-                headers.clear();
-                currentTableSize = 0;
+                clear();
             }
             while (maxTableSize < currentTableSize) {
                 evict();
@@ -1231,51 +1241,115 @@ public class Http2Headers {
                 }
                 candidate = staticHeader;
             }
-            for (int i = 0; i < headers.size(); i++) {
-                DynamicHeader header = headers.get(i);
-                if (header.headerName.equals(headerName)) {
-                    if (header.value().equals(headerValue)) {
-                        return new IndexedHeader(header, StaticHeader.MAX_INDEX + i + 1);
-                    }
-                    if (candidate == null) {
-                        candidate = new IndexedHeader(header, StaticHeader.MAX_INDEX + i + 1);
-                    }
+            if (!indexed) {
+                indexed = true;
+                for (long sequence = nextSequence - count; sequence < nextSequence; sequence++) {
+                    addToIndex(entries[(int) (sequence & mask)]);
+                }
+            }
+            if (count == 0) {
+                return candidate;
+            }
+
+            String name = headerName.lowerCase();
+            Map<String, DynamicHeader> values = byNameValue.get(name);
+            if (values != null) {
+                DynamicHeader header = values.get(headerValue);
+                if (header != null) {
+                    return new IndexedHeader(header, index(header));
+                }
+            }
+            if (candidate == null) {
+                DynamicHeader header = byName.get(name);
+                if (header != null) {
+                    candidate = new IndexedHeader(header, index(header));
                 }
             }
 
             return candidate;
         }
 
+        // HPACK index of a dynamic table entry, the newest entry has index 1 after the static table
+        private int index(DynamicHeader header) {
+            return StaticHeader.MAX_INDEX + (int) (nextSequence - header.sequence());
+        }
+
         private void evict() {
-            if (headers.isEmpty()) {
+            if (count == 0) {
                 currentTableSize = 0;
                 return;
             }
-            DynamicHeader removed = headers.remove(headers.size() - 1);
+            int position = (int) ((nextSequence - count) & mask);
+            DynamicHeader removed = entries[position];
+            entries[position] = null;
+            count--;
+            currentTableSize -= removed.size();
+            if (!indexed) {
+                return;
+            }
 
-            if (removed != null) {
-                currentTableSize -= removed.size();
+            // the oldest entry is only indexed if there is no newer entry with the same name (and value)
+            String name = removed.headerName().lowerCase();
+            byName.remove(name, removed);
+            Map<String, DynamicHeader> values = byNameValue.get(name);
+            if (values != null && values.remove(removed.value(), removed) && values.isEmpty()) {
+                byNameValue.remove(name);
             }
         }
 
+        private void clear() {
+            entries = new DynamicHeader[INITIAL_CAPACITY];
+            mask = INITIAL_CAPACITY - 1;
+            count = 0;
+            currentTableSize = 0;
+            byName.clear();
+            byNameValue.clear();
+        }
+
         private int add(HeaderName name, String value, int size) {
-            headers.add(0, new DynamicHeader(name, value, size));
+            if (count == entries.length) {
+                grow();
+            }
+            DynamicHeader header = new DynamicHeader(name, value, size, nextSequence);
+            entries[(int) (nextSequence & mask)] = header;
+            nextSequence++;
+            count++;
             currentTableSize += size;
+
+            if (indexed) {
+                addToIndex(header);
+            }
             return 0;
         }
 
+        private void addToIndex(DynamicHeader header) {
+            String name = header.headerName().lowerCase();
+            byName.put(name, header);
+            byNameValue.computeIfAbsent(name, it -> new HashMap<>())
+                    .put(header.value(), header);
+        }
+
+        private void grow() {
+            DynamicHeader[] newEntries = new DynamicHeader[entries.length * 2];
+            int newMask = newEntries.length - 1;
+            for (long sequence = nextSequence - count; sequence < nextSequence; sequence++) {
+                newEntries[(int) (sequence & newMask)] = entries[(int) (sequence & mask)];
+            }
+            entries = newEntries;
+            mask = newMask;
+        }
+
         private HeaderRecord doGet(int index) {
-            try {
-                // table is 1 based, list is 0 based
-                return headers.get(index - 1);
-            } catch (IndexOutOfBoundsException e) {
+            // table is 1 based, the newest entry has index 1
+            if (index < 1 || index > count) {
                 throw new Http2Exception(Http2ErrorCode.PROTOCOL,
                                          "Dynamic table does not contain required header at index " + index);
             }
+            return entries[(int) ((nextSequence - index) & mask)];
         }
     }
 
-    private record DynamicHeader(HeaderName headerName, String value, int size) implements HeaderRecord {
+    private record DynamicHeader(HeaderName headerName, String value, int size, long sequence) implements HeaderRecord {
     }
 
     private record IndexedHeader(HeaderRecord delegate, int index) implements IndexedHeaderRecord {
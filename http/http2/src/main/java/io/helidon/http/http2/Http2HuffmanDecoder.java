@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -35,21 +35,29 @@
 package io.helidon.http.http2;
 
 import java.nio.charset.StandardCharsets;
-import java.util.function.BiFunction;
 
 import io.helidon.common.buffers.BufferData;
 
 /**
  * Implementation of HPack Huffman decoding.
+ * <p>
+ * Decoding consumes a full byte of input per step, using a transition table computed from the nibble based state
+ * machine in {@link io.helidon.http.http2.Http2HuffmanConstants#HUFFS}. Each byte can emit at most two symbols, as the
+ * shortest Huffman code is five bits long.
  */
 public class Http2HuffmanDecoder {
     private static final String EMPTY_STRING = "";
     private static final Http2Exception BAD_ENCODING = new Http2Exception(Http2ErrorCode.COMPRESSION,
                                                                           "Huffman bad encoding.");
-
-    private byte[] dest;
-    private int k;
-    private int state;
+    /*
+    Byte transitions, indexed by state << 8 | input byte, packed as:
+    next state << 20 | complete << 19 | fail << 18 | number of symbols << 16 | second symbol << 8 | first symbol
+     */
+    private static final int[] BYTE_TRANSITIONS = byteTransitions();
+    private static final int SYMBOL_COUNT_SHIFT = 16;
+    private static final int FAIL = 1 << 18;
+    private static final int COMPLETE = 1 << 19;
+    private static final int STATE_SHIFT = 20;
 
     /**
      * Huffman decoder.
@@ -77,47 +85,66 @@ public class Http2HuffmanDecoder {
         if (length == 0) {
             return EMPTY_STRING;
         }
-        return decodeBytes(data, length, (bytes, size) -> new String(bytes, 0, size, StandardCharsets.US_ASCII));
-    }
+        // each byte emits at most two symbols
+        byte[] dest = new byte[length * 2];
+        int k = 0;
+        int transition = 0;
+        int state = 0;
 
-    private boolean process(byte input) {
-        return processNibble(input >> 4) && processNibble(input);
+        for (int i = 0; i < length; i++) {
+            transition = BYTE_TRANSITIONS[state << 8 | (data.read() & 0xFF)];
+            if ((transition & FAIL) != 0) {
+                throw new Http2Exception(Http2ErrorCode.COMPRESSION,
+                                         "Cannot decode Huffman encoded string");
+            }
+            int symbols = (transition >>> SYMBOL_COUNT_SHIFT) & 0x3;
+            if (symbols > 0) {
+                dest[k++] = (byte) transition;
+                if (symbols > 1) {
+                    dest[k++] = (byte) (transition >>> 8);
+                }
+            }
+            state = transition >>> STATE_SHIFT;
+        }
+        if ((transition & COMPLETE) == 0) {
+            throw BAD_ENCODING;
+        }
+        return new String(dest, 0, k, StandardCharsets.US_ASCII);
     }
 
-    private <T> T decodeBytes(BufferData data, int length, BiFunction<byte[], Integer, T> creator) {
-        dest = new byte[length * 8 / 5];
-
-        try {
-            data.forEach(length, it -> {
-                if (!process(it)) {
-                    throw new Http2Exception(Http2ErrorCode.COMPRESSION,
-                                             "Cannot decode Huffman encoded string");
-                }
-                return true;
-            });
-            if ((state & Http2HuffmanConstants.HUFFMAN_COMPLETE_SHIFT) != Http2HuffmanConstants.HUFFMAN_COMPLETE_SHIFT) {
-                throw BAD_ENCODING;
+    private static int[] byteTransitions() {
+        int states = Http2HuffmanConstants.HUFFS.length >> 4;
+        int[] transitions = new int[states << 8];
+        for (int state = 0; state < states; state++) {
+            for (int input = 0; input < 256; input++) {
+                transitions[state << 8 | input] = byteTransition(state, input);
             }
-            return creator.apply(dest, k);
-        } finally {
-            dest = null;
-            k = 0;
-            state = 0;
         }
+        return transitions;
     }
 
-    private boolean processNibble(int input) {
-        // The high nibble of the flags byte of each row is always zero
-        // (low nibble after shifting row by 12), since there are only 3 flag bits
-        int index = state >> 12 | (input & 0x0F);
-        state = Http2HuffmanConstants.HUFFS[index];
-        if ((state & Http2HuffmanConstants.HUFFMAN_FAIL_SHIFT) != 0) {
-            return false;
+    // two steps of the nibble state machine
+    private static int byteTransition(int state, int input) {
+        int transition = 0;
+        int symbols = 0;
+        int nibbleState = state << 16;
+        for (int shift = 4; shift >= 0; shift -= 4) {
+            // The high nibble of the flags byte of each row is always zero
+            // (low nibble after shifting row by 12), since there are only 3 flag bits
+            nibbleState = Http2HuffmanConstants.HUFFS[nibbleState >> 12 | ((input >> shift) & 0x0F)];
+            if ((nibbleState & Http2HuffmanConstants.HUFFMAN_FAIL_SHIFT) != 0) {
+                return FAIL;
+            }
+            if ((nibbleState & Http2HuffmanConstants.HUFFMAN_EMIT_SYMBOL_SHIFT) != 0) {
+                transition |= (nibbleState & 0xFF) << (8 * symbols);
+                symbols++;
+            }
         }
-        if ((state & Http2HuffmanConstants.HUFFMAN_EMIT_SYMBOL_SHIFT) != 0) {
-            // state is always positive so can cast without mask here
-            dest[k++] = (byte) state;
+        if ((nibbleState & Http2HuffmanConstants.HUFFMAN_COMPLETE_SHIFT) != 0) {
+            transition |= COMPLETE;
         }
-        return true;
+        return transition
+                | symbols << SYMBOL_COUNT_SHIFT
+                | (nibbleState >>> 16) << STATE_SHIFT;
     }
 }
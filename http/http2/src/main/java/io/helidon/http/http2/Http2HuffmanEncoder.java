@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -58,37 +58,60 @@ public class Http2HuffmanEncoder {
     }
 
     void encode(BufferData buffer, String string) {
-        int index = 0;
+        int length = string.length();
+        long encodedBits = 0;
+        for (int i = 0; i < length; i++) {
+            encodedBits += Http2HuffmanConstants.HUFFMAN_CODE_LENGTHS[string.charAt(i) & 0xFF];
+        }
+        int encodedLength = (int) ((encodedBits + 7) >> 3);
+
+        byte[] bytes = new byte[Math.min(encodedLength, length)];
+        if (encodedLength >= length) {
+            // Huffman encoding would not make the string shorter (rare characters have codes up to 30 bits long)
+            for (int i = 0; i < length; i++) {
+                bytes[i] = (byte) string.charAt(i);
+            }
+            buffer.writeHpackInt(length, 0, 7);
+            buffer.write(bytes);
+            return;
+        }
 
+        int index = 0;
+        // bits waiting to be written are the lowest n bits, codes are at most 30 bits, so we never have more than 62
         long current = 0;
         int n = 0;
-        byte[] bytes = new byte[string.length()];
 
-        for (int i = 0; i < string.length(); i++) {
+        for (int i = 0; i < length; i++) {
             int b = string.charAt(i) & 0xFF;
-            int code = Http2HuffmanConstants.HUFFMAN_CODES[b];
             int nbits = Http2HuffmanConstants.HUFFMAN_CODE_LENGTHS[b];
 
-            current <<= nbits;
-            current |= code;
+            current = (current << nbits) | Http2HuffmanConstants.HUFFMAN_CODES[b];
             n += nbits;
 
-            while (n >= 8) {
-                n -= 8;
-                bytes[index] = ((byte) (current >> n));
-                index++;
+            if (n >= 32) {
+                n -= 32;
+                int word = (int) (current >>> n);
+                bytes[index] = (byte) (word >>> 24);
+                bytes[index + 1] = (byte) (word >>> 16);
+                bytes[index + 2] = (byte) (word >>> 8);
+                bytes[index + 3] = (byte) word;
+                index += 4;
             }
         }
 
+        while (n >= 8) {
+            n -= 8;
+            bytes[index] = (byte) (current >>> n);
+            index++;
+        }
+
         if (n > 0) {
             current <<= 8 - n;
             current |= 0xFF >>> n; // this should be EOS symbol
             bytes[index] = ((byte) current);
-            index++;
         }
 
-        buffer.writeHpackInt(index, HUFFMAN_ENCODED, 7);
-        buffer.write(bytes, 0, index);
-
+        buffer.writeHpackInt(encodedLength, HUFFMAN_ENCODED, 7);
+        buffer.write(bytes);
     }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.http.http2;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of batched writes of HTTP/2 connection writers.
+ * A single instance is usually shared by all connections of a server listener, see
+ * {@link io.helidon.http.http2.Http2ConnectionWriter#Http2ConnectionWriter(io.helidon.common.socket.SocketContext,
+ * io.helidon.common.buffers.DataWriter, java.util.List, io.helidon.common.buffers.BufferPool, int,
+ * java.time.Duration, Http2WriteBatchStats)}.
+ */
+public final class Http2WriteBatchStats {
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder frames = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAccumulator maxFramesPerFlush = new LongAccumulator(Long::max, 0);
+
+    private Http2WriteBatchStats() {
+    }
+
+    /**
+     * Create new empty statistics.
+     *
+     * @return new statistics
+     */
+    public static Http2WriteBatchStats create() {
+        return new Http2WriteBatchStats();
+    }
+
+    /**
+     * Number of flushes to the underlying data writer. Each flush is a single (gathering) write of all frames
+     * collected since the previous flush.
+     *
+     * @return number of flushes
+     */
+    public long flushes() {
+        return flushes.sum();
+    }
+
+    /**
+     * Number of frames written.
+     *
+     * @return number of frames
+     */
+    public long frames() {
+        return frames.sum();
+    }
+
+    /**
+     * Number of bytes written, including frame headers.
+     *
+     * @return number of bytes
+     */
+    public long bytes() {
+        return bytes.sum();
+    }
+
+    /**
+     * Average number of frames written in a single flush.
+     *
+     * @return average frames per flush, {@code 0} if nothing was written yet
+     */
+    public double averageFramesPerFlush() {
+        long flushCount = flushes.sum();
+        return flushCount == 0 ? 0 : (double) frames.sum() / flushCount;
+    }
+
+    /**
+     * Largest number of frames written in a single flush.
+     *
+     * @return maximal frames per flush
+     */
+    public long maxFramesPerFlush() {
+        return maxFramesPerFlush.get();
+    }
+
+    @Override
+    public String toString() {
+        return "Http2WriteBatchStats{"
+                + "flushes=" + flushes()
+                + ", frames=" + frames()
+                + ", bytes=" + bytes()
+                + ", maxFramesPerFlush=" + maxFramesPerFlush()
+                + "}";
+    }
+
+    void flushed(int frameCount, long byteCount) {
+        flushes.increment();
+        frames.add(frameCount);
+        bytes.add(byteCount);
+        maxFramesPerFlush.accumulate(frameCount);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -107,6 +107,28 @@ class DynamicTableTest {
         testRecord(table, Http2Headers.StaticHeader.MAX_INDEX + 2, "c", "c");
     }
 
+    @Test
+    void testManyEntries() {
+        Http2Settings settings = Http2Settings.builder()
+                .add(Http2Setting.HEADER_TABLE_SIZE, 34L * 40)
+                .build();
+
+        Http2Headers.DynamicTable table = Http2Headers.DynamicTable.create(settings);
+        // more entries than the initial capacity of the table
+        for (int i = 0; i < 100; i++) {
+            table.add(HeaderNames.create(String.valueOf((char) ('a' + (i % 26)))), String.valueOf(i % 10));
+        }
+        // only the last 40 fit
+        assertThat(table.currentTableSize(), is(34 * 40));
+        testRecord(table, Http2Headers.StaticHeader.MAX_INDEX + 1, "v", "9");
+        testRecord(table, Http2Headers.StaticHeader.MAX_INDEX + 2, "u", "8");
+        testRecord(table, Http2Headers.StaticHeader.MAX_INDEX + 40, "i", "0");
+
+        table.maxTableSize(34L * 2);
+        assertThat(table.currentTableSize(), is(68));
+        testRecord(table, Http2Headers.StaticHeader.MAX_INDEX + 2, "u", "8");
+    }
+
     private void testRecord(Http2Headers.DynamicTable table,
                             int index,
                             String expectedName,
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.http.http2;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.BufferPool;
+import io.helidon.common.buffers.DataWriter;
+import io.helidon.common.socket.SocketContext;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+
+class Http2ConnectionWriterTest {
+    private static final int FRAME_SIZE = Http2FrameHeader.LENGTH + 8;
+
+    @Test
+    void testWithoutBatching() {
+        RecordingWriter dataWriter = new RecordingWriter(null);
+        Http2ConnectionWriter writer = new Http2ConnectionWriter(mock(SocketContext.class),
+                                                                 dataWriter,
+                                                                 List.of());
+        writer.write(Http2Ping.create().toFrameData());
+        writer.write(Http2Ping.create().toFrameData());
+
+        assertThat(dataWriter.writes, is(List.of(1, 1)));
+    }
+
+    @Test
+    void testBatchWrittenByLastWaitingThread() throws InterruptedException {
+        CountDownLatch firstWrite = new CountDownLatch(1);
+        RecordingWriter dataWriter = new RecordingWriter(firstWrite);
+        Http2WriteBatchStats stats = Http2WriteBatchStats.create();
+        Http2ConnectionWriter writer = new Http2ConnectionWriter(mock(SocketContext.class),
+                                                                 dataWriter,
+                                                                 List.of(),
+                                                                 BufferPool.unpooled(),
+                                                                 65536,
+                                                                 Duration.ofMinutes(1),
+                                                                 stats);
+
+        // first write blocks in the data writer while holding the lock, so the other threads must wait
+        Thread first = Thread.ofVirtual().start(() -> writer.write(Http2Ping.create().toFrameData()));
+        waitForWrites(dataWriter, 1);
+        Thread second = Thread.ofVirtual().start(() -> writer.write(Http2Ping.create().toFrameData()));
+        waitForWaiting(second);
+        Thread third = Thread.ofVirtual().start(() -> writer.write(Http2Ping.create().toFrameData()));
+        waitForWaiting(third);
+
+        firstWrite.countDown();
+        first.join();
+        second.join();
+        third.join();
+
+        assertThat(dataWriter.writes, is(List.of(1, 2)));
+        assertThat(stats.flushes(), is(2L));
+        assertThat(stats.frames(), is(3L));
+        assertThat(stats.bytes(), is(3L * FRAME_SIZE));
+        assertThat(stats.maxFramesPerFlush(), is(2L));
+    }
+
+    @Test
+    void testBatchBoundedBySize() throws InterruptedException {
+        CountDownLatch firstWrite = new CountDownLatch(1);
+        RecordingWriter dataWriter = new RecordingWriter(firstWrite);
+        Http2ConnectionWriter writer = new Http2ConnectionWriter(mock(SocketContext.class),
+                                                                 dataWriter,
+                                                                 List.of(),
+                                                                 BufferPool.unpooled(),
+                                                                 FRAME_SIZE,
+                                                                 Duration.ofMinutes(1),
+                                                                 null);
+
+        Thread first = Thread.ofVirtual().start(() -> writer.write(Http2Ping.create().toFrameData()));
+        waitForWrites(dataWriter, 1);
+        Thread second = Thread.ofVirtual().start(() -> writer.write(Http2Ping.create().toFrameData()));
+        waitForWaiting(second);
+        Thread third = Thread.ofVirtual().start(() -> writer.write(Http2Ping.create().toFrameData()));
+        waitForWaiting(third);
+
+        firstWrite.countDown();
+        first.join();
+        second.join();
+        third.join();
+
+        // each frame fills the batch, so it is written even though another thread waits
+        assertThat(dataWriter.writes, is(List.of(1, 1, 1)));
+    }
+
+    private static void waitForWrites(RecordingWriter dataWriter, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (dataWriter.writes.size() < count) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Data were not written in time");
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    private static void waitForWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (thread.getState() != Thread.State.WAITING) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Thread is not waiting for the lock");
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    // records number of buffers of each write, optionally blocks the first write
+    private static class RecordingWriter implements DataWriter {
+        private final List<Integer> writes = new CopyOnWriteArrayList<>();
+        private final CountDownLatch firstWrite;
+
+        private RecordingWriter(CountDownLatch firstWrite) {
+            this.firstWrite = firstWrite;
+        }
+
+        @Override
+        public void write(BufferData... buffers) {
+            writeNow(buffers);
+        }
+
+        @Override
+        public void write(BufferData buffer) {
+            writeNow(buffer);
+        }
+
+        @Override
+        public void writeNow(BufferData... buffers) {
+            writes.add(buffers.length);
+            awaitFirst();
+        }
+
+        @Override
+        public void writeNow(BufferData buffer) {
+            writes.add(1);
+            awaitFirst();
+        }
+
+        private void awaitFirst() {
+            if (firstWrite != null && writes.size() == 1) {
+                try {
+                    firstWrite.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,12 +16,17 @@
 
 package io.helidon.http.http2;
 
+import java.util.HexFormat;
+
 import io.helidon.common.buffers.BufferData;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class Http2HuffmanTest {
     @Test
@@ -38,4 +43,58 @@ class Http2HuffmanTest {
 
         assertThat(decoded, is(value));
     }
-}
\ No newline at end of file
+
+    /*
+    https://www.rfc-editor.org/rfc/rfc7541.html#appendix-C.4 and C.6
+     */
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "www.example.com|8cf1e3c2e5f23a6ba0ab90f4ff",
+            "no-cache|86a8eb10649cbf",
+            "custom-key|8825a849e95ba97d7f",
+            "custom-value|8925a849e95bb8e8b4bf",
+            "private|85aec3771a4b",
+            "Mon, 21 Oct 2013 20:13:21 GMT|96d07abe941054d444a8200595040b8166e082a62d1bff",
+            "https://www.example.com|919d29ad171863c78f0b97c8e9ae82ae43d3",
+            "foo=ASDJKHQKBZXOQWEOPIUAXQWEOIU; max-age=3600; version=1"
+                    + "|ad94e7821dd7f2e6c7b335dfdfcd5b3960d5af27087f3672c1ab270fb5291f9587316065c003ed4ee5b1063d5007"
+    })
+    void testRfcVectors(String value, String hexEncoded) {
+        Http2HuffmanEncoder enc = Http2HuffmanEncoder.create();
+        Http2HuffmanDecoder dec = Http2HuffmanDecoder.create();
+
+        BufferData result = BufferData.growing(64);
+        enc.encode(result, value);
+        byte[] bytes = new byte[result.available()];
+        result.read(bytes);
+        assertThat(HexFormat.of().formatHex(bytes), is(hexEncoded));
+
+        BufferData encoded = BufferData.create(HexFormat.of().parseHex(hexEncoded));
+        encoded.read(); // 1 byte - length
+        assertThat(dec.decodeString(encoded, encoded.available()), is(value));
+    }
+
+    @Test
+    void testRareCharactersNotEncoded() {
+        Http2HuffmanEncoder enc = Http2HuffmanEncoder.create();
+
+        // control characters have codes longer than 8 bits, huffman encoding would make the value longer
+        String value = "\u0001\u0002\u0003\u0004\u0005";
+        BufferData result = BufferData.growing(32);
+        enc.encode(result, value);
+
+        assertThat(result.read(), is(5)); // not huffman encoded, length 5
+        byte[] bytes = new byte[result.available()];
+        result.read(bytes);
+        assertThat(bytes, is(new byte[] {1, 2, 3, 4, 5}));
+    }
+
+    @Test
+    void testInvalidPadding() {
+        Http2HuffmanDecoder dec = Http2HuffmanDecoder.create();
+
+        // padding must be the most significant bits of EOS (all ones)
+        BufferData encoded = BufferData.create(new byte[] {0x00});
+        assertThrows(Http2Exception.class, () -> dec.decodeString(encoded, 1));
+    }
+}
@@ -20,6 +20,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -311,6 +312,32 @@ public abstract class ReadableEntityBase implements ReadableEntity {
             return currentBuffer.read(b, off, len);
         }
 
+        /**
+         * Transfers entity buffers as they are received, without copying them to an intermediate array.
+         * The next buffer is requested only after the previous one was written, so a slow consumer slows down reading.
+         *
+         * @param out the output stream, must not be {@code null}
+         * @return number of bytes transferred
+         * @throws IOException if an I/O error occurs when writing
+         */
+        @Override
+        public long transferTo(OutputStream out) throws IOException {
+            long transferred = 0;
+            while (!finished) {
+                ensureBuffer(BUFFER_SIZE);
+                if (finished || currentBuffer == null) {
+                    break;
+                }
+                transferred += currentBuffer.available();
+                try {
+                    currentBuffer.writeTo(out);
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+            }
+            return transferred;
+        }
+
         private void ensureBuffer(int estimate) {
             if (currentBuffer != null && currentBuffer.consumed()) {
                 currentBuffer = null;
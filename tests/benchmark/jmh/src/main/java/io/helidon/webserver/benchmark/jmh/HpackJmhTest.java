@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.benchmark.jmh;
+
+import io.helidon.common.buffers.BufferData;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.Method;
+import io.helidon.http.WritableHeaders;
+import io.helidon.http.http2.Http2Flag;
+import io.helidon.http.http2.Http2FrameData;
+import io.helidon.http.http2.Http2FrameHeader;
+import io.helidon.http.http2.Http2FrameTypes;
+import io.helidon.http.http2.Http2Headers;
+import io.helidon.http.http2.Http2HuffmanDecoder;
+import io.helidon.http.http2.Http2HuffmanEncoder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * HPACK encoding and decoding of a header block with a large set of custom (gRPC like) metadata.
+ * <p>
+ * Benchmarks only use public API, so they run unchanged against an older revision of the dynamic table. To compare
+ * implementations, record the baseline on the older revision ({@code -Dwebserver.jmh.resetBaseline=true}),
+ * and run the benchmarks again on the current one.
+ */
+@State(Scope.Thread)
+public class HpackJmhTest {
+    private static final int CUSTOM_HEADERS = 40;
+    private static final long TABLE_SIZE = 4096;
+    // large enough to keep all custom metadata of several requests
+    private static final long LARGE_TABLE_SIZE = 64 * 1024;
+
+    private final Http2HuffmanEncoder encoder = Http2HuffmanEncoder.create();
+    private final Http2HuffmanDecoder decoder = Http2HuffmanDecoder.create();
+
+    private Http2Headers.DynamicTable encoderTable;
+    private Http2Headers.DynamicTable largeEncoderTable;
+    private byte[] headerBlock;
+    private long requestId;
+
+    @Setup
+    public void setup() {
+        encoderTable = Http2Headers.DynamicTable.create(TABLE_SIZE);
+        largeEncoderTable = Http2Headers.DynamicTable.create(LARGE_TABLE_SIZE);
+
+        BufferData buffer = BufferData.growing(4096);
+        headers(0).write(Http2Headers.DynamicTable.create(TABLE_SIZE), encoder, buffer);
+        headerBlock = new byte[buffer.available()];
+        buffer.read(headerBlock);
+    }
+
+    @Benchmark
+    public void encode(Blackhole bh) {
+        // the table is kept between invocations, as it is for a connection; changing values cause evictions
+        BufferData buffer = BufferData.growing(4096);
+        headers(requestId++).write(encoderTable, encoder, buffer);
+        bh.consume(buffer);
+    }
+
+    @Benchmark
+    public void encodeChangingValues(Blackhole bh) {
+        // all custom values change with each request, so each header is looked up in, and inserted to, a full table
+        BufferData buffer = BufferData.growing(8192);
+        long id = requestId++;
+        headers(id, String.valueOf(id)).write(largeEncoderTable, encoder, buffer);
+        bh.consume(buffer);
+    }
+
+    @Benchmark
+    public void decode(Blackhole bh) {
+        BufferData data = BufferData.create(headerBlock);
+        Http2FrameHeader header = Http2FrameHeader.create(data.available(),
+                                                          Http2FrameTypes.HEADERS,
+                                                          Http2Flag.HeaderFlags.create(Http2Flag.END_OF_HEADERS),
+                                                          1);
+        bh.consume(Http2Headers.create(null,
+                                       Http2Headers.DynamicTable.create(TABLE_SIZE),
+                                       decoder,
+                                       new Http2FrameData(header, data)));
+    }
+
+    private static Http2Headers headers(long requestId) {
+        return headers(requestId, "");
+    }
+
+    private static Http2Headers headers(long requestId, String valueSuffix) {
+        WritableHeaders<?> headers = WritableHeaders.create();
+        headers.set(HeaderNames.CONTENT_TYPE, "application/grpc");
+        headers.set(HeaderNames.create("te"), "trailers");
+        headers.set(HeaderNames.create("grpc-accept-encoding"), "identity,deflate,gzip");
+        headers.set(HeaderNames.create("x-request-id"), String.valueOf(requestId));
+        for (int i = 0; i < CUSTOM_HEADERS; i++) {
+            headers.set(HeaderNames.create("x-custom-metadata-" + i), "value-" + i + valueSuffix);
+        }
+        return Http2Headers.create(headers)
+                .method(Method.POST)
+                .path("/helidon.benchmark.Service/Call")
+                .scheme("http")
+                .authority("localhost:8080");
+    }
+}
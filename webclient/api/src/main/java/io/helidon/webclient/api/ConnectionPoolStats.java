@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.api;
+
+/**
+ * State of a pool of client connections to a single destination (as identified by a {@link ConnectionKey}).
+ * Each value is consistent with the pool at the time it is read, yet values obtained by separate calls
+ * are not a single snapshot, as the pool may change between the calls.
+ */
+public interface ConnectionPoolStats {
+    /**
+     * Destination of the connections in this pool.
+     *
+     * @return connection key
+     */
+    ConnectionKey connectionKey();
+
+    /**
+     * Identification of this pool, unique within the JVM. Clients that do not share a connection cache (or that
+     * configure the pool differently) use different pools for the same destination.
+     *
+     * @return id of the pool
+     */
+    String id();
+
+    /**
+     * Number of connections currently used by requests.
+     *
+     * @return active connections
+     */
+    int active();
+
+    /**
+     * Number of open connections waiting in the pool to be reused.
+     *
+     * @return idle connections
+     */
+    int idle();
+
+    /**
+     * Number of requests waiting for a connection, because the maximal number of connections is reached.
+     *
+     * @return pending requests
+     */
+    int pending();
+
+    /**
+     * Total number of connections created by this pool.
+     *
+     * @return created connections
+     */
+    long created();
+
+    /**
+     * Total number of idle connections closed by this pool, because they were idle or open for too long,
+     * or were closed by the server.
+     *
+     * @return evicted connections
+     */
+    long evicted();
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.socket.SocketOptions;
+
+import static java.lang.System.Logger.Level.DEBUG;
+import static java.lang.System.Logger.Level.TRACE;
+
+/**
+ * Connects to the first reachable address of a host, starting connection attempts to the addresses in a staggered
+ * way, as described by <a href="https://www.rfc-editor.org/rfc/rfc8305">RFC 8305</a>.
+ * Each attempt runs in its own virtual thread; the first connected socket wins and all other sockets are closed.
+ */
+final class ConnectionRacing {
+    private static final System.Logger LOGGER = System.getLogger(ConnectionRacing.class.getName());
+
+    private ConnectionRacing() {
+    }
+
+    /**
+     * Connect to the first address that accepts the connection.
+     *
+     * @param addresses     addresses to connect to, ordered by preference
+     * @param port          port to connect to
+     * @param socketOptions socket options, including the connect timeout for the whole operation
+     * @param attemptDelay  delay before starting the next attempt, if the previous one did not finish
+     * @return connected socket and the address it is connected to
+     * @throws java.io.UncheckedIOException if no address could be connected to
+     */
+    static Connected connect(List<InetAddress> addresses,
+                             int port,
+                             SocketOptions socketOptions,
+                             Duration attemptDelay) {
+        List<InetSocketAddress> targets = interleave(addresses)
+                .stream()
+                .map(it -> new InetSocketAddress(it, port))
+                .toList();
+
+        long connectTimeoutNanos = socketOptions.connectTimeout().toNanos();
+        long deadline = System.nanoTime() + connectTimeoutNanos;
+        long attemptDelayNanos = attemptDelay.toNanos();
+
+        BlockingQueue<Attempt> results = new LinkedBlockingQueue<>();
+        List<Attempt> attempts = new ArrayList<>(targets.size());
+        Connected connected = null;
+        IOException failure = null;
+        int finished = 0;
+
+        try {
+            while (connected == null && finished < targets.size()) {
+                if (attempts.size() < targets.size()) {
+                    Attempt attempt = new Attempt(targets.get(attempts.size()), socketOptions, deadline, results);
+                    attempts.add(attempt);
+                    attempt.start();
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    break;
+                }
+                // wait for the attempt delay if there are more addresses to try, otherwise for the rest of the timeout
+                long wait = attempts.size() < targets.size() ? Math.min(attemptDelayNanos, remaining) : remaining;
+                Attempt result = results.poll(wait, TimeUnit.NANOSECONDS);
+                if (result == null) {
+                    continue;
+                }
+                finished++;
+                if (result.failure == null) {
+                    connected = new Connected(result.socket, result.address);
+                } else {
+                    if (LOGGER.isLoggable(TRACE)) {
+                        LOGGER.log(TRACE, "Failed to connect to " + result.address, result.failure);
+                    }
+                    if (failure == null) {
+                        failure = result.failure;
+                    } else {
+                        failure.addSuppressed(result.failure);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = new IOException("Interrupted while connecting to " + targets, e);
+        } finally {
+            for (Attempt attempt : attempts) {
+                if (connected == null || attempt.socket != connected.socket()) {
+                    attempt.cancel();
+                }
+            }
+        }
+
+        if (connected != null) {
+            if (LOGGER.isLoggable(DEBUG)) {
+                LOGGER.log(DEBUG, "Connected to " + connected.address() + " after " + attempts.size() + " attempt(s)");
+            }
+            return connected;
+        }
+        if (failure == null || finished < targets.size()) {
+            SocketTimeoutException timeout = new SocketTimeoutException("Connect timed out after "
+                                                                                + socketOptions.connectTimeout()
+                                                                                + " to any of " + targets);
+            if (failure != null) {
+                timeout.addSuppressed(failure);
+            }
+            throw new UncheckedIOException(timeout);
+        }
+        throw new UncheckedIOException(failure);
+    }
+
+    /**
+     * Reorder addresses so address families alternate, starting with the family of the first (preferred) address.
+     *
+     * @param addresses addresses ordered by preference
+     * @return interleaved addresses
+     */
+    static List<InetAddress> interleave(List<InetAddress> addresses) {
+        if (addresses.size() < 2) {
+            return addresses;
+        }
+        boolean firstIpv6 = addresses.getFirst() instanceof Inet6Address;
+        List<InetAddress> preferred = new ArrayList<>();
+        List<InetAddress> other = new ArrayList<>();
+        for (InetAddress address : addresses) {
+            if ((address instanceof Inet6Address) == firstIpv6) {
+                preferred.add(address);
+            } else {
+                other.add(address);
+            }
+        }
+        List<InetAddress> result = new ArrayList<>(addresses.size());
+        for (int i = 0; i < Math.max(preferred.size(), other.size()); i++) {
+            if (i < preferred.size()) {
+                result.add(preferred.get(i));
+            }
+            if (i < other.size()) {
+                result.add(other.get(i));
+            }
+        }
+        return result;
+    }
+
+    record Connected(Socket socket, InetSocketAddress address) {
+    }
+
+    private static final class Attempt {
+        private final InetSocketAddress address;
+        private final SocketOptions socketOptions;
+        private final long deadline;
+        private final BlockingQueue<Attempt> results;
+        private final Socket socket = new Socket();
+
+        private volatile IOException failure;
+
+        private Attempt(InetSocketAddress address,
+                        SocketOptions socketOptions,
+                        long deadline,
+                        BlockingQueue<Attempt> results) {
+            this.address = address;
+            this.socketOptions = socketOptions;
+            this.deadline = deadline;
+            this.results = results;
+        }
+
+        void start() {
+            Thread.ofVirtual()
+                    .name("helidon-client-connect-" + address)
+                    .start(this::connect);
+        }
+
+        void cancel() {
+            try {
+                // also interrupts a connect in progress
+                socket.close();
+            } catch (IOException e) {
+                LOGGER.log(TRACE, "Failed to close a socket of a cancelled connection attempt", e);
+            }
+        }
+
+        private void connect() {
+            try {
+                socketOptions.configureSocket(socket);
+                long timeoutMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (timeoutMillis <= 0) {
+                    throw new SocketTimeoutException("Connect timed out");
+                }
+                socket.connect(address, (int) Math.min(Integer.MAX_VALUE, timeoutMillis));
+            } catch (IOException | RuntimeException e) {
+                failure = e instanceof IOException ioe ? ioe : new IOException(e);
+            }
+            results.add(this);
+        }
+    }
+}
@@ -292,6 +292,29 @@ interface HttpClientConfigBlueprint extends HttpConfigBaseBlueprint {
     @Option.DefaultInt(4096)
     int writeBufferSize();
 
+    /**
+     * Whether to race connection attempts to multiple addresses of the target host, as described by
+     * <a href="https://www.rfc-editor.org/rfc/rfc8305">RFC 8305 (Happy Eyeballs)</a>.
+     * When enabled, all addresses provided by {@link #dnsResolver()} are tried, alternating IPv6 and IPv4 addresses.
+     * A new attempt is started after {@link #connectionAttemptDelay()}, or as soon as the previous attempt fails,
+     * and the first connected socket is used. Connections through a proxy do not use racing.
+     *
+     * @return whether to race connection attempts
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean connectionRacing();
+
+    /**
+     * Delay between starting connection attempts to different addresses when {@link #connectionRacing()}
+     * is enabled. RFC 8305 recommends 250 milliseconds.
+     *
+     * @return delay between connection attempts
+     */
+    @Option.Configured
+    @Option.Default("PT0.25S")
+    Duration connectionAttemptDelay();
+
     /**
      * Socket lifecycle callbacks. The default implementation does nothing, and
      * Initializer logic that is called immediately after the client connection is
@@ -25,6 +25,7 @@ import java.net.SocketException;
 import java.security.cert.Certificate;
 import java.security.cert.X509Certificate;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.HexFormat;
 import java.util.List;
 import java.util.function.Consumer;
@@ -108,16 +109,30 @@ public class TcpClientConnection implements ClientConnection {
     @Override
     public TcpClientConnection connect() {
         Tls tls = connectionKey.tls();
-        InetSocketAddress targetAddress = inetSocketAddress();
-
-        /*
-        Obtain target socket through proxy (if enabled), or connect to target socket
-         */
-        this.socket = connectionKey.proxy()
-                .tcpSocket(webClient,
-                           targetAddress,
-                           webClient.prototype().socketOptions(),
-                           tls.enabled());
+        WebClientConfig clientConfig = webClient.prototype();
+        InetSocketAddress targetAddress;
+
+        if (clientConfig.connectionRacing() && connectionKey.proxy().type() == Proxy.ProxyType.NONE) {
+            /*
+            Race connection attempts to all addresses of the target host
+             */
+            ConnectionRacing.Connected connected = ConnectionRacing.connect(resolveAddresses(),
+                                                                            connectionKey.port(),
+                                                                            clientConfig.socketOptions(),
+                                                                            clientConfig.connectionAttemptDelay());
+            this.socket = connected.socket();
+            targetAddress = connected.address();
+        } else {
+            targetAddress = inetSocketAddress();
+            /*
+            Obtain target socket through proxy (if enabled), or connect to target socket
+             */
+            this.socket = connectionKey.proxy()
+                    .tcpSocket(webClient,
+                               targetAddress,
+                               clientConfig.socketOptions(),
+                               tls.enabled());
+        }
 
         this.channelId = createChannelId(socket);
 
@@ -130,7 +145,7 @@ public class TcpClientConnection implements ClientConnection {
         }
 
         try {
-            webClient.prototype().connectionListener()
+            clientConfig.connectionListener()
                 .socketConnected(new ConnectedSocketInfoImpl(this.channelId, this.socket));
         } catch (IOException e) {
             throw new UncheckedIOException("Failed to execute connection initializer", e);
@@ -158,7 +173,7 @@ public class TcpClientConnection implements ClientConnection {
         }
 
         this.reader = DataReader.create(helidonSocket);
-        int writeBufferSize = webClient.prototype().writeBufferSize();
+        int writeBufferSize = clientConfig.writeBufferSize();
         this.writer = new BufferedDataWriter(helidonSocket, writeBufferSize);
 
         return this;
@@ -273,6 +288,11 @@ public class TcpClientConnection implements ClientConnection {
         return new InetSocketAddress(address, connectionKey.port());
     }
 
+    private List<InetAddress> resolveAddresses() {
+        DnsResolver dnsResolver = connectionKey.dnsResolver();
+        return dnsResolver.resolveAddresses(connectionKey.host(), connectionKey.dnsAddressLookup());
+    }
+
     static void debugTls(SSLEngine sslEngine, String channelId) {
         String appProtocol = sslEngine.getApplicationProtocol();
         String handshakeProtocol = sslEngine.getHandshakeApplicationProtocol();
@@ -381,9 +401,8 @@ public class TcpClientConnection implements ClientConnection {
         @Override
         public void writeNow(BufferData... buffers) {
             flush();
-            for (BufferData buffer : buffers) {
-                helidonSocket.write(buffer);
-            }
+            // single gathering write, if supported by the socket
+            helidonSocket.write(Arrays.asList(buffers));
         }
 
         @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -97,6 +97,28 @@ public interface WebClient extends RuntimeType.Api<WebClientConfig>, HttpClient<
      */
     <T, C extends ProtocolConfig> T client(Protocol<T, C> protocol);
 
+    /**
+     * Create a new batch of calls, executed concurrently each in its own virtual thread, with a shared deadline.
+     * The batch should be closed once its results are processed, to cancel calls that are still in progress.
+     *
+     * @param consumer batch configuration consumer
+     * @return a new batch
+     * @see io.helidon.webclient.api.WebClientBatch
+     */
+    default WebClientBatch batch(Consumer<WebClientBatchConfig.Builder> consumer) {
+        return WebClientBatch.create(consumer);
+    }
+
+    /**
+     * Create a new batch of calls without a deadline.
+     *
+     * @return a new batch
+     * @see #batch(java.util.function.Consumer)
+     */
+    default WebClientBatch batch() {
+        return WebClientBatch.create();
+    }
+
     /**
      * Executor services, uses virtual threads.
      *
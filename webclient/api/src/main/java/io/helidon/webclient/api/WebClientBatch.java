@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import io.helidon.builder.api.RuntimeType;
+import io.helidon.common.context.Context;
+import io.helidon.common.context.Contexts;
+
+/**
+ * A batch of client calls executed concurrently, each in its own virtual thread.
+ * <p>
+ * All calls of a batch share a deadline (see {@link WebClientBatchConfig#deadline()}); calls that are still in progress
+ * when the deadline passes, when {@link #cancel()} is called, or when the batch is closed, are cancelled.
+ * Connections are shared through the connection cache of the client the requests were created with, responses
+ * are closed by the batch as soon as they are processed, so their connections can be reused by the next calls.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * try (WebClientBatch batch = client.batch(it -> it.deadline(Duration.ofSeconds(2)))) {
+ *     List<CompletableFuture<String>> results = ids.stream()
+ *             .map(id -> batch.submit(client.get("/items/" + id), response -> response.as(String.class)))
+ *             .toList();
+ *     batch.join();
+ *     ...
+ * }
+ * }</pre>
+ */
+@RuntimeType.PrototypedBy(WebClientBatchConfig.class)
+public final class WebClientBatch implements RuntimeType.Api<WebClientBatchConfig>, AutoCloseable {
+    private final List<CompletableFuture<?>> calls = new ArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final WebClientBatchConfig prototype;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final long deadline;
+
+    private WebClientBatch(WebClientBatchConfig prototype) {
+        this.prototype = prototype;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+                                                                   .name("helidon-client-batch-", 0)
+                                                                   .factory());
+        this.permits = prototype.maxConcurrency() > 0 ? new Semaphore(prototype.maxConcurrency()) : null;
+        this.deadline = prototype.deadline()
+                .map(it -> System.nanoTime() + it.toNanos())
+                .orElse(Long.MAX_VALUE);
+    }
+
+    /**
+     * A new builder to configure a batch.
+     *
+     * @return a new builder
+     */
+    public static WebClientBatchConfig.Builder builder() {
+        return WebClientBatchConfig.builder();
+    }
+
+    /**
+     * Create a new batch without a deadline and without limit on concurrency.
+     *
+     * @return a new batch
+     */
+    public static WebClientBatch create() {
+        return create(WebClientBatchConfig.create());
+    }
+
+    /**
+     * Create a new batch from its configuration.
+     *
+     * @param config configuration of the batch
+     * @return a new batch
+     */
+    public static WebClientBatch create(WebClientBatchConfig config) {
+        return new WebClientBatch(config);
+    }
+
+    /**
+     * Create a new batch, customizing its configuration.
+     *
+     * @param consumer configuration consumer
+     * @return a new batch
+     */
+    public static WebClientBatch create(Consumer<WebClientBatchConfig.Builder> consumer) {
+        return builder()
+                .update(consumer)
+                .build();
+    }
+
+    @Override
+    public WebClientBatchConfig prototype() {
+        return prototype;
+    }
+
+    /**
+     * Submit a request without an entity. The response is closed once the handler returns, so the handler must
+     * fully process it (such as read its entity).
+     *
+     * @param request request to send
+     * @param handler handler of the response
+     * @param <T>     type of the result
+     * @return completion stage of the result of the handler
+     */
+    public <T> CompletableFuture<T> submit(ClientRequest<?> request, Function<HttpClientResponse, T> handler) {
+        return submit(() -> {
+            try (HttpClientResponse response = request.request()) {
+                return handler.apply(response);
+            }
+        });
+    }
+
+    /**
+     * Submit a request without an entity, reading the response entity as the provided type.
+     *
+     * @param request    request to send
+     * @param entityType type of the response entity
+     * @param <T>        type of the response entity
+     * @return completion stage of the typed response
+     */
+    public <T> CompletableFuture<ClientResponseTyped<T>> submit(ClientRequest<?> request, Class<T> entityType) {
+        return submit(() -> request.request(entityType));
+    }
+
+    /**
+     * Submit any call (such as a request with an entity). The call is executed in a virtual thread of this batch,
+     * with the context of the caller.
+     * If the call returns a response, it must be closed (or its entity fully read) by the call itself.
+     *
+     * @param call call to execute
+     * @param <T>  type of the result
+     * @return completion stage of the result of the call
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        if (closed.get()) {
+            result.completeExceptionally(new IllegalStateException("Batch is closed"));
+            return result;
+        }
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            result.completeExceptionally(new TimeoutException("Deadline of the batch has passed"));
+            return result;
+        }
+        lock.lock();
+        try {
+            calls.add(result);
+        } finally {
+            lock.unlock();
+        }
+
+        Context context = Contexts.context().orElse(null);
+        Future<?> task = executor.submit(() -> run(context, call, result));
+        // cancelled, timed out, or the batch was closed - interrupt the call (a blocking socket operation is interrupted
+        // by closing the socket)
+        result.whenComplete((it, throwable) -> {
+            if (throwable != null) {
+                task.cancel(true);
+            }
+        });
+        if (deadline != Long.MAX_VALUE) {
+            result.orTimeout(remaining, TimeUnit.NANOSECONDS);
+        }
+        return result;
+    }
+
+    /**
+     * Wait until all calls submitted so far complete, or until the deadline passes.
+     * Calls still in progress when the deadline passes are cancelled.
+     *
+     * @return {@code true} if all calls completed (successfully or not) before the deadline,
+     *         {@code false} if some calls were cancelled
+     */
+    public boolean join() {
+        for (CompletableFuture<?> call : calls()) {
+            try {
+                if (deadline == Long.MAX_VALUE) {
+                    call.get();
+                } else {
+                    call.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancel();
+                return false;
+            } catch (TimeoutException e) {
+                expire();
+                return false;
+            } catch (ExecutionException | CancellationException e) {
+                // failure of a single call is reported through its completion stage
+            }
+        }
+        // calls that timed out on their own completed exceptionally
+        return calls().stream()
+                .noneMatch(it -> it.isCompletedExceptionally() && timedOut(it));
+    }
+
+    /**
+     * Cancel all calls of this batch that are still in progress.
+     */
+    public void cancel() {
+        for (CompletableFuture<?> call : calls()) {
+            call.cancel(true);
+        }
+    }
+
+    /**
+     * Cancel all calls that are still in progress, and release the threads of this batch.
+     * No more calls can be submitted.
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            cancel();
+            executor.shutdownNow();
+        }
+    }
+
+    private <T> void run(Context context, Callable<T> call, CompletableFuture<T> result) {
+        if (result.isDone()) {
+            return;
+        }
+        try {
+            if (permits != null) {
+                permits.acquire();
+            }
+        } catch (InterruptedException e) {
+            // cancelled while waiting for other calls to complete
+            result.completeExceptionally(e);
+            return;
+        }
+        try {
+            T value = context == null ? call.call() : Contexts.runInContextWithThrow(context, call);
+            result.complete(value);
+        } catch (Throwable e) {
+            result.completeExceptionally(e);
+        } finally {
+            if (permits != null) {
+                permits.release();
+            }
+        }
+    }
+
+    private void expire() {
+        for (CompletableFuture<?> call : calls()) {
+            call.completeExceptionally(new TimeoutException("Deadline of the batch has passed"));
+        }
+    }
+
+    private static boolean timedOut(CompletableFuture<?> call) {
+        try {
+            call.join();
+            return false;
+        } catch (CancellationException e) {
+            return true;
+        } catch (RuntimeException e) {
+            return e.getCause() instanceof TimeoutException;
+        }
+    }
+
+    private List<CompletableFuture<?>> calls() {
+        lock.lock();
+        try {
+            return List.copyOf(calls);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.api;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+
+/**
+ * Configuration of a {@link io.helidon.webclient.api.WebClientBatch}.
+ */
+@Prototype.Blueprint
+interface WebClientBatchConfigBlueprint extends Prototype.Factory<WebClientBatch> {
+    /**
+     * Deadline of the whole batch, measured from the moment the batch is created.
+     * Calls that did not complete when the deadline passes are cancelled (their threads are interrupted), and complete
+     * exceptionally with a {@link java.util.concurrent.TimeoutException}.
+     * If not set, calls of the batch are not limited in time (each of them is still limited by the read and connect timeouts).
+     *
+     * @return deadline of the batch
+     */
+    Optional<Duration> deadline();
+
+    /**
+     * Maximal number of calls of the batch that are in progress at the same time, {@code 0} for unlimited.
+     * As connections are cached by the client, calls started after another call to the same destination completed
+     * reuse its connection, so limiting concurrency also limits the number of connections opened by the batch.
+     *
+     * @return maximal number of concurrent calls
+     */
+    @Option.DefaultInt(0)
+    int maxConcurrency();
+}
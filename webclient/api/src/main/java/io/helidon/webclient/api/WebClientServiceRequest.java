@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,6 +27,14 @@ import io.helidon.http.Method;
  * Request to SPI {@link io.helidon.webclient.spi.WebClientService} that supports modification of the outgoing request.
  */
 public interface WebClientServiceRequest {
+    /**
+     * Name of the {@link #properties() property} with the number of the attempt, when a service sends the same request
+     * more than once (such as when hedging requests). The first attempt is {@code 0}, if the property is not present,
+     * the request is sent only once.
+     * Services that choose the endpoint to call (such as discovery) may use it to pick a different endpoint for each attempt.
+     */
+    String ATTEMPT_PROPERTY = "io.helidon.webclient.attempt";
+
     /**
      * URI helper for this client request.
      *
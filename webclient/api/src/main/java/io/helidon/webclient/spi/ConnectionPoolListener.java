@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.spi;
+
+import io.helidon.webclient.api.ConnectionPoolStats;
+
+/**
+ * Listener notified when an HTTP client creates a new connection pool, for example to register metrics of the pool,
+ * and when the pool is closed.
+ * Implementations are discovered using {@link java.util.ServiceLoader}.
+ */
+public interface ConnectionPoolListener {
+    /**
+     * A new connection pool was created.
+     *
+     * @param protocolId id of the protocol of the pool, such as {@code http/1.1}
+     * @param stats      state of the pool, can be read at any time while the pool is in use
+     */
+    void poolCreated(String protocolId, ConnectionPoolStats stats);
+
+    /**
+     * A connection pool was closed, as the client (or the connection cache) that created it was closed.
+     * The pool is no longer used.
+     *
+     * @param protocolId id of the protocol of the pool, such as {@code http/1.1}
+     * @param stats      state of the closed pool
+     */
+    default void poolClosed(String protocolId, ConnectionPoolStats stats) {
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package io.helidon.webclient.spi;
 
 import java.net.InetAddress;
+import java.util.List;
 
 import io.helidon.webclient.api.DnsAddressLookup;
 
@@ -47,4 +48,20 @@ public interface DnsResolver {
      */
     InetAddress resolveAddress(String hostname, DnsAddressLookup dnsAddressLookup);
 
+    /**
+     * Resolve hostname to all its {@link InetAddress addresses}, ordered by preference.
+     * Used when connection attempts to multiple addresses are raced
+     * (see {@link io.helidon.webclient.api.HttpClientConfig#connectionRacing()}).
+     * <p>
+     * The default implementation returns the single address provided by
+     * {@link #resolveAddress(String, io.helidon.webclient.api.DnsAddressLookup)}.
+     *
+     * @param hostname         hostname to resolve
+     * @param dnsAddressLookup allowed version of the IP
+     * @return resolved addresses, never empty
+     */
+    default List<InetAddress> resolveAddresses(String hostname, DnsAddressLookup dnsAddressLookup) {
+        return List.of(resolveAddress(hostname, dnsAddressLookup));
+    }
+
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+
+import io.helidon.common.socket.SocketOptions;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConnectionRacingTest {
+    private static final SocketOptions SOCKET_OPTIONS = SocketOptions.builder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    void testInterleave() throws IOException {
+        InetAddress v4First = InetAddress.getByName("192.0.2.1");
+        InetAddress v4Second = InetAddress.getByName("192.0.2.2");
+        InetAddress v4Third = InetAddress.getByName("192.0.2.3");
+        InetAddress v6First = InetAddress.getByName("2001:db8::1");
+        InetAddress v6Second = InetAddress.getByName("2001:db8::2");
+
+        assertThat(ConnectionRacing.interleave(List.of(v6First, v6Second, v4First, v4Second, v4Third)),
+                   is(List.of(v6First, v4First, v6Second, v4Second, v4Third)));
+        assertThat(ConnectionRacing.interleave(List.of(v4First, v4Second, v6First)),
+                   is(List.of(v4First, v6First, v4Second)));
+    }
+
+    @Test
+    void testFirstAddressUnreachable() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            // TEST-NET-1 address, never routed, so the attempt either hangs or fails
+            InetAddress unreachable = InetAddress.getByName("192.0.2.1");
+            InetAddress loopback = InetAddress.getLoopbackAddress();
+
+            ConnectionRacing.Connected connected = ConnectionRacing.connect(List.of(unreachable, loopback),
+                                                                            serverSocket.getLocalPort(),
+                                                                            SOCKET_OPTIONS,
+                                                                            Duration.ofMillis(50));
+            try {
+                assertThat(connected.address().getAddress(), is(loopback));
+                assertThat(connected.socket().isConnected(), is(true));
+            } finally {
+                connected.socket().close();
+            }
+        }
+    }
+
+    @Test
+    void testAllAddressesFail() throws IOException {
+        int port;
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            port = serverSocket.getLocalPort();
+        }
+        // nobody listens on the port anymore
+        InetAddress loopback = InetAddress.getLoopbackAddress();
+        assertThrows(UncheckedIOException.class,
+                     () -> ConnectionRacing.connect(List.of(loopback, loopback),
+                                                    port,
+                                                    SOCKET_OPTIONS,
+                                                    Duration.ofMillis(50)));
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.api;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.helidon.common.context.Context;
+import io.helidon.common.context.Contexts;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WebClientBatchTest {
+    @Test
+    void testAllCallsComplete() throws Exception {
+        try (WebClientBatch batch = WebClientBatch.create()) {
+            CompletableFuture<String> first = batch.submit(() -> "first");
+            CompletableFuture<String> failed = batch.submit(() -> {
+                throw new IllegalStateException("failed");
+            });
+
+            assertThat(batch.join(), is(true));
+            assertThat(first.get(), is("first"));
+            ExecutionException e = assertThrows(ExecutionException.class, failed::get);
+            assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+        }
+    }
+
+    @Test
+    void testDeadlineCancelsStragglers() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        try (WebClientBatch batch = WebClientBatch.create(it -> it.deadline(Duration.ofMillis(100)))) {
+            CompletableFuture<String> fast = batch.submit(() -> "fast");
+            CompletableFuture<String> straggler = batch.submit(() -> {
+                try {
+                    Thread.sleep(Duration.ofSeconds(10));
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw e;
+                }
+                return "slow";
+            });
+
+            assertThat(batch.join(), is(false));
+            assertThat(fast.join(), is("fast"));
+            ExecutionException e = assertThrows(ExecutionException.class, straggler::get);
+            assertThat(e.getCause(), instanceOf(TimeoutException.class));
+            assertThat(interrupted.await(5, TimeUnit.SECONDS), is(true));
+        }
+    }
+
+    @Test
+    void testCancel() {
+        try (WebClientBatch batch = WebClientBatch.create()) {
+            CompletableFuture<String> call = batch.submit(() -> {
+                Thread.sleep(Duration.ofSeconds(10));
+                return "slow";
+            });
+            batch.cancel();
+            assertThrows(CancellationException.class, call::join);
+        }
+    }
+
+    @Test
+    void testMaxConcurrency() {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        try (WebClientBatch batch = WebClientBatch.create(it -> it.maxConcurrency(2))) {
+            for (int i = 0; i < 10; i++) {
+                batch.submit(() -> {
+                    maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                    Thread.sleep(10);
+                    active.decrementAndGet();
+                    return null;
+                });
+            }
+            assertThat(batch.join(), is(true));
+        }
+        assertThat(maxActive.get(), lessThanOrEqualTo(2));
+    }
+
+    @Test
+    void testContextPropagated() {
+        Context context = Context.create();
+        try (WebClientBatch batch = WebClientBatch.create()) {
+            CompletableFuture<Context> result = Contexts.runInContext(context,
+                                                                      () -> batch.submit(() -> Contexts.context()
+                                                                              .orElse(null)));
+            assertThat(result.join(), is(context));
+        }
+    }
+
+    @Test
+    void testSubmitAfterClose() {
+        WebClientBatch batch = WebClientBatch.create();
+        batch.close();
+        CompletableFuture<String> call = batch.submit(() -> "late");
+        assertThrows(CompletionException.class, call::join);
+    }
+}
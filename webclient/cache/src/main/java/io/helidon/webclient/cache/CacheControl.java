@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.cache;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import io.helidon.http.HeaderNames;
+import io.helidon.http.Headers;
+
+/**
+ * Parsed {@code Cache-Control} header directives.
+ */
+final class CacheControl {
+    static final String NO_STORE = "no-store";
+    static final String NO_CACHE = "no-cache";
+    static final String PRIVATE = "private";
+    static final String PUBLIC = "public";
+    static final String MAX_AGE = "max-age";
+    static final String S_MAXAGE = "s-maxage";
+    static final String MAX_STALE = "max-stale";
+    static final String MIN_FRESH = "min-fresh";
+    static final String MUST_REVALIDATE = "must-revalidate";
+    static final String PROXY_REVALIDATE = "proxy-revalidate";
+    static final String ONLY_IF_CACHED = "only-if-cached";
+
+    private static final CacheControl EMPTY = new CacheControl(Map.of());
+
+    private final Map<String, String> directives;
+
+    private CacheControl(Map<String, String> directives) {
+        this.directives = directives;
+    }
+
+    static CacheControl create(Headers headers) {
+        if (!headers.contains(HeaderNames.CACHE_CONTROL)) {
+            return EMPTY;
+        }
+        Map<String, String> directives = new HashMap<>();
+        for (String directive : headers.values(HeaderNames.CACHE_CONTROL)) {
+            int index = directive.indexOf('=');
+            if (index == -1) {
+                directives.put(directive.trim().toLowerCase(Locale.ROOT), "");
+            } else {
+                String value = directive.substring(index + 1).trim();
+                if (value.length() > 1 && value.startsWith("\"") && value.endsWith("\"")) {
+                    value = value.substring(1, value.length() - 1);
+                }
+                // first occurrence wins, duplicates are invalid anyway
+                directives.putIfAbsent(directive.substring(0, index).trim().toLowerCase(Locale.ROOT), value);
+            }
+        }
+        return new CacheControl(directives);
+    }
+
+    boolean has(String directive) {
+        return directives.containsKey(directive);
+    }
+
+    /**
+     * Value of a directive with delta seconds argument (such as {@code max-age}).
+     *
+     * @param directive directive name
+     * @return seconds, empty if the directive is not present, or has no valid value
+     */
+    OptionalLong seconds(String directive) {
+        String value = directives.get(directive);
+        if (value == null || value.isEmpty()) {
+            return OptionalLong.empty();
+        }
+        try {
+            return OptionalLong.of(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException e) {
+            // too large values are to be considered as the greatest value, others are invalid
+            return value.chars().allMatch(Character::isDigit) ? OptionalLong.of(Integer.MAX_VALUE) : OptionalLong.empty();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return directives.toString();
+    }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+
+import io.helidon.http.DateTime;
+import io.helidon.http.Header;
+import io.helidon.http.HeaderName;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.Headers;
+import io.helidon.http.Status;
+import io.helidon.http.WritableHeaders;
+
+/**
+ * A stored response, with everything needed to compute its age and freshness
+ * (<a href="https://www.rfc-editor.org/rfc/rfc9111#section-4.2">RFC 9111, section 4.2</a>).
+ */
+final class CachedResponse {
+    // not stored, these are specific to the connection or the transfer of the original response
+    private static final Set<HeaderName> NOT_STORED = Set.of(HeaderNames.CONNECTION,
+                                                             HeaderNames.createFromLowercase("keep-alive"),
+                                                             HeaderNames.TRANSFER_ENCODING,
+                                                             HeaderNames.TRAILER,
+                                                             HeaderNames.CONTENT_LENGTH);
+    // not updated from a 304 response, as they describe the stored entity
+    private static final Set<HeaderName> NOT_UPDATED = Set.of(HeaderNames.CONTENT_ENCODING,
+                                                              HeaderNames.CONTENT_TYPE,
+                                                              HeaderNames.CONTENT_RANGE);
+
+    private final String key;
+    private final Status status;
+    private final Headers headers;
+    private final Map<String, List<String>> vary;
+    private final byte[] entity;
+    private final Instant requestTime;
+    private final Instant responseTime;
+    private final CacheControl cacheControl;
+    private final long size;
+
+    CachedResponse(String key,
+                   Status status,
+                   Headers headers,
+                   Map<String, List<String>> vary,
+                   byte[] entity,
+                   Instant requestTime,
+                   Instant responseTime) {
+        this.key = key;
+        this.status = status;
+        this.headers = headers;
+        this.vary = vary;
+        this.entity = entity;
+        this.requestTime = requestTime;
+        this.responseTime = responseTime;
+        this.cacheControl = CacheControl.create(headers);
+
+        long headersSize = 0;
+        for (Header header : headers) {
+            headersSize += header.name().length() + header.value().length() + 4;
+        }
+        this.size = key.length() + headersSize + entity.length;
+    }
+
+    /**
+     * Create a response to store.
+     *
+     * @param key             cache key
+     * @param requestHeaders  headers of the request, to record values of headers listed in {@code Vary}
+     * @param status          response status
+     * @param responseHeaders response headers
+     * @param entity          response entity
+     * @param requestTime     time the request was sent
+     * @param responseTime    time the response was received
+     * @return a new response to store
+     */
+    static CachedResponse create(String key,
+                                 Headers requestHeaders,
+                                 Status status,
+                                 Headers responseHeaders,
+                                 byte[] entity,
+                                 Instant requestTime,
+                                 Instant responseTime) {
+        WritableHeaders<?> headers = WritableHeaders.create();
+        for (Header header : responseHeaders) {
+            if (!NOT_STORED.contains(header.headerName())) {
+                headers.add(header);
+            }
+        }
+        headers.set(HeaderNames.CONTENT_LENGTH, entity.length);
+
+        Map<String, List<String>> vary = new LinkedHashMap<>();
+        for (String name : responseHeaders.values(HeaderNames.VARY)) {
+            String varyName = name.trim().toLowerCase(Locale.ROOT);
+            vary.put(varyName, requestHeaders.all(HeaderNames.createFromLowercase(varyName), List::of));
+        }
+
+        return new CachedResponse(key, status, headers, vary, entity, requestTime, responseTime);
+    }
+
+    String key() {
+        return key;
+    }
+
+    Status status() {
+        return status;
+    }
+
+    Headers headers() {
+        return headers;
+    }
+
+    Map<String, List<String>> vary() {
+        return vary;
+    }
+
+    byte[] entity() {
+        return entity;
+    }
+
+    Instant requestTime() {
+        return requestTime;
+    }
+
+    Instant responseTime() {
+        return responseTime;
+    }
+
+    CacheControl cacheControl() {
+        return cacheControl;
+    }
+
+    /**
+     * Approximate size of this response in memory.
+     *
+     * @return size in bytes
+     */
+    long size() {
+        return size;
+    }
+
+    /**
+     * Whether this response was stored for a request with the same values of headers listed in {@code Vary}.
+     *
+     * @param requestHeaders headers of the new request
+     * @return whether this response can be used for the request
+     */
+    boolean matches(Headers requestHeaders) {
+        for (Map.Entry<String, List<String>> entry : vary.entrySet()) {
+            List<String> values = requestHeaders.all(HeaderNames.createFromLowercase(entry.getKey()), List::of);
+            if (!values.equals(entry.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    Optional<String> etag() {
+        return headers.first(HeaderNames.ETAG);
+    }
+
+    Optional<String> lastModified() {
+        return headers.first(HeaderNames.LAST_MODIFIED);
+    }
+
+    boolean hasValidator() {
+        return headers.contains(HeaderNames.ETAG) || headers.contains(HeaderNames.LAST_MODIFIED);
+    }
+
+    /**
+     * Current age of the response, as defined in
+     * <a href="https://www.rfc-editor.org/rfc/rfc9111#section-4.2.3">RFC 9111, section 4.2.3</a>.
+     *
+     * @param now current time
+     * @return age of the response
+     */
+    Duration age(Instant now) {
+        Instant date = date().orElse(responseTime);
+        Duration apparentAge = positive(Duration.between(date, responseTime));
+        Duration responseDelay = positive(Duration.between(requestTime, responseTime));
+        Duration correctedAgeValue = Duration.ofSeconds(seconds(HeaderNames.AGE)).plus(responseDelay);
+        Duration correctedInitialAge = apparentAge.compareTo(correctedAgeValue) > 0 ? apparentAge : correctedAgeValue;
+        Duration residentTime = positive(Duration.between(responseTime, now));
+        return correctedInitialAge.plus(residentTime);
+    }
+
+    /**
+     * Freshness lifetime of the response, as defined in
+     * <a href="https://www.rfc-editor.org/rfc/rfc9111#section-4.2.1">RFC 9111, section 4.2.1</a>.
+     * Heuristic freshness is not used, responses without explicit freshness are revalidated on each use.
+     *
+     * @param shared whether the cache is shared
+     * @return freshness lifetime
+     */
+    Duration freshnessLifetime(boolean shared) {
+        if (shared) {
+            OptionalLong sMaxAge = cacheControl.seconds(CacheControl.S_MAXAGE);
+            if (sMaxAge.isPresent()) {
+                return Duration.ofSeconds(sMaxAge.getAsLong());
+            }
+        }
+        OptionalLong maxAge = cacheControl.seconds(CacheControl.MAX_AGE);
+        if (maxAge.isPresent()) {
+            return Duration.ofSeconds(maxAge.getAsLong());
+        }
+        if (headers.contains(HeaderNames.EXPIRES)) {
+            Optional<Instant> expires = parseDate(HeaderNames.EXPIRES);
+            if (expires.isEmpty()) {
+                // invalid date (such as 0) means already expired
+                return Duration.ZERO;
+            }
+            return positive(Duration.between(date().orElse(responseTime), expires.get()));
+        }
+        return Duration.ZERO;
+    }
+
+    /**
+     * Whether this response has explicit freshness information.
+     *
+     * @return whether the response defines its freshness lifetime
+     */
+    boolean hasExplicitFreshness() {
+        return cacheControl.has(CacheControl.MAX_AGE)
+                || cacheControl.has(CacheControl.S_MAXAGE)
+                || headers.contains(HeaderNames.EXPIRES);
+    }
+
+    /**
+     * Create an updated response from a {@code 304 Not Modified} response
+     * (<a href="https://www.rfc-editor.org/rfc/rfc9111#section-4.3.4">RFC 9111, section 4.3.4</a>).
+     *
+     * @param notModifiedHeaders headers of the 304 response
+     * @param requestTime        time the conditional request was sent
+     * @param responseTime       time the 304 response was received
+     * @return updated response with the same entity
+     */
+    CachedResponse revalidated(Headers notModifiedHeaders, Instant requestTime, Instant responseTime) {
+        WritableHeaders<?> updated = WritableHeaders.create(headers);
+        for (Header header : notModifiedHeaders) {
+            HeaderName name = header.headerName();
+            if (!NOT_STORED.contains(name) && !NOT_UPDATED.contains(name)) {
+                updated.set(header);
+            }
+        }
+        if (!notModifiedHeaders.contains(HeaderNames.AGE)) {
+            updated.remove(HeaderNames.AGE);
+        }
+        return new CachedResponse(key, status, updated, vary, entity, requestTime, responseTime);
+    }
+
+    private Optional<Instant> date() {
+        return parseDate(HeaderNames.DATE);
+    }
+
+    private Optional<Instant> parseDate(HeaderName name) {
+        Optional<String> value = headers.first(name);
+        if (value.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(DateTime.parse(value.get()).toInstant());
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    private long seconds(HeaderName name) {
+        Optional<String> value = headers.first(name);
+        if (value.isEmpty()) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Long.parseLong(value.get().trim()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static Duration positive(Duration duration) {
+        return duration.isNegative() ? Duration.ZERO : duration;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Copies the entity as it is read by the user, and provides the bytes once the entity is fully read.
+ * If the entity is larger than the limit, or is not fully read, it is not provided.
+ */
+class CachingInputStream extends InputStream {
+    private final InputStream delegate;
+    private final long limit;
+    private final Consumer<byte[]> entityConsumer;
+
+    private ByteArrayOutputStream copy = new ByteArrayOutputStream();
+    private boolean done;
+
+    CachingInputStream(InputStream delegate, long limit, Consumer<byte[]> entityConsumer) {
+        this.delegate = delegate;
+        this.limit = limit;
+        this.entityConsumer = entityConsumer;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int read = delegate.read();
+        if (read == -1) {
+            finished();
+        } else if (copy != null) {
+            copy.write(read);
+            checkLimit();
+        }
+        return read;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int read = delegate.read(b, off, len);
+        if (read == -1) {
+            finished();
+        } else if (copy != null) {
+            copy.write(b, off, read);
+            checkLimit();
+        }
+        return read;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return delegate.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        // entity not fully read is not cached
+        copy = null;
+        delegate.close();
+    }
+
+    private void checkLimit() {
+        if (copy.size() > limit) {
+            copy = null;
+        }
+    }
+
+    private void finished() {
+        if (done) {
+            return;
+        }
+        done = true;
+        if (copy != null) {
+            byte[] entity = copy.toByteArray();
+            copy = null;
+            entityConsumer.accept(entity);
+        }
+    }
+}
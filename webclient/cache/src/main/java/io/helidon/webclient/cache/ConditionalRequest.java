@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.cache;
+
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+import io.helidon.common.context.Context;
+import io.helidon.http.ClientRequestHeaders;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.Method;
+import io.helidon.http.WritableHeaders;
+import io.helidon.webclient.api.ClientUri;
+import io.helidon.webclient.api.WebClientServiceRequest;
+import io.helidon.webclient.api.WebClientServiceResponse;
+
+/**
+ * Request revalidating a cached response.
+ * Validators of the cached response are added to a copy of the request headers, so the headers of the user's request
+ * are not modified.
+ */
+class ConditionalRequest implements WebClientServiceRequest {
+    private final WebClientServiceRequest original;
+    private final ClientRequestHeaders headers;
+
+    ConditionalRequest(WebClientServiceRequest original, CachedResponse cached) {
+        this.original = original;
+        this.headers = ClientRequestHeaders.create(WritableHeaders.create(original.headers()));
+        cached.etag().ifPresent(it -> headers.set(HeaderNames.IF_NONE_MATCH, it));
+        cached.lastModified().ifPresent(it -> headers.set(HeaderNames.IF_MODIFIED_SINCE, it));
+    }
+
+    @Override
+    public ClientUri uri() {
+        return original.uri();
+    }
+
+    @Override
+    public Method method() {
+        return original.method();
+    }
+
+    @Override
+    public String protocolId() {
+        return original.protocolId();
+    }
+
+    @Override
+    public ClientRequestHeaders headers() {
+        return headers;
+    }
+
+    @Override
+    public Context context() {
+        return original.context();
+    }
+
+    @Override
+    public String requestId() {
+        return original.requestId();
+    }
+
+    @Override
+    public void requestId(String requestId) {
+        original.requestId(requestId);
+    }
+
+    @Override
+    public CompletionStage<WebClientServiceRequest> whenSent() {
+        return original.whenSent();
+    }
+
+    @Override
+    public CompletionStage<WebClientServiceResponse> whenComplete() {
+        return original.whenComplete();
+    }
+
+    @Override
+    public Map<String, String> properties() {
+        return original.properties();
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import io.helidon.http.Header;
+import io.helidon.http.HeaderValues;
+import io.helidon.http.Status;
+import io.helidon.http.WritableHeaders;
+
+import static java.lang.System.Logger.Level.DEBUG;
+import static java.lang.System.Logger.Level.WARNING;
+
+/**
+ * Disk store, one file per response, bounded by size of the files, evicting the least recently used responses.
+ * Files are written to a temporary file first and then moved, so a response is either fully stored, or not at all.
+ */
+class DiskResponseStore implements ResponseStore {
+    private static final System.Logger LOGGER = System.getLogger(DiskResponseStore.class.getName());
+    private static final int MAGIC = 0x48434331; // HCC1
+    private static final String SUFFIX = ".response";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // file name to file size, access order, so the first entry is the least recently used
+    private final Map<String, Long> files = new LinkedHashMap<>(16, 0.75f, true);
+    private final Path directory;
+    private final long capacity;
+
+    private long size;
+
+    DiskResponseStore(Path directory, long capacity) {
+        this.directory = directory;
+        this.capacity = capacity;
+
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> stream = Files.list(directory)) {
+                List<Path> existing = new ArrayList<>();
+                for (Path path : stream.toList()) {
+                    String fileName = path.getFileName().toString();
+                    if (fileName.endsWith(TEMP_SUFFIX)) {
+                        // left over by a write that did not finish
+                        Files.deleteIfExists(path);
+                    } else if (fileName.endsWith(SUFFIX)) {
+                        existing.add(path);
+                    }
+                }
+                existing.sort(Comparator.comparing(DiskResponseStore::lastModified));
+                for (Path path : existing) {
+                    long fileSize = Files.size(path);
+                    files.put(path.getFileName().toString(), fileSize);
+                    size += fileSize;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to initialize disk store of web client cache in " + directory, e);
+        }
+        evict();
+    }
+
+    @Override
+    public Optional<CachedResponse> get(String key) {
+        String fileName = fileName(key);
+        lock.lock();
+        try {
+            if (files.get(fileName) == null) {
+                return Optional.empty();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        Path path = directory.resolve(fileName);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            CachedResponse response = read(in);
+            // hash collision is very unlikely, but would serve a wrong response
+            return response.key().equals(key) ? Optional.of(response) : Optional.empty();
+        } catch (NoSuchFileException e) {
+            removeFile(fileName);
+            return Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(DEBUG, "Failed to read cached response from " + path + ", removing it", e);
+            removeFile(fileName);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(CachedResponse response) {
+        String fileName = fileName(response.key());
+        Path path = directory.resolve(fileName);
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile(directory, fileName, TEMP_SUFFIX);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                write(out, response);
+            }
+            long fileSize = Files.size(tempFile);
+            if (fileSize > capacity) {
+                Files.delete(tempFile);
+                remove(response.key());
+                return;
+            }
+            lock.lock();
+            try {
+                Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                Long previous = files.put(fileName, fileSize);
+                if (previous != null) {
+                    size -= previous;
+                }
+                size += fileSize;
+            } finally {
+                lock.unlock();
+            }
+            evict();
+        } catch (IOException e) {
+            LOGGER.log(WARNING, "Failed to write cached response to " + path, e);
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException ignored) {
+                    // we tried
+                }
+            }
+        }
+    }
+
+    @Override
+    public void remove(String key) {
+        removeFile(fileName(key));
+    }
+
+    private void removeFile(String fileName) {
+        lock.lock();
+        try {
+            Long removed = files.remove(fileName);
+            if (removed != null) {
+                size -= removed;
+            }
+            Files.deleteIfExists(directory.resolve(fileName));
+        } catch (IOException e) {
+            LOGGER.log(DEBUG, "Failed to delete cached response " + fileName, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evict() {
+        lock.lock();
+        try {
+            Iterator<Map.Entry<String, Long>> iterator = files.entrySet().iterator();
+            while (size > capacity && iterator.hasNext()) {
+                Map.Entry<String, Long> evicted = iterator.next();
+                iterator.remove();
+                size -= evicted.getValue();
+                try {
+                    Files.deleteIfExists(directory.resolve(evicted.getKey()));
+                } catch (IOException e) {
+                    LOGGER.log(DEBUG, "Failed to delete evicted cached response " + evicted.getKey(), e);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void write(DataOutputStream out, CachedResponse response) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeUTF(response.key());
+        out.writeInt(response.status().code());
+        out.writeUTF(response.status().reasonPhrase());
+        out.writeLong(response.requestTime().toEpochMilli());
+        out.writeLong(response.responseTime().toEpochMilli());
+
+        out.writeInt(response.vary().size());
+        for (Map.Entry<String, List<String>> entry : response.vary().entrySet()) {
+            out.writeUTF(entry.getKey());
+            writeValues(out, entry.getValue());
+        }
+
+        out.writeInt(response.headers().size());
+        for (Header header : response.headers()) {
+            out.writeUTF(header.name());
+            writeValues(out, header.allValues());
+        }
+
+        out.writeInt(response.entity().length);
+        out.write(response.entity());
+    }
+
+    private static CachedResponse read(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a cached response");
+        }
+        String key = in.readUTF();
+        Status status = Status.create(in.readInt(), in.readUTF());
+        Instant requestTime = Instant.ofEpochMilli(in.readLong());
+        Instant responseTime = Instant.ofEpochMilli(in.readLong());
+
+        int varyCount = in.readInt();
+        Map<String, List<String>> vary = new LinkedHashMap<>();
+        for (int i = 0; i < varyCount; i++) {
+            vary.put(in.readUTF(), readValues(in));
+        }
+
+        int headerCount = in.readInt();
+        WritableHeaders<?> headers = WritableHeaders.create();
+        for (int i = 0; i < headerCount; i++) {
+            headers.add(HeaderValues.create(in.readUTF(), readValues(in)));
+        }
+
+        byte[] entity = new byte[in.readInt()];
+        in.readFully(entity);
+
+        return new CachedResponse(key, status, headers, vary, entity, requestTime, responseTime);
+    }
+
+    private static void writeValues(DataOutputStream out, List<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static List<String> readValues(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(in.readUTF());
+        }
+        return values;
+    }
+
+    private static String fileName(String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8))) + SUFFIX;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 must be supported by the JVM", e);
+        }
+    }
+
+    private static Instant lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toInstant();
+        } catch (IOException e) {
+            return Instant.EPOCH;
+        }
+    }
+}
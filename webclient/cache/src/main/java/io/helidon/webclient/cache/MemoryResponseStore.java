@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory store, bounded by size of stored responses, evicting the least recently used responses.
+ */
+class MemoryResponseStore implements ResponseStore {
+    private final ReentrantLock lock = new ReentrantLock();
+    // access order, so the first entry is the least recently used
+    private final Map<String, CachedResponse> responses = new LinkedHashMap<>(16, 0.75f, true);
+    private final long capacity;
+
+    private long size;
+    private long evictions;
+
+    MemoryResponseStore(long capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public Optional<CachedResponse> get(String key) {
+        lock.lock();
+        try {
+            return Optional.ofNullable(responses.get(key));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(CachedResponse response) {
+        if (response.size() > capacity) {
+            remove(response.key());
+            return;
+        }
+        lock.lock();
+        try {
+            CachedResponse previous = responses.put(response.key(), response);
+            if (previous != null) {
+                size -= previous.size();
+            }
+            size += response.size();
+
+            Iterator<CachedResponse> iterator = responses.values().iterator();
+            while (size > capacity && iterator.hasNext()) {
+                CachedResponse evicted = iterator.next();
+                iterator.remove();
+                size -= evicted.size();
+                evictions++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(String key) {
+        lock.lock();
+        try {
+            CachedResponse removed = responses.remove(key);
+            if (removed != null) {
+                size -= removed.size();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int entries() {
+        lock.lock();
+        try {
+            return responses.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long evictions() {
+        lock.lock();
+        try {
+            return evictions;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,401 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import io.helidon.builder.api.RuntimeType;
+import io.helidon.config.Config;
+import io.helidon.http.ClientRequestHeaders;
+import io.helidon.http.ClientResponseHeaders;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.HeaderValues;
+import io.helidon.http.Method;
+import io.helidon.http.Status;
+import io.helidon.http.WritableHeaders;
+import io.helidon.webclient.api.ClientUri;
+import io.helidon.webclient.api.ReleasableResource;
+import io.helidon.webclient.api.WebClientServiceRequest;
+import io.helidon.webclient.api.WebClientServiceResponse;
+import io.helidon.webclient.spi.WebClientService;
+
+import static java.lang.System.Logger.Level.TRACE;
+
+/**
+ * Client service caching responses to {@code GET} requests, as defined by
+ * <a href="https://www.rfc-editor.org/rfc/rfc9111">RFC 9111</a>.
+ * <p>
+ * Fresh responses are served from the cache without a request to the server. Stale responses that have a validator
+ * ({@code ETag} or {@code Last-Modified}) are revalidated using a conditional request, and served from the cache
+ * if the server replies with {@code 304 Not Modified}. Responses are stored in memory (the least recently used are
+ * evicted when capacity is reached), and optionally on disk.
+ * <p>
+ * Only a single variant is stored for each URI; if a response varies on request headers ({@code Vary}), a request
+ * with different values of these headers replaces the stored variant.
+ */
+public class WebClientCache implements WebClientService, RuntimeType.Api<WebClientCacheConfig> {
+    private static final System.Logger LOGGER = System.getLogger(WebClientCache.class.getName());
+    /*
+    Status codes that are cacheable by default (RFC 9110, section 15.1), excluding 206, as we do not cache
+    partial content
+     */
+    private static final Set<Integer> CACHEABLE_STATUS = Set.of(200, 203, 204, 300, 301, 308, 404, 405, 410, 414, 501);
+    private static final Set<Method> SAFE_METHODS = Set.of(Method.GET, Method.HEAD, Method.OPTIONS, Method.TRACE);
+    private static final ReleasableResource NO_CONNECTION = () -> {
+    };
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final WebClientCacheConfig config;
+    private final Clock clock;
+    private final boolean shared;
+    private final long maxEntrySize;
+    private final MemoryResponseStore memoryStore;
+    private final Optional<DiskResponseStore> diskStore;
+
+    private WebClientCache(WebClientCacheConfig config, Clock clock) {
+        this.config = config;
+        this.clock = clock;
+        this.shared = config.shared();
+        this.maxEntrySize = config.maxEntrySize().toBytes();
+        this.memoryStore = new MemoryResponseStore(config.capacity().toBytes());
+        this.diskStore = config.diskStore()
+                .map(it -> new DiskResponseStore(it, config.diskCapacity().toBytes()));
+    }
+
+    /**
+     * Fluent API builder to set up an instance.
+     *
+     * @return a new builder
+     */
+    public static WebClientCacheConfig.Builder builder() {
+        return WebClientCacheConfig.builder();
+    }
+
+    /**
+     * Create a new instance from configuration.
+     *
+     * @param config configuration
+     * @return a new service
+     */
+    public static WebClientCache create(Config config) {
+        return create(WebClientCacheConfig.create(config));
+    }
+
+    /**
+     * Create a new instance from its configuration.
+     *
+     * @param config configuration
+     * @return a new service
+     */
+    public static WebClientCache create(WebClientCacheConfig config) {
+        return new WebClientCache(config, Clock.systemUTC());
+    }
+
+    /**
+     * Create a new instance customizing its configuration.
+     *
+     * @param builderConsumer consumer of configuration
+     * @return a new service
+     */
+    public static WebClientCache create(Consumer<WebClientCacheConfig.Builder> builderConsumer) {
+        return builder()
+                .update(builderConsumer)
+                .build();
+    }
+
+    // for testing
+    static WebClientCache create(WebClientCacheConfig config, Clock clock) {
+        return new WebClientCache(config, clock);
+    }
+
+    @Override
+    public String name() {
+        return config.name();
+    }
+
+    @Override
+    public String type() {
+        return "cache";
+    }
+
+    @Override
+    public WebClientCacheConfig prototype() {
+        return config;
+    }
+
+    /**
+     * Current statistics of this cache.
+     *
+     * @return statistics
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(),
+                         misses.sum(),
+                         revalidations.sum(),
+                         memoryStore.evictions(),
+                         memoryStore.entries(),
+                         memoryStore.size());
+    }
+
+    @Override
+    public WebClientServiceResponse handle(Chain chain, WebClientServiceRequest clientRequest) {
+        Method method = clientRequest.method();
+        if (!Method.GET.equals(method)) {
+            WebClientServiceResponse response = chain.proceed(clientRequest);
+            if (!SAFE_METHODS.contains(method) && response.status().family() != Status.Family.SERVER_ERROR
+                    && response.status().family() != Status.Family.CLIENT_ERROR) {
+                // RFC 9111, section 4.4: unsafe methods invalidate stored responses
+                remove(key(clientRequest.uri()));
+            }
+            return response;
+        }
+
+        ClientRequestHeaders requestHeaders = clientRequest.headers();
+        CacheControl requestCacheControl = CacheControl.create(requestHeaders);
+        if (requestCacheControl.has(CacheControl.NO_STORE)
+                || requestHeaders.contains(HeaderNames.RANGE)
+                || requestHeaders.contains(HeaderNames.IF_NONE_MATCH)
+                || requestHeaders.contains(HeaderNames.IF_MODIFIED_SINCE)) {
+            // user handles the request on its own
+            return chain.proceed(clientRequest);
+        }
+
+        String key = key(clientRequest.uri());
+        Optional<CachedResponse> stored = get(key)
+                .filter(it -> it.matches(requestHeaders));
+        if (stored.isEmpty()) {
+            misses.increment();
+            return fetch(chain, clientRequest, key);
+        }
+
+        CachedResponse cached = stored.get();
+        if (isFresh(cached, requestCacheControl, clock.instant())) {
+            hits.increment();
+            // served from cache, there is nothing to send
+            clientRequest.whenSent().toCompletableFuture().complete(clientRequest);
+            return fromCache(clientRequest, cached, NO_CONNECTION);
+        }
+
+        if (!cached.hasValidator()) {
+            misses.increment();
+            return fetch(chain, clientRequest, key);
+        }
+
+        // conditional request, so the server does not need to send the entity if it did not change
+        Instant requestTime = clock.instant();
+        WebClientServiceResponse response = chain.proceed(new ConditionalRequest(clientRequest, cached));
+        Instant responseTime = clock.instant();
+        if (response.status().code() != Status.NOT_MODIFIED_304.code()) {
+            misses.increment();
+            return store(clientRequest, key, response, requestTime, responseTime);
+        }
+
+        revalidations.increment();
+        CachedResponse revalidated = cached.revalidated(response.headers(), requestTime, responseTime);
+        put(revalidated);
+        // 304 has no entity, the connection is released once the user reads the cached entity
+        return fromCache(clientRequest, revalidated, response.connection());
+    }
+
+    private WebClientServiceResponse fetch(Chain chain, WebClientServiceRequest clientRequest, String key) {
+        Instant requestTime = clock.instant();
+        WebClientServiceResponse response = chain.proceed(clientRequest);
+        return store(clientRequest, key, response, requestTime, clock.instant());
+    }
+
+    private WebClientServiceResponse store(WebClientServiceRequest clientRequest,
+                                           String key,
+                                           WebClientServiceResponse response,
+                                           Instant requestTime,
+                                           Instant responseTime) {
+        if (!isStorable(clientRequest, response)) {
+            return response;
+        }
+
+        // request headers may be modified by the user once the response is returned
+        WritableHeaders<?> requestHeaders = WritableHeaders.create(clientRequest.headers());
+        Optional<InputStream> inputStream = response.inputStream();
+        if (inputStream.isEmpty()) {
+            put(CachedResponse.create(key,
+                                      requestHeaders,
+                                      response.status(),
+                                      response.headers(),
+                                      new byte[0],
+                                      requestTime,
+                                      responseTime));
+            return response;
+        }
+
+        OptionalLong contentLength = response.headers().contentLength();
+        if (contentLength.isPresent() && contentLength.getAsLong() > maxEntrySize) {
+            return response;
+        }
+
+        InputStream caching = new CachingInputStream(inputStream.get(),
+                                                     maxEntrySize,
+                                                     entity -> put(CachedResponse.create(key,
+                                                                                         requestHeaders,
+                                                                                         response.status(),
+                                                                                         response.headers(),
+                                                                                         entity,
+                                                                                         requestTime,
+                                                                                         responseTime)));
+        return WebClientServiceResponse.builder()
+                .from(response)
+                .inputStream(caching)
+                .build();
+    }
+
+    private boolean isStorable(WebClientServiceRequest clientRequest, WebClientServiceResponse response) {
+        if (!CACHEABLE_STATUS.contains(response.status().code())) {
+            return false;
+        }
+        ClientResponseHeaders headers = response.headers();
+        CacheControl cacheControl = CacheControl.create(headers);
+        if (cacheControl.has(CacheControl.NO_STORE)) {
+            return false;
+        }
+        if (headers.values(HeaderNames.VARY).contains("*")) {
+            return false;
+        }
+        if (shared) {
+            if (cacheControl.has(CacheControl.PRIVATE)) {
+                return false;
+            }
+            if (clientRequest.headers().contains(HeaderNames.AUTHORIZATION)
+                    && !cacheControl.has(CacheControl.PUBLIC)
+                    && !cacheControl.has(CacheControl.S_MAXAGE)
+                    && !cacheControl.has(CacheControl.MUST_REVALIDATE)) {
+                return false;
+            }
+        }
+        // without freshness information or a validator, the stored response could never be used
+        return cacheControl.has(CacheControl.MAX_AGE)
+                || (shared && cacheControl.has(CacheControl.S_MAXAGE))
+                || headers.contains(HeaderNames.EXPIRES)
+                || headers.contains(HeaderNames.ETAG)
+                || headers.contains(HeaderNames.LAST_MODIFIED);
+    }
+
+    private boolean isFresh(CachedResponse cached, CacheControl requestCacheControl, Instant now) {
+        CacheControl cacheControl = cached.cacheControl();
+        if (requestCacheControl.has(CacheControl.NO_CACHE) || cacheControl.has(CacheControl.NO_CACHE)) {
+            return false;
+        }
+        Duration age = cached.age(now);
+        Duration lifetime = cached.freshnessLifetime(shared);
+
+        OptionalLong maxAge = requestCacheControl.seconds(CacheControl.MAX_AGE);
+        if (maxAge.isPresent() && age.compareTo(Duration.ofSeconds(maxAge.getAsLong())) > 0) {
+            return false;
+        }
+        OptionalLong minFresh = requestCacheControl.seconds(CacheControl.MIN_FRESH);
+        if (minFresh.isPresent() && lifetime.minus(age).compareTo(Duration.ofSeconds(minFresh.getAsLong())) < 0) {
+            return false;
+        }
+        if (age.compareTo(lifetime) < 0) {
+            return true;
+        }
+
+        // stale, the request may still accept it
+        if (!requestCacheControl.has(CacheControl.MAX_STALE)
+                || cacheControl.has(CacheControl.MUST_REVALIDATE)
+                || (shared && (cacheControl.has(CacheControl.PROXY_REVALIDATE) || cacheControl.has(CacheControl.S_MAXAGE)))) {
+            return false;
+        }
+        OptionalLong maxStale = requestCacheControl.seconds(CacheControl.MAX_STALE);
+        return maxStale.isEmpty() || age.minus(lifetime).compareTo(Duration.ofSeconds(maxStale.getAsLong())) <= 0;
+    }
+
+    private WebClientServiceResponse fromCache(WebClientServiceRequest clientRequest,
+                                               CachedResponse cached,
+                                               ReleasableResource connection) {
+        WritableHeaders<?> headers = WritableHeaders.create(cached.headers());
+        headers.set(HeaderValues.create(HeaderNames.AGE, cached.age(clock.instant()).toSeconds()));
+
+        WebClientServiceResponse.Builder builder = WebClientServiceResponse.builder()
+                .serviceRequest(clientRequest)
+                .status(cached.status())
+                .headers(ClientResponseHeaders.create(headers))
+                .connection(connection)
+                .whenComplete(clientRequest.whenComplete().toCompletableFuture());
+        if (cached.entity().length > 0) {
+            builder.inputStream(new ByteArrayInputStream(cached.entity()));
+        }
+        return builder.build();
+    }
+
+    private Optional<CachedResponse> get(String key) {
+        Optional<CachedResponse> response = memoryStore.get(key);
+        if (response.isPresent() || diskStore.isEmpty()) {
+            return response;
+        }
+        response = diskStore.get().get(key);
+        response.ifPresent(memoryStore::put);
+        return response;
+    }
+
+    private void put(CachedResponse response) {
+        if (LOGGER.isLoggable(TRACE)) {
+            LOGGER.log(TRACE, "Storing response for " + response.key());
+        }
+        memoryStore.put(response);
+        diskStore.ifPresent(it -> it.put(response));
+    }
+
+    private void remove(String key) {
+        memoryStore.remove(key);
+        diskStore.ifPresent(it -> it.remove(key));
+    }
+
+    private static String key(ClientUri uri) {
+        String query = uri.query().rawValue();
+        String path = uri.path().rawPath();
+        return uri.scheme() + "://" + uri.authority()
+                + (path.isEmpty() ? "/" : path)
+                + (query.isEmpty() ? "" : "?" + query);
+    }
+
+    /**
+     * Statistics of a web client cache.
+     *
+     * @param hits          number of requests served from the cache without contacting the server
+     * @param misses        number of requests sent to the server, as there was no usable stored response
+     * @param revalidations number of stored responses revalidated by the server ({@code 304 Not Modified})
+     * @param evictions     number of responses evicted from memory to free capacity
+     * @param entries       number of responses stored in memory
+     * @param size          size of responses stored in memory in bytes
+     */
+    public record Stats(long hits,
+                        long misses,
+                        long revalidations,
+                        long evictions,
+                        int entries,
+                        long size) {
+    }
+}
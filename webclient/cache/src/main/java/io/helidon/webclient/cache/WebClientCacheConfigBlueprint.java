@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.cache;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+import io.helidon.common.Size;
+
+/**
+ * Configuration of the WebClient HTTP response cache.
+ */
+@Prototype.Blueprint
+@Prototype.Configured
+interface WebClientCacheConfigBlueprint extends Prototype.Factory<WebClientCache> {
+    /**
+     * Name of this instance.
+     *
+     * @return instance name
+     */
+    @Option.Default("cache")
+    String name();
+
+    /**
+     * Capacity of the in-memory store, counted as bytes of cached entities and headers.
+     * The least recently used responses are evicted when the capacity is reached.
+     *
+     * @return capacity of the in-memory store, defaults to 10 mB
+     */
+    @Option.Configured
+    @Option.Default("10 mB")
+    Size capacity();
+
+    /**
+     * Maximal size of an entity to cache. Larger responses are passed through without caching.
+     *
+     * @return maximal size of a cached entity, defaults to 1 mB
+     */
+    @Option.Configured
+    @Option.Default("1 mB")
+    Size maxEntrySize();
+
+    /**
+     * Whether this cache is shared by multiple users (as an HTTP proxy cache would be).
+     * A shared cache does not store responses marked as {@code private} and responses to requests with
+     * {@code Authorization} header (unless explicitly allowed by the response), and honors {@code s-maxage}.
+     *
+     * @return whether the cache is shared, defaults to {@code false}, as a client is usually used by a single user
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean shared();
+
+    /**
+     * Directory of the disk store. When configured, responses are also written to this directory, and survive
+     * eviction from memory (and restart of the client).
+     *
+     * @return directory of the disk store, disk store is not used if not configured
+     */
+    @Option.Configured
+    Optional<Path> diskStore();
+
+    /**
+     * Capacity of the disk store, counted as bytes of stored files.
+     *
+     * @return capacity of the disk store, defaults to 100 mB
+     */
+    @Option.Configured
+    @Option.Default("100 mB")
+    Size diskCapacity();
+}
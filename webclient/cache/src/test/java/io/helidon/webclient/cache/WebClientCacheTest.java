@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import io.helidon.common.context.Context;
+import io.helidon.http.ClientRequestHeaders;
+import io.helidon.http.ClientResponseHeaders;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.Method;
+import io.helidon.http.Status;
+import io.helidon.http.WritableHeaders;
+import io.helidon.webclient.api.ClientUri;
+import io.helidon.webclient.api.WebClientServiceRequest;
+import io.helidon.webclient.api.WebClientServiceResponse;
+import io.helidon.webclient.spi.WebClientService;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static io.helidon.common.testing.junit5.OptionalMatcher.optionalValue;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class WebClientCacheTest {
+    private static final String URI = "http://localhost:8080/catalog?page=1";
+
+    private final TestClock clock = new TestClock();
+    private final AtomicInteger serverCalls = new AtomicInteger();
+
+    @Test
+    void testFreshResponseServedFromCache() throws IOException {
+        WebClientCache cache = WebClientCache.create(WebClientCache.builder().buildPrototype(), clock);
+        WebClientService.Chain chain = chain(request -> response(request, Status.OK_200, "catalog",
+                                                                 "Cache-Control", "max-age=60"));
+
+        assertThat(entity(cache.handle(chain, request(Method.GET))), is("catalog"));
+        clock.advance(Duration.ofSeconds(30));
+
+        WebClientServiceResponse cached = cache.handle(chain, request(Method.GET));
+        assertThat(entity(cached), is("catalog"));
+        assertThat(cached.headers().first(HeaderNames.AGE), optionalValue(is("30")));
+        assertThat(serverCalls.get(), is(1));
+
+        clock.advance(Duration.ofSeconds(31));
+        assertThat(entity(cache.handle(chain, request(Method.GET))), is("catalog"));
+        assertThat(serverCalls.get(), is(2));
+
+        WebClientCache.Stats stats = cache.stats();
+        assertThat(stats.hits(), is(1L));
+        assertThat(stats.misses(), is(2L));
+        assertThat(stats.entries(), is(1));
+    }
+
+    @Test
+    void testRevalidation() throws IOException {
+        WebClientCache cache = WebClientCache.create(WebClientCache.builder().buildPrototype(), clock);
+        WebClientService.Chain chain = chain(request -> {
+            if (request.headers().first(HeaderNames.IF_NONE_MATCH).orElse("").equals("\"v1\"")) {
+                return response(request, Status.NOT_MODIFIED_304, null, "ETag", "\"v1\"");
+            }
+            return response(request, Status.OK_200, "catalog", "ETag", "\"v1\"");
+        });
+
+        assertThat(entity(cache.handle(chain, request(Method.GET))), is("catalog"));
+
+        WebClientServiceRequest request = request(Method.GET);
+        WebClientServiceResponse revalidated = cache.handle(chain, request);
+        assertThat(revalidated.status(), is(Status.OK_200));
+        assertThat(entity(revalidated), is("catalog"));
+        assertThat(serverCalls.get(), is(2));
+        assertThat(cache.stats().revalidations(), is(1L));
+        // validators are only sent with the conditional request, headers of the user's request are not modified
+        assertThat(request.headers().contains(HeaderNames.IF_NONE_MATCH), is(false));
+        assertThat(request.headers().contains(HeaderNames.IF_MODIFIED_SINCE), is(false));
+    }
+
+    @Test
+    void testNoStore() throws IOException {
+        WebClientCache cache = WebClientCache.create(WebClientCache.builder().buildPrototype(), clock);
+        WebClientService.Chain chain = chain(request -> response(request, Status.OK_200, "catalog",
+                                                                 "Cache-Control", "no-store, max-age=60"));
+
+        assertThat(entity(cache.handle(chain, request(Method.GET))), is("catalog"));
+        assertThat(entity(cache.handle(chain, request(Method.GET))), is("catalog"));
+        assertThat(serverCalls.get(), is(2));
+        assertThat(cache.stats().entries(), is(0));
+    }
+
+    @Test
+    void testVary() throws IOException {
+        WebClientCache cache = WebClientCache.create(WebClientCache.builder().buildPrototype(), clock);
+        WebClientService.Chain chain = chain(request -> response(request, Status.OK_200, "catalog",
+                                                                 "Cache-Control", "max-age=60",
+                                                                 "Vary", "Accept-Language"));
+
+        WebClientServiceRequest english = request(Method.GET);
+        english.headers().set(HeaderNames.ACCEPT_LANGUAGE, "en");
+        entity(cache.handle(chain, english));
+
+        WebClientServiceRequest czech = request(Method.GET);
+        czech.headers().set(HeaderNames.ACCEPT_LANGUAGE, "cs");
+        entity(cache.handle(chain, czech));
+        assertThat(serverCalls.get(), is(2));
+
+        czech = request(Method.GET);
+        czech.headers().set(HeaderNames.ACCEPT_LANGUAGE, "cs");
+        entity(cache.handle(chain, czech));
+        assertThat(serverCalls.get(), is(2));
+    }
+
+    @Test
+    void testUnsafeMethodInvalidates() throws IOException {
+        WebClientCache cache = WebClientCache.create(WebClientCache.builder().buildPrototype(), clock);
+        WebClientService.Chain chain = chain(request -> response(request, Status.OK_200, "catalog",
+                                                                 "Cache-Control", "max-age=60"));
+
+        entity(cache.handle(chain, request(Method.GET)));
+        entity(cache.handle(chain, request(Method.POST)));
+        entity(cache.handle(chain, request(Method.GET)));
+        assertThat(serverCalls.get(), is(3));
+    }
+
+    @Test
+    void testDiskStore(@TempDir Path directory) throws IOException {
+        WebClientCacheConfig config = WebClientCache.builder()
+                .diskStore(directory)
+                .buildPrototype();
+        WebClientService.Chain chain = chain(request -> response(request, Status.OK_200, "catalog",
+                                                                 "Cache-Control", "max-age=60"));
+
+        entity(WebClientCache.create(config, clock).handle(chain, request(Method.GET)));
+
+        // a new instance does not have the response in memory
+        WebClientCache cache = WebClientCache.create(config, clock);
+        assertThat(entity(cache.handle(chain, request(Method.GET))), is("catalog"));
+        assertThat(serverCalls.get(), is(1));
+        assertThat(cache.stats().hits(), is(1L));
+    }
+
+    private WebClientService.Chain chain(Function<WebClientServiceRequest, WebClientServiceResponse> server) {
+        return request -> {
+            serverCalls.incrementAndGet();
+            return server.apply(request);
+        };
+    }
+
+    private static String entity(WebClientServiceResponse response) throws IOException {
+        if (response.inputStream().isEmpty()) {
+            return "";
+        }
+        return new String(response.inputStream().get().readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    private static WebClientServiceRequest request(Method method) {
+        return new TestRequest(method);
+    }
+
+    private static WebClientServiceResponse response(WebClientServiceRequest request,
+                                                     Status status,
+                                                     String entity,
+                                                     String... headers) {
+        WritableHeaders<?> responseHeaders = WritableHeaders.create();
+        for (int i = 0; i < headers.length; i += 2) {
+            responseHeaders.add(HeaderNames.create(headers[i]), headers[i + 1]);
+        }
+        WebClientServiceResponse.Builder builder = WebClientServiceResponse.builder()
+                .serviceRequest(request)
+                .status(status)
+                .headers(ClientResponseHeaders.create(responseHeaders))
+                .connection(() -> {
+                })
+                .whenComplete(new CompletableFuture<>());
+        if (entity != null) {
+            builder.inputStream(new ByteArrayInputStream(entity.getBytes(StandardCharsets.UTF_8)));
+        }
+        return builder.build();
+    }
+
+    private static class TestRequest implements WebClientServiceRequest {
+        private final ClientUri uri = ClientUri.create(java.net.URI.create(URI));
+        private final ClientRequestHeaders headers = ClientRequestHeaders.create(WritableHeaders.create());
+        private final Context context = Context.create();
+        private final Map<String, String> properties = new HashMap<>();
+        private final Method method;
+        private String requestId = "test";
+
+        private TestRequest(Method method) {
+            this.method = method;
+        }
+
+        @Override
+        public ClientUri uri() {
+            return uri;
+        }
+
+        @Override
+        public Method method() {
+            return method;
+        }
+
+        @Override
+        public String protocolId() {
+            return "http/1.1";
+        }
+
+        @Override
+        public ClientRequestHeaders headers() {
+            return headers;
+        }
+
+        @Override
+        public Context context() {
+            return context;
+        }
+
+        @Override
+        public String requestId() {
+            return requestId;
+        }
+
+        @Override
+        public void requestId(String requestId) {
+            this.requestId = requestId;
+        }
+
+        @Override
+        public CompletionStage<WebClientServiceRequest> whenSent() {
+            return new CompletableFuture<>();
+        }
+
+        @Override
+        public CompletionStage<WebClientServiceResponse> whenComplete() {
+            return new CompletableFuture<>();
+        }
+
+        @Override
+        public Map<String, String> properties() {
+            return properties;
+        }
+    }
+
+    private static class TestClock extends Clock {
+        private Instant now = Instant.parse("2026-01-01T10:00:00Z");
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+    }
+}
@@ -25,9 +25,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.SequencedSet;
 import java.util.regex.Pattern;
 
 import io.helidon.common.uri.UriInfo;
+import io.helidon.discovery.DiscoveredUri;
+import io.helidon.http.Status;
 import io.helidon.webclient.api.ClientUri;
 import io.helidon.webclient.api.WebClientServiceRequest;
 import io.helidon.webclient.api.WebClientServiceResponse;
@@ -63,6 +66,8 @@ final class DefaultWebClientDiscovery implements WebClientDiscovery {
 
     private final WebClientDiscoveryConfig prototype;
 
+    private final LoadBalancer loadBalancer;
+
     // Immutable. Thread-safe.
     private final Collection<? extends Entry<? extends URI, ? extends String>> discoveryNames;
 
@@ -75,6 +80,7 @@ final class DefaultWebClientDiscovery implements WebClientDiscovery {
     DefaultWebClientDiscovery(WebClientDiscoveryConfig prototype) {
         super();
         this.prototype = requireNonNull(prototype, "prototype");
+        this.loadBalancer = new LoadBalancer(prototype, System::nanoTime);
         Map<String, URI> prefixUris = prototype.prefixUris();
         List<Entry<URI, String>> l = new ArrayList<>(prefixUris.size());
         for (Entry<String, URI> e : prefixUris.entrySet()) {
@@ -130,11 +136,11 @@ final class DefaultWebClientDiscovery implements WebClientDiscovery {
         }
         LOGGER.log(DEBUG, "DiscoveryRequest: {0}", discoveryRequest);
 
-        URI discoveredUri = this.prototype()
+        SequencedSet<DiscoveredUri> discoveredUris = this.prototype()
             .discovery()
-            .uris(discoveryRequest.discoveryName(), discoveryRequest.defaultUri())
-            .getFirst()
-            .uri();
+            .uris(discoveryRequest.discoveryName(), discoveryRequest.defaultUri());
+        Endpoint endpoint = this.loadBalancer.select(discoveryRequest.discoveryName(), discoveredUris, attempt(request));
+        URI discoveredUri = endpoint.uri();
         LOGGER.log(DEBUG, "URI discovered for {0}: {1}", discoveryRequest.discoveryName(), discoveredUri);
 
         // (Edge case. Eureka in particular does not contractually guarantee whether a URI it returns will be opaque or
@@ -169,19 +175,50 @@ final class DefaultWebClientDiscovery implements WebClientDiscovery {
         }
 
         LOGGER.log(DEBUG, "Final ClientUri: {0}", clientUri);
-        return chain.proceed(request);
+        return this.proceed(chain, request, endpoint);
     }
 
     Collection<? extends Entry<? extends URI, ? extends String>> discoveryNames() {
         return this.discoveryNames;
     }
 
+    // Proceeds with the request, recording its outcome (until the response status and headers are received) for load
+    // balancing.
+    private WebClientServiceResponse proceed(Chain chain, WebClientServiceRequest request, Endpoint endpoint) {
+        long started = this.loadBalancer.started(endpoint);
+        WebClientServiceResponse response;
+        try {
+            response = chain.proceed(request);
+        } catch (RuntimeException | Error e) {
+            this.loadBalancer.failed(endpoint);
+            throw e;
+        }
+        if (response.status().family() == Status.Family.SERVER_ERROR) {
+            this.loadBalancer.failed(endpoint);
+        } else {
+            this.loadBalancer.succeeded(endpoint, started);
+        }
+        return response;
+    }
+
 
     /*
      * Static methods.
      */
 
 
+    private static int attempt(WebClientServiceRequest request) {
+        String attempt = request.properties().get(WebClientServiceRequest.ATTEMPT_PROPERTY);
+        if (attempt == null) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(attempt));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
     /**
      * Creates and returns a {@link URI} suitable for the supplied {@link URI} following logic used elsewhere within
      * Helidon Web Client.
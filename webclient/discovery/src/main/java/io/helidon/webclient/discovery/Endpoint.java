@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.discovery;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Statistics of a discovered endpoint used by a {@link LoadBalancer}.
+ *
+ * <p>All state is kept in atomic variables, so updates from concurrent requests never block each other.</p>
+ */
+final class Endpoint {
+
+
+    /*
+     * Instance fields.
+     */
+
+
+    private final URI uri;
+
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    // Double bits of the latency average, in nanoseconds.
+    private final AtomicLong ewma = new AtomicLong(Double.doubleToRawLongBits(0));
+
+    private volatile long lastSample;
+
+    private volatile boolean ejected;
+
+    private volatile long ejectedUntil;
+
+
+    /*
+     * Constructors.
+     */
+
+
+    Endpoint(URI uri, long now) {
+        super();
+        this.uri = requireNonNull(uri, "uri");
+        this.lastSample = now;
+    }
+
+
+    /*
+     * Instance methods.
+     */
+
+
+    URI uri() {
+        return this.uri;
+    }
+
+    int outstanding() {
+        return this.outstanding.get();
+    }
+
+    double ewma() {
+        return Double.longBitsToDouble(this.ewma.get());
+    }
+
+    /**
+     * Returns the cost of sending a request to this endpoint for the {@link LoadBalancingPolicy#PEAK_EWMA} policy.
+     *
+     * @return the cost
+     */
+    double cost() {
+        return this.ewma() * (this.outstanding() + 1);
+    }
+
+    boolean available(long now) {
+        if (!this.ejected) {
+            return true;
+        }
+        if (now - this.ejectedUntil >= 0) {
+            this.ejected = false;
+            return true;
+        }
+        return false;
+    }
+
+    void started() {
+        this.outstanding.incrementAndGet();
+    }
+
+    /**
+     * Records a successful request.
+     *
+     * @param latency the latency of the request, in nanoseconds
+     * @param now the current time, in nanoseconds
+     * @param decayNanos the time over which older samples lose weight, in nanoseconds
+     */
+    void succeeded(long latency, long now, double decayNanos) {
+        this.outstanding.decrementAndGet();
+        this.consecutiveFailures.set(0);
+        long elapsed = Math.max(0, now - this.lastSample);
+        this.lastSample = now;
+        double weight = Math.exp(-elapsed / decayNanos);
+        // Peak sensitive: a slower sample replaces the average, faster samples are averaged in over time.
+        this.ewma.getAndUpdate(bits -> {
+                double current = Double.longBitsToDouble(bits);
+                double next = latency > current ? latency : current * weight + latency * (1 - weight);
+                return Double.doubleToRawLongBits(next);
+            });
+    }
+
+    /**
+     * Records a failed request, and ejects this endpoint if it failed too many times in a row.
+     *
+     * @param now the current time, in nanoseconds
+     * @param failureThreshold the number of consecutive failures to eject this endpoint, {@code 0} to never eject it
+     * @param ejectionNanos how long to eject this endpoint for, in nanoseconds
+     * @return {@code true} if this endpoint was ejected
+     */
+    boolean failed(long now, int failureThreshold, long ejectionNanos) {
+        this.outstanding.decrementAndGet();
+        if (failureThreshold > 0 && this.consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            this.consecutiveFailures.set(0);
+            this.ejectedUntil = now + ejectionNanos;
+            this.ejected = true;
+            return true;
+        }
+        return false;
+    }
+
+    @Override // Object
+    public String toString() {
+        return this.uri + " (outstanding: " + this.outstanding() + ", ewma: " + (long) this.ewma() + " ns)";
+    }
+
+}
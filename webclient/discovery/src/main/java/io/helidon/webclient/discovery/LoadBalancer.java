@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.discovery;
+
+import java.lang.System.Logger;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.ToDoubleFunction;
+
+import io.helidon.discovery.DiscoveredUri;
+
+import static java.lang.System.Logger.Level.DEBUG;
+import static java.lang.System.getLogger;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Selects one of the discovered URIs for a request according to a {@link LoadBalancingPolicy}, and tracks the
+ * outcome of requests to each {@link Endpoint}.
+ *
+ * @see WebClientDiscoveryConfig#loadBalancing()
+ */
+final class LoadBalancer {
+
+
+    /*
+     * Static fields.
+     */
+
+
+    private static final Logger LOGGER = getLogger(LoadBalancer.class.getName());
+
+
+    /*
+     * Instance fields.
+     */
+
+
+    private final LoadBalancingPolicy policy;
+
+    private final int failureThreshold;
+
+    private final long ejectionNanos;
+
+    private final double decayNanos;
+
+    private final LongSupplier ticker;
+
+    // Endpoints are kept for as long as this load balancer exists; discovered endpoints are expected to change rarely.
+    private final ConcurrentMap<URI, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, AtomicInteger> roundRobinCounters = new ConcurrentHashMap<>();
+
+
+    /*
+     * Constructors.
+     */
+
+
+    LoadBalancer(WebClientDiscoveryConfig prototype, LongSupplier ticker) {
+        super();
+        this.policy = requireNonNull(prototype.loadBalancing(), "loadBalancing");
+        this.failureThreshold = prototype.outlierFailures();
+        this.ejectionNanos = prototype.outlierEjectionTime().toNanos();
+        this.decayNanos = Math.max(1, prototype.ewmaDecayTime().toNanos());
+        this.ticker = requireNonNull(ticker, "ticker");
+    }
+
+
+    /*
+     * Instance methods.
+     */
+
+
+    /**
+     * Selects an {@link Endpoint} from the supplied discovered URIs.
+     *
+     * <p>Ejected endpoints are skipped, unless all of them are ejected. When the same request is sent more than once
+     * (such as a hedged request), each further attempt uses the endpoint following the one selected by the policy.</p>
+     *
+     * @param discoveryName the discovery name the URIs were discovered for
+     * @param discoveredUris the discovered URIs; must not be empty
+     * @param attempt the attempt number, starting with {@code 0}
+     * @return the selected {@link Endpoint}
+     */
+    Endpoint select(String discoveryName, Collection<? extends DiscoveredUri> discoveredUris, int attempt) {
+        long now = this.ticker.getAsLong();
+        List<Endpoint> candidates = new ArrayList<>(discoveredUris.size());
+        for (DiscoveredUri discoveredUri : discoveredUris) {
+            Endpoint endpoint = this.endpoints.computeIfAbsent(discoveredUri.uri(), u -> new Endpoint(u, now));
+            if (endpoint.available(now)) {
+                candidates.add(endpoint);
+            }
+        }
+        if (candidates.isEmpty()) {
+            // All endpoints are ejected; rather than failing, use all of them.
+            LOGGER.log(DEBUG, "All endpoints of {0} are ejected, ignoring ejection", discoveryName);
+            for (DiscoveredUri discoveredUri : discoveredUris) {
+                candidates.add(this.endpoints.get(discoveredUri.uri()));
+            }
+        }
+        int size = candidates.size();
+        int index = switch (this.policy) {
+            case FIRST -> 0;
+            case ROUND_ROBIN -> Math.floorMod(this.roundRobinCounters
+                                                  .computeIfAbsent(discoveryName, n -> new AtomicInteger())
+                                                  .getAndIncrement(),
+                                              size);
+            case LEAST_OUTSTANDING -> twoChoices(candidates, Endpoint::outstanding);
+            case PEAK_EWMA -> twoChoices(candidates, Endpoint::cost);
+        };
+        return candidates.get((index + attempt) % size);
+    }
+
+    /**
+     * Records the start of a request to the supplied {@link Endpoint}.
+     *
+     * @param endpoint the {@link Endpoint}
+     * @return the start time to pass to {@link #succeeded(Endpoint, long)}
+     */
+    long started(Endpoint endpoint) {
+        endpoint.started();
+        return this.ticker.getAsLong();
+    }
+
+    void succeeded(Endpoint endpoint, long startedNanos) {
+        long now = this.ticker.getAsLong();
+        endpoint.succeeded(now - startedNanos, now, this.decayNanos);
+    }
+
+    void failed(Endpoint endpoint) {
+        if (endpoint.failed(this.ticker.getAsLong(), this.failureThreshold, this.ejectionNanos)) {
+            LOGGER.log(DEBUG, "Ejecting {0} after {1} consecutive failures", endpoint.uri(), this.failureThreshold);
+        }
+    }
+
+
+    /*
+     * Static methods.
+     */
+
+
+    // "Power of two choices": pick two distinct endpoints at random and return the index of the cheaper one.
+    private static int twoChoices(List<Endpoint> candidates, ToDoubleFunction<Endpoint> cost) {
+        int size = candidates.size();
+        if (size == 1) {
+            return 0;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            ++second;
+        }
+        return cost.applyAsDouble(candidates.get(second)) < cost.applyAsDouble(candidates.get(first)) ? second : first;
+    }
+
+}
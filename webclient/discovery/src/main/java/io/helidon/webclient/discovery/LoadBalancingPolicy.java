@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.discovery;
+
+/**
+ * A policy used by a {@link WebClientDiscovery} to select one of the {@linkplain
+ * io.helidon.discovery.Discovery#uris(String, java.net.URI) discovered URIs} for a request.
+ *
+ * <p>Policies other than {@link #FIRST} spread requests over all discovered endpoints. All policies skip endpoints
+ * ejected as outliers (see {@link WebClientDiscoveryConfig#outlierFailures()}).</p>
+ *
+ * @see WebClientDiscoveryConfig#loadBalancing()
+ */
+public enum LoadBalancingPolicy {
+
+    /**
+     * Use the first discovered URI, as ordered by the {@linkplain io.helidon.discovery.Discovery discovery}
+     * implementation.
+     */
+    FIRST,
+
+    /**
+     * Use each discovered URI in turn.
+     */
+    ROUND_ROBIN,
+
+    /**
+     * Pick two discovered URIs at random, and use the one with fewer requests in progress ("power of two choices").
+     */
+    LEAST_OUTSTANDING,
+
+    /**
+     * Pick two discovered URIs at random, and use the one with the lower product of requests in progress and
+     * peak-sensitive exponentially weighted moving average of latency. Endpoints that became slow are avoided
+     * immediately, and regain traffic gradually as their latency improves.
+     *
+     * @see WebClientDiscoveryConfig#ewmaDecayTime()
+     */
+    PEAK_EWMA
+
+}
@@ -197,10 +197,13 @@ public interface WebClientDiscovery extends RuntimeType.Api<WebClientDiscoveryCo
      *  <li>The {@linkplain WebClientDiscoveryConfig#discovery() <code>Discovery</code> instance supplied} by the
      *  {@linkplain #prototype() prototype} is used to {@linkplain io.helidon.discovery.Discovery#uris(String,
      *  java.net.URI) issue a discovery request using the discovery name (<i>e.g.</i> <code><b>S1</b></code>) and prefix
-     *  URI (<i>e.g.</i> <code><b>http://service1.example.com:80/</b></code>)}. The first of the URIs returned is the
-     *  <dfn>discovered URI</dfn>; see {@link io.helidon.discovery.Discovery#uris(String, java.net.URI)} for more
-     *  details. For this example, presume the discovered URI is, <i>e.g.</i>,
-     *  <code><b>http://23.192.228.84:80/v1/</b></code>.</li>
+     *  URI (<i>e.g.</i> <code><b>http://service1.example.com:80/</b></code>)}. One of the URIs returned, selected by
+     *  the {@linkplain WebClientDiscoveryConfig#loadBalancing() load balancing policy} (by default the first one), is
+     *  the <dfn>discovered URI</dfn>; see {@link io.helidon.discovery.Discovery#uris(String, java.net.URI)} and {@link
+     *  LoadBalancingPolicy} for more details. URIs of endpoints that {@linkplain
+     *  WebClientDiscoveryConfig#outlierFailures() failed repeatedly} are not selected for a {@linkplain
+     *  WebClientDiscoveryConfig#outlierEjectionTime() period of time}, unless all of them failed. For this example,
+     *  presume the discovered URI is, <i>e.g.</i>, <code><b>http://23.192.228.84:80/v1/</b></code>.</li>
      *
      *  <li>A <dfn>new raw path</dfn> is formed by first {@linkplain java.net.URI#resolve(String) <dfn>resolving</dfn>}
      *  the remaining raw path (<i>e.g.</i> <code><b>foo</b></code>) against the discovered URI (<i>e.g.</i>
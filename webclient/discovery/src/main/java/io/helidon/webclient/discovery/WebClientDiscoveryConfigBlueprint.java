@@ -16,6 +16,7 @@
 package io.helidon.webclient.discovery;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.Map;
 
 import io.helidon.builder.api.Option;
@@ -60,4 +61,45 @@ interface WebClientDiscoveryConfigBlueprint extends Prototype.Factory<WebClientD
     @Option.Default("discovery")
     String name();
 
+    /**
+     * The {@link LoadBalancingPolicy} used to select one of the discovered URIs for each request ({@link
+     * LoadBalancingPolicy#FIRST FIRST} by default).
+     *
+     * @return a {@link LoadBalancingPolicy}
+     */
+    @Option.Configured
+    @Option.Default("FIRST")
+    LoadBalancingPolicy loadBalancing();
+
+    /**
+     * The number of consecutive failures (exceptions and {@code 5xx} responses) of an endpoint after which it is
+     * ejected, and not selected for the {@linkplain #outlierEjectionTime() ejection time}. Ejection is disabled when
+     * set to {@code 0}, which is the default.
+     *
+     * @return the number of consecutive failures
+     */
+    @Option.Configured
+    @Option.DefaultInt(0)
+    int outlierFailures();
+
+    /**
+     * How long an ejected endpoint is not selected ({@code 30} seconds by default).
+     *
+     * @return a {@link Duration}
+     * @see #outlierFailures()
+     */
+    @Option.Configured
+    @Option.Default("PT30S")
+    Duration outlierEjectionTime();
+
+    /**
+     * The time over which older latency samples lose weight in the latency average used by the {@link
+     * LoadBalancingPolicy#PEAK_EWMA PEAK_EWMA} policy ({@code 10} seconds by default).
+     *
+     * @return a {@link Duration}
+     */
+    @Option.Configured
+    @Option.Default("PT10S")
+    Duration ewmaDecayTime();
+
 }
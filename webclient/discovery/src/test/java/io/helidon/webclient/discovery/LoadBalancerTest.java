@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.discovery;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.SequencedSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.helidon.discovery.DiscoveredUri;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class LoadBalancerTest {
+
+    private static final URI A = URI.create("http://a.example.com:80/");
+
+    private static final URI B = URI.create("http://b.example.com:80/");
+
+    private static final URI C = URI.create("http://c.example.com:80/");
+
+    private final AtomicLong now = new AtomicLong();
+
+    private LoadBalancerTest() {
+        super();
+    }
+
+    @Test
+    void testRoundRobin() {
+        LoadBalancer lb = loadBalancer(LoadBalancingPolicy.ROUND_ROBIN);
+        SequencedSet<DiscoveredUri> uris = uris(A, B, C);
+        assertThat(lb.select("S1", uris, 0).uri(), is(A));
+        assertThat(lb.select("S1", uris, 0).uri(), is(B));
+        assertThat(lb.select("S1", uris, 0).uri(), is(C));
+        assertThat(lb.select("S1", uris, 0).uri(), is(A));
+    }
+
+    @Test
+    void testAttempt() {
+        LoadBalancer lb = loadBalancer(LoadBalancingPolicy.FIRST);
+        SequencedSet<DiscoveredUri> uris = uris(A, B, C);
+        assertThat(lb.select("S1", uris, 0).uri(), is(A));
+        assertThat(lb.select("S1", uris, 1).uri(), is(B));
+        assertThat(lb.select("S1", uris, 3).uri(), is(A));
+    }
+
+    @Test
+    void testLeastOutstanding() {
+        LoadBalancer lb = loadBalancer(LoadBalancingPolicy.LEAST_OUTSTANDING);
+        SequencedSet<DiscoveredUri> uris = uris(A, B);
+        Endpoint busy = lb.select("S1", uris(A), 0);
+        lb.started(busy);
+        for (int i = 0; i < 10; i++) {
+            assertThat(lb.select("S1", uris, 0).uri(), is(B));
+        }
+    }
+
+    @Test
+    void testPeakEwma() {
+        LoadBalancer lb = loadBalancer(LoadBalancingPolicy.PEAK_EWMA);
+        SequencedSet<DiscoveredUri> uris = uris(A, B);
+        record(lb, lb.select("S1", uris(A), 0), Duration.ofMillis(500));
+        record(lb, lb.select("S1", uris(B), 0), Duration.ofMillis(10));
+        for (int i = 0; i < 10; i++) {
+            assertThat(lb.select("S1", uris, 0).uri(), is(B));
+        }
+
+        // a single fast response does not make up for a slow one...
+        Endpoint a = lb.select("S1", uris(A), 0);
+        record(lb, a, Duration.ofMillis(10));
+        assertThat(a.ewma() > Duration.ofMillis(400).toNanos(), is(true));
+
+        // ...but the slow one is forgotten over time
+        now.addAndGet(Duration.ofSeconds(60).toNanos());
+        record(lb, a, Duration.ofMillis(10));
+        assertThat(a.ewma() < Duration.ofMillis(20).toNanos(), is(true));
+    }
+
+    @Test
+    void testNoOutlierEjectionByDefault() {
+        WebClientDiscoveryConfig prototype = WebClientDiscoveryConfig.builder()
+            .discovery((name, defaultValue) -> uris(defaultValue))
+            .buildPrototype();
+        LoadBalancer lb = new LoadBalancer(prototype, now::get);
+        SequencedSet<DiscoveredUri> uris = uris(A, B);
+        for (int i = 0; i < 100; i++) {
+            Endpoint endpoint = lb.select("S1", uris, 0);
+            assertThat(endpoint.uri(), is(A));
+            lb.started(endpoint);
+            lb.failed(endpoint);
+        }
+        assertThat(lb.select("S1", uris, 0).uri(), is(A));
+    }
+
+    @Test
+    void testOutlierEjection() {
+        LoadBalancer lb = loadBalancer(LoadBalancingPolicy.FIRST, 5);
+        SequencedSet<DiscoveredUri> uris = uris(A, B);
+        for (int i = 0; i < 5; i++) {
+            Endpoint endpoint = lb.select("S1", uris, 0);
+            assertThat(endpoint.uri(), is(A));
+            lb.started(endpoint);
+            lb.failed(endpoint);
+        }
+        assertThat(lb.select("S1", uris, 0).uri(), is(B));
+        // all endpoints ejected, use them anyway
+        assertThat(lb.select("S1", uris(A), 0).uri(), is(A));
+
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+        assertThat(lb.select("S1", uris, 0).uri(), is(A));
+    }
+
+    private LoadBalancer loadBalancer(LoadBalancingPolicy policy) {
+        return loadBalancer(policy, 0);
+    }
+
+    private LoadBalancer loadBalancer(LoadBalancingPolicy policy, int outlierFailures) {
+        WebClientDiscoveryConfig prototype = WebClientDiscoveryConfig.builder()
+            .discovery((name, defaultValue) -> uris(defaultValue))
+            .loadBalancing(policy)
+            .outlierFailures(outlierFailures)
+            .buildPrototype();
+        return new LoadBalancer(prototype, now::get);
+    }
+
+    private void record(LoadBalancer lb, Endpoint endpoint, Duration latency) {
+        long started = lb.started(endpoint);
+        now.addAndGet(latency.toNanos());
+        lb.succeeded(endpoint, started);
+    }
+
+    private static SequencedSet<DiscoveredUri> uris(URI... uris) {
+        SequencedSet<DiscoveredUri> set = new LinkedHashSet<>();
+        for (URI uri : uris) {
+            set.add(new TestUri(uri));
+        }
+        return set;
+    }
+
+    private record TestUri(URI uri) implements DiscoveredUri {
+    }
+
+}
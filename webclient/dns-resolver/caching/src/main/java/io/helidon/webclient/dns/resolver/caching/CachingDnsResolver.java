@@ -0,0 +1,363 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.dns.resolver.caching;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import io.helidon.builder.api.RuntimeType;
+import io.helidon.webclient.api.DnsAddressLookup;
+import io.helidon.webclient.api.RuntimeUnknownHostException;
+import io.helidon.webclient.spi.DnsResolver;
+
+import static java.lang.System.Logger.Level.DEBUG;
+import static java.lang.System.Logger.Level.WARNING;
+
+/**
+ * DNS resolver that caches the resolved addresses of each host name for a configured time to live.
+ * <p>
+ * Addresses are refreshed in background shortly before they expire, so requests only wait for a lookup the first time
+ * a host name is used (or once the cached address is too stale). If a refresh fails, the cached address is still used
+ * for up to {@link CachingDnsResolverConfig#maxStale()} after it expired. Only addresses that are used are refreshed.
+ * <p>
+ * At most {@link CachingDnsResolverConfig#maxEntries()} host names are cached. When a new host name is resolved and the
+ * cache is full, entries too stale to be used are removed first, then the entries that were not used for the longest time.
+ */
+public final class CachingDnsResolver implements DnsResolver, RuntimeType.Api<CachingDnsResolverConfig> {
+    private static final System.Logger LOGGER = System.getLogger(CachingDnsResolver.class.getName());
+    // when a refresh fails, do not try again for each request
+    private static final long RETRY_DELAY_NANOS = Duration.ofSeconds(1).toNanos();
+    private static final AtomicLong RESOLVER_IDS = new AtomicLong();
+
+    private final Map<Key, Entry> cache = new ConcurrentHashMap<>();
+    // lookups done on the request path, so concurrent requests for the same host wait for a single lookup
+    private final Map<Key, CompletableFuture<Entry>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final CachingDnsResolverConfig config;
+    private final long ttlNanos;
+    private final long refreshAheadNanos;
+    private final long maxStaleNanos;
+    private final int maxEntries;
+    private final LongSupplier ticker;
+    private final HostLookup hostLookup;
+    private final Executor executor;
+
+    private CachingDnsResolver(CachingDnsResolverConfig config,
+                               LongSupplier ticker,
+                               HostLookup hostLookup,
+                               Executor executor) {
+        this.config = config;
+        this.ttlNanos = config.ttl().toNanos();
+        this.refreshAheadNanos = Math.min(config.refreshAhead().toNanos(), ttlNanos);
+        this.maxStaleNanos = config.maxStale().toNanos();
+        this.maxEntries = config.maxEntries();
+        this.ticker = ticker;
+        this.hostLookup = hostLookup;
+        this.executor = executor;
+
+        if (config.enableMetrics()) {
+            try {
+                CachingDnsResolverMetrics.register(this, String.valueOf(RESOLVER_IDS.incrementAndGet()));
+            } catch (LinkageError e) {
+                // metrics API is an optional dependency
+                LOGGER.log(WARNING, "Metrics of DNS resolver \"" + config.name()
+                        + "\" are enabled, but metrics API is not available", e);
+            }
+        }
+    }
+
+    /**
+     * A new builder to configure a resolver.
+     *
+     * @return a new builder
+     */
+    public static CachingDnsResolverConfig.Builder builder() {
+        return CachingDnsResolverConfig.builder();
+    }
+
+    /**
+     * Create a resolver from its configuration.
+     *
+     * @param config configuration
+     * @return a new resolver
+     */
+    public static CachingDnsResolver create(CachingDnsResolverConfig config) {
+        return new CachingDnsResolver(config,
+                                      System::nanoTime,
+                                      InetAddress::getAllByName,
+                                      task -> Thread.ofVirtual().name("helidon-dns-refresh").start(task));
+    }
+
+    /**
+     * Create a resolver, updating its configuration.
+     *
+     * @param consumer consumer of configuration builder
+     * @return a new resolver
+     */
+    public static CachingDnsResolver create(Consumer<CachingDnsResolverConfig.Builder> consumer) {
+        return builder()
+                .update(consumer)
+                .build();
+    }
+
+    /**
+     * Create a resolver with default configuration.
+     *
+     * @return a new resolver
+     */
+    public static CachingDnsResolver create() {
+        return builder().build();
+    }
+
+    // for testing
+    static CachingDnsResolver create(CachingDnsResolverConfig config,
+                                     LongSupplier ticker,
+                                     HostLookup hostLookup,
+                                     Executor executor) {
+        return new CachingDnsResolver(config, ticker, hostLookup, executor);
+    }
+
+    @Override
+    public CachingDnsResolverConfig prototype() {
+        return config;
+    }
+
+    @Override
+    public InetAddress resolveAddress(String hostname, DnsAddressLookup dnsAddressLookup) {
+        return entry(hostname, dnsAddressLookup).addresses().getFirst();
+    }
+
+    @Override
+    public List<InetAddress> resolveAddresses(String hostname, DnsAddressLookup dnsAddressLookup) {
+        return entry(hostname, dnsAddressLookup).addresses();
+    }
+
+    /**
+     * Current statistics of this resolver.
+     *
+     * @return statistics
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(),
+                         staleHits.sum(),
+                         misses.sum(),
+                         refreshes.sum(),
+                         refreshFailures.sum(),
+                         evictions.sum(),
+                         cache.size());
+    }
+
+    private Entry entry(String hostname, DnsAddressLookup dnsAddressLookup) {
+        Objects.requireNonNull(hostname);
+        Objects.requireNonNull(dnsAddressLookup);
+
+        Key key = new Key(hostname, dnsAddressLookup);
+        long now = ticker.getAsLong();
+        Entry entry = cache.get(key);
+        if (entry != null) {
+            entry.lastUsed().lazySet(now);
+            if (now - entry.expiresAt() < 0) {
+                hits.increment();
+                if (now - entry.refreshAt() >= 0) {
+                    refresh(key, entry);
+                }
+                return entry;
+            }
+            if (now - entry.expiresAt() < maxStaleNanos) {
+                // refresh is failing, or the host was not used for a while
+                staleHits.increment();
+                refresh(key, entry);
+                return entry;
+            }
+        }
+
+        misses.increment();
+        return resolve(key, entry);
+    }
+
+    // the lookup blocks, so it must not run within a map operation (that would block other keys of the same bin)
+    private Entry resolve(Key key, Entry expired) {
+        CompletableFuture<Entry> created = new CompletableFuture<>();
+        CompletableFuture<Entry> pending = inFlight.putIfAbsent(key, created);
+        if (pending != null) {
+            try {
+                return pending.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException re) {
+                    throw re;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            Entry current = cache.get(key);
+            Entry resolved;
+            if (current != null && current != expired && ticker.getAsLong() - current.expiresAt() < 0) {
+                // resolved by another thread in the meantime
+                resolved = current;
+            } else {
+                resolved = lookup(key, new AtomicLong(ticker.getAsLong()));
+                if (cache.put(key, resolved) == null) {
+                    evict(key);
+                }
+            }
+            created.complete(resolved);
+            return resolved;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    private void refresh(Key key, Entry entry) {
+        if (entry.refreshing().compareAndSet(false, true)) {
+            executor.execute(() -> doRefresh(key, entry));
+        }
+    }
+
+    private void doRefresh(Key key, Entry entry) {
+        try {
+            Entry refreshed = lookup(key, entry.lastUsed());
+            refreshes.increment();
+            cache.replace(key, entry, refreshed);
+        } catch (RuntimeException e) {
+            refreshFailures.increment();
+            if (LOGGER.isLoggable(DEBUG)) {
+                LOGGER.log(DEBUG, "Failed to refresh address of " + key.hostname() + ", using cached address", e);
+            } else {
+                LOGGER.log(WARNING, "Failed to refresh address of " + key.hostname() + ", using cached address: "
+                        + e.getMessage());
+            }
+            cache.replace(key, entry, entry.retryAt(ticker.getAsLong() + RETRY_DELAY_NANOS));
+        }
+    }
+
+    // the lookup on the request path takes much longer than iterating over the cache, so eviction is done there
+    private void evict(Key added) {
+        if (cache.size() <= maxEntries) {
+            return;
+        }
+        long now = ticker.getAsLong();
+        Iterator<Map.Entry<Key, Entry>> iterator = cache.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, Entry> next = iterator.next();
+            // too stale to be used, would be resolved again on next use
+            if (!next.getKey().equals(added) && now - next.getValue().expiresAt() >= maxStaleNanos) {
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+        while (cache.size() > maxEntries) {
+            Map.Entry<Key, Entry> victim = null;
+            for (Map.Entry<Key, Entry> next : cache.entrySet()) {
+                if (next.getKey().equals(added)) {
+                    continue;
+                }
+                if (victim == null || next.getValue().lastUsed().get() - victim.getValue().lastUsed().get() < 0) {
+                    victim = next;
+                }
+            }
+            if (victim == null) {
+                return;
+            }
+            if (cache.remove(victim.getKey(), victim.getValue())) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private Entry lookup(Key key, AtomicLong lastUsed) {
+        InetAddress[] addresses;
+        try {
+            addresses = key.lookup().filter(hostLookup.lookup(key.hostname()));
+        } catch (UnknownHostException e) {
+            throw new RuntimeUnknownHostException(e);
+        }
+        if (addresses.length == 0) {
+            throw new RuntimeUnknownHostException("No IP version " + key.lookup().name() + " found for host "
+                                                          + key.hostname());
+        }
+        long now = ticker.getAsLong();
+        return new Entry(List.of(addresses),
+                         now + ttlNanos - refreshAheadNanos,
+                         now + ttlNanos,
+                         lastUsed,
+                         new AtomicBoolean());
+    }
+
+    /**
+     * Statistics of a caching DNS resolver.
+     *
+     * @param hits            number of addresses served from the cache
+     * @param staleHits       number of expired addresses served from the cache, because they were not refreshed yet
+     * @param misses          number of lookups done on the request path, as the address was not cached (or too stale)
+     * @param refreshes       number of successful background refreshes
+     * @param refreshFailures number of failed background refreshes
+     * @param evictions       number of entries removed because the cache was full
+     * @param entries         current number of cached entries
+     */
+    public record Stats(long hits,
+                        long staleHits,
+                        long misses,
+                        long refreshes,
+                        long refreshFailures,
+                        long evictions,
+                        int entries) {
+    }
+
+    // to allow testing without DNS
+    @FunctionalInterface
+    interface HostLookup {
+        InetAddress[] lookup(String hostname) throws UnknownHostException;
+    }
+
+    private record Key(String hostname, DnsAddressLookup lookup) {
+    }
+
+    // last used time is shared with the refreshed entry
+    private record Entry(List<InetAddress> addresses,
+                         long refreshAt,
+                         long expiresAt,
+                         AtomicLong lastUsed,
+                         AtomicBoolean refreshing) {
+        Entry retryAt(long time) {
+            return new Entry(addresses, time, expiresAt, lastUsed, new AtomicBoolean());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.dns.resolver.caching;
+
+import java.time.Duration;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+
+/**
+ * Configuration of {@link io.helidon.webclient.dns.resolver.caching.CachingDnsResolver}.
+ */
+@Prototype.Blueprint
+@Prototype.Configured
+interface CachingDnsResolverConfigBlueprint extends Prototype.Factory<CachingDnsResolver> {
+    /**
+     * How long resolved addresses are used before they are considered stale.
+     *
+     * @return time to live of resolved addresses
+     */
+    @Option.Configured
+    @Option.Default("PT30S")
+    Duration ttl();
+
+    /**
+     * How long before the end of {@link #ttl()} the addresses are refreshed in background.
+     * Requests keep using the cached addresses while the refresh is in progress.
+     *
+     * @return refresh ahead duration
+     */
+    @Option.Configured
+    @Option.Default("PT5S")
+    Duration refreshAhead();
+
+    /**
+     * How long stale addresses are still used after {@link #ttl()} when refresh fails (for example when DNS server
+     * is not available). After this time, requests block on lookup, and fail if the lookup fails.
+     *
+     * @return maximal staleness of addresses
+     */
+    @Option.Configured
+    @Option.Default("PT5M")
+    Duration maxStale();
+
+    /**
+     * Maximal number of cached host names (for each IP version). When exceeded, the host names not used for the longest
+     * time are removed.
+     *
+     * @return maximal number of cached entries
+     */
+    @Option.Configured
+    @Option.DefaultInt(1000)
+    int maxEntries();
+
+    /**
+     * Whether to register metrics of the cache (hits, misses, refreshes, failed refreshes, evictions and size).
+     * Meters are tagged with {@link #name()} and a unique id of the resolver.
+     * Requires {@code helidon-metrics-api} (and an implementation) on the classpath.
+     *
+     * @return whether metrics are enabled
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean enableMetrics();
+
+    /**
+     * Name of this resolver, used as a tag of metrics.
+     *
+     * @return name of the resolver
+     */
+    @Option.Configured
+    @Option.Default("caching")
+    String name();
+}
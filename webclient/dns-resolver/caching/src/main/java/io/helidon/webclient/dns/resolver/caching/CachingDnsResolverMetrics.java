@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.dns.resolver.caching;
+
+import java.util.List;
+import java.util.function.Function;
+
+import io.helidon.metrics.api.MeterRegistry;
+import io.helidon.metrics.api.Metrics;
+import io.helidon.metrics.api.MetricsFactory;
+import io.helidon.metrics.api.Tag;
+
+import static io.helidon.metrics.api.Meter.Scope.VENDOR;
+
+/**
+ * Meters of a {@link io.helidon.webclient.dns.resolver.caching.CachingDnsResolver}.
+ * Only loaded when metrics are enabled, as the metrics API is an optional dependency.
+ */
+final class CachingDnsResolverMetrics {
+    private CachingDnsResolverMetrics() {
+    }
+
+    static void register(CachingDnsResolver resolver, String id) {
+        MetricsFactory metricsFactory = MetricsFactory.getInstance();
+        MeterRegistry meterRegistry = Metrics.globalRegistry();
+        List<Tag> tags = List.of(Tag.create("resolver", resolver.prototype().name()),
+                                 Tag.create("id", id));
+
+        // addresses served from the cache
+        counter(meterRegistry, metricsFactory, tags, "dns_cache_hits", resolver, CachingDnsResolver.Stats::hits);
+        // expired addresses served from the cache, as refresh did not succeed yet
+        counter(meterRegistry, metricsFactory, tags, "dns_cache_stale_hits", resolver, CachingDnsResolver.Stats::staleHits);
+        // lookups done while the request waited
+        counter(meterRegistry, metricsFactory, tags, "dns_cache_misses", resolver, CachingDnsResolver.Stats::misses);
+        counter(meterRegistry, metricsFactory, tags, "dns_cache_refreshes", resolver, CachingDnsResolver.Stats::refreshes);
+        counter(meterRegistry,
+                metricsFactory,
+                tags,
+                "dns_cache_refresh_failures",
+                resolver,
+                CachingDnsResolver.Stats::refreshFailures);
+        counter(meterRegistry, metricsFactory, tags, "dns_cache_evictions", resolver, CachingDnsResolver.Stats::evictions);
+        meterRegistry.getOrCreate(metricsFactory.gaugeBuilder("dns_cache_entries",
+                                                              resolver,
+                                                              it -> it.stats().entries())
+                                          .scope(VENDOR)
+                                          .tags(tags));
+    }
+
+    private static void counter(MeterRegistry meterRegistry,
+                                MetricsFactory metricsFactory,
+                                List<Tag> tags,
+                                String name,
+                                CachingDnsResolver resolver,
+                                Function<CachingDnsResolver.Stats, Long> value) {
+        meterRegistry.getOrCreate(metricsFactory.functionalCounterBuilder(name, resolver, it -> value.apply(it.stats()))
+                                          .scope(VENDOR)
+                                          .tags(tags));
+    }
+}
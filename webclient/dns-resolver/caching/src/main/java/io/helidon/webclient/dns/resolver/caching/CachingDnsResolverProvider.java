@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.dns.resolver.caching;
+
+import io.helidon.common.Weight;
+import io.helidon.common.Weighted;
+import io.helidon.config.Config;
+import io.helidon.webclient.spi.DnsResolver;
+import io.helidon.webclient.spi.DnsResolverProvider;
+
+/**
+ * Provider of the {@link CachingDnsResolver} instance.
+ * The resolver is configured from the {@code dns-resolver.caching} node of the global configuration.
+ */
+@Weight(Weighted.DEFAULT_WEIGHT)
+public class CachingDnsResolverProvider implements DnsResolverProvider {
+    private static final String CONFIG_KEY = "dns-resolver.caching";
+
+    /**
+     * Public constructor is required for service loader, do not use directly.
+     *
+     * @deprecated do not use directly
+     */
+    @Deprecated
+    public CachingDnsResolverProvider() {
+    }
+
+    @Override
+    public String resolverName() {
+        return "caching";
+    }
+
+    @Override
+    public DnsResolver createDnsResolver() {
+        return CachingDnsResolver.builder()
+                .config(Config.global().get(CONFIG_KEY))
+                .build();
+    }
+}
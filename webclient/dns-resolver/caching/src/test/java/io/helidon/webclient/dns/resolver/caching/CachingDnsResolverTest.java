@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.dns.resolver.caching;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.helidon.metrics.api.FunctionalCounter;
+import io.helidon.metrics.api.Meter;
+import io.helidon.metrics.api.Metrics;
+import io.helidon.webclient.api.DnsAddressLookup;
+import io.helidon.webclient.api.RuntimeUnknownHostException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CachingDnsResolverTest {
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final AtomicBoolean failing = new AtomicBoolean();
+
+    private CachingDnsResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        CachingDnsResolverConfig config = CachingDnsResolver.builder()
+                .ttl(Duration.ofSeconds(30))
+                .refreshAhead(Duration.ofSeconds(5))
+                .maxStale(Duration.ofMinutes(1))
+                .buildPrototype();
+        // refresh runs synchronously, so the tests are deterministic
+        resolver = CachingDnsResolver.create(config, now::get, this::lookup, Runnable::run);
+    }
+
+    @Test
+    void testCachedWithinTtl() {
+        InetAddress first = resolver.resolveAddress("localhost", DnsAddressLookup.IPV4);
+        advance(Duration.ofSeconds(10));
+        InetAddress second = resolver.resolveAddress("localhost", DnsAddressLookup.IPV4);
+
+        assertThat(second, is(first));
+        assertThat(lookups.get(), is(1));
+        CachingDnsResolver.Stats stats = resolver.stats();
+        assertThat(stats.misses(), is(1L));
+        assertThat(stats.hits(), is(1L));
+        assertThat(stats.entries(), is(1));
+    }
+
+    @Test
+    void testRefreshAhead() {
+        resolver.resolveAddress("localhost", DnsAddressLookup.IPV4);
+        advance(Duration.ofSeconds(26));
+
+        // served from cache, refresh is triggered
+        InetAddress address = resolver.resolveAddress("localhost", DnsAddressLookup.IPV4);
+        assertThat(address.getAddress()[3], is((byte) 1));
+        assertThat(lookups.get(), is(2));
+
+        // refreshed entry is valid for another time to live
+        advance(Duration.ofSeconds(20));
+        address = resolver.resolveAddress("localhost", DnsAddressLookup.IPV4);
+        assertThat(address.getAddress()[3], is((byte) 2));
+        assertThat(lookups.get(), is(2));
+
+        CachingDnsResolver.Stats stats = resolver.stats();
+        assertThat(stats.misses(), is(1L));
+        assertThat(stats.hits(), is(2L));
+        assertThat(stats.refreshes(), is(1L));
+    }
+
+    @Test
+    void testStaleOnFailure() {
+        InetAddress first = resolver.resolveAddress("localhost", DnsAddressLookup.IPV4);
+        failing.set(true);
+        advance(Duration.ofSeconds(40));
+
+        // expired, refresh fails, but stale address is still used
+        assertThat(resolver.resolveAddress("localhost", DnsAddressLookup.IPV4), is(first));
+        CachingDnsResolver.Stats stats = resolver.stats();
+        assertThat(stats.staleHits(), is(1L));
+        assertThat(stats.refreshFailures(), is(1L));
+
+        // too stale, lookup is done on the request path and fails
+        advance(Duration.ofMinutes(1));
+        assertThrows(RuntimeUnknownHostException.class,
+                     () -> resolver.resolveAddress("localhost", DnsAddressLookup.IPV4));
+
+        failing.set(false);
+        assertThat(resolver.resolveAddress("localhost", DnsAddressLookup.IPV4).getAddress()[3], is((byte) 2));
+    }
+
+    @Test
+    void testNoMatchingAddress() {
+        assertThrows(RuntimeUnknownHostException.class,
+                     () -> resolver.resolveAddress("localhost", DnsAddressLookup.IPV6));
+        assertThat(resolver.stats().entries(), is(0));
+    }
+
+    @Test
+    void testResolveAddresses() throws UnknownHostException {
+        InetAddress first = InetAddress.getByAddress("multi", new byte[] {10, 0, 0, 1});
+        InetAddress second = InetAddress.getByAddress("multi", new byte[] {10, 0, 0, 2});
+        AtomicInteger multiLookups = new AtomicInteger();
+        CachingDnsResolver resolver = CachingDnsResolver.create(CachingDnsResolver.builder().buildPrototype(),
+                                                                now::get,
+                                                                hostname -> {
+                                                                    multiLookups.incrementAndGet();
+                                                                    return new InetAddress[] {first, second};
+                                                                },
+                                                                Runnable::run);
+
+        List<InetAddress> addresses = resolver.resolveAddresses("multi", DnsAddressLookup.IPV4);
+        assertThat(addresses, contains(first, second));
+        assertThat(resolver.resolveAddress("multi", DnsAddressLookup.IPV4), is(first));
+        assertThat(resolver.resolveAddresses("multi", DnsAddressLookup.IPV4), contains(first, second));
+        assertThat(multiLookups.get(), is(1));
+    }
+
+    @Test
+    void testConcurrentMissesShareLookup() throws Exception {
+        CountDownLatch lookupStarted = new CountDownLatch(1);
+        CountDownLatch lookupFinish = new CountDownLatch(1);
+        CachingDnsResolver resolver = CachingDnsResolver.create(CachingDnsResolver.builder().buildPrototype(),
+                                                                now::get,
+                                                                hostname -> {
+                                                                    if (hostname.equals("localhost")) {
+                                                                        lookupStarted.countDown();
+                                                                        awaitUninterruptibly(lookupFinish);
+                                                                    }
+                                                                    return lookup(hostname);
+                                                                },
+                                                                Runnable::run);
+
+        CompletableFuture<InetAddress> firstRequest = CompletableFuture.supplyAsync(
+                () -> resolver.resolveAddress("localhost", DnsAddressLookup.IPV4));
+        assertThat(lookupStarted.await(10, TimeUnit.SECONDS), is(true));
+
+        // another host is not blocked by the pending lookup
+        assertThat(resolver.resolveAddress("other", DnsAddressLookup.IPV4).getAddress()[3], is((byte) 1));
+
+        CompletableFuture<InetAddress> secondRequest = CompletableFuture.supplyAsync(
+                () -> resolver.resolveAddress("localhost", DnsAddressLookup.IPV4));
+        lookupFinish.countDown();
+
+        assertThat(secondRequest.get(10, TimeUnit.SECONDS), is(firstRequest.get(10, TimeUnit.SECONDS)));
+        assertThat(lookups.get(), is(2));
+    }
+
+    @Test
+    void testMaxEntries() {
+        CachingDnsResolver resolver = CachingDnsResolver.create(CachingDnsResolver.builder()
+                                                                        .maxEntries(2)
+                                                                        .buildPrototype(),
+                                                                now::get,
+                                                                this::lookup,
+                                                                Runnable::run);
+
+        resolver.resolveAddress("first", DnsAddressLookup.IPV4);
+        advance(Duration.ofSeconds(1));
+        resolver.resolveAddress("second", DnsAddressLookup.IPV4);
+        advance(Duration.ofSeconds(1));
+        // first is now used more recently than second
+        resolver.resolveAddress("first", DnsAddressLookup.IPV4);
+        advance(Duration.ofSeconds(1));
+        resolver.resolveAddress("third", DnsAddressLookup.IPV4);
+
+        CachingDnsResolver.Stats stats = resolver.stats();
+        assertThat(stats.entries(), is(2));
+        assertThat(stats.evictions(), is(1L));
+
+        resolver.resolveAddress("first", DnsAddressLookup.IPV4);
+        resolver.resolveAddress("third", DnsAddressLookup.IPV4);
+        assertThat(lookups.get(), is(3));
+        // evicted, must be resolved again
+        resolver.resolveAddress("second", DnsAddressLookup.IPV4);
+        assertThat(lookups.get(), is(4));
+    }
+
+    @Test
+    void testTooStaleEvictedFirst() {
+        CachingDnsResolver resolver = CachingDnsResolver.create(CachingDnsResolver.builder()
+                                                                        .maxEntries(2)
+                                                                        .buildPrototype(),
+                                                                now::get,
+                                                                this::lookup,
+                                                                Runnable::run);
+
+        resolver.resolveAddress("unused", DnsAddressLookup.IPV4);
+        advance(Duration.ofMinutes(10));
+        resolver.resolveAddress("first", DnsAddressLookup.IPV4);
+        resolver.resolveAddress("second", DnsAddressLookup.IPV4);
+
+        assertThat(resolver.stats().entries(), is(2));
+        resolver.resolveAddress("first", DnsAddressLookup.IPV4);
+        resolver.resolveAddress("second", DnsAddressLookup.IPV4);
+        assertThat(lookups.get(), is(3));
+    }
+
+    @Test
+    void testMetricsTaggedPerResolver() {
+        CachingDnsResolverConfig config = CachingDnsResolver.builder()
+                .enableMetrics(true)
+                .name("tagged")
+                .buildPrototype();
+        CachingDnsResolver first = CachingDnsResolver.create(config, now::get, this::lookup, Runnable::run);
+        CachingDnsResolver second = CachingDnsResolver.create(config, now::get, this::lookup, Runnable::run);
+
+        first.resolveAddress("localhost", DnsAddressLookup.IPV4);
+        first.resolveAddress("localhost", DnsAddressLookup.IPV4);
+        second.resolveAddress("localhost", DnsAddressLookup.IPV4);
+
+        Collection<Meter> misses = Metrics.globalRegistry()
+                .meters(meter -> meter.id().name().equals("dns_cache_misses")
+                        && "tagged".equals(meter.id().tagsMap().get("resolver")));
+        assertThat(misses, hasSize(2));
+        assertThat(misses.stream()
+                           .map(meter -> meter.id().tagsMap().get("id"))
+                           .distinct()
+                           .toList(), hasSize(2));
+        Collection<Meter> hits = Metrics.globalRegistry()
+                .meters(meter -> meter.id().name().equals("dns_cache_hits")
+                        && "tagged".equals(meter.id().tagsMap().get("resolver")));
+        assertThat(hits.stream()
+                           .map(FunctionalCounter.class::cast)
+                           .map(FunctionalCounter::count)
+                           .toList(), containsInAnyOrder(1L, 0L));
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+
+    private InetAddress[] lookup(String hostname) throws UnknownHostException {
+        if (failing.get()) {
+            throw new UnknownHostException(hostname);
+        }
+        // each lookup returns a different address, so we can see which one is used
+        int lookup = lookups.incrementAndGet();
+        return new InetAddress[] {InetAddress.getByAddress(hostname, new byte[] {127, 0, 0, (byte) lookup})};
+    }
+}
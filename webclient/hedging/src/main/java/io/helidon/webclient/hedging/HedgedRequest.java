@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.hedging;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+import io.helidon.common.context.Context;
+import io.helidon.http.ClientRequestHeaders;
+import io.helidon.http.Method;
+import io.helidon.http.WritableHeaders;
+import io.helidon.webclient.api.ClientUri;
+import io.helidon.webclient.api.WebClientServiceRequest;
+import io.helidon.webclient.api.WebClientServiceResponse;
+
+/**
+ * Copy of a service request, so the hedged request can be modified by the following services (such as discovery
+ * replacing its URI) independently of the original request.
+ */
+class HedgedRequest implements WebClientServiceRequest {
+    private final WebClientServiceRequest original;
+    private final ClientUri uri;
+    private final ClientRequestHeaders headers;
+    private final Map<String, String> properties;
+    private volatile String requestId;
+
+    HedgedRequest(WebClientServiceRequest original, int attempt) {
+        this.original = original;
+        this.uri = ClientUri.create(original.uri());
+        this.headers = ClientRequestHeaders.create(WritableHeaders.create(original.headers()));
+        this.properties = new HashMap<>(original.properties());
+        this.properties.put(ATTEMPT_PROPERTY, String.valueOf(attempt));
+        this.requestId = original.requestId() + "-" + attempt;
+    }
+
+    @Override
+    public ClientUri uri() {
+        return uri;
+    }
+
+    @Override
+    public Method method() {
+        return original.method();
+    }
+
+    @Override
+    public String protocolId() {
+        return original.protocolId();
+    }
+
+    @Override
+    public ClientRequestHeaders headers() {
+        return headers;
+    }
+
+    @Override
+    public Context context() {
+        return original.context();
+    }
+
+    @Override
+    public String requestId() {
+        return requestId;
+    }
+
+    @Override
+    public void requestId(String requestId) {
+        this.requestId = requestId;
+    }
+
+    @Override
+    public CompletionStage<WebClientServiceRequest> whenSent() {
+        return original.whenSent();
+    }
+
+    @Override
+    public CompletionStage<WebClientServiceResponse> whenComplete() {
+        return original.whenComplete();
+    }
+
+    @Override
+    public Map<String, String> properties() {
+        return properties;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.hedging;
+
+import java.util.Arrays;
+
+/**
+ * Latency of recent requests, used to compute the hedging delay.
+ * Keeps a fixed number of the most recent samples, the percentile is recomputed periodically, as sorting
+ * the samples on each request would be too expensive.
+ */
+class LatencyTracker {
+    static final int SAMPLES = 1000;
+    static final int RECOMPUTE_INTERVAL = 100;
+
+    private final long[] samples = new long[SAMPLES];
+    private final double percentile;
+    private int index;
+    private int count;
+    private int sinceRecompute;
+    private volatile long percentileNanos = -1;
+
+    LatencyTracker(double percentile) {
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 1 (exclusive), but is " + percentile);
+        }
+        this.percentile = percentile;
+    }
+
+    /**
+     * Record latency of a request.
+     *
+     * @param nanos latency in nanoseconds
+     */
+    synchronized void record(long nanos) {
+        samples[index] = nanos;
+        index = (index + 1) % SAMPLES;
+        if (count < SAMPLES) {
+            count++;
+        }
+        if (++sinceRecompute >= RECOMPUTE_INTERVAL) {
+            sinceRecompute = 0;
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            percentileNanos = sorted[(int) Math.min(count - 1, Math.ceil(percentile * count) - 1)];
+        }
+    }
+
+    /**
+     * Latency at the configured percentile.
+     *
+     * @return latency in nanoseconds, or {@code -1} if not enough samples were recorded yet
+     */
+    long percentileNanos() {
+        return percentileNanos;
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.hedging;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import io.helidon.builder.api.RuntimeType;
+import io.helidon.common.context.Contexts;
+import io.helidon.config.Config;
+import io.helidon.http.Method;
+import io.helidon.webclient.api.WebClientServiceRequest;
+import io.helidon.webclient.api.WebClientServiceResponse;
+import io.helidon.webclient.spi.WebClientService;
+
+import static java.lang.System.Logger.Level.DEBUG;
+
+/**
+ * Client service that reduces tail latency by hedging requests.
+ * <p>
+ * When there is no response to an idempotent request within the hedging delay, the same request is sent again,
+ * and the response that arrives first is used; the other one is closed. The delay is either fixed, or derived from
+ * observed latency of requests (such as its 95th percentile). The number of hedged requests is limited by a budget
+ * (such as 5% of the requests), so a slow server does not receive twice the load.
+ * <p>
+ * The hedged request has the {@link io.helidon.webclient.api.WebClientServiceRequest#ATTEMPT_PROPERTY} property set
+ * to {@code 1}; the client discovery service uses it to send the hedged request to another endpoint. For this to
+ * work, this service must be registered before the discovery service.
+ * <p>
+ * Only HTTP/1.1 requests are hedged, requests using other protocols are sent as they are.
+ */
+public class WebClientHedging implements WebClientService, RuntimeType.Api<WebClientHedgingConfig> {
+    private static final System.Logger LOGGER = System.getLogger(WebClientHedging.class.getName());
+    private static final String HTTP_1_1 = "http/1.1";
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder budgetExhausted = new LongAdder();
+    private final WebClientHedgingConfig config;
+    private final Set<Method> methods;
+    private final HedgingBudget budget;
+    private final LatencyTracker latency;
+    private final long minDelayNanos;
+    private final long initialDelayNanos;
+
+    private WebClientHedging(WebClientHedgingConfig config) {
+        this.config = config;
+        this.methods = config.methods()
+                .stream()
+                .map(Method::create)
+                .collect(Collectors.toUnmodifiableSet());
+        this.budget = new HedgingBudget(config.budgetRatio(), config.budgetBurst());
+        this.latency = new LatencyTracker(config.percentile());
+        this.minDelayNanos = config.minDelay().toNanos();
+        this.initialDelayNanos = config.initialDelay().toNanos();
+    }
+
+    /**
+     * Fluent API builder to set up an instance.
+     *
+     * @return a new builder
+     */
+    public static WebClientHedgingConfig.Builder builder() {
+        return WebClientHedgingConfig.builder();
+    }
+
+    /**
+     * Create a new instance from configuration.
+     *
+     * @param config configuration
+     * @return a new service
+     */
+    public static WebClientHedging create(Config config) {
+        return create(WebClientHedgingConfig.create(config));
+    }
+
+    /**
+     * Create a new instance from its configuration.
+     *
+     * @param config configuration
+     * @return a new service
+     */
+    public static WebClientHedging create(WebClientHedgingConfig config) {
+        return new WebClientHedging(config);
+    }
+
+    /**
+     * Create a new instance customizing its configuration.
+     *
+     * @param builderConsumer consumer of configuration
+     * @return a new service
+     */
+    public static WebClientHedging create(Consumer<WebClientHedgingConfig.Builder> builderConsumer) {
+        return builder()
+                .update(builderConsumer)
+                .build();
+    }
+
+    @Override
+    public String name() {
+        return config.name();
+    }
+
+    @Override
+    public String type() {
+        return "hedging";
+    }
+
+    @Override
+    public WebClientHedgingConfig prototype() {
+        return config;
+    }
+
+    /**
+     * Current statistics of this service.
+     *
+     * @return statistics
+     */
+    public Stats stats() {
+        return new Stats(requests.sum(),
+                         hedges.sum(),
+                         retries.sum(),
+                         hedgeWins.sum(),
+                         budgetExhausted.sum());
+    }
+
+    /**
+     * Current hedging delay, either the configured one, or derived from observed latency.
+     *
+     * @return hedging delay
+     */
+    public Duration delay() {
+        return Duration.ofNanos(delayNanos());
+    }
+
+    @Override
+    public WebClientServiceResponse handle(Chain chain, WebClientServiceRequest clientRequest) {
+        if (!HTTP_1_1.equals(clientRequest.protocolId()) || !methods.contains(clientRequest.method())) {
+            // HTTP/2 streams of a single request cannot be sent twice, and we cannot hedge non-idempotent requests
+            return chain.proceed(clientRequest);
+        }
+
+        requests.increment();
+        budget.deposit();
+
+        // copy before the request is sent, as the following services may modify the original
+        WebClientServiceRequest hedgeRequest = new HedgedRequest(clientRequest, 1);
+        BlockingQueue<Outcome> outcomes = new LinkedBlockingQueue<>();
+        send(chain, clientRequest, false, outcomes);
+        int pending = 1;
+
+        Outcome outcome = poll(outcomes, delayNanos());
+        if (outcome == null || (outcome.failure() != null && config.retryOnFailure())) {
+            if (budget.tryAcquire()) {
+                if (outcome == null) {
+                    hedges.increment();
+                } else {
+                    retries.increment();
+                }
+                if (LOGGER.isLoggable(DEBUG)) {
+                    LOGGER.log(DEBUG, (outcome == null ? "Hedging" : "Retrying") + " request " + clientRequest.requestId()
+                            + " to " + clientRequest.uri().toUri());
+                }
+                send(chain, hedgeRequest, true, outcomes);
+                pending++;
+            } else {
+                budgetExhausted.increment();
+            }
+        }
+        if (outcome != null) {
+            pending--;
+        }
+        Throwable failure = null;
+        while (outcome == null || (outcome.failure() != null && pending > 0)) {
+            if (outcome != null) {
+                failure = addFailure(failure, outcome.failure());
+            }
+            outcome = take(outcomes);
+            pending--;
+        }
+
+        if (pending > 0) {
+            // the other request is still in progress, close its response when it arrives
+            Thread.ofVirtual()
+                    .name("helidon-hedging-discard-" + clientRequest.requestId())
+                    .start(() -> discard(outcomes));
+        }
+        if (outcome.failure() != null) {
+            failure = addFailure(failure, outcome.failure());
+            if (failure instanceof Error error) {
+                throw error;
+            }
+            throw (RuntimeException) failure;
+        }
+        if (outcome.hedge()) {
+            hedgeWins.increment();
+        }
+        return outcome.response();
+    }
+
+    private static Throwable addFailure(Throwable failure, Throwable next) {
+        if (failure == null) {
+            return next;
+        }
+        next.addSuppressed(failure);
+        return next;
+    }
+
+    private static Outcome poll(BlockingQueue<Outcome> outcomes, long timeoutNanos) {
+        try {
+            return outcomes.poll(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for response", e);
+        }
+    }
+
+    private static Outcome take(BlockingQueue<Outcome> outcomes) {
+        try {
+            return outcomes.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for response", e);
+        }
+    }
+
+    private static void discard(BlockingQueue<Outcome> outcomes) {
+        Outcome outcome = take(outcomes);
+        if (outcome.response() != null) {
+            // the entity was not read, the connection cannot be reused
+            outcome.response().connection().closeResource();
+        }
+    }
+
+    private void send(Chain chain, WebClientServiceRequest request, boolean hedge, BlockingQueue<Outcome> outcomes) {
+        Thread.ofVirtual()
+                .name("helidon-hedging-" + request.requestId())
+                .start(() -> Contexts.runInContext(request.context(), () -> {
+                    long started = System.nanoTime();
+                    try {
+                        WebClientServiceResponse response = chain.proceed(request);
+                        if (!hedge) {
+                            // only the original requests are recorded, as hedged requests would skew the latency
+                            latency.record(System.nanoTime() - started);
+                        }
+                        outcomes.add(new Outcome(response, null, hedge));
+                    } catch (RuntimeException | Error e) {
+                        // the request thread waits for an outcome, it must be added whatever happens
+                        outcomes.add(new Outcome(null, e, hedge));
+                    }
+                }));
+    }
+
+    private long delayNanos() {
+        if (config.delay().isPresent()) {
+            return config.delay().get().toNanos();
+        }
+        long observed = latency.percentileNanos();
+        return Math.max(minDelayNanos, observed == -1 ? initialDelayNanos : observed);
+    }
+
+    /**
+     * Statistics of request hedging.
+     *
+     * @param requests        number of requests that could be hedged
+     * @param hedges          number of hedged requests sent because the original request was slow
+     * @param retries         number of hedged requests sent because the original request failed
+     * @param hedgeWins       number of requests completed by the hedged request
+     * @param budgetExhausted number of requests that were not hedged because the budget was exhausted
+     */
+    public record Stats(long requests, long hedges, long retries, long hedgeWins, long budgetExhausted) {
+    }
+
+    private record Outcome(WebClientServiceResponse response, Throwable failure, boolean hedge) {
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.hedging;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+
+/**
+ * Configuration of WebClient request hedging.
+ */
+@Prototype.Blueprint
+@Prototype.Configured
+interface WebClientHedgingConfigBlueprint extends Prototype.Factory<WebClientHedging> {
+    /**
+     * Name of this instance.
+     *
+     * @return instance name
+     */
+    @Option.Default("hedging")
+    String name();
+
+    /**
+     * HTTP methods of requests that may be hedged. Only idempotent methods should be configured, as the server may
+     * receive the same request twice.
+     *
+     * @return methods to hedge, defaults to {@code GET}, {@code HEAD} and {@code OPTIONS}
+     */
+    @Option.Configured
+    @Option.Singular
+    @Option.Default({"GET", "HEAD", "OPTIONS"})
+    Set<String> methods();
+
+    /**
+     * Fixed delay after which a hedged request is sent if there is no response yet.
+     * If not configured, the delay is derived from observed latency (see {@link #percentile()}).
+     *
+     * @return fixed hedging delay
+     */
+    @Option.Configured
+    Optional<Duration> delay();
+
+    /**
+     * Percentile of observed latency used as the hedging delay, when a fixed {@link #delay()} is not configured.
+     * With the default value, about 5% of requests (the slowest ones) are hedged.
+     *
+     * @return latency percentile in the range {@code (0, 1)}, defaults to {@code 0.95}
+     */
+    @Option.Configured
+    @Option.DefaultDouble(0.95)
+    double percentile();
+
+    /**
+     * Minimal hedging delay, to avoid hedging requests to a server that responds very fast anyway.
+     *
+     * @return minimal delay, defaults to 5 milliseconds
+     */
+    @Option.Configured
+    @Option.Default("PT0.005S")
+    Duration minDelay();
+
+    /**
+     * Hedging delay used until enough latency samples are observed to compute the {@link #percentile()}.
+     *
+     * @return initial delay, defaults to 100 milliseconds
+     */
+    @Option.Configured
+    @Option.Default("PT0.1S")
+    Duration initialDelay();
+
+    /**
+     * Ratio of additional requests the hedging may send, compared to the number of original requests.
+     * Each request adds this ratio to the budget, each hedged (or retried) request consumes one.
+     *
+     * @return budget ratio, defaults to {@code 0.05} (at most 5% of requests are hedged)
+     */
+    @Option.Configured
+    @Option.DefaultDouble(0.05)
+    double budgetRatio();
+
+    /**
+     * Maximal number of hedged requests the budget can accumulate, this is also the budget available
+     * before any request is sent.
+     *
+     * @return budget burst, defaults to {@code 10}
+     */
+    @Option.Configured
+    @Option.DefaultInt(10)
+    int budgetBurst();
+
+    /**
+     * Whether to send the hedged request immediately when the original request fails (such as when the connection
+     * is refused) before the hedging delay. The retry is subject to the same budget as hedged requests.
+     *
+     * @return whether to retry failed requests, defaults to {@code true}
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(true)
+    boolean retryOnFailure();
+}
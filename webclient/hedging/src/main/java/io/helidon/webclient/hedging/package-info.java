@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Request hedging for Helidon WebClient.
+ * <p>
+ * Add {@link io.helidon.webclient.hedging.WebClientHedging} as a service of a web client (or configure it under
+ * {@code services.hedging} of the client configuration) to send a second copy of an idempotent request when the first
+ * one does not complete in time, and use whichever response arrives first.
+ */
+package io.helidon.webclient.hedging;
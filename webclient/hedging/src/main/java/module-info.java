@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import io.helidon.common.features.api.Features;
+import io.helidon.common.features.api.HelidonFlavor;
+
+/**
+ * Helidon WebClient request hedging.
+ */
+@Features.Name("Hedging")
+@Features.Description("Request hedging for WebClient")
+@Features.Flavor(HelidonFlavor.SE)
+@Features.Path({"WebClient", "Hedging"})
+@Features.Preview
+module io.helidon.webclient.hedging {
+    requires static io.helidon.common.features.api;
+    requires static io.helidon.config.metadata;
+
+    requires transitive io.helidon.builder.api;
+    requires transitive io.helidon.common;
+    requires transitive io.helidon.config;
+    requires transitive io.helidon.http;
+    requires transitive io.helidon.webclient.api;
+
+    exports io.helidon.webclient.hedging;
+
+    provides io.helidon.webclient.spi.WebClientServiceProvider
+            with io.helidon.webclient.hedging.WebClientHedgingProvider;
+
+}
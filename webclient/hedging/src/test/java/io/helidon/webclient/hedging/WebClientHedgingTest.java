@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.hedging;
+
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import io.helidon.common.context.Context;
+import io.helidon.http.ClientRequestHeaders;
+import io.helidon.http.ClientResponseHeaders;
+import io.helidon.http.Method;
+import io.helidon.http.Status;
+import io.helidon.http.WritableHeaders;
+import io.helidon.webclient.api.ClientUri;
+import io.helidon.webclient.api.WebClientServiceRequest;
+import io.helidon.webclient.api.WebClientServiceResponse;
+import io.helidon.webclient.spi.WebClientService;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WebClientHedgingTest {
+    private static final String URI = "http://localhost:8080/catalog";
+
+    private final AtomicInteger serverCalls = new AtomicInteger();
+
+    @Test
+    void testSlowRequestHedged() throws InterruptedException {
+        WebClientHedging hedging = WebClientHedging.create(builder -> builder.delay(Duration.ofMillis(10)));
+        CountDownLatch slowServer = new CountDownLatch(1);
+        CountDownLatch discarded = new CountDownLatch(1);
+        WebClientService.Chain chain = chain(request -> {
+            if (attempt(request) == 0) {
+                await(slowServer);
+                return response(request, Status.OK_200, discarded);
+            }
+            return response(request, Status.ACCEPTED_202, null);
+        });
+
+        WebClientServiceResponse response = hedging.handle(chain, request(Method.GET));
+        assertThat(response.status(), is(Status.ACCEPTED_202));
+
+        // the original request completes later and its connection must be closed
+        slowServer.countDown();
+        assertThat(discarded.await(10, TimeUnit.SECONDS), is(true));
+        assertThat(serverCalls.get(), is(2));
+
+        WebClientHedging.Stats stats = hedging.stats();
+        assertThat(stats.requests(), is(1L));
+        assertThat(stats.hedges(), is(1L));
+        assertThat(stats.hedgeWins(), is(1L));
+    }
+
+    @Test
+    void testFastRequestNotHedged() {
+        WebClientHedging hedging = WebClientHedging.create(builder -> builder.delay(Duration.ofSeconds(10)));
+        WebClientService.Chain chain = chain(request -> response(request, Status.OK_200, null));
+
+        assertThat(hedging.handle(chain, request(Method.GET)).status(), is(Status.OK_200));
+        assertThat(serverCalls.get(), is(1));
+        assertThat(hedging.stats().hedges(), is(0L));
+    }
+
+    @Test
+    void testUnsafeMethodNotHedged() {
+        WebClientHedging hedging = WebClientHedging.create(builder -> builder.delay(Duration.ZERO));
+        WebClientService.Chain chain = chain(request -> response(request, Status.OK_200, null));
+
+        hedging.handle(chain, request(Method.POST));
+        assertThat(serverCalls.get(), is(1));
+        assertThat(hedging.stats().requests(), is(0L));
+    }
+
+    @Test
+    void testFailedRequestRetried() {
+        WebClientHedging hedging = WebClientHedging.create(builder -> builder.delay(Duration.ofSeconds(10)));
+        WebClientService.Chain chain = chain(request -> {
+            if (attempt(request) == 0) {
+                throw new UncheckedIOException(new ConnectException("Connection refused"));
+            }
+            return response(request, Status.OK_200, null);
+        });
+
+        assertThat(hedging.handle(chain, request(Method.GET)).status(), is(Status.OK_200));
+        assertThat(hedging.stats().retries(), is(1L));
+        assertThat(hedging.stats().hedgeWins(), is(1L));
+    }
+
+    @Test
+    void testBudgetExhausted() {
+        WebClientHedging hedging = WebClientHedging.create(builder -> builder.delay(Duration.ofSeconds(10))
+                .budgetBurst(1)
+                .budgetRatio(0));
+        WebClientService.Chain chain = chain(request -> {
+            throw new UncheckedIOException(new ConnectException("Connection refused"));
+        });
+
+        assertThrows(UncheckedIOException.class, () -> hedging.handle(chain, request(Method.GET)));
+        assertThat(serverCalls.get(), is(2));
+
+        assertThrows(UncheckedIOException.class, () -> hedging.handle(chain, request(Method.GET)));
+        assertThat(serverCalls.get(), is(3));
+        assertThat(hedging.stats().budgetExhausted(), is(1L));
+    }
+
+    @Test
+    void testLatencyPercentile() {
+        LatencyTracker tracker = new LatencyTracker(0.95);
+        for (int i = 1; i < LatencyTracker.RECOMPUTE_INTERVAL; i++) {
+            tracker.record(i);
+        }
+        assertThat(tracker.percentileNanos(), is(-1L));
+        tracker.record(LatencyTracker.RECOMPUTE_INTERVAL);
+        assertThat(tracker.percentileNanos(), is(95L));
+    }
+
+    private WebClientService.Chain chain(Function<WebClientServiceRequest, WebClientServiceResponse> server) {
+        return request -> {
+            serverCalls.incrementAndGet();
+            return server.apply(request);
+        };
+    }
+
+    private static WebClientServiceResponse response(WebClientServiceRequest request, Status status, CountDownLatch closed) {
+        return WebClientServiceResponse.builder()
+                .serviceRequest(request)
+                .status(status)
+                .headers(ClientResponseHeaders.create(WritableHeaders.create()))
+                .connection(() -> {
+                    if (closed != null) {
+                        closed.countDown();
+                    }
+                })
+                .whenComplete(new CompletableFuture<>())
+                .build();
+    }
+
+    private static int attempt(WebClientServiceRequest request) {
+        return Integer.parseInt(request.properties().getOrDefault(WebClientServiceRequest.ATTEMPT_PROPERTY, "0"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static WebClientServiceRequest request(Method method) {
+        return new TestRequest(method);
+    }
+
+    private static class TestRequest implements WebClientServiceRequest {
+        private final ClientUri uri = ClientUri.create(java.net.URI.create(URI));
+        private final ClientRequestHeaders headers = ClientRequestHeaders.create(WritableHeaders.create());
+        private final Context context = Context.create();
+        private final Map<String, String> properties = new HashMap<>();
+        private final Method method;
+        private String requestId = "test";
+
+        private TestRequest(Method method) {
+            this.method = method;
+        }
+
+        @Override
+        public ClientUri uri() {
+            return uri;
+        }
+
+        @Override
+        public Method method() {
+            return method;
+        }
+
+        @Override
+        public String protocolId() {
+            return "http/1.1";
+        }
+
+        @Override
+        public ClientRequestHeaders headers() {
+            return headers;
+        }
+
+        @Override
+        public Context context() {
+            return context;
+        }
+
+        @Override
+        public String requestId() {
+            return requestId;
+        }
+
+        @Override
+        public void requestId(String requestId) {
+            this.requestId = requestId;
+        }
+
+        @Override
+        public CompletionStage<WebClientServiceRequest> whenSent() {
+            return new CompletableFuture<>();
+        }
+
+        @Override
+        public CompletionStage<WebClientServiceResponse> whenComplete() {
+            return new CompletableFuture<>();
+        }
+
+        @Override
+        public Map<String, String> properties() {
+            return properties;
+        }
+    }
+}
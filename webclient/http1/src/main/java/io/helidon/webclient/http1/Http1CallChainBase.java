@@ -73,7 +73,6 @@ abstract class Http1CallChainBase implements WebClientService.Chain {
     private static final Supplier<IllegalArgumentException> INVALID_SIZE_EXCEPTION_SUPPLIER =
             () -> new IllegalArgumentException("Chunk size is invalid");
 
-    private final BufferData writeBuffer = BufferData.growing(128);
     private final HttpClientConfig clientConfig;
     private final Http1ClientProtocolConfig protocolConfig;
     private final ClientConnection connection;
@@ -84,7 +83,7 @@ abstract class Http1CallChainBase implements WebClientService.Chain {
     private final CompletableFuture<WebClientServiceResponse> whenComplete;
     private final Duration timeout;
     private final Http1ClientImpl http1Client;
-    private ClientConnection effectiveConnection;
+    private volatile ClientConnection effectiveConnection;
 
     Http1CallChainBase(Http1ClientImpl http1Client,
                        Http1ClientRequestImpl clientRequest,
@@ -148,20 +147,7 @@ abstract class Http1CallChainBase implements WebClientService.Chain {
 
     @Override
     public WebClientServiceResponse proceed(WebClientServiceRequest serviceRequest) {
-        // either use the explicit connection, or obtain one (keep alive or one-off)
-        effectiveConnection = connection == null ? obtainConnection(serviceRequest) : connection;
-        effectiveConnection.readTimeout(this.timeout);
-
-        DataWriter writer = effectiveConnection.writer();
-        DataReader reader = effectiveConnection.reader();
-        ClientUri uri = serviceRequest.uri();
-        ClientRequestHeaders headers = serviceRequest.headers();
-
-        writeBuffer.clear();
-        prologue(effectiveConnection, writeBuffer, serviceRequest, uri);
-        headers.setIfAbsent(HeaderValues.create(HeaderNames.HOST, uri.authority()));
-
-        return doProceed(effectiveConnection, serviceRequest, headers, writer, reader, writeBuffer);
+        return proceed(serviceRequest, connection == null && protocolConfig.pipelining() && mayPipeline(serviceRequest));
     }
 
     abstract WebClientServiceResponse doProceed(ClientConnection connection,
@@ -171,6 +157,54 @@ abstract class Http1CallChainBase implements WebClientService.Chain {
                                                 DataReader reader,
                                                 BufferData writeBuffer);
 
+    /**
+     * Whether the request may be pipelined (see {@link Http1ClientProtocolConfig#pipelining()}).
+     * Only requests that can be sent again if the pipelined connection fails may be pipelined.
+     *
+     * @param request request to send
+     * @return whether the request may be pipelined
+     */
+    boolean mayPipeline(WebClientServiceRequest request) {
+        return false;
+    }
+
+    private WebClientServiceResponse proceed(WebClientServiceRequest serviceRequest, boolean pipelining) {
+        // either use the explicit connection, or obtain one (keep alive or one-off)
+        // a service may call this chain more than once (also concurrently), each call uses its own buffer and connection
+        ClientConnection effective = connection == null ? obtainConnection(serviceRequest, pipelining) : connection;
+        effectiveConnection = effective;
+        effective.readTimeout(this.timeout);
+
+        DataWriter writer = effective.writer();
+        DataReader reader = effective.reader();
+        ClientUri uri = serviceRequest.uri();
+        ClientRequestHeaders headers = serviceRequest.headers();
+
+        BufferData writeBuffer = BufferData.growing(128);
+        prologue(effective, writeBuffer, serviceRequest, uri);
+        headers.setIfAbsent(HeaderValues.create(HeaderNames.HOST, uri.authority()));
+
+        if (effective instanceof Http1PipelinedConnection pipelined) {
+            pipelined.head(serviceRequest.method() == Method.HEAD);
+            try {
+                return doProceed(effective, serviceRequest, headers, writer, reader, writeBuffer);
+            } catch (RuntimeException e) {
+                pipelined.closeResource();
+                if (!pipelined.retryable()) {
+                    // includes requests that timed out, the pipeline discards their responses
+                    throw e;
+                }
+                if (pipelined.behind() && e instanceof UncheckedIOException) {
+                    // the server closed the connection while responses to previous requests were pending
+                    pipelined.pipeline().unexpectedClose();
+                }
+                // the request was not processed, send it again on a connection of its own
+                return proceed(serviceRequest, false);
+            }
+        }
+        return doProceed(effective, serviceRequest, headers, writer, reader, writeBuffer);
+    }
+
     void prologue(ClientConnection effectiveConnection,
                   BufferData nonEntityData,
                   WebClientServiceRequest request,
@@ -238,6 +272,10 @@ abstract class Http1CallChainBase implements WebClientService.Chain {
     WebClientServiceResponse readResponse(WebClientServiceRequest serviceRequest,
                                                     ClientConnection connection,
                                                     DataReader reader) {
+        if (connection instanceof Http1PipelinedConnection pipelined) {
+            // responses are read in the order the requests were written
+            pipelined.awaitResponse();
+        }
         Status responseStatus;
         try {
             responseStatus = Http1StatusParser.readStatus(reader, protocolConfig.maxStatusLineLength());
@@ -318,7 +356,7 @@ abstract class Http1CallChainBase implements WebClientService.Chain {
         return true;
     }
 
-    private ClientConnection obtainConnection(WebClientServiceRequest request) {
+    private ClientConnection obtainConnection(WebClientServiceRequest request, boolean pipelining) {
         var address = originalRequest.address();
         UnixDomainSocketAddress udsAddress = address.filter(a -> a instanceof UnixDomainSocketAddress)
                 .map(UnixDomainSocketAddress.class::cast)
@@ -331,7 +369,8 @@ abstract class Http1CallChainBase implements WebClientService.Chain {
                                 proxy,
                                 request.uri(),
                                 request.headers(),
-                                keepAlive);
+                                keepAlive,
+                                pipelining);
         } else {
             return http1Client.connectionCache()
                     .connection(http1Client,
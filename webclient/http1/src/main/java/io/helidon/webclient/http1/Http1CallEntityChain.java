@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package io.helidon.webclient.http1;
 
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import io.helidon.common.buffers.BufferData;
@@ -24,6 +25,7 @@ import io.helidon.common.buffers.DataWriter;
 import io.helidon.http.ClientRequestHeaders;
 import io.helidon.http.HeaderNames;
 import io.helidon.http.HeaderValues;
+import io.helidon.http.Method;
 import io.helidon.webclient.api.ClientConnection;
 import io.helidon.webclient.api.WebClientServiceRequest;
 import io.helidon.webclient.api.WebClientServiceResponse;
@@ -31,6 +33,13 @@ import io.helidon.webclient.api.WebClientServiceResponse;
 import static java.lang.System.Logger.Level.TRACE;
 
 class Http1CallEntityChain extends Http1CallChainBase {
+    // idempotent methods, such requests can be sent again if the pipelined connection is closed
+    private static final Set<Method> PIPELINED_METHODS = Set.of(Method.GET,
+                                                                Method.HEAD,
+                                                                Method.OPTIONS,
+                                                                Method.TRACE,
+                                                                Method.PUT,
+                                                                Method.DELETE);
 
     private final CompletableFuture<WebClientServiceRequest> whenSent;
     private final byte[] entity;
@@ -74,4 +83,12 @@ class Http1CallEntityChain extends Http1CallChainBase {
 
         return readResponse(serviceRequest, connection, reader);
     }
+
+    @Override
+    boolean mayPipeline(WebClientServiceRequest request) {
+        // the entity is in memory, so the whole request is written at once
+        return PIPELINED_METHODS.contains(request.method())
+                && !request.headers().contains(HeaderNames.UPGRADE)
+                && !request.headers().contains(HeaderNames.EXPECT);
+    }
 }
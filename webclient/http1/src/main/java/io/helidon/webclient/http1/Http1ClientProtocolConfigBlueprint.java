@@ -16,6 +16,9 @@
 
 package io.helidon.webclient.http1;
 
+import java.time.Duration;
+import java.util.Optional;
+
 import io.helidon.builder.api.Option;
 import io.helidon.builder.api.Prototype;
 import io.helidon.common.Size;
@@ -99,4 +102,95 @@ interface Http1ClientProtocolConfigBlueprint extends ProtocolConfig {
     @Option.Configured
     @Option.DefaultBoolean(true)
     boolean validateResponseHeaders();
+
+    /**
+     * Maximal number of open connections to a single destination (host, port, TLS and proxy configuration).
+     * When reached, requests wait for a connection to be returned to the pool, up to
+     * {@link #connectionAcquireTimeout()}. Waiting requests obtain connections in order of arrival.
+     * Maximal number of idle connections kept in the pool is configured by
+     * {@link io.helidon.webclient.api.HttpClientConfig#connectionCacheSize()}.
+     * When {@link io.helidon.webclient.api.HttpClientConfig#shareConnectionCache() sharing the connection cache},
+     * the limit is shared only by clients with the same protocol configuration.
+     *
+     * @return maximal number of connections per destination, {@code -1} (default) for unlimited
+     */
+    @Option.Configured
+    @Option.DefaultInt(-1)
+    int maxConnectionsPerRoute();
+
+    /**
+     * Minimal number of connections to a single destination that are kept open even when idle
+     * for longer than {@link #idleConnectionTimeout()}. Connections that exceed
+     * {@link #maxConnectionLifetime()} are closed regardless of this setting.
+     *
+     * @return minimal number of connections per destination
+     */
+    @Option.Configured
+    @Option.DefaultInt(0)
+    int minConnectionsPerRoute();
+
+    /**
+     * How long to wait for a connection when {@link #maxConnectionsPerRoute()} connections are in use.
+     *
+     * @return connection acquire timeout
+     */
+    @Option.Configured
+    @Option.Default("PT10S")
+    Duration connectionAcquireTimeout();
+
+    /**
+     * Idle connections that were not used for this duration are closed by a background task, so they are not reused
+     * after the server closed them on its own idle timeout.
+     * Defaults to {@code PT30S}. Set to zero to keep idle connections open until closed by the server.
+     *
+     * @return idle connection timeout
+     */
+    @Option.Configured
+    @Option.Default("PT30S")
+    Duration idleConnectionTimeout();
+
+    /**
+     * Connections open for longer than this duration are not reused, and are closed when idle.
+     * If not configured, connections may be reused for as long as they are open.
+     *
+     * @return maximal connection lifetime
+     */
+    @Option.Configured
+    Optional<Duration> maxConnectionLifetime();
+
+    /**
+     * Number of connections to open to {@link io.helidon.webclient.api.HttpClientConfig#baseUri()} when the client
+     * is created, so the first requests do not pay for connection setup.
+     * Ignored if base URI is not configured, or if keep alive is disabled.
+     *
+     * @return number of connections to pre-warm
+     */
+    @Option.Configured
+    @Option.DefaultInt(0)
+    int prewarmConnections();
+
+    /**
+     * Whether to pipeline requests: write requests to a keep-alive connection that is still waiting for responses
+     * to previous requests. Responses are read in the order the requests were written.
+     * Only idempotent requests with an entity available in memory (or without an entity) are pipelined, and only
+     * when not using a proxy.
+     * <p>
+     * If the connection is closed before all responses are received, the remaining requests are sent again using
+     * connections of their own, and pipelining is disabled for the destination if this happened unexpectedly.
+     *
+     * @return whether to pipeline requests, defaults to {@code false}
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean pipelining();
+
+    /**
+     * Maximal number of requests pipelined on a single connection, when {@link #pipelining()} is enabled.
+     * When all pipelined connections are full, a new connection is obtained from the pool.
+     *
+     * @return maximal number of requests waiting for a response on a single connection
+     */
+    @Option.Configured
+    @Option.DefaultInt(8)
+    int maxPipelinedRequests();
 }
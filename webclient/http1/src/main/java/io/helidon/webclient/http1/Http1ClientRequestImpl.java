@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,6 +30,7 @@ import io.helidon.http.Status;
 import io.helidon.http.media.EntityWriter;
 import io.helidon.http.media.InstanceWriter;
 import io.helidon.http.media.MediaContext;
+import io.helidon.webclient.api.ClientConnection;
 import io.helidon.webclient.api.ClientRequestBase;
 import io.helidon.webclient.api.ClientUri;
 import io.helidon.webclient.api.FullClientRequest;
@@ -258,12 +259,16 @@ class Http1ClientRequestImpl extends ClientRequestBase<Http1ClientRequest, Http1
             ClientRequestHeaders delegateHeaders = delegate.headers();
             this.headers().forEach(delegateHeaders::set);
         }
+        // if a service called the chain more than once, the response knows which connection it was received on
+        ClientConnection connection = serviceResponse.connection() instanceof ClientConnection clientConnection
+                ? clientConnection
+                : callChain.connection();
         return new Http1ClientResponseImpl(clientConfig(),
                                            http1Client().protocolConfig(),
                                            serviceResponse.status(),
                                            serviceResponse.serviceRequest().headers(),
                                            serviceResponse.headers(),
-                                           callChain.connection(),
+                                           connection,
                                            serviceResponse.inputStream().orElse(null),
                                            mediaContext(),
                                            resolvedUri,
@@ -153,6 +153,10 @@ class Http1ClientResponseImpl implements Http1ClientResponse {
     public void close() {
         if (closed.compareAndSet(false, true)) {
             try {
+                if (connection == null) {
+                    // response provided by a client service (such as a cache) without using a connection
+                    return;
+                }
                 if (headers().contains(HeaderValues.CONNECTION_CLOSE)) {
                     connection.closeResource();
                 } else {
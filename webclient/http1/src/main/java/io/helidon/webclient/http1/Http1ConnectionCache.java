@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,14 +17,20 @@
 package io.helidon.webclient.http1;
 
 import java.net.UnixDomainSocketAddress;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
+import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import io.helidon.common.HelidonServiceLoader;
+import io.helidon.common.LazyValue;
 import io.helidon.common.tls.Tls;
 import io.helidon.http.ClientRequestHeaders;
 import io.helidon.http.HeaderValues;
@@ -37,11 +43,16 @@ import io.helidon.webclient.api.TcpClientConnection;
 import io.helidon.webclient.api.UnixDomainSocketClientConnection;
 import io.helidon.webclient.api.WebClient;
 import io.helidon.webclient.spi.ClientConnectionCache;
+import io.helidon.webclient.spi.ConnectionPoolListener;
 
-import static java.lang.System.Logger.Level.DEBUG;
+import static java.lang.System.Logger.Level.WARNING;
 
 /**
- * Cache of HTTP/1.1 connections for keep alive.
+ * Cache of HTTP/1.1 connections for keep alive, with a {@link io.helidon.webclient.http1.Http1ConnectionPool}
+ * for each destination.
+ * When the cache is shared, clients with different pool configuration (such as
+ * {@link io.helidon.webclient.http1.Http1ClientProtocolConfig#maxConnectionsPerRoute()}) use separate pools for the
+ * same destination, so limits of one client are not applied to another.
  */
 class Http1ConnectionCache extends ClientConnectionCache {
     private static final System.Logger LOGGER = System.getLogger(Http1ConnectionCache.class.getName());
@@ -49,9 +60,18 @@ class Http1ConnectionCache extends ClientConnectionCache {
     private static final String HTTPS = "https";
     private static final Http1ConnectionCache SHARED = new Http1ConnectionCache(true);
     private static final List<String> ALPN_ID = List.of(Http1Client.PROTOCOL_ID);
-
-    private final Map<ConnectionKey, LinkedBlockingDeque<ClientConnection>> cache = new ConcurrentHashMap<>();
+    private static final Duration EVICTION_PERIOD = Duration.ofSeconds(1);
+    private static final LazyValue<List<ConnectionPoolListener>> POOL_LISTENERS =
+            LazyValue.create(() -> HelidonServiceLoader.create(ServiceLoader.load(ConnectionPoolListener.class)).asList());
+
+    // clients sharing the cache may configure pools differently, each configuration has its own pool
+    private final Map<PoolKey, Http1ConnectionPool> cache = new ConcurrentHashMap<>();
+    // pipeline that new pipelined requests join, for each destination
+    private final Map<ConnectionKey, Http1Pipeline> pipelines = new ConcurrentHashMap<>();
+    // destinations that closed a pipelined connection unexpectedly
+    private final Set<ConnectionKey> pipeliningDisabled = ConcurrentHashMap.newKeySet();
     private final AtomicBoolean closed = new AtomicBoolean();
+    private final LazyValue<ScheduledExecutorService> evictor = LazyValue.create(this::startEvictor);
 
     protected Http1ConnectionCache(boolean shared) {
         super(shared);
@@ -93,9 +113,22 @@ class Http1ConnectionCache extends ClientConnectionCache {
                                 ClientUri uri,
                                 ClientRequestHeaders headers,
                                 boolean defaultKeepAlive) {
+        return connection(http1Client, tls, proxy, uri, headers, defaultKeepAlive, false);
+    }
+
+    ClientConnection connection(Http1ClientImpl http1Client,
+                                Tls tls,
+                                Proxy proxy,
+                                ClientUri uri,
+                                ClientRequestHeaders headers,
+                                boolean defaultKeepAlive,
+                                boolean pipelining) {
         boolean keepAlive = handleKeepAlive(defaultKeepAlive, headers);
         Tls effectiveTls = HTTPS.equals(uri.scheme()) ? tls : NO_TLS;
         if (keepAlive) {
+            if (pipelining && direct(proxy, uri)) {
+                return pipelinedConnection(http1Client, effectiveTls, uri, proxy);
+            }
             return keepAliveConnection(http1Client, effectiveTls, uri, proxy);
         } else {
             return oneOffConnection(http1Client, effectiveTls, uri, proxy);
@@ -104,9 +137,7 @@ class Http1ConnectionCache extends ClientConnectionCache {
 
     @Override
     public void evict() {
-        cache.values().stream()
-                .flatMap(Collection::stream)
-                .forEach(ClientConnection::closeResource);
+        cache.values().forEach(Http1ConnectionPool::evictAll);
     }
 
     @Override
@@ -114,7 +145,57 @@ class Http1ConnectionCache extends ClientConnectionCache {
         if (closed.getAndSet(true)) {
             return;
         }
+        if (evictor.isLoaded()) {
+            evictor.get().shutdownNow();
+        }
         evict();
+        cache.values().forEach(pool -> POOL_LISTENERS.get()
+                .forEach(listener -> listener.poolClosed(Http1Client.PROTOCOL_ID, pool)));
+        cache.clear();
+    }
+
+    /**
+     * Open connections to the base URI of the client, as configured by
+     * {@link io.helidon.webclient.http1.Http1ClientProtocolConfig#prewarmConnections()}.
+     * Failures are logged, as the destination may not be available yet.
+     *
+     * @param http1Client client to pre-warm connections for
+     */
+    void prewarm(Http1ClientImpl http1Client) {
+        Http1ClientConfig clientConfig = http1Client.clientConfig();
+        int count = clientConfig.protocolConfig().prewarmConnections();
+        if (count <= 0 || clientConfig.baseUri().isEmpty() || !clientConfig.protocolConfig().defaultKeepAlive()) {
+            return;
+        }
+        ClientUri uri = clientConfig.baseUri().get();
+        Tls tls = HTTPS.equals(uri.scheme()) ? clientConfig.tls() : NO_TLS;
+        ConnectionKey connectionKey = ConnectionKey.create(uri.scheme(),
+                                                           uri.host(),
+                                                           uri.port(),
+                                                           tls,
+                                                           clientConfig.dnsResolver(),
+                                                           clientConfig.dnsAddressLookup(),
+                                                           clientConfig.proxy());
+        Http1ConnectionPool pool = pool(connectionKey, clientConfig);
+        try {
+            pool.prewarm(count, () -> TcpClientConnection.create(http1Client.webClient(),
+                                                                 connectionKey,
+                                                                 ALPN_ID,
+                                                                 pool::release,
+                                                                 pool::closed)
+                    .connect());
+        } catch (RuntimeException e) {
+            LOGGER.log(WARNING, "Failed to pre-warm connections to " + uri.host() + ":" + uri.port(), e);
+        }
+    }
+
+    /**
+     * Pools of this cache, for testing.
+     *
+     * @return pools
+     */
+    Collection<Http1ConnectionPool> pools() {
+        return cache.values();
     }
 
     private boolean handleKeepAlive(boolean defaultKeepAlive, WritableHeaders<?> headers) {
@@ -150,34 +231,16 @@ class Http1ConnectionCache extends ClientConnectionCache {
                                                            clientConfig.dnsAddressLookup(),
                                                            Proxy.noProxy());
 
-        LinkedBlockingDeque<ClientConnection> connectionQueue =
-                cache.computeIfAbsent(connectionKey,
-                                      it -> new LinkedBlockingDeque<>(clientConfig.connectionCacheSize()));
-
-        ClientConnection connection;
-        while ((connection = connectionQueue.poll()) != null && !connection.isConnected()) {
-        }
-
-        if (connection == null) {
-            connection = UnixDomainSocketClientConnection.create(http1Client.webClient(),
-                                                                 tls,
-                                                                 ALPN_ID,
-                                                                 address,
-                                                                 conn -> finishRequest(connectionQueue, conn),
-                                                                 conn -> {
-                                                                 })
-                    .connect();
-        } else {
-            if (LOGGER.isLoggable(DEBUG)) {
-                LOGGER.log(DEBUG, String.format("[%s] UNIX socket client connection obtained %s",
-                                                connection.channelId(),
-                                                Thread.currentThread().getName()));
-            }
-        }
-        return connection;
+        Http1ConnectionPool pool = pool(connectionKey, clientConfig);
+        return pool.acquire(() -> UnixDomainSocketClientConnection.create(http1Client.webClient(),
+                                                                          tls,
+                                                                          ALPN_ID,
+                                                                          address,
+                                                                          pool::release,
+                                                                          pool::closed)
+                .connect());
     }
 
-
     private ClientConnection keepAliveConnection(Http1ClientImpl http1Client,
                                                  Tls tls,
                                                  ClientUri uri,
@@ -197,30 +260,66 @@ class Http1ConnectionCache extends ClientConnectionCache {
                                                            clientConfig.dnsAddressLookup(),
                                                            proxy);
 
-        Queue<ClientConnection> connectionQueue =
-                cache.computeIfAbsent(connectionKey,
-                                      it -> new LinkedBlockingDeque<>(clientConfig.connectionCacheSize()));
+        Http1ConnectionPool pool = pool(connectionKey, clientConfig);
+        return pool.acquire(() -> TcpClientConnection.create(http1Client.webClient(),
+                                                             connectionKey,
+                                                             ALPN_ID,
+                                                             pool::release,
+                                                             pool::closed)
+                .connect());
+    }
+
+    // pipelining is only used when the connection does not go through a proxy (client default is the system proxy)
+    private static boolean direct(Proxy proxy, ClientUri uri) {
+        return switch (proxy.type()) {
+            case NONE -> true;
+            case SYSTEM -> !proxy.isUsingSystemProxy(uri.scheme() + "://" + uri.host() + ":" + uri.port());
+            default -> false;
+        };
+    }
 
-        ClientConnection connection;
-        while ((connection = connectionQueue.poll()) != null && !connection.isConnected()) {
+    private ClientConnection pipelinedConnection(Http1ClientImpl http1Client,
+                                                 Tls tls,
+                                                 ClientUri uri,
+                                                 Proxy proxy) {
+        if (closed.get()) {
+            throw new IllegalStateException("Connection cache is closed");
         }
 
-        if (connection == null) {
-            connection = TcpClientConnection.create(http1Client.webClient(),
-                                                    connectionKey,
-                                                    ALPN_ID,
-                                                    conn -> finishRequest(connectionQueue, conn),
-                                                    conn -> {
-                                                    })
-                    .connect();
-        } else {
-            if (LOGGER.isLoggable(DEBUG)) {
-                LOGGER.log(DEBUG, String.format("[%s] client connection obtained %s",
-                                                connection.channelId(),
-                                                Thread.currentThread().getName()));
+        Http1ClientConfig clientConfig = http1Client.clientConfig();
+
+        ConnectionKey connectionKey = ConnectionKey.create(uri.scheme(),
+                                                           uri.host(),
+                                                           uri.port(),
+                                                           tls,
+                                                           clientConfig.dnsResolver(),
+                                                           clientConfig.dnsAddressLookup(),
+                                                           proxy);
+        if (pipeliningDisabled.contains(connectionKey)) {
+            return keepAliveConnection(http1Client, tls, uri, proxy);
+        }
+
+        Http1Pipeline pipeline = pipelines.get(connectionKey);
+        if (pipeline != null) {
+            Http1PipelinedConnection connection = pipeline.join();
+            if (connection != null) {
+                return connection;
             }
         }
-        return connection;
+
+        // no pipeline to join (or it is full), start a new one on a connection from the pool
+        ClientConnection connection = keepAliveConnection(http1Client, tls, uri, proxy);
+        pipeline = new Http1Pipeline(connection,
+                                     clientConfig.protocolConfig(),
+                                     it -> pipelines.remove(connectionKey, it),
+                                     () -> pipeliningDisabled.add(connectionKey));
+        Http1PipelinedConnection pipelined = pipeline.join();
+        if (pipelined == null) {
+            // pipelining is not possible (maximal number of pipelined requests is less than one)
+            return connection;
+        }
+        pipelines.put(connectionKey, pipeline);
+        return pipelined;
     }
 
     private ClientConnection oneOffConnection(Http1ClientImpl http1Client,
@@ -247,29 +346,42 @@ class Http1ConnectionCache extends ClientConnectionCache {
                 .connect();
     }
 
-    private boolean finishRequest(Queue<ClientConnection> connectionQueue, ClientConnection conn) {
-        if (conn.isConnected()) {
-            // this must be done before we return the connection to the queue, to avoid race condition, where another client
-            // may take the connection from the queue, and we would set it as idle after that
-            // mark it as idle to stay blocked at read for closed conn detection
-            conn.helidonSocket().idle();
-
-            if (connectionQueue.offer(conn)) {
-                if (LOGGER.isLoggable(DEBUG)) {
-                    LOGGER.log(DEBUG, String.format("[%s] client connection returned %s",
-                                                    conn.channelId(),
-                                                    Thread.currentThread().getName()));
-                }
-                return true;
-            }
-            if (LOGGER.isLoggable(DEBUG)) {
-                LOGGER.log(DEBUG, String.format("[%s] Unable to return client connection because queue is full %s",
-                                                conn.channelId(),
-                                                Thread.currentThread().getName()));
+    private Http1ConnectionPool pool(ConnectionKey connectionKey, Http1ClientConfig clientConfig) {
+        PoolKey poolKey = new PoolKey(connectionKey, clientConfig.protocolConfig(), clientConfig.connectionCacheSize());
+        Http1ConnectionPool pool = cache.get(poolKey);
+        if (pool != null) {
+            return pool;
+        }
+        return cache.computeIfAbsent(poolKey, it -> {
+            Http1ConnectionPool newPool = new Http1ConnectionPool(connectionKey, clientConfig, System::nanoTime);
+            if (newPool.evicts()) {
+                evictor.get();
             }
+            POOL_LISTENERS.get().forEach(listener -> listener.poolCreated(Http1Client.PROTOCOL_ID, newPool));
+            return newPool;
+        });
+    }
+
+    private ScheduledExecutorService startEvictor() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofVirtual().name("helidon-client-http1-evictor").factory());
+        executor.scheduleAtFixedRate(this::evictIdle,
+                                     EVICTION_PERIOD.toMillis(),
+                                     EVICTION_PERIOD.toMillis(),
+                                     TimeUnit.MILLISECONDS);
+        return executor;
+    }
+
+    private void evictIdle() {
+        try {
+            cache.values().forEach(Http1ConnectionPool::evictIdle);
+        } catch (Exception e) {
+            // must not propagate, as that would cancel the scheduled task
+            LOGGER.log(WARNING, "Failed to evict idle client connections", e);
         }
+    }
 
-        // connection will be closed by the caller, no need to do anything else here
-        return false;
+    // destination and configuration of a pool (pool limits are part of the protocol configuration)
+    private record PoolKey(ConnectionKey connectionKey, Http1ClientProtocolConfig protocolConfig, int maxIdle) {
     }
 }
@@ -0,0 +1,403 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.http1;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import io.helidon.webclient.api.ClientConnection;
+import io.helidon.webclient.api.ConnectionKey;
+import io.helidon.webclient.api.ConnectionPoolStats;
+
+import static java.lang.System.Logger.Level.DEBUG;
+
+/**
+ * Pool of HTTP/1.1 connections to a single destination.
+ * <p>
+ * The number of open connections may be limited, in which case requests wait (in order of arrival) for a connection
+ * to be returned to the pool or closed. Idle connections are reused in the order they were returned to the pool.
+ */
+class Http1ConnectionPool implements ConnectionPoolStats {
+    private static final System.Logger LOGGER = System.getLogger(Http1ConnectionPool.class.getName());
+    private static final AtomicLong POOL_IDS = new AtomicLong();
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition available = lock.newCondition();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final ConnectionKey connectionKey;
+    private final String id;
+    private final int maxConnections;
+    private final int minConnections;
+    private final int maxIdle;
+    private final Duration acquireTimeout;
+    private final long idleTimeoutNanos;
+    private final long maxLifetimeNanos;
+    private final LongSupplier ticker;
+
+    // all guarded by lock
+    private final Deque<IdleConnection> idle = new ArrayDeque<>();
+    // open connections and the time they were created
+    private final Map<ClientConnection, Long> connections = new HashMap<>();
+    // connections being connected
+    private int connecting;
+    private int pending;
+
+    Http1ConnectionPool(ConnectionKey connectionKey,
+                        Http1ClientConfig clientConfig,
+                        LongSupplier ticker) {
+        Http1ClientProtocolConfig protocolConfig = clientConfig.protocolConfig();
+
+        this.connectionKey = connectionKey;
+        this.id = String.valueOf(POOL_IDS.incrementAndGet());
+        this.maxConnections = protocolConfig.maxConnectionsPerRoute();
+        this.minConnections = protocolConfig.minConnectionsPerRoute();
+        this.maxIdle = clientConfig.connectionCacheSize();
+        this.acquireTimeout = protocolConfig.connectionAcquireTimeout();
+        this.idleTimeoutNanos = protocolConfig.idleConnectionTimeout().toNanos();
+        this.maxLifetimeNanos = protocolConfig.maxConnectionLifetime().map(Duration::toNanos).orElse(0L);
+        this.ticker = ticker;
+    }
+
+    @Override
+    public ConnectionKey connectionKey() {
+        return connectionKey;
+    }
+
+    @Override
+    public String id() {
+        return id;
+    }
+
+    @Override
+    public int active() {
+        lock.lock();
+        try {
+            return connections.size() - idle.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int idle() {
+        lock.lock();
+        try {
+            return idle.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int pending() {
+        lock.lock();
+        try {
+            return pending;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long created() {
+        return created.sum();
+    }
+
+    @Override
+    public long evicted() {
+        return evicted.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "Http1ConnectionPool{"
+                + "id=" + id
+                + ", connectionKey=" + connectionKey
+                + ", active=" + active()
+                + ", idle=" + idle()
+                + ", pending=" + pending()
+                + ", created=" + created()
+                + ", evicted=" + evicted()
+                + "}";
+    }
+
+    /**
+     * Whether idle connections of this pool should be checked periodically.
+     *
+     * @return whether eviction is configured
+     */
+    boolean evicts() {
+        return idleTimeoutNanos > 0 || maxLifetimeNanos > 0;
+    }
+
+    /**
+     * Obtain an idle connection, or create a new one using the connector.
+     * The connector must create connections that call {@link #release(io.helidon.webclient.api.ClientConnection)}
+     * when released and {@link #closed(io.helidon.webclient.api.ClientConnection)} when closed.
+     *
+     * @param connector creates and connects a new connection
+     * @return connection to use
+     * @throws java.lang.IllegalStateException in case a connection is not available within the acquire timeout
+     */
+    ClientConnection acquire(Supplier<ClientConnection> connector) {
+        long remainingNanos = acquireTimeout.toNanos();
+        List<ClientConnection> toClose = new ArrayList<>();
+        ClientConnection connection = null;
+
+        lock.lock();
+        try {
+            while (true) {
+                connection = pollIdle(toClose);
+                if (connection != null) {
+                    break;
+                }
+                if (maxConnections <= 0 || connections.size() + connecting < maxConnections) {
+                    connecting++;
+                    break;
+                }
+                if (remainingNanos <= 0) {
+                    throw new IllegalStateException("Timed out waiting for a connection to " + connectionKey.host()
+                                                            + ":" + connectionKey.port() + " after " + acquireTimeout
+                                                            + ", maximal number of connections (" + maxConnections
+                                                            + ") is in use");
+                }
+                pending++;
+                try {
+                    remainingNanos = available.awaitNanos(remainingNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for a connection", e);
+                } finally {
+                    pending--;
+                }
+            }
+        } finally {
+            lock.unlock();
+            toClose.forEach(ClientConnection::closeResource);
+        }
+
+        if (connection != null) {
+            if (LOGGER.isLoggable(DEBUG)) {
+                LOGGER.log(DEBUG, String.format("[%s] client connection obtained %s",
+                                                connection.channelId(),
+                                                Thread.currentThread().getName()));
+            }
+            return connection;
+        }
+        return connect(connector);
+    }
+
+    /**
+     * Open new connections until the pool contains the requested number of idle connections, or the maximal
+     * number of connections is reached.
+     *
+     * @param count     number of idle connections to have in the pool
+     * @param connector creates and connects a new connection
+     */
+    void prewarm(int count, Supplier<ClientConnection> connector) {
+        for (int i = 0; i < count; i++) {
+            lock.lock();
+            try {
+                if (idle.size() >= Math.min(count, maxIdle)
+                        || (maxConnections > 0 && connections.size() + connecting >= maxConnections)) {
+                    return;
+                }
+                connecting++;
+            } finally {
+                lock.unlock();
+            }
+            if (!release(connect(connector))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Return a connection to the pool.
+     *
+     * @param connection connection that finished a request
+     * @return whether the connection was pooled, if {@code false}, the connection must be closed by the caller
+     */
+    boolean release(ClientConnection connection) {
+        if (!connection.isConnected()) {
+            return false;
+        }
+        // this must be done before we return the connection to the pool, to avoid race condition, where another client
+        // may take the connection from the pool, and we would set it as idle after that
+        // mark it as idle to stay blocked at read for closed conn detection
+        connection.helidonSocket().idle();
+
+        lock.lock();
+        try {
+            Long createdAt = connections.get(connection);
+            if (createdAt != null && idle.size() < maxIdle && !expired(createdAt, ticker.getAsLong())) {
+                idle.addLast(new IdleConnection(connection, ticker.getAsLong()));
+                available.signal();
+                if (LOGGER.isLoggable(DEBUG)) {
+                    LOGGER.log(DEBUG, String.format("[%s] client connection returned %s",
+                                                    connection.channelId(),
+                                                    Thread.currentThread().getName()));
+                }
+                return true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (LOGGER.isLoggable(DEBUG)) {
+            LOGGER.log(DEBUG, String.format("[%s] Unable to return client connection to the pool %s",
+                                            connection.channelId(),
+                                            Thread.currentThread().getName()));
+        }
+        // connection will be closed by the caller, no need to do anything else here
+        return false;
+    }
+
+    /**
+     * A connection of this pool was closed.
+     *
+     * @param connection closed connection
+     */
+    void closed(ClientConnection connection) {
+        lock.lock();
+        try {
+            if (connections.remove(connection) != null) {
+                idle.removeIf(it -> it.connection() == connection);
+                available.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Close idle connections that exceeded the idle timeout or the maximal lifetime, keeping at least the configured
+     * minimal number of connections (unless expired).
+     */
+    void evictIdle() {
+        long now = ticker.getAsLong();
+        List<ClientConnection> toClose = new ArrayList<>();
+
+        lock.lock();
+        try {
+            // the least recently used connections are first
+            Iterator<IdleConnection> iterator = idle.iterator();
+            while (iterator.hasNext()) {
+                IdleConnection idleConnection = iterator.next();
+                ClientConnection connection = idleConnection.connection();
+                boolean idleTooLong = idleTimeoutNanos > 0
+                        && now - idleConnection.idleSince() >= idleTimeoutNanos
+                        && connections.size() > minConnections;
+                if (idleTooLong || expired(connections.get(connection), now) || !connection.isConnected()) {
+                    iterator.remove();
+                    connections.remove(connection);
+                    toClose.add(connection);
+                }
+            }
+            if (!toClose.isEmpty()) {
+                available.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        evicted.add(toClose.size());
+        toClose.forEach(ClientConnection::closeResource);
+    }
+
+    /**
+     * Close all idle connections.
+     */
+    void evictAll() {
+        List<ClientConnection> toClose = new ArrayList<>();
+        lock.lock();
+        try {
+            idle.forEach(it -> {
+                connections.remove(it.connection());
+                toClose.add(it.connection());
+            });
+            idle.clear();
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        evicted.add(toClose.size());
+        toClose.forEach(ClientConnection::closeResource);
+    }
+
+    private ClientConnection connect(Supplier<ClientConnection> connector) {
+        ClientConnection connection;
+        try {
+            connection = connector.get();
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                connecting--;
+                available.signal();
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+
+        created.increment();
+        lock.lock();
+        try {
+            connecting--;
+            connections.put(connection, ticker.getAsLong());
+        } finally {
+            lock.unlock();
+        }
+        return connection;
+    }
+
+    // must be called while holding the lock
+    private ClientConnection pollIdle(List<ClientConnection> toClose) {
+        long now = ticker.getAsLong();
+        IdleConnection idleConnection;
+        while ((idleConnection = idle.pollFirst()) != null) {
+            ClientConnection connection = idleConnection.connection();
+            if (connection.isConnected() && !expired(connections.get(connection), now)) {
+                return connection;
+            }
+            // closed outside of the lock, no longer counted as open
+            connections.remove(connection);
+            evicted.increment();
+            toClose.add(connection);
+        }
+        return null;
+    }
+
+    private boolean expired(Long createdAt, long now) {
+        return maxLifetimeNanos > 0 && createdAt != null && now - createdAt >= maxLifetimeNanos;
+    }
+
+    private record IdleConnection(ClientConnection connection, long idleSince) {
+    }
+}
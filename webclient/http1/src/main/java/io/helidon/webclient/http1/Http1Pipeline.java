@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.http1;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.DataReader;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.HeaderValues;
+import io.helidon.http.Http1HeadersParser;
+import io.helidon.http.Status;
+import io.helidon.http.WritableHeaders;
+import io.helidon.webclient.api.ClientConnection;
+
+import static java.lang.System.Logger.Level.DEBUG;
+
+/**
+ * HTTP/1.1 pipeline: multiple requests written to a single keep-alive connection before their responses are read.
+ * <p>
+ * Requests are assigned a sequence number when written (writes of whole requests are serialized), and responses
+ * are read strictly in the same order - a request waits until the response to the previous request is fully
+ * processed (its connection released). When the connection is closed (such as when the server does not support
+ * pipelining, or a response was not fully read), requests waiting for their response fail with
+ * {@link io.helidon.webclient.http1.Http1Pipeline.PipelineClosedException}, and should be sent again using a connection
+ * of their own.
+ * <p>
+ * A request that times out waiting for its turn is abandoned, without affecting the other requests: when its turn comes,
+ * its response is read and discarded. If that is not possible (the response is not length delimited), the connection is
+ * closed and the requests behind it are sent again.
+ * <p>
+ * When the last request of the pipeline completes, the connection is released to the connection pool.
+ */
+class Http1Pipeline {
+    private static final System.Logger LOGGER = System.getLogger(Http1Pipeline.class.getName());
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition turnChanged = lock.newCondition();
+    private final ClientConnection connection;
+    private final Http1ClientProtocolConfig protocolConfig;
+    private final int maxRequests;
+    private final Consumer<Http1Pipeline> onClose;
+    private final Runnable onUnexpectedClose;
+
+    // all guarded by lock
+    // number of requests that joined this pipeline and did not complete yet
+    private int members;
+    // sequence number of the next written request
+    private long nextSequence;
+    // sequence number of the request whose response is to be read
+    private long readTurn;
+    // no more requests can join
+    private boolean closed;
+    // connection was closed, requests that did not get a response must be sent again
+    private boolean broken;
+    // requests that timed out waiting for their turn, their responses are discarded (value: whether it was a HEAD request)
+    private final Map<Long, Boolean> abandoned = new HashMap<>();
+
+    Http1Pipeline(ClientConnection connection,
+                  Http1ClientProtocolConfig protocolConfig,
+                  Consumer<Http1Pipeline> onClose,
+                  Runnable onUnexpectedClose) {
+        this.connection = connection;
+        this.protocolConfig = protocolConfig;
+        this.maxRequests = protocolConfig.maxPipelinedRequests();
+        this.onClose = onClose;
+        this.onUnexpectedClose = onUnexpectedClose;
+    }
+
+    /**
+     * Join this pipeline.
+     *
+     * @return a connection to use for a single request, or {@code null} if the pipeline is closed or full
+     */
+    Http1PipelinedConnection join() {
+        lock.lock();
+        try {
+            if (closed || members >= maxRequests || !connection.isConnected()) {
+                return null;
+            }
+            members++;
+            return new Http1PipelinedConnection(this, connection);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Write a whole request.
+     *
+     * @param member request connection
+     * @param buffer request data
+     * @return sequence number of the request
+     */
+    long write(Http1PipelinedConnection member, BufferData buffer) {
+        writeLock.lock();
+        try {
+            long sequence;
+            lock.lock();
+            try {
+                if (broken) {
+                    throw new PipelineClosedException("Pipelined connection " + connection.channelId() + " was closed");
+                }
+                sequence = nextSequence++;
+                // requests ahead of this one did not get their response yet
+                member.behind(sequence != readTurn);
+            } finally {
+                lock.unlock();
+            }
+            connection.writer().write(buffer);
+            connection.writer().flush();
+            return sequence;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Wait until the response to the request can be read.
+     * If the wait times out, the request is abandoned (it is no longer a member of this pipeline), and its response
+     * is discarded when its turn comes.
+     *
+     * @param sequence sequence number of the request
+     * @param timeout  how long to wait, {@code null} or zero to wait until the previous responses are processed
+     * @param head     whether this is a {@code HEAD} request (its response has no entity)
+     * @return {@code true} if it is the turn of the request, {@code false} if the wait timed out
+     */
+    boolean awaitTurn(long sequence, Duration timeout, boolean head) {
+        boolean timed = timeout != null && !timeout.isZero();
+        long remainingNanos = timed ? timeout.toNanos() : Long.MAX_VALUE;
+        lock.lock();
+        try {
+            while (!broken && readTurn != sequence) {
+                if (remainingNanos <= 0) {
+                    members--;
+                    abandoned.put(sequence, head);
+                    return false;
+                }
+                if (timed) {
+                    remainingNanos = turnChanged.awaitNanos(remainingNanos);
+                } else {
+                    turnChanged.await();
+                }
+            }
+            if (broken) {
+                throw new PipelineClosedException("Pipelined connection " + connection.channelId()
+                                                          + " was closed before the response was received");
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PipelineClosedException("Interrupted while waiting for pipelined response", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * A request completed.
+     *
+     * @param sequence sequence number of the request, or {@code -1} if it was not written
+     * @param reuse    whether the response was fully processed and the connection can be used for the next response
+     */
+    void complete(long sequence, boolean reuse) {
+        boolean close = false;
+        lock.lock();
+        try {
+            members--;
+            if (sequence != -1 && sequence == readTurn) {
+                readTurn++;
+            }
+            if (sequence != -1 && (!reuse || sequence > readTurn)) {
+                // request written, but its response was not read, the connection cannot be used anymore
+                close = breakPipeline();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (close) {
+            onClose.accept(this);
+            connection.closeResource();
+        } else {
+            proceed();
+        }
+    }
+
+    /**
+     * Connection was closed unexpectedly while there were requests waiting for their response.
+     */
+    void unexpectedClose() {
+        if (LOGGER.isLoggable(DEBUG)) {
+            LOGGER.log(DEBUG, String.format("[%s] pipelined connection closed unexpectedly, disabling pipelining",
+                                            connection.channelId()));
+        }
+        onUnexpectedClose.run();
+    }
+
+    // discard responses of abandoned requests whose turn came, then release the connection if there are no more members
+    private void proceed() {
+        while (true) {
+            Boolean head;
+            boolean release = false;
+            lock.lock();
+            try {
+                head = broken ? null : abandoned.remove(readTurn);
+                if (head == null && members == 0 && !closed) {
+                    closed = true;
+                    release = true;
+                }
+                turnChanged.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            if (head == null) {
+                if (release) {
+                    onClose.accept(this);
+                    connection.releaseResource();
+                }
+                return;
+            }
+
+            boolean discarded = discardResponse(head);
+            boolean close = false;
+            lock.lock();
+            try {
+                readTurn++;
+                if (!discarded) {
+                    close = breakPipeline();
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (close) {
+                onClose.accept(this);
+                connection.closeResource();
+                return;
+            }
+        }
+    }
+
+    // must be called while holding the lock, returns whether the connection should be closed
+    private boolean breakPipeline() {
+        boolean close = !broken;
+        broken = true;
+        closed = true;
+        turnChanged.signalAll();
+        return close;
+    }
+
+    // only length delimited responses can be discarded, as the response is not processed by a client response
+    private boolean discardResponse(boolean head) {
+        DataReader reader = connection.reader();
+        try {
+            Status status;
+            WritableHeaders<?> headers;
+            do {
+                status = Http1StatusParser.readStatus(reader, protocolConfig.maxStatusLineLength());
+                headers = Http1HeadersParser.readHeaders(reader, protocolConfig.maxHeaderSize(), false);
+            } while (status.family() == Status.Family.INFORMATIONAL);
+
+            if (headers.contains(HeaderValues.CONNECTION_CLOSE)) {
+                return false;
+            }
+            if (head
+                    || status.code() == Status.NO_CONTENT_204.code()
+                    || status.code() == Status.NOT_MODIFIED_304.code()) {
+                return true;
+            }
+            if (!headers.contains(HeaderNames.CONTENT_LENGTH)) {
+                return false;
+            }
+            long length = headers.contentLength().orElse(-1);
+            if (length < 0 || length > Integer.MAX_VALUE) {
+                return false;
+            }
+            reader.skip((int) length);
+            if (LOGGER.isLoggable(DEBUG)) {
+                LOGGER.log(DEBUG, String.format("[%s] discarded response to an abandoned pipelined request, status %s",
+                                                connection.channelId(),
+                                                status));
+            }
+            return true;
+        } catch (RuntimeException e) {
+            if (LOGGER.isLoggable(DEBUG)) {
+                LOGGER.log(DEBUG, String.format("[%s] failed to discard response to an abandoned pipelined request",
+                                                connection.channelId()), e);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * The pipelined connection was closed before the response to a request was received.
+     * The request was not processed (or its response was lost), and can be sent again.
+     */
+    static class PipelineClosedException extends IllegalStateException {
+        PipelineClosedException(String message) {
+            super(message);
+        }
+
+        PipelineClosedException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.http1;
+
+import java.io.UncheckedIOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.DataReader;
+import io.helidon.common.buffers.DataWriter;
+import io.helidon.common.socket.HelidonSocket;
+import io.helidon.webclient.api.ClientConnection;
+
+/**
+ * Connection used by a single request of a {@link io.helidon.webclient.http1.Http1Pipeline}.
+ * The request must be written using a single write to {@link #writer()} (such as by
+ * {@link io.helidon.webclient.http1.Http1CallEntityChain}), and its response must be read only after
+ * {@link #awaitResponse()} returns.
+ */
+class Http1PipelinedConnection implements ClientConnection {
+    private final AtomicBoolean completed = new AtomicBoolean();
+    private final Http1Pipeline pipeline;
+    private final ClientConnection connection;
+    private final DataWriter writer = new PipelineWriter();
+
+    private volatile long sequence = -1;
+    private volatile boolean behind;
+    private volatile boolean head;
+    private volatile boolean abandoned;
+    // whether responses to all previous requests are processed, so this request is reading from the connection
+    private volatile boolean reading;
+    private volatile Duration readTimeout;
+
+    Http1PipelinedConnection(Http1Pipeline pipeline, ClientConnection connection) {
+        this.pipeline = pipeline;
+        this.connection = connection;
+    }
+
+    @Override
+    public DataReader reader() {
+        return connection.reader();
+    }
+
+    @Override
+    public DataWriter writer() {
+        return writer;
+    }
+
+    @Override
+    public String channelId() {
+        return connection.channelId();
+    }
+
+    @Override
+    public HelidonSocket helidonSocket() {
+        return connection.helidonSocket();
+    }
+
+    @Override
+    public void readTimeout(Duration readTimeout) {
+        this.readTimeout = readTimeout;
+        // the connection is shared, its timeout must not change while a previous request reads its response
+        if (reading) {
+            connection.readTimeout(readTimeout);
+        }
+    }
+
+    @Override
+    public boolean allowExpectContinue() {
+        return false;
+    }
+
+    @Override
+    public boolean isConnected() {
+        return connection.isConnected();
+    }
+
+    @Override
+    public void releaseResource() {
+        if (completed.compareAndSet(false, true)) {
+            pipeline.complete(sequence, true);
+        }
+    }
+
+    @Override
+    public void closeResource() {
+        if (completed.compareAndSet(false, true)) {
+            pipeline.complete(sequence, false);
+        }
+    }
+
+    /**
+     * Wait until the responses to all previous requests of the pipeline are processed.
+     * If this times out (see {@link #readTimeout(java.time.Duration)}), the request is abandoned, and its response
+     * is discarded by the pipeline.
+     *
+     * @throws java.io.UncheckedIOException with {@link java.net.SocketTimeoutException} cause if timed out
+     */
+    void awaitResponse() {
+        if (sequence == -1) {
+            throw new IllegalStateException("Request was not sent");
+        }
+        if (!pipeline.awaitTurn(sequence, readTimeout, head)) {
+            abandoned = true;
+            // no longer a member of the pipeline
+            completed.set(true);
+            throw new UncheckedIOException(new SocketTimeoutException("Timed out waiting for responses to previous "
+                                                                              + "requests on pipelined connection "
+                                                                              + channelId()));
+        }
+        reading = true;
+        Duration timeout = readTimeout;
+        if (timeout != null) {
+            connection.readTimeout(timeout);
+        }
+    }
+
+    /**
+     * Whether the request may be sent again after a failure: it was either not written at all, or it was written while
+     * responses to previous requests were pending (so the failure is likely caused by the server not supporting
+     * pipelining).
+     *
+     * @return whether the request can be sent using another connection
+     */
+    boolean retryable() {
+        return !abandoned && (sequence == -1 || behind);
+    }
+
+    /**
+     * Whether the request timed out waiting for responses to previous requests, and its response is discarded.
+     *
+     * @return whether the request was abandoned
+     */
+    boolean abandoned() {
+        return abandoned;
+    }
+
+    /**
+     * Whether this is a {@code HEAD} request, so its response has no entity.
+     *
+     * @param head whether this is a {@code HEAD} request
+     */
+    void head(boolean head) {
+        this.head = head;
+    }
+
+    /**
+     * Whether the request was written while responses to previous requests were pending.
+     *
+     * @return whether the request was pipelined behind another one
+     */
+    boolean behind() {
+        return behind;
+    }
+
+    void behind(boolean behind) {
+        this.behind = behind;
+    }
+
+    Http1Pipeline pipeline() {
+        return pipeline;
+    }
+
+    private class PipelineWriter implements DataWriter {
+        @Override
+        public void write(BufferData... buffers) {
+            if (buffers.length == 1) {
+                write(buffers[0]);
+                return;
+            }
+            int length = 0;
+            for (BufferData buffer : buffers) {
+                length += buffer.available();
+            }
+            BufferData all = BufferData.create(length);
+            for (BufferData buffer : buffers) {
+                all.write(buffer);
+            }
+            write(all);
+        }
+
+        @Override
+        public void write(BufferData buffer) {
+            if (sequence != -1) {
+                throw new IllegalStateException("Pipelined request must be written at once");
+            }
+            sequence = pipeline.write(Http1PipelinedConnection.this, buffer);
+        }
+
+        @Override
+        public void writeNow(BufferData... buffers) {
+            write(buffers);
+        }
+
+        @Override
+        public void writeNow(BufferData buffer) {
+            write(buffer);
+        }
+    }
+}
@@ -41,5 +41,6 @@ module io.helidon.webclient.http1 {
             with io.helidon.webclient.http1.Http1ProtocolConfigProvider;
 
     uses io.helidon.webclient.spi.SourceHandlerProvider;
+    uses io.helidon.webclient.spi.ConnectionPoolListener;
 
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.http1;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import io.helidon.common.socket.HelidonSocket;
+import io.helidon.common.tls.Tls;
+import io.helidon.webclient.api.ClientConnection;
+import io.helidon.webclient.api.ConnectionKey;
+import io.helidon.webclient.api.DefaultDnsResolver;
+import io.helidon.webclient.api.DnsAddressLookup;
+import io.helidon.webclient.api.Proxy;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class Http1ConnectionPoolTest {
+    private static final ConnectionKey KEY = ConnectionKey.create("http",
+                                                                  "localhost",
+                                                                  8080,
+                                                                  Tls.builder().enabled(false).build(),
+                                                                  DefaultDnsResolver.create(),
+                                                                  DnsAddressLookup.defaultLookup(),
+                                                                  Proxy.noProxy());
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void testReuseIdleConnection() {
+        Http1ConnectionPool pool = pool(builder -> { });
+
+        ClientConnection first = pool.acquire(() -> connection(pool));
+        assertThat(pool.release(first), is(true));
+        ClientConnection second = pool.acquire(() -> connection(pool));
+
+        assertThat(second, is(first));
+        assertThat(pool.created(), is(1L));
+        assertThat(pool.active(), is(1));
+        assertThat(pool.idle(), is(0));
+    }
+
+    @Test
+    void testAcquireTimeout() {
+        Http1ConnectionPool pool = pool(builder -> builder.maxConnectionsPerRoute(1)
+                .connectionAcquireTimeout(Duration.ofMillis(10)));
+
+        pool.acquire(() -> connection(pool));
+        assertThrows(IllegalStateException.class, () -> pool.acquire(() -> connection(pool)));
+        assertThat(pool.created(), is(1L));
+    }
+
+    @Test
+    void testWaitForReleasedConnection() throws Exception {
+        Http1ConnectionPool pool = pool(builder -> builder.maxConnectionsPerRoute(1)
+                .connectionAcquireTimeout(Duration.ofSeconds(10)));
+
+        ClientConnection first = pool.acquire(() -> connection(pool));
+        CompletableFuture<ClientConnection> waiting = CompletableFuture.supplyAsync(() -> pool.acquire(() -> connection(pool)));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (pool.pending() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(pool.pending(), is(1));
+
+        pool.release(first);
+
+        assertThat(waiting.get(10, TimeUnit.SECONDS), is(first));
+        assertThat(pool.pending(), is(0));
+        assertThat(pool.created(), is(1L));
+    }
+
+    @Test
+    void testClosedConnectionFreesCapacity() {
+        Http1ConnectionPool pool = pool(builder -> builder.maxConnectionsPerRoute(1)
+                .connectionAcquireTimeout(Duration.ofMillis(10)));
+
+        ClientConnection first = pool.acquire(() -> connection(pool));
+        first.closeResource();
+        ClientConnection second = pool.acquire(() -> connection(pool));
+
+        assertThat(second, is(not(first)));
+        assertThat(pool.created(), is(2L));
+    }
+
+    @Test
+    void testIdleEvictionKeepsMinConnections() {
+        Http1ConnectionPool pool = pool(builder -> builder.minConnectionsPerRoute(1)
+                .idleConnectionTimeout(Duration.ofSeconds(1)));
+
+        ClientConnection first = pool.acquire(() -> connection(pool));
+        ClientConnection second = pool.acquire(() -> connection(pool));
+        pool.release(first);
+        pool.release(second);
+
+        pool.evictIdle();
+        assertThat(pool.idle(), is(2));
+
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+        pool.evictIdle();
+
+        assertThat(pool.idle(), is(1));
+        assertThat(pool.evicted(), is(1L));
+        // the connection idle for the longest time is evicted first
+        assertThat(pool.acquire(() -> connection(pool)), is(second));
+    }
+
+    @Test
+    void testMaxLifetime() {
+        Http1ConnectionPool pool = pool(builder -> builder.minConnectionsPerRoute(1)
+                .maxConnectionLifetime(Duration.ofSeconds(1)));
+
+        ClientConnection first = pool.acquire(() -> connection(pool));
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+
+        // expired connection is not returned to the pool
+        assertThat(pool.release(first), is(false));
+    }
+
+    @Test
+    void testPrewarm() {
+        Http1ConnectionPool pool = pool(builder -> builder.maxConnectionsPerRoute(2));
+
+        pool.prewarm(3, () -> connection(pool));
+
+        assertThat(pool.idle(), is(2));
+        assertThat(pool.active(), is(0));
+        assertThat(pool.created(), is(2L));
+    }
+
+    private Http1ConnectionPool pool(Consumer<Http1ClientProtocolConfig.Builder> protocolConfig) {
+        Http1ClientProtocolConfig.Builder builder = Http1ClientProtocolConfig.builder();
+        protocolConfig.accept(builder);
+        Http1ClientConfig clientConfig = Http1ClientConfig.builder()
+                .protocolConfig(builder.build())
+                .buildPrototype();
+        return new Http1ConnectionPool(KEY, clientConfig, now::get);
+    }
+
+    private static ClientConnection connection(Http1ConnectionPool pool) {
+        ClientConnection connection = mock(ClientConnection.class);
+        when(connection.isConnected()).thenReturn(true);
+        when(connection.helidonSocket()).thenReturn(mock(HelidonSocket.class));
+        when(connection.channelId()).thenReturn("test");
+        doAnswer(invocation -> {
+            pool.closed(connection);
+            return null;
+        }).when(connection).closeResource();
+        return connection;
+    }
+}
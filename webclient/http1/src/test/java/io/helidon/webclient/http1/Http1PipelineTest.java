@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.http1;
+
+import java.io.UncheckedIOException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.DataReader;
+import io.helidon.common.buffers.DataWriter;
+import io.helidon.webclient.api.ClientConnection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class Http1PipelineTest {
+    private final AtomicInteger removed = new AtomicInteger();
+    private final AtomicInteger unexpectedClosed = new AtomicInteger();
+
+    private ClientConnection connection;
+    private DataWriter writer;
+    private Http1Pipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        connection = mock(ClientConnection.class);
+        writer = mock(DataWriter.class);
+        when(connection.writer()).thenReturn(writer);
+        when(connection.isConnected()).thenReturn(true);
+        when(connection.channelId()).thenReturn("test");
+        pipeline = pipeline(2);
+    }
+
+    @Test
+    void testResponsesInOrder() {
+        Http1PipelinedConnection first = pipeline.join();
+        Http1PipelinedConnection second = pipeline.join();
+        // pipeline is full
+        assertThat(pipeline.join(), nullValue());
+
+        first.writer().write(BufferData.create("first"));
+        second.writer().write(BufferData.create("second"));
+        verify(writer, times(2)).write(any(BufferData.class));
+        assertThat(first.behind(), is(false));
+        assertThat(second.behind(), is(true));
+
+        first.awaitResponse();
+        first.releaseResource();
+        second.awaitResponse();
+        verify(connection, never()).releaseResource();
+
+        second.releaseResource();
+        verify(connection).releaseResource();
+        verify(connection, never()).closeResource();
+        assertThat(removed.get(), is(1));
+        // released pipeline cannot be joined
+        assertThat(pipeline.join(), nullValue());
+    }
+
+    @Test
+    void testClosedResponseBreaksPipeline() {
+        Http1PipelinedConnection first = pipeline.join();
+        Http1PipelinedConnection second = pipeline.join();
+        first.writer().write(BufferData.create("first"));
+        second.writer().write(BufferData.create("second"));
+
+        first.awaitResponse();
+        // such as when the response entity was not fully read
+        first.closeResource();
+
+        assertThrows(Http1Pipeline.PipelineClosedException.class, second::awaitResponse);
+        assertThat(second.retryable(), is(true));
+        second.closeResource();
+
+        verify(connection, times(1)).closeResource();
+        verify(connection, never()).releaseResource();
+        assertThat(removed.get(), is(1));
+    }
+
+    @Test
+    void testNotWrittenRequestDoesNotBreakPipeline() {
+        Http1PipelinedConnection first = pipeline.join();
+        Http1PipelinedConnection second = pipeline.join();
+        first.writer().write(BufferData.create("first"));
+
+        // such as failed header validation
+        assertThat(second.retryable(), is(true));
+        second.closeResource();
+
+        first.awaitResponse();
+        first.releaseResource();
+        verify(connection).releaseResource();
+        verify(connection, never()).closeResource();
+    }
+
+    @Test
+    void testTimeoutAbandonsOnlyRequest() {
+        Http1Pipeline pipeline = pipeline(3);
+        // response to the second request is discarded, the third request reads its own response
+        when(connection.reader()).thenReturn(reader("HTTP/1.1 200 OK\r\n"
+                                                            + "Content-Length: 6\r\n"
+                                                            + "\r\n"
+                                                            + "second"
+                                                            + "HTTP/1.1 200 OK\r\n"));
+        Http1PipelinedConnection first = pipeline.join();
+        Http1PipelinedConnection second = pipeline.join();
+        Http1PipelinedConnection third = pipeline.join();
+        first.writer().write(BufferData.create("first"));
+        second.writer().write(BufferData.create("second"));
+        third.writer().write(BufferData.create("third"));
+
+        first.awaitResponse();
+        second.readTimeout(Duration.ofMillis(10));
+        // the first request is reading from the shared connection, its timeout must not change
+        verify(connection, never()).readTimeout(any(Duration.class));
+        UncheckedIOException timeout = assertThrows(UncheckedIOException.class, second::awaitResponse);
+        assertThat(timeout.getCause(), instanceOf(SocketTimeoutException.class));
+        assertThat(second.abandoned(), is(true));
+        assertThat(second.retryable(), is(false));
+        // no effect, the request is no longer a member of the pipeline
+        second.closeResource();
+
+        first.releaseResource();
+        third.awaitResponse();
+        assertThat(connection.reader().readAsciiString(8), is("HTTP/1.1"));
+        third.releaseResource();
+
+        verify(connection).releaseResource();
+        verify(connection, never()).closeResource();
+    }
+
+    @Test
+    void testAbandonedChunkedResponseBreaksPipeline() {
+        Http1Pipeline pipeline = pipeline(3);
+        when(connection.reader()).thenReturn(reader("HTTP/1.1 200 OK\r\n"
+                                                            + "Transfer-Encoding: chunked\r\n"
+                                                            + "\r\n"));
+        Http1PipelinedConnection first = pipeline.join();
+        Http1PipelinedConnection second = pipeline.join();
+        Http1PipelinedConnection third = pipeline.join();
+        first.writer().write(BufferData.create("first"));
+        second.writer().write(BufferData.create("second"));
+        third.writer().write(BufferData.create("third"));
+
+        first.awaitResponse();
+        second.readTimeout(Duration.ofMillis(10));
+        assertThrows(UncheckedIOException.class, second::awaitResponse);
+
+        // cannot find the end of the discarded response
+        first.releaseResource();
+        assertThrows(Http1Pipeline.PipelineClosedException.class, third::awaitResponse);
+        assertThat(third.retryable(), is(true));
+        third.closeResource();
+
+        verify(connection).closeResource();
+        verify(connection, never()).releaseResource();
+    }
+
+    @Test
+    void testUnexpectedClose() {
+        pipeline.unexpectedClose();
+        assertThat(unexpectedClosed.get(), is(1));
+    }
+
+    private Http1Pipeline pipeline(int maxRequests) {
+        return new Http1Pipeline(connection,
+                                 Http1ClientProtocolConfig.builder()
+                                         .maxPipelinedRequests(maxRequests)
+                                         .build(),
+                                 it -> removed.incrementAndGet(),
+                                 unexpectedClosed::incrementAndGet);
+    }
+
+    private static DataReader reader(String data) {
+        AtomicBoolean read = new AtomicBoolean();
+        return DataReader.create(() -> read.getAndSet(true) ? null : data.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -136,10 +136,6 @@ abstract class Http2CallChainBase implements WebClientService.Chain {
         }
     }
 
-    ClientRequestHeaders requestHeaders() {
-        return requestHeaders;
-    }
-
     Status responseStatus() {
         return responseStatus;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,6 +29,13 @@ class Http2ClientConfigSupport {
                         "Max frame size needs to be a number between 2^14(16_384) and 2^24-1(16_777_215)"
                 );
             }
+            if (target.maxConnectionsPerRoute() < 1) {
+                throw new IllegalArgumentException("Max connections per route must be at least 1");
+            }
+            double threshold = target.connectionScaleUpThreshold();
+            if (threshold <= 0 || threshold > 1) {
+                throw new IllegalArgumentException("Connection scale up threshold must be greater than 0 and at most 1");
+            }
         }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -87,9 +88,12 @@ public class Http2ClientConnection {
     private final DataWriter dataWriter;
     private final Semaphore pingPongSemaphore = new Semaphore(0);
     private final Http2ClientConfig clientConfig;
+    // streams created and not yet closed, used to balance streams between connections to the same endpoint
+    private final AtomicInteger openStreams = new AtomicInteger();
     private volatile int lastStreamId;
+    private volatile long idleSince = System.nanoTime();
 
-    private Http2Settings serverSettings = Http2Settings.builder()
+    private volatile Http2Settings serverSettings = Http2Settings.builder()
             .build();
     private Future<?> handleTask;
     private final AtomicReference<State> state = new AtomicReference<>(State.OPEN);
@@ -166,9 +170,58 @@ public class Http2ClientConnection {
                 config,
                 clientConfig,
                 streamIdSeq);
+        openStreams.incrementAndGet();
         return stream;
     }
 
+    /**
+     * Number of streams created on this connection that are not closed yet.
+     *
+     * @return number of open streams
+     */
+    int openStreams() {
+        return openStreams.get();
+    }
+
+    /**
+     * Time (as {@link System#nanoTime()}) when the last open stream of this connection was closed.
+     * Only meaningful if there are no {@link #openStreams()}.
+     *
+     * @return time since the connection is idle
+     */
+    long idleSince() {
+        return idleSince;
+    }
+
+    /**
+     * Maximal number of concurrent streams the server allows on this connection (setting
+     * {@code SETTINGS_MAX_CONCURRENT_STREAMS}).
+     *
+     * @return maximal number of concurrent streams, {@link Long#MAX_VALUE} if not limited by the server
+     */
+    long maxConcurrentStreams() {
+        Http2Settings settings = serverSettings;
+        if (settings.hasValue(Http2Setting.MAX_CONCURRENT_STREAMS)) {
+            return settings.value(Http2Setting.MAX_CONCURRENT_STREAMS);
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Whether this connection is open, without checking it with ping (as opposed to {@link #closed()}).
+     *
+     * @return whether the connection is open
+     */
+    boolean isOpen() {
+        return !state.get().closed();
+    }
+
+    void streamClosed() {
+        if (openStreams.decrementAndGet() == 0) {
+            idleSince = System.nanoTime();
+        }
+    }
+
     /**
      * Adds a stream to the connection.
      *
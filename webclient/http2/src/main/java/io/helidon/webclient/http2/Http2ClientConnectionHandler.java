@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,10 +16,12 @@
 
 package io.helidon.webclient.http2;
 
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -50,7 +52,8 @@ import io.helidon.webclient.http2.Http2ConnectionAttemptResult.Result;
 import static java.lang.System.Logger.Level.TRACE;
 
 // a representation of a single remote endpoint
-// this may use one or more connections (depending on parallel streams)
+// this may use one or more connections (depending on parallel streams), new streams are created on the connection
+// with the least open streams, new connections are opened when all connections approach their stream limit
 class Http2ClientConnectionHandler {
     private static final System.Logger LOGGER = System.getLogger(Http2ClientConnectionHandler.class.getName());
     private static final Header CONNECTION_UPGRADE_HEADER = HeaderValues.createCached(HeaderNames.CONNECTION,
@@ -65,7 +68,8 @@ class Http2ClientConnectionHandler {
 
     private final Map<Http2ClientConnection, Boolean> allConnections = Collections.synchronizedMap(new IdentityHashMap<>());
     private final ConnectionKey connectionKey;
-    private final AtomicReference<Http2ClientConnection> activeConnection = new AtomicReference<>();
+    // connections used for new streams, guarded by lock
+    private final List<Http2ClientConnection> connections = new ArrayList<>();
     private final ReentrantLock lock = new ReentrantLock();
     private final AtomicReference<Result> result = new AtomicReference<>(Result.UNKNOWN);
 
@@ -77,10 +81,15 @@ class Http2ClientConnectionHandler {
         // this is to prevent concurrent modification (connections remove themselves from the map)
         Set<Http2ClientConnection> toClose = new HashSet<>(allConnections.keySet());
         toClose.forEach(Http2ClientConnection::close);
-        Http2ClientConnection active = this.activeConnection.getAndSet(null);
-        if (active != null) {
-            active.close();
+        List<Http2ClientConnection> active;
+        lock.lock();
+        try {
+            active = List.copyOf(connections);
+            connections.clear();
+        } finally {
+            lock.unlock();
         }
+        active.forEach(Http2ClientConnection::close);
         this.allConnections.clear();
     }
 
@@ -106,18 +115,24 @@ class Http2ClientConnectionHandler {
         }
         try {
             // read/write lock to obtain a stream or create a new connection
-            Http2ClientConnection conn = activeConnection.updateAndGet(c -> c != null && c.closed() ? null : c);
-            Http2ClientStream stream;
-            if (conn == null) {
-                conn = createConnection(http2Client, request, initialUri);
-                // we must assume that a new connection can handle a new stream
-                stream = conn.createStream(request);
-            } else {
-                stream = conn.tryStream(request);
-                if (stream == null) {
-                    // either the connection is closed, or it ran out of streams
+            Http2ClientStream stream = null;
+            while (stream == null) {
+                Http2ClientConnection conn = selectConnection(http2Client.protocolConfig());
+                if (conn == null) {
+                    // selection only returns null if there are fewer connections than allowed
                     conn = createConnection(http2Client, request, initialUri);
+                    // we must assume that a new connection can handle a new stream
                     stream = conn.createStream(request);
+                } else {
+                    stream = conn.tryStream(request);
+                    if (stream == null) {
+                        // either the connection is closed, or it ran out of streams, it cannot be used for new streams
+                        // and must not count towards the maximal number of connections; select again
+                        connections.remove(conn);
+                        if (conn.isOpen() && conn.openStreams() == 0) {
+                            conn.close();
+                        }
+                    }
                 }
             }
 
@@ -156,7 +171,7 @@ class Http2ClientConnectionHandler {
                                                                                         true);
                         allConnections.put(connection, true);
                         h2ConnByConn.put(tcpClientConnection, connection);
-                        this.activeConnection.set(connection);
+                        connections.add(connection);
                         return http2(http2Client, request, initialUri);
                     } else {
                         result.set(Result.HTTP_1);
@@ -189,7 +204,7 @@ class Http2ClientConnectionHandler {
                 Http2ClientConnection conn = Http2ClientConnection.create(http2Client,
                                                                           upgradeResponse.connection(),
                                                                           false);
-                activeConnection.set(conn);
+                connections.add(conn);
                 return http2(http2Client, request, initialUri);
             } else {
                 result.set(Result.HTTP_1);
@@ -202,6 +217,49 @@ class Http2ClientConnectionHandler {
         }
     }
 
+    // must be called while holding the lock
+    // returns null if a new connection should be created
+    private Http2ClientConnection selectConnection(Http2ClientProtocolConfig protocolConfig) {
+        long now = System.nanoTime();
+        long idleTimeout = protocolConfig.idleConnectionTimeout().toNanos();
+        Http2ClientConnection selected = null;
+
+        Iterator<Http2ClientConnection> iterator = connections.iterator();
+        while (iterator.hasNext()) {
+            Http2ClientConnection conn = iterator.next();
+            if (!conn.isOpen()) {
+                iterator.remove();
+                continue;
+            }
+            if (connections.size() > 1 && conn.openStreams() == 0 && now - conn.idleSince() >= idleTimeout) {
+                // scale down, we keep at least one connection
+                iterator.remove();
+                conn.close();
+                continue;
+            }
+            if (selected == null || conn.openStreams() < selected.openStreams()) {
+                selected = conn;
+            }
+        }
+
+        if (selected == null) {
+            return null;
+        }
+        if (selected.closed()) {
+            // failed ping, or closed in the meantime
+            connections.remove(selected);
+            return selectConnection(protocolConfig);
+        }
+        if (connections.size() < protocolConfig.maxConnectionsPerRoute()) {
+            long streamLimit = Math.min(selected.maxConcurrentStreams(), protocolConfig.maxStreamsPerConnection());
+            if (selected.openStreams() >= streamLimit * protocolConfig.connectionScaleUpThreshold()) {
+                // even the least used connection is close to its limit, scale up
+                return null;
+            }
+        }
+        return selected;
+    }
+
     private String settingsForUpgrade(Http2ClientProtocolConfig protocolConfig) {
         Http2Settings settings = Http2ClientConnection.settings(protocolConfig);
         BufferData settingsFrameData = settings.toFrameData(null, 0, Http2Flag.SettingsFlags.create(0))
@@ -286,7 +344,7 @@ class Http2ClientConnectionHandler {
             }
 
             // only set these for requests that do not have an explicit connection defined
-            activeConnection.set(usedConnection);
+            connections.add(usedConnection);
             allConnections.put(usedConnection, true);
             h2ConnByConn.put(connection, usedConnection);
         }
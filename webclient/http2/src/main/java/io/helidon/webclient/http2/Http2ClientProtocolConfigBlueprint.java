@@ -128,4 +128,50 @@ interface Http2ClientProtocolConfigBlueprint extends ProtocolConfig {
     @Option.Configured
     @Option.Default("PT0.5S")
     Duration pingTimeout();
+
+    /**
+     * Maximal number of connections to a single endpoint (host, port, TLS and proxy configuration).
+     * Streams are created on the connection with the least open streams. A new connection is opened when
+     * all connections are close to their stream limit (see {@link #connectionScaleUpThreshold()}), until this
+     * number of connections is reached.
+     * Defaults to {@code 1}, so all streams to an endpoint share a single connection.
+     *
+     * @return maximal number of connections per endpoint
+     */
+    @Option.Configured
+    @Option.DefaultInt(1)
+    int maxConnectionsPerRoute();
+
+    /**
+     * Maximal number of concurrent streams the client plans to open on a single connection before opening another one.
+     * The effective limit is the lower of this value and {@code SETTINGS_MAX_CONCURRENT_STREAMS} sent by the server.
+     * Only used when {@link #maxConnectionsPerRoute()} is greater than {@code 1}.
+     *
+     * @return maximal number of streams per connection
+     */
+    @Option.Configured
+    @Option.DefaultInt(100)
+    int maxStreamsPerConnection();
+
+    /**
+     * Ratio of the stream limit of a connection (see {@link #maxStreamsPerConnection()}) that triggers opening
+     * of a new connection, if all existing connections reached it.
+     * Defaults to {@code 0.75}.
+     *
+     * @return ratio between {@code 0} and {@code 1}
+     */
+    @Option.Configured
+    @Option.DefaultDouble(0.75)
+    double connectionScaleUpThreshold();
+
+    /**
+     * Connections without open streams for this duration are closed, except for the last connection to an endpoint.
+     * Idle connections are checked when a new stream is requested for the endpoint.
+     * Defaults to {@code PT30S}.
+     *
+     * @return idle timeout of additional connections
+     */
+    @Option.Configured
+    @Option.Default("PT30S")
+    Duration idleConnectionTimeout();
 }
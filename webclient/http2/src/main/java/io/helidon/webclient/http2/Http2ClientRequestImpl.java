@@ -195,7 +195,7 @@ class Http2ClientRequestImpl extends ClientRequestBase<Http2ClientRequest, Http2
         // if this was an HTTP/1.1 response, do something different (just re-use response)
         return new Http2ClientResponseImpl(clientConfig(),
                                            serviceResponse.status(),
-                                           callChain.requestHeaders(),
+                                           serviceResponse.serviceRequest().headers(),
                                            serviceResponse.headers(),
                                            serviceResponse.trailers(),
                                            serviceResponse.inputStream().orElse(null),
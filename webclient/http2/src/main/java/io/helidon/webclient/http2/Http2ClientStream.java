@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.helidon.common.buffers.BufferData;
 import io.helidon.common.socket.SocketContext;
@@ -73,6 +74,7 @@ public class Http2ClientStream implements Http2Stream, ReleasableResource {
     private final Http2Settings settings = Http2Settings.create();
     private final List<Http2FrameData> continuationData = new ArrayList<>();
     private final CompletableFuture<Headers> trailers = new CompletableFuture<>();
+    private final AtomicBoolean closed = new AtomicBoolean();
 
     private Http2StreamState state = Http2StreamState.IDLE;
     private ReadState readState = ReadState.INIT;
@@ -228,6 +230,9 @@ public class Http2ClientStream implements Http2Stream, ReleasableResource {
      * Removes the stream from underlying connection.
      */
     public void close() {
+        if (!closed.getAndSet(true)) {
+            connection.streamClosed();
+        }
         connection.removeStream(streamId);
     }
 
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.helidon.metrics.api.FunctionalCounter;
+import io.helidon.metrics.api.Gauge;
+import io.helidon.metrics.api.Meter;
+import io.helidon.metrics.api.MeterRegistry;
+import io.helidon.metrics.api.Metrics;
+import io.helidon.metrics.api.Tag;
+import io.helidon.webclient.api.ConnectionKey;
+import io.helidon.webclient.api.ConnectionPoolStats;
+import io.helidon.webclient.spi.ConnectionPoolListener;
+
+/**
+ * Registers metrics of client connection pools.
+ * For each pool, gauges {@code client.connection.pool.active}, {@code client.connection.pool.idle} and
+ * {@code client.connection.pool.pending}, and counters {@code client.connection.pool.created} and
+ * {@code client.connection.pool.evicted} are registered, tagged with protocol, scheme, host and port of the pool,
+ * and with the id of the pool (as clients that do not share a connection cache have their own pools).
+ * The meters are removed when the pool is closed.
+ *
+ * @deprecated This class should only be used via {@link java.util.ServiceLoader}.
+ */
+@Deprecated
+public class WebClientConnectionPoolMetrics implements ConnectionPoolListener {
+    private static final String PREFIX = "client.connection.pool.";
+
+    private final MeterRegistry registry;
+    private final Map<ConnectionPoolStats, List<Meter>> meters = new ConcurrentHashMap<>();
+
+    /**
+     * Required public constructor.
+     *
+     * @deprecated This class should only be used via {@link java.util.ServiceLoader}.
+     */
+    @Deprecated
+    public WebClientConnectionPoolMetrics() {
+        this.registry = Metrics.globalRegistry();
+    }
+
+    @Override
+    public void poolCreated(String protocolId, ConnectionPoolStats stats) {
+        ConnectionKey key = stats.connectionKey();
+        List<Tag> tags = List.of(Tag.create("protocol", protocolId),
+                                 Tag.create("scheme", key.scheme()),
+                                 Tag.create("host", key.host()),
+                                 Tag.create("port", String.valueOf(key.port())),
+                                 Tag.create("pool", stats.id()));
+
+        meters.put(stats, List.of(
+                registry.getOrCreate(Gauge.builder(PREFIX + "active", stats, ConnectionPoolStats::active)
+                                             .description("Connections used by requests")
+                                             .tags(tags)),
+                registry.getOrCreate(Gauge.builder(PREFIX + "idle", stats, ConnectionPoolStats::idle)
+                                             .description("Open connections waiting to be reused")
+                                             .tags(tags)),
+                registry.getOrCreate(Gauge.builder(PREFIX + "pending", stats, ConnectionPoolStats::pending)
+                                             .description("Requests waiting for a connection")
+                                             .tags(tags)),
+                registry.getOrCreate(FunctionalCounter.builder(PREFIX + "created", stats, ConnectionPoolStats::created)
+                                             .description("Connections created")
+                                             .tags(tags)),
+                registry.getOrCreate(FunctionalCounter.builder(PREFIX + "evicted", stats, ConnectionPoolStats::evicted)
+                                             .description("Idle connections closed by the pool")
+                                             .tags(tags))));
+    }
+
+    @Override
+    public void poolClosed(String protocolId, ConnectionPoolStats stats) {
+        List<Meter> poolMeters = meters.remove(stats);
+        if (poolMeters != null) {
+            poolMeters.forEach(registry::remove);
+        }
+    }
+}
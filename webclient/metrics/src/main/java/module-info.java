@@ -34,5 +34,7 @@ module io.helidon.webclient.metrics {
 
     provides io.helidon.webclient.spi.WebClientServiceProvider
             with io.helidon.webclient.metrics.WebClientMetricsProvider;
+    provides io.helidon.webclient.spi.ConnectionPoolListener
+            with io.helidon.webclient.metrics.WebClientConnectionPoolMetrics;
 
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.tests;
+
+import java.io.UncheckedIOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.http.HeaderValues;
+import io.helidon.webclient.http1.Http1Client;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ServerTest
+class PipeliningTest {
+    private static volatile CountDownLatch slowReceived = new CountDownLatch(1);
+    private static volatile CountDownLatch closeReceived = new CountDownLatch(1);
+
+    private final URI uri;
+
+    PipeliningTest(URI uri) {
+        this.uri = uri;
+    }
+
+    @SetUpRoute
+    static void route(HttpRouting.Builder router) {
+        router.get("/slow", (req, res) -> {
+            slowReceived.countDown();
+            Thread.sleep(1000);
+            res.send("slow:" + req.remotePeer().port());
+        });
+        router.get("/close", (req, res) -> {
+            closeReceived.countDown();
+            Thread.sleep(500);
+            // requests pipelined behind this one are not processed
+            res.header(HeaderValues.CONNECTION_CLOSE);
+            res.send("close:" + req.remotePeer().port());
+        });
+        router.get("/fast/{name}", (req, res) -> res.send(req.path().pathParameters().get("name")
+                                                                  + ":" + req.remotePeer().port()));
+    }
+
+    @Test
+    void testTimeoutAbandonsOnlyTimedOutRequest() throws Exception {
+        Http1Client client = client();
+        slowReceived = new CountDownLatch(1);
+        CompletableFuture<String> slow = CompletableFuture.supplyAsync(() -> client.get("/slow")
+                .readTimeout(Duration.ofSeconds(10))
+                .requestEntity(String.class));
+        assertThat(slowReceived.await(10, TimeUnit.SECONDS), is(true));
+
+        // pipelined behind the slow request, times out waiting for its turn
+        CompletableFuture<String> timedOut = CompletableFuture.supplyAsync(() -> client.get("/fast/timed-out")
+                .readTimeout(Duration.ofMillis(200))
+                .requestEntity(String.class));
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> timedOut.get(10, TimeUnit.SECONDS));
+        assertThat(failure.getCause(), instanceOf(UncheckedIOException.class));
+        assertThat(failure.getCause().getCause(), instanceOf(SocketTimeoutException.class));
+
+        // pipelined behind the abandoned request, must get its own response, not the one of the abandoned request
+        CompletableFuture<String> last = CompletableFuture.supplyAsync(() -> client.get("/fast/last")
+                .readTimeout(Duration.ofSeconds(10))
+                .requestEntity(String.class));
+
+        String slowPort = port(slow.get(10, TimeUnit.SECONDS), "slow");
+        assertThat(port(last.get(10, TimeUnit.SECONDS), "last"), is(slowPort));
+
+        // the pipeline is still usable afterwards (the connection was released to the pool)
+        assertThat(port(client.get("/fast/next").requestEntity(String.class), "next"), is(slowPort));
+    }
+
+    @Test
+    void testPipelineClosedByServer() throws Exception {
+        Http1Client client = client();
+        closeReceived = new CountDownLatch(1);
+        CompletableFuture<String> closing = CompletableFuture.supplyAsync(() -> client.get("/close")
+                .requestEntity(String.class));
+        assertThat(closeReceived.await(10, TimeUnit.SECONDS), is(true));
+
+        // pipelined behind the request that closes the connection, sent again on a connection of its own
+        CompletableFuture<String> behind = CompletableFuture.supplyAsync(() -> client.get("/fast/behind")
+                .requestEntity(String.class));
+
+        String closingPort = port(closing.get(10, TimeUnit.SECONDS), "close");
+        assertThat(port(behind.get(10, TimeUnit.SECONDS), "behind"), is(not(closingPort)));
+    }
+
+    // a new client for each test, as pipelining is disabled for a destination that closes a pipelined connection
+    private Http1Client client() {
+        return Http1Client.builder()
+                .baseUri(uri)
+                .shareConnectionCache(false)
+                .protocolConfig(it -> it.pipelining(true))
+                .build();
+    }
+
+    private static String port(String entity, String name) {
+        String prefix = name + ":";
+        assertThat(entity.startsWith(prefix), is(true));
+        return entity.substring(prefix.length());
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.tests.http2;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import io.helidon.http.HeaderName;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.Method;
+import io.helidon.webclient.http2.Http2Client;
+import io.helidon.webclient.http2.Http2ClientResponse;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.http2.Http2Route;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.hasSize;
+
+@ServerTest
+class ConnectionPoolTest {
+    private static final HeaderName PEER_PORT = HeaderNames.create("X-Peer-Port");
+
+    private final URI uri;
+
+    ConnectionPoolTest(URI uri) {
+        this.uri = uri;
+    }
+
+    @SetUpRoute
+    static void routing(HttpRouting.Builder router) {
+        router.route(Http2Route.route(Method.GET, "/port", (req, res) -> {
+            res.header(PEER_PORT, String.valueOf(req.remotePeer().port()));
+            res.send("port");
+        }));
+    }
+
+    @Test
+    void testSingleConnectionByDefault() {
+        Http2Client client = client(1);
+
+        try (Http2ClientResponse first = client.get("/port").request();
+                Http2ClientResponse second = client.get("/port").request()) {
+            assertThat(port(second), is(port(first)));
+        }
+    }
+
+    @Test
+    void testScaleUpAndBalance() {
+        Http2Client client = client(2);
+
+        String firstPort;
+        String secondPort;
+        try (Http2ClientResponse first = client.get("/port").request();
+                Http2ClientResponse second = client.get("/port").request()) {
+            firstPort = port(first);
+            secondPort = port(second);
+            // first connection reached its stream limit, second connection was opened
+            assertThat(secondPort, is(not(firstPort)));
+
+            try (Http2ClientResponse third = client.get("/port").request()) {
+                // maximal number of connections reached, stream goes to one of the existing connections
+                assertThat(port(third), anyOf(is(firstPort), is(secondPort)));
+            }
+        }
+
+        try (Http2ClientResponse fourth = client.get("/port").request()) {
+            assertThat(port(fourth), anyOf(is(firstPort), is(secondPort)));
+        }
+    }
+
+    @Test
+    void testMaxConnectionsHonoured() {
+        Http2Client client = client(2);
+
+        List<Http2ClientResponse> responses = new ArrayList<>();
+        try {
+            for (int i = 0; i < 5; i++) {
+                responses.add(client.get("/port").request());
+            }
+            Set<String> ports = new HashSet<>();
+            responses.forEach(it -> ports.add(port(it)));
+            // all connections are over their stream limit, yet no more connections are opened
+            assertThat(ports, hasSize(2));
+        } finally {
+            responses.forEach(Http2ClientResponse::close);
+        }
+    }
+
+    @Test
+    void testScaleDown() {
+        Http2Client client = client(2, Duration.ZERO);
+
+        String firstPort;
+        String secondPort;
+        try (Http2ClientResponse first = client.get("/port").request();
+                Http2ClientResponse second = client.get("/port").request()) {
+            firstPort = port(first);
+            secondPort = port(second);
+            assertThat(secondPort, is(not(firstPort)));
+        }
+
+        // both connections are idle, one of them is closed, the other one is used
+        try (Http2ClientResponse third = client.get("/port").request()) {
+            String thirdPort = port(third);
+            assertThat(thirdPort, anyOf(is(firstPort), is(secondPort)));
+
+            // a new connection is opened instead of the closed one
+            try (Http2ClientResponse fourth = client.get("/port").request()) {
+                String fourthPort = port(fourth);
+                assertThat(fourthPort, is(not(firstPort)));
+                assertThat(fourthPort, is(not(secondPort)));
+            }
+        }
+    }
+
+    private Http2Client client(int maxConnections) {
+        return client(maxConnections, Duration.ofSeconds(30));
+    }
+
+    private Http2Client client(int maxConnections, Duration idleTimeout) {
+        return Http2Client.builder()
+                .shareConnectionCache(false)
+                .baseUri(uri)
+                .protocolConfig(pc -> pc.priorKnowledge(true)
+                        .maxConnectionsPerRoute(maxConnections)
+                        .maxStreamsPerConnection(1)
+                        .idleConnectionTimeout(idleTimeout))
+                .build();
+    }
+    private static String port(Http2ClientResponse response) {
+        return response.headers().get(PEER_PORT).get();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webclient.tests;
+
+import java.util.Collection;
+
+import io.helidon.metrics.api.FunctionalCounter;
+import io.helidon.metrics.api.Meter;
+import io.helidon.metrics.api.MeterRegistry;
+import io.helidon.metrics.api.Metrics;
+import io.helidon.webclient.http1.Http1Client;
+import io.helidon.webserver.WebServer;
+import io.helidon.webserver.http.HttpRules;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Tests for {@link io.helidon.webclient.metrics.WebClientConnectionPoolMetrics}.
+ */
+@ServerTest
+class ConnectionPoolMetricsTest {
+    private static final MeterRegistry REGISTRY = Metrics.globalRegistry();
+
+    private final WebServer server;
+
+    ConnectionPoolMetricsTest(WebServer server) {
+        this.server = server;
+    }
+
+    @SetUpRoute
+    static void routing(HttpRules rules) {
+        rules.get("/pool", (req, res) -> res.send("pool"));
+    }
+
+    @Test
+    void testMetersOfEachClient() {
+        Http1Client first = client();
+        Http1Client second = client();
+        try {
+            assertThat(first.get("/pool").requestEntity(String.class), is("pool"));
+            assertThat(second.get("/pool").requestEntity(String.class), is("pool"));
+            assertThat(second.get("/pool").requestEntity(String.class), is("pool"));
+
+            // each client has its own pool, so the meters must not collide
+            Collection<Meter> created = createdMeters();
+            assertThat(created, hasSize(2));
+            long pools = created.stream()
+                    .map(meter -> meter.id().tagsMap().get("pool"))
+                    .distinct()
+                    .count();
+            assertThat(pools, is(2L));
+            for (Meter meter : created) {
+                assertThat(((FunctionalCounter) meter).count(), is(1L));
+            }
+        } finally {
+            first.closeResource();
+        }
+
+        // meters of a closed client are removed
+        assertThat(createdMeters(), hasSize(1));
+        second.closeResource();
+        assertThat(createdMeters(), is(empty()));
+    }
+
+    private Http1Client client() {
+        return Http1Client.builder()
+                .servicesDiscoverServices(false)
+                .shareConnectionCache(false)
+                .baseUri("http://localhost:" + server.port())
+                .build();
+    }
+
+    private Collection<Meter> createdMeters() {
+        String port = String.valueOf(server.port());
+        return REGISTRY.meters(meter -> meter.id().name().equals("client.connection.pool.created")
+                && port.equals(meter.id().tagsMap().get("port")));
+    }
+}
@@ -113,13 +113,13 @@ public class LimitsFeature implements ServerFeature, Weighted, RuntimeType.Api<L
             // configure on default only
             featureContext.socket(WebServer.DEFAULT_SOCKET_NAME)
                     .httpRouting()
-                    .addFeature(new LimitsRoutingFeature(config, featureWeight));
+                    .addFeature(new LimitsRoutingFeature(config, featureWeight, WebServer.DEFAULT_SOCKET_NAME));
         } else {
             // configure on all configured
             for (String socket : sockets) {
                 featureContext.socket(socket)
                         .httpRouting()
-                        .addFeature(new LimitsRoutingFeature(config, featureWeight));
+                        .addFeature(new LimitsRoutingFeature(config, featureWeight, socket));
             }
         }
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package io.helidon.webserver.concurrency.limits;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -65,6 +66,26 @@ interface LimitsFeatureConfigBlueprint extends Prototype.Factory<LimitsFeature>
     @Option.Configured
     Optional<Limit> concurrencyLimit();
 
+    /**
+     * Rules that assign requests to partitions when the {@link #concurrencyLimit()} is a
+     * {@link io.helidon.common.concurrency.limits.PartitionedLimit}.
+     * The first matching rule is used. Requests that do not match any rule use the default partition.
+     *
+     * @return partition rules
+     */
+    @Option.Configured
+    @Option.Singular
+    List<PartitionRuleConfig> partitionRules();
+
+    /**
+     * Custom classifier that assigns requests to partitions when the {@link #concurrencyLimit()} is a
+     * {@link io.helidon.common.concurrency.limits.PartitionedLimit}.
+     * The classifier is used before the {@link #partitionRules()}.
+     *
+     * @return request classifier
+     */
+    Optional<RequestClassifier> classifier();
+
     /**
      * Whether this feature is enabled, defaults to {@code true}.
      *
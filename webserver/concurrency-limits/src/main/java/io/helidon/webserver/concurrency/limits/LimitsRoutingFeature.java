@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,12 +16,18 @@
 
 package io.helidon.webserver.concurrency.limits;
 
+import java.util.List;
 import java.util.Optional;
 
 import io.helidon.common.Weighted;
 import io.helidon.common.concurrency.limits.Limit;
 import io.helidon.common.concurrency.limits.LimitAlgorithm;
+import io.helidon.common.concurrency.limits.PartitionedLimit;
+import io.helidon.http.HeaderName;
+import io.helidon.http.HeaderNames;
 import io.helidon.http.HttpException;
+import io.helidon.http.PathMatcher;
+import io.helidon.http.PathMatchers;
 import io.helidon.http.Status;
 import io.helidon.webserver.http.FilterChain;
 import io.helidon.webserver.http.HttpFeature;
@@ -33,16 +39,29 @@ class LimitsRoutingFeature implements HttpFeature, Weighted {
     private final double featureWeight;
     private final Limit limits;
     private final boolean enabled;
+    private final PartitionedLimit partitioned;
+    private final RequestClassifier classifier;
+    private final List<PartitionRule> rules;
+    private final String socketName;
 
-    LimitsRoutingFeature(LimitsFeatureConfig config, double featureWeight) {
+    LimitsRoutingFeature(LimitsFeatureConfig config, double featureWeight, String socketName) {
         this.featureWeight = featureWeight;
+        this.socketName = socketName;
         this.limits = config.concurrencyLimit().orElse(null);
         this.enabled = config.enabled();
+        this.partitioned = limits instanceof PartitionedLimit pl ? pl : null;
+        this.classifier = config.classifier().orElse(null);
+        this.rules = config.partitionRules()
+                .stream()
+                .map(PartitionRule::create)
+                .toList();
     }
 
     @Override
     public void setup(HttpRouting.Builder builder) {
         if (enabled && limits != null) {
+            // registers metrics of the limit (if enabled), same as for listener limits
+            limits.init(socketName);
             builder.addFilter(this::filter);
         }
     }
@@ -53,7 +72,7 @@ class LimitsRoutingFeature implements HttpFeature, Weighted {
     }
 
     private void filter(FilterChain chain, RoutingRequest req, RoutingResponse res) {
-        Optional<LimitAlgorithm.Token> token = limits.tryAcquire();
+        Optional<LimitAlgorithm.Token> token = limit(req).tryAcquire();
 
         if (token.isEmpty()) {
             throw new HttpException("Limit exceeded", Status.SERVICE_UNAVAILABLE_503);
@@ -68,4 +87,46 @@ class LimitsRoutingFeature implements HttpFeature, Weighted {
             throw e;
         }
     }
+
+    private LimitAlgorithm limit(RoutingRequest req) {
+        if (partitioned == null) {
+            return limits;
+        }
+        if (classifier != null) {
+            Optional<String> partition = classifier.partition(req);
+            if (partition.isPresent()) {
+                return partitioned.partition(partition.get());
+            }
+        }
+        for (PartitionRule rule : rules) {
+            if (rule.matches(req)) {
+                return partitioned.partition(rule.partition());
+            }
+        }
+        return partitioned;
+    }
+
+    private record PartitionRule(String partition, PathMatcher path, HeaderName header, String headerValue) {
+        static PartitionRule create(PartitionRuleConfig config) {
+            return new PartitionRule(config.partition(),
+                                     config.path().map(PathMatchers::create).orElse(null),
+                                     config.header().map(HeaderNames::create).orElse(null),
+                                     config.headerValue().orElse(null));
+        }
+
+        boolean matches(RoutingRequest req) {
+            if (path != null && !path.match(req.path()).accepted()) {
+                return false;
+            }
+            if (header == null) {
+                return true;
+            }
+            if (headerValue == null) {
+                return req.headers().contains(header);
+            }
+            return req.headers().first(header)
+                    .map(headerValue::equals)
+                    .orElse(false);
+        }
+    }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.concurrency.limits;
+
+import java.util.Optional;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+
+/**
+ * Rule that assigns matching requests to a partition of a
+ * {@link io.helidon.common.concurrency.limits.PartitionedLimit}.
+ * A request matches the rule when it matches all configured conditions.
+ */
+@Prototype.Blueprint
+@Prototype.Configured
+interface PartitionRuleConfigBlueprint {
+    /**
+     * Name of the partition of matching requests.
+     *
+     * @return partition name
+     */
+    @Option.Configured
+    String partition();
+
+    /**
+     * Path pattern the request path must match, such as {@code /batch/*}.
+     *
+     * @return path pattern
+     * @see io.helidon.http.PathMatchers#create(String)
+     */
+    @Option.Configured
+    Optional<String> path();
+
+    /**
+     * Name of a header the request must contain.
+     *
+     * @return header name
+     */
+    @Option.Configured
+    Optional<String> header();
+
+    /**
+     * Value of the {@link #header()} the request must contain. If not configured, any value matches.
+     *
+     * @return header value
+     */
+    @Option.Configured
+    Optional<String> headerValue();
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.concurrency.limits;
+
+import java.util.Optional;
+
+import io.helidon.webserver.http.ServerRequest;
+
+/**
+ * Assigns requests to partitions of a {@link io.helidon.common.concurrency.limits.PartitionedLimit}.
+ *
+ * @see LimitsFeatureConfig#classifier()
+ */
+@FunctionalInterface
+public interface RequestClassifier {
+    /**
+     * Partition of the request.
+     * Note that the limits feature runs before most other filters; for example to classify requests by
+     * the authenticated principal, the feature must be configured with a lower weight than the security feature.
+     *
+     * @param request server request
+     * @return name of the partition, or empty if this classifier does not know the partition of the request
+     */
+    Optional<String> partition(ServerRequest request);
+}
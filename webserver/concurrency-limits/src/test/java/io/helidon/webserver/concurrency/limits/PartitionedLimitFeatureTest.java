@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.concurrency.limits;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.concurrency.limits.PartitionConfig;
+import io.helidon.common.concurrency.limits.PartitionedLimit;
+import io.helidon.http.HeaderName;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.Status;
+import io.helidon.webclient.api.ClientResponseTyped;
+import io.helidon.webclient.http1.Http1Client;
+import io.helidon.webclient.http1.Http1ClientRequest;
+import io.helidon.webserver.WebServerConfig;
+import io.helidon.webserver.http.HttpRules;
+import io.helidon.webserver.observe.ObserveFeature;
+import io.helidon.webserver.observe.metrics.MetricsObserver;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+import io.helidon.webserver.testing.junit5.SetUpServer;
+import io.helidon.webserver.testing.junit5.Socket;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ServerTest
+public class PartitionedLimitFeatureTest {
+    private static final String SOCKET = "partitioned";
+    private static final HeaderName TENANT = HeaderNames.create("X-Tenant");
+    private static final HeaderName PARTITION = HeaderNames.create("X-Partition");
+    private static final List<String> PARTITIONS = List.of("default", "batch-gold", "batch", "gold", "tenant");
+    private static final Semaphore ENTERED = new Semaphore(0);
+    private static final Semaphore FINISH = new Semaphore(0);
+
+    private final Http1Client client;
+    private final Http1Client metricsClient;
+
+    public PartitionedLimitFeatureTest(@Socket(SOCKET) Http1Client client, Http1Client metricsClient) {
+        this.client = client;
+        this.metricsClient = metricsClient;
+    }
+
+    @SetUpServer
+    public static void server(WebServerConfig.Builder builder) {
+        PartitionedLimit limit = PartitionedLimit.builder()
+                .permits(1)
+                .addPartition(partition("batch-gold"))
+                .addPartition(partition("batch"))
+                .addPartition(partition("gold"))
+                .addPartition(partition("tenant"))
+                .enableMetrics(true)
+                .build();
+
+        builder.addFeature(ObserveFeature.builder()
+                                   .addObserver(MetricsObserver.create())
+                                   .build())
+                .addFeature(LimitsFeature.builder()
+                                    .name("partitioned-limits")
+                                    .sockets(Set.of(SOCKET))
+                                    .concurrencyLimit(limit)
+                                    .classifier(req -> req.headers().first(PARTITION))
+                                    .addPartitionRule(rule("batch-gold", "/batch/*", TENANT, "gold"))
+                                    .addPartitionRule(rule("batch", "/batch/*", null, null))
+                                    .addPartitionRule(rule("gold", null, TENANT, "gold"))
+                                    .addPartitionRule(rule("tenant", null, TENANT, null))
+                                    .build());
+    }
+
+    @SetUpRoute(SOCKET)
+    public static void route(HttpRules rules) {
+        rules.any((req, res) -> {
+            ENTERED.release();
+            if (!FINISH.tryAcquire(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Test did not finish the request in time");
+            }
+            res.send("finished");
+        });
+    }
+
+    @Test
+    public void testPathRule() throws Exception {
+        assertThat(partition(client.get("/batch/jobs")), is("batch"));
+        assertThat(partition(client.get("/other")), is("default"));
+    }
+
+    @Test
+    public void testHeaderRules() throws Exception {
+        assertThat(partition(client.get("/other").header(TENANT, "gold")), is("gold"));
+        assertThat(partition(client.get("/other").header(TENANT, "silver")), is("tenant"));
+    }
+
+    @Test
+    public void testFirstMatchingRule() throws Exception {
+        // matches both "batch-gold" and "batch" rules (and "gold" by header), the first one is used
+        assertThat(partition(client.get("/batch/jobs").header(TENANT, "gold")), is("batch-gold"));
+        assertThat(partition(client.get("/batch/jobs").header(TENANT, "silver")), is("batch"));
+    }
+
+    @Test
+    public void testClassifierBeforeRules() throws Exception {
+        assertThat(partition(client.get("/batch/jobs").header(PARTITION, "tenant")), is("tenant"));
+    }
+
+    @Test
+    public void testUnknownPartition() throws Exception {
+        // classifier returned a partition that is not configured, request does not fall through to rules
+        assertThat(partition(client.get("/batch/jobs").header(PARTITION, "unknown")), is("default"));
+    }
+
+    @Test
+    public void testRejectedRequests() throws Exception {
+        double rejectedGold = gauge(metrics(), "partitioned_rejected_requests", "gold");
+        double rejectedBatch = gauge(metrics(), "partitioned_rejected_requests", "batch");
+
+        try (ExecutorService es = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().factory())) {
+            Future<ClientResponseTyped<String>> first = es.submit(() -> client.get("/batch/jobs")
+                    .request(String.class));
+            assertThat(ENTERED.tryAcquire(5, TimeUnit.SECONDS), is(true));
+
+            var rejected = client.get("/other")
+                    .header(TENANT, "gold")
+                    .request(String.class);
+            assertThat(rejected.status(), is(Status.SERVICE_UNAVAILABLE_503));
+
+            String metrics = metrics();
+            assertThat(gauge(metrics, "partitioned_rejected_requests", "gold"), is(rejectedGold + 1));
+            assertThat(gauge(metrics, "partitioned_rejected_requests", "batch"), is(rejectedBatch));
+
+            FINISH.release();
+            assertThat(first.get(5, TimeUnit.SECONDS).status(), is(Status.OK_200));
+        }
+    }
+
+    // partition that holds the only permit while the request is being processed
+    private String partition(Http1ClientRequest request) throws Exception {
+        try (ExecutorService es = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().factory())) {
+            Future<ClientResponseTyped<String>> response = es.submit(() -> request.request(String.class));
+            assertThat(ENTERED.tryAcquire(5, TimeUnit.SECONDS), is(true));
+
+            String metrics = metrics();
+            Optional<String> partition = PARTITIONS.stream()
+                    .filter(it -> gauge(metrics, "partitioned_concurrent_requests", it) == 1)
+                    .findFirst();
+
+            FINISH.release();
+            assertThat(response.get(5, TimeUnit.SECONDS).status(), is(Status.OK_200));
+            return partition.orElse("none");
+        }
+    }
+
+    private String metrics() {
+        return metricsClient.get("/observe/metrics")
+                .requestEntity(String.class);
+    }
+
+    // value of a gauge of a partition of the "partitioned" socket in the Prometheus format
+    private static double gauge(String metrics, String name, String partition) {
+        return metrics.lines()
+                .filter(line -> line.startsWith(name + "{"))
+                .filter(line -> line.contains("partition=\"" + partition + "\""))
+                .filter(line -> line.contains("socketName=\"" + SOCKET + "\""))
+                .map(line -> Double.parseDouble(line.substring(line.lastIndexOf(' ') + 1)))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Gauge " + name + " of partition " + partition + " not found in "
+                                                              + metrics));
+    }
+
+    private static PartitionConfig partition(String name) {
+        return PartitionConfig.builder()
+                .name(name)
+                .build();
+    }
+
+    private static PartitionRuleConfig rule(String partition, String path, HeaderName header, String headerValue) {
+        PartitionRuleConfig.Builder builder = PartitionRuleConfig.builder()
+                .partition(partition);
+        if (path != null) {
+            builder.path(path);
+        }
+        if (header != null) {
+            builder.header(header.defaultCase());
+        }
+        if (headerValue != null) {
+            builder.headerValue(headerValue);
+        }
+        return builder.build();
+    }
+}
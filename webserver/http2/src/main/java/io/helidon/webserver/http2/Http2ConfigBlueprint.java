@@ -163,6 +163,50 @@ interface Http2ConfigBlueprint extends ProtocolConfig {
     @Option.DefaultBoolean(true)
     boolean validatePath();
 
+    /**
+     * Whether to collect frames written concurrently by multiple streams of a connection and write them
+     * with a single flush, rather than writing each frame separately.
+     * This reduces the number of small writes (and TCP segments) when many streams respond at the same time.
+     * Batches are bounded by {@link #writeBatchMaxBytes()} and {@link #writeBatchMaxDelay()}.
+     *
+     * @return whether write batching is enabled
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean writeBatching();
+
+    /**
+     * Maximal number of bytes collected in a write batch before it is flushed.
+     * Used only when {@link #writeBatching()} is enabled.
+     *
+     * @return maximal size of a write batch in bytes
+     */
+    @Option.Configured
+    @Option.DefaultInt(65536)
+    int writeBatchMaxBytes();
+
+    /**
+     * Maximal time a frame may wait in a write batch while other streams keep writing.
+     * Used only when {@link #writeBatching()} is enabled.
+     * Default value is {@code PT0.001S}.
+     *
+     * @return maximal delay of a frame in a write batch
+     */
+    @Option.Configured
+    @Option.Default("PT0.001S")
+    Duration writeBatchMaxDelay();
+
+    /**
+     * Whether to expose metrics of write batching (number of flushes and frames, to compute frames per flush).
+     * Used only when {@link #writeBatching()} is enabled.
+     * Metrics are exposed by the metrics observer, see {@link io.helidon.webserver.ListenerStatistics}.
+     *
+     * @return whether write batch metrics are enabled
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean enableWriteBatchMetrics();
+
     /**
      * Requested URI discovery settings.
      *
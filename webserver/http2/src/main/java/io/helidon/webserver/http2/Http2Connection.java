@@ -59,6 +59,7 @@ import io.helidon.http.http2.Http2Settings;
 import io.helidon.http.http2.Http2StreamState;
 import io.helidon.http.http2.Http2Util;
 import io.helidon.http.http2.Http2WindowUpdate;
+import io.helidon.http.http2.Http2WriteBatchStats;
 import io.helidon.http.http2.WindowSize;
 import io.helidon.webserver.CloseConnectionException;
 import io.helidon.webserver.ConnectionContext;
@@ -131,9 +132,7 @@ public class Http2Connection implements ServerConnection, InterruptableTask<Void
                 .update(builder -> settingsUpdate(http2Config, builder))
                 .add(Http2Setting.ENABLE_PUSH, false)
                 .build();
-        this.connectionWriter = new Http2ConnectionWriter(ctx,
-                                                          ctx.dataWriter(),
-                                                          List.of(new Http2LoggingFrameListener("send")));
+        this.connectionWriter = connectionWriter(ctx, http2Config);
         this.connectionChecks = new Http2ConnectionChecks(http2Config, connectionWriter, this);
         this.subProviders = subProviders;
         this.requestDynamicTable = Http2Headers.DynamicTable.create(
@@ -155,6 +154,23 @@ public class Http2Connection implements ServerConnection, InterruptableTask<Void
         this.initConnectionHeaders = true;
     }
 
+    private static Http2ConnectionWriter connectionWriter(ConnectionContext ctx, Http2Config config) {
+        List<Http2FrameListener> listeners = List.of(new Http2LoggingFrameListener("send"));
+        if (!config.writeBatching()) {
+            return new Http2ConnectionWriter(ctx, ctx.dataWriter(), listeners, ctx.listenerContext().bufferPool());
+        }
+        Http2WriteBatchStats stats = config.enableWriteBatchMetrics()
+                ? Http2WriteBatchMetrics.stats(ctx.listenerContext())
+                : null;
+        return new Http2ConnectionWriter(ctx,
+                                         ctx.dataWriter(),
+                                         listeners,
+                                         ctx.listenerContext().bufferPool(),
+                                         config.writeBatchMaxBytes(),
+                                         config.writeBatchMaxDelay(),
+                                         stats);
+    }
+
     private static void settingsUpdate(Http2Config config, Http2Settings.Builder builder) {
         applySetting(builder, config.maxFrameSize(), Http2Setting.MAX_FRAME_SIZE);
         applySetting(builder, config.maxHeaderListSize(), Http2Setting.MAX_HEADER_LIST_SIZE);
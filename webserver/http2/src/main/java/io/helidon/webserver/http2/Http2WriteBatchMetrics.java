@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.http2;
+
+import java.util.Map;
+
+import io.helidon.http.http2.Http2WriteBatchStats;
+import io.helidon.webserver.ListenerContext;
+import io.helidon.webserver.ListenerStatistics;
+
+/**
+ * Write batch statistics shared by all HTTP/2 connections of a server listener, published as
+ * {@link io.helidon.webserver.ListenerStatistics} of the listener.
+ */
+final class Http2WriteBatchMetrics {
+    private Http2WriteBatchMetrics() {
+    }
+
+    static Http2WriteBatchStats stats(ListenerContext listenerContext) {
+        ListenerStatistics statistics = listenerContext.statistics();
+        return statistics.shared(Http2WriteBatchStats.class,
+                                 () -> create(statistics, listenerContext.config().name()));
+    }
+
+    private static Http2WriteBatchStats create(ListenerStatistics statistics, String socketName) {
+        Http2WriteBatchStats stats = Http2WriteBatchStats.create();
+        Map<String, String> tags = Map.of("socketName", socketName);
+
+        // flushes of collected frames, frames per flush is http2_write_batch_frames / http2_write_batch_flushes
+        statistics.counter("http2_write_batch_flushes", tags, stats::flushes);
+        statistics.counter("http2_write_batch_frames", tags, stats::frames);
+        statistics.counter("http2_write_batch_bytes", tags, stats::bytes);
+        statistics.gauge("http2_write_batch_frames_max", tags, stats::maxFramesPerFlush);
+        return stats;
+    }
+}
@@ -30,6 +30,7 @@ module io.helidon.webserver.http2 {
 
     requires static io.helidon.common.features.api;
     requires static io.helidon.config.metadata;
+    requires static io.helidon.metrics.api;
 
     requires transitive io.helidon.common.socket;
     requires transitive io.helidon.common.task;
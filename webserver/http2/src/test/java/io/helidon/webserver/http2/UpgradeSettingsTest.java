@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.BufferPool;
 import io.helidon.common.buffers.DataReader;
 import io.helidon.common.buffers.DataWriter;
 import io.helidon.http.http2.Http2Exception;
@@ -141,7 +142,9 @@ class UpgradeSettingsTest {
 
         ConnectionContext connectionContext = mock(ConnectionContext.class);
         when(connectionContext.router()).thenReturn(Router.empty());
-        when(connectionContext.listenerContext()).thenReturn(mock(ListenerContext.class));
+        ListenerContext listenerContext = mock(ListenerContext.class);
+        when(listenerContext.bufferPool()).thenReturn(BufferPool.unpooled());
+        when(connectionContext.listenerContext()).thenReturn(listenerContext);
         when(connectionContext.dataWriter()).thenReturn(dataWriter);
         when(connectionContext.dataReader()).thenReturn(invalidMaxFrameSizeReader());
 
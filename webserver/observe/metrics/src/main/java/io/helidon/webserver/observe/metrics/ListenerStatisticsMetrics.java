@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.observe.metrics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.helidon.metrics.api.Meter;
+import io.helidon.metrics.api.MeterRegistry;
+import io.helidon.metrics.api.MetricsFactory;
+import io.helidon.metrics.api.Tag;
+import io.helidon.webserver.ListenerStatistics;
+
+/**
+ * Registers {@link io.helidon.webserver.ListenerStatistics} of running server listeners as vendor meters, and removes
+ * the meters when the listener stops.
+ */
+class ListenerStatisticsMetrics implements ListenerStatistics.Observer {
+    private static final Set<MeterRegistry> REGISTRIES = ConcurrentHashMap.newKeySet();
+
+    private final MetricsFactory metricsFactory;
+    private final MeterRegistry meterRegistry;
+    // meters created for a statistic, observer methods are invoked while holding the lock of listener statistics
+    private final Map<ListenerStatistics.Statistic, Meter> meters = new HashMap<>();
+
+    private ListenerStatisticsMetrics(MetricsFactory metricsFactory, MeterRegistry meterRegistry) {
+        this.metricsFactory = metricsFactory;
+        this.meterRegistry = meterRegistry;
+    }
+
+    static void register(MeterRegistry meterRegistry) {
+        if (!REGISTRIES.add(meterRegistry)) {
+            // already observing statistics for this registry
+            return;
+        }
+        ListenerStatistics.observe(new ListenerStatisticsMetrics(MetricsFactory.getInstance(), meterRegistry));
+    }
+
+    @Override
+    public void registered(ListenerStatistics.Statistic statistic) {
+        List<Tag> tags = new ArrayList<>();
+        for (Map.Entry<String, String> entry : statistic.tags().entrySet()) {
+            tags.add(Tag.create(entry.getKey(), entry.getValue()));
+        }
+        if (meterRegistry.meter(Meter.class, statistic.name(), tags).isPresent()) {
+            // a listener with the same name in another running server already owns the meter
+            return;
+        }
+
+        Meter meter;
+        if (statistic.type() == ListenerStatistics.Type.COUNTER) {
+            meter = meterRegistry.getOrCreate(metricsFactory.functionalCounterBuilder(statistic.name(),
+                                                                                      statistic,
+                                                                                      ListenerStatistics.Statistic::value)
+                                                      .scope(Meter.Scope.VENDOR)
+                                                      .tags(tags));
+        } else {
+            meter = meterRegistry.getOrCreate(metricsFactory.gaugeBuilder(statistic.name(),
+                                                                          statistic,
+                                                                          ListenerStatistics.Statistic::value)
+                                                      .scope(Meter.Scope.VENDOR)
+                                                      .tags(tags));
+        }
+        meters.put(statistic, meter);
+    }
+
+    @Override
+    public void unregistered(ListenerStatistics.Statistic statistic) {
+        Meter meter = meters.remove(statistic);
+        if (meter != null) {
+            meterRegistry.remove(meter);
+        }
+    }
+}
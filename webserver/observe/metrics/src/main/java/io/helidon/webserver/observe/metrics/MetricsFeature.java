@@ -89,6 +89,7 @@ class MetricsFeature {
                                                         metricsConfig
                                                                 .keyPerformanceIndicatorMetricsConfig(),
                                                         metricsConfig.builtInMeterNameFormat());
+        ListenerStatisticsMetrics.register(meterRegistry);
 
         rules.addFilter((chain, req, res) -> {
             KeyPerformanceIndicatorSupport.Context kpiContext = kpiContext(req);
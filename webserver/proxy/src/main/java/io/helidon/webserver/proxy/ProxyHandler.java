@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.proxy;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.util.function.Consumer;
+
+import io.helidon.builder.api.RuntimeType;
+import io.helidon.http.ClientRequestHeaders;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.HeaderValues;
+import io.helidon.http.Method;
+import io.helidon.http.Status;
+import io.helidon.http.media.ReadableEntity;
+import io.helidon.webclient.api.HttpClientRequest;
+import io.helidon.webclient.api.HttpClientResponse;
+import io.helidon.webclient.api.WebClient;
+import io.helidon.webserver.http.Handler;
+import io.helidon.webserver.http.ServerRequest;
+import io.helidon.webserver.http.ServerResponse;
+
+import static java.lang.System.Logger.Level.DEBUG;
+
+/**
+ * Reverse proxy handler, sending requests to an upstream server and its responses back to the caller.
+ * <p>
+ * Request and response entities are streamed: buffers read from one connection are written to the other one
+ * as they are received, without copying them to intermediate arrays. The next buffer is read only after the previous one
+ * was written, so a slow reader on either side slows down the other side (instead of buffering the entity in memory).
+ * <p>
+ * Hop-by-hop headers (such as {@code Connection} or {@code Transfer-Encoding}) are not forwarded, other headers can be
+ * modified using {@link ProxyHandlerConfig#requestHeadersRewriter()} and {@link ProxyHandlerConfig#responseHeadersRewriter()}.
+ * When the upstream server cannot be reached, {@code 502 Bad Gateway} is returned ({@code 504 Gateway Timeout} if
+ * it did not respond in time).
+ * <p>
+ * Example:
+ * <pre>{@code
+ * routing.any("/api/*", ProxyHandler.create(it -> it.uri(URI.create("http://backend:8080"))
+ *                                                 .stripPathPrefix("/api")));
+ * }</pre>
+ */
+@RuntimeType.PrototypedBy(ProxyHandlerConfig.class)
+public class ProxyHandler implements Handler, RuntimeType.Api<ProxyHandlerConfig> {
+    private static final System.Logger LOGGER = System.getLogger(ProxyHandler.class.getName());
+
+    private final ProxyHandlerConfig config;
+    private final WebClient client;
+    private final boolean ownClient;
+    private final String upstreamBase;
+    private final String stripPathPrefix;
+
+    private ProxyHandler(ProxyHandlerConfig config) {
+        this.config = config;
+        this.ownClient = config.webClient().isEmpty();
+        this.client = config.webClient().orElseGet(WebClient::create);
+
+        String base = config.uri().toString();
+        this.upstreamBase = base.endsWith("/") ? base.substring(0, base.length() - 1) : base;
+        this.stripPathPrefix = config.stripPathPrefix()
+                .map(it -> it.endsWith("/") ? it.substring(0, it.length() - 1) : it)
+                .orElse(null);
+    }
+
+    /**
+     * A new builder to configure a proxy handler.
+     *
+     * @return a new builder
+     */
+    public static ProxyHandlerConfig.Builder builder() {
+        return ProxyHandlerConfig.builder();
+    }
+
+    /**
+     * Create a proxy handler from its configuration.
+     *
+     * @param config configuration of the handler
+     * @return a new proxy handler
+     */
+    public static ProxyHandler create(ProxyHandlerConfig config) {
+        return new ProxyHandler(config);
+    }
+
+    /**
+     * Create a proxy handler, customizing its configuration.
+     *
+     * @param consumer configuration consumer
+     * @return a new proxy handler
+     */
+    public static ProxyHandler create(Consumer<ProxyHandlerConfig.Builder> consumer) {
+        return builder()
+                .update(consumer)
+                .build();
+    }
+
+    /**
+     * Create a proxy handler sending requests to the provided upstream URI.
+     *
+     * @param uri URI of the upstream server
+     * @return a new proxy handler
+     */
+    public static ProxyHandler create(URI uri) {
+        return builder()
+                .uri(uri)
+                .build();
+    }
+
+    @Override
+    public ProxyHandlerConfig prototype() {
+        return config;
+    }
+
+    @Override
+    public void handle(ServerRequest req, ServerResponse res) throws Exception {
+        HttpClientRequest request = client.method(req.prologue().method())
+                .uri(upstreamUri(req))
+                .followRedirects(false)
+                // the server already confirmed the entity to the caller
+                .sendExpectContinue(false)
+                .headers(headers -> requestHeaders(req, headers));
+
+        HttpClientResponse response;
+        try {
+            response = send(req.content(), request);
+        } catch (RuntimeException e) {
+            Status status = isTimeout(e) ? Status.GATEWAY_TIMEOUT_504 : Status.BAD_GATEWAY_502;
+            if (LOGGER.isLoggable(DEBUG)) {
+                LOGGER.log(DEBUG, "Failed to proxy request " + req.prologue() + " to " + upstreamBase, e);
+            }
+            res.status(status)
+                    .send();
+            return;
+        }
+
+        try (response) {
+            Status status = response.status();
+            res.status(status);
+            ProxyHeaders.copy(response.headers(), res.headers());
+            if (status == Status.NO_CONTENT_204 || status == Status.RESET_CONTENT_205 || status == Status.NOT_MODIFIED_304) {
+                res.headers().remove(HeaderNames.CONTENT_LENGTH);
+            }
+            config.responseHeadersRewriter().ifPresent(it -> it.accept(response, res.headers()));
+
+            if (req.prologue().method() == Method.HEAD || !response.entity().hasEntity()) {
+                res.send();
+                return;
+            }
+            // content length (if known) is kept, so the entity is not chunked
+            try (OutputStream out = res.outputStream();
+                    InputStream in = response.inputStream()) {
+                in.transferTo(out);
+            }
+        }
+    }
+
+    @Override
+    public void afterStop() {
+        if (ownClient) {
+            client.closeResource();
+        }
+    }
+
+    private static HttpClientResponse send(ReadableEntity content, HttpClientRequest request) {
+        if (!content.hasEntity()) {
+            return request.request();
+        }
+        return request.outputStream(out -> {
+            try (InputStream in = content.inputStream()) {
+                in.transferTo(out);
+            }
+            out.close();
+        });
+    }
+
+    private static boolean isTimeout(RuntimeException e) {
+        return e instanceof UncheckedIOException && e.getCause() instanceof SocketTimeoutException;
+    }
+
+    private URI upstreamUri(ServerRequest req) {
+        String path = req.path().rawPath();
+        if (stripPathPrefix != null
+                && path.startsWith(stripPathPrefix)
+                && (path.length() == stripPathPrefix.length() || path.charAt(stripPathPrefix.length()) == '/')) {
+            path = path.substring(stripPathPrefix.length());
+        }
+        StringBuilder uri = new StringBuilder(upstreamBase);
+        if (!path.startsWith("/")) {
+            uri.append('/');
+        }
+        uri.append(path);
+        String query = req.query().rawValue();
+        if (!query.isEmpty()) {
+            uri.append('?')
+                    .append(query);
+        }
+        return URI.create(uri.toString());
+    }
+
+    private void requestHeaders(ServerRequest req, ClientRequestHeaders headers) {
+        ProxyHeaders.copy(req.headers(), headers);
+        // the server already handled the continue handshake
+        headers.remove(HeaderNames.EXPECT);
+        if (config.preserveHost()) {
+            headers.set(HeaderValues.create(HeaderNames.HOST, req.authority()));
+        } else {
+            // set by the client from the upstream URI
+            headers.remove(HeaderNames.HOST);
+        }
+        if (config.forwardedHeaders()) {
+            ProxyHeaders.forwarded(req, headers);
+        }
+        config.requestHeadersRewriter().ifPresent(it -> it.accept(req, headers));
+    }
+}
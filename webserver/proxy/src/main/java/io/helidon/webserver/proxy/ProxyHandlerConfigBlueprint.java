@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.proxy;
+
+import java.net.URI;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+import io.helidon.http.ClientRequestHeaders;
+import io.helidon.http.ServerResponseHeaders;
+import io.helidon.webclient.api.HttpClientResponse;
+import io.helidon.webclient.api.WebClient;
+import io.helidon.webserver.http.ServerRequest;
+
+/**
+ * Configuration of a {@link io.helidon.webserver.proxy.ProxyHandler}.
+ */
+@Prototype.Blueprint
+@Prototype.Configured
+interface ProxyHandlerConfigBlueprint extends Prototype.Factory<ProxyHandler> {
+    /**
+     * URI of the upstream server.
+     * The path of the proxied request (see {@link #stripPathPrefix()}) is appended to the path of this URI,
+     * and its query is used as is.
+     *
+     * @return upstream URI
+     */
+    @Option.Configured
+    URI uri();
+
+    /**
+     * Prefix to remove from the path of the proxied request before it is appended to the {@link #uri()}, such as
+     * {@code /api} when the handler is registered on {@code /api/*}.
+     *
+     * @return path prefix to remove
+     */
+    @Option.Configured
+    Optional<String> stripPathPrefix();
+
+    /**
+     * Whether to add {@code X-Forwarded-For}, {@code X-Forwarded-Host}, and {@code X-Forwarded-Proto} headers
+     * to the proxied request.
+     *
+     * @return whether to add forwarded headers
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(true)
+    boolean forwardedHeaders();
+
+    /**
+     * Whether to send the {@code Host} header of the original request to the upstream server.
+     * By default, the host of the {@link #uri()} is used.
+     *
+     * @return whether to preserve the host header
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean preserveHost();
+
+    /**
+     * Client used to call the upstream server. If not configured, a new client is created; redirects are never followed,
+     * as they are returned to the caller.
+     *
+     * @return client to use
+     */
+    Optional<WebClient> webClient();
+
+    /**
+     * Rewrite headers of the proxied request. Invoked after hop-by-hop headers were removed and forwarded headers
+     * were added.
+     *
+     * @return request headers rewriter
+     */
+    Optional<BiConsumer<ServerRequest, ClientRequestHeaders>> requestHeadersRewriter();
+
+    /**
+     * Rewrite headers of the response sent to the caller. Invoked after headers of the upstream response were copied,
+     * except for hop-by-hop headers.
+     *
+     * @return response headers rewriter
+     */
+    Optional<BiConsumer<HttpClientResponse, ServerResponseHeaders>> responseHeadersRewriter();
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.proxy;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import io.helidon.http.Header;
+import io.helidon.http.HeaderName;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.HeaderValues;
+import io.helidon.http.Headers;
+import io.helidon.http.WritableHeaders;
+import io.helidon.webserver.http.ServerRequest;
+
+/**
+ * Header handling of the proxy.
+ */
+final class ProxyHeaders {
+    /**
+     * Hop-by-hop headers, meaningful only for a single connection, never forwarded
+     * (see <a href="https://www.rfc-editor.org/rfc/rfc9110#section-7.6.1">RFC 9110, section 7.6.1</a>).
+     */
+    static final Set<HeaderName> HOP_BY_HOP = Set.of(HeaderNames.CONNECTION,
+                                                     HeaderNames.create("Keep-Alive"),
+                                                     HeaderNames.create("Proxy-Connection"),
+                                                     HeaderNames.PROXY_AUTHENTICATE,
+                                                     HeaderNames.PROXY_AUTHORIZATION,
+                                                     HeaderNames.TE,
+                                                     HeaderNames.TRAILER,
+                                                     HeaderNames.TRANSFER_ENCODING,
+                                                     HeaderNames.UPGRADE);
+
+    private ProxyHeaders() {
+    }
+
+    /**
+     * Copy end-to-end headers.
+     *
+     * @param from headers to copy
+     * @param to   headers to copy to
+     */
+    static void copy(Headers from, WritableHeaders<?> to) {
+        Set<HeaderName> connectionHeaders = connectionHeaders(from);
+        for (Header header : from) {
+            HeaderName name = header.headerName();
+            if (HOP_BY_HOP.contains(name) || connectionHeaders.contains(name)) {
+                continue;
+            }
+            to.set(header);
+        }
+    }
+
+    /**
+     * Add {@code X-Forwarded-*} headers describing the original request.
+     *
+     * @param request original request
+     * @param headers headers of the proxied request
+     */
+    static void forwarded(ServerRequest request, WritableHeaders<?> headers) {
+        String remoteHost = request.remotePeer().host();
+        if (headers.contains(HeaderNames.X_FORWARDED_FOR)) {
+            // previous proxies are listed first
+            String previous = headers.get(HeaderNames.X_FORWARDED_FOR).values();
+            headers.set(HeaderValues.create(HeaderNames.X_FORWARDED_FOR, previous + ", " + remoteHost));
+        } else {
+            headers.set(HeaderValues.create(HeaderNames.X_FORWARDED_FOR, remoteHost));
+        }
+        headers.setIfAbsent(HeaderValues.create(HeaderNames.X_FORWARDED_HOST, request.authority()));
+        headers.setIfAbsent(HeaderValues.create(HeaderNames.X_FORWARDED_PROTO, request.isSecure() ? "https" : "http"));
+    }
+
+    // headers listed in the Connection header are hop-by-hop as well
+    private static Set<HeaderName> connectionHeaders(Headers headers) {
+        if (!headers.contains(HeaderNames.CONNECTION)) {
+            return Set.of();
+        }
+        Set<HeaderName> result = new HashSet<>();
+        for (String value : headers.get(HeaderNames.CONNECTION).allValues()) {
+            for (String token : value.split(",")) {
+                String name = token.trim();
+                if (!name.isEmpty()) {
+                    result.add(HeaderNames.createFromLowercase(name.toLowerCase(Locale.ROOT)));
+                }
+            }
+        }
+        return result;
+    }
+}
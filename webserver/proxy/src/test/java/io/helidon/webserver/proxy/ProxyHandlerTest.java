@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.proxy;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.util.Arrays;
+
+import io.helidon.http.HeaderName;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.Status;
+import io.helidon.webclient.api.ClientResponseTyped;
+import io.helidon.webclient.http1.Http1Client;
+import io.helidon.webclient.http1.Http1ClientResponse;
+import io.helidon.webserver.WebServer;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ProxyHandlerTest {
+    private static final String CUSTOM_HOP_HEADER = "X-Hop";
+    private static final HeaderName METHOD_HEADER = HeaderNames.create("X-Method");
+
+    private static WebServer backend;
+    private static WebServer proxy;
+    private static Http1Client client;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        backend = WebServer.builder()
+                .port(0)
+                .routing(routing -> routing
+                        .get("/resource", (req, res) -> res.header(METHOD_HEADER, req.prologue().method().text())
+                                .send("resource"))
+                        .head("/resource", (req, res) -> res.header(METHOD_HEADER, req.prologue().method().text())
+                                .send())
+                        .get("/echo/*", (req, res) -> {
+                            res.header(HeaderNames.create("X-Forwarded-For-Echo"),
+                                       req.headers().get(HeaderNames.X_FORWARDED_FOR).values());
+                            res.header(HeaderNames.create("X-Request-Header"),
+                                       req.headers().first(HeaderNames.create("X-Request-Header")).orElse("none"));
+                            res.header(HeaderNames.create(CUSTOM_HOP_HEADER), "hop");
+                            res.header(HeaderNames.CONNECTION, CUSTOM_HOP_HEADER);
+                            res.send(req.path().rawPath() + "?" + req.query().rawValue());
+                        })
+                        .post("/upload", (req, res) -> {
+                            try (InputStream in = req.content().inputStream();
+                                    OutputStream out = res.outputStream()) {
+                                in.transferTo(out);
+                            }
+                        }))
+                .build()
+                .start();
+
+        int unusedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            unusedPort = socket.getLocalPort();
+        }
+
+        URI backendUri = URI.create("http://localhost:" + backend.port());
+        proxy = WebServer.builder()
+                .port(0)
+                .routing(routing -> routing
+                        .any("/api/*", ProxyHandler.create(it -> it.uri(backendUri)
+                                .stripPathPrefix("/api")
+                                .requestHeadersRewriter((req, headers) -> headers.set(HeaderNames.create("X-Request-Header"),
+                                                                                      "rewritten"))
+                                .responseHeadersRewriter((response, headers) -> headers.remove(HeaderNames.SERVER))))
+                        .any("/down/*", ProxyHandler.create(URI.create("http://localhost:" + unusedPort))))
+                .build()
+                .start();
+
+        client = Http1Client.builder()
+                .baseUri("http://localhost:" + proxy.port())
+                .shareConnectionCache(false)
+                .build();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (proxy != null) {
+            proxy.stop();
+        }
+        if (backend != null) {
+            backend.stop();
+        }
+    }
+
+    @Test
+    void testGet() {
+        try (Http1ClientResponse response = client.get("/api/echo/path")
+                .queryParam("first", "a b")
+                .request()) {
+
+            assertThat(response.status(), is(Status.OK_200));
+            assertThat(response.as(String.class), is("/echo/path?first=a%20b"));
+            assertThat(response.headers().first(HeaderNames.create("X-Request-Header")).orElse(null), is("rewritten"));
+            assertThat(response.headers().first(HeaderNames.create("X-Forwarded-For-Echo")).isPresent(), is(true));
+            // listed in Connection header, so it is hop-by-hop
+            assertThat(response.headers().contains(HeaderNames.create(CUSTOM_HOP_HEADER)), is(false));
+        }
+    }
+
+    @Test
+    void testGetMethod() {
+        try (Http1ClientResponse response = client.get("/api/resource")
+                .request()) {
+
+            assertThat(response.status(), is(Status.OK_200));
+            assertThat(response.headers().first(METHOD_HEADER).orElse(null), is("GET"));
+            assertThat(response.as(String.class), is("resource"));
+        }
+    }
+
+    @Test
+    void testHeadMethod() {
+        try (Http1ClientResponse response = client.head("/api/resource")
+                .request()) {
+
+            assertThat(response.status(), is(Status.OK_200));
+            assertThat(response.headers().first(METHOD_HEADER).orElse(null), is("HEAD"));
+            assertThat(response.entity().hasEntity(), is(false));
+        }
+    }
+
+    @Test
+    void testStreamedEntity() {
+        byte[] entity = new byte[512 * 1024];
+        Arrays.fill(entity, (byte) 'a');
+
+        ClientResponseTyped<byte[]> response = client.post("/api/upload")
+                .submit(entity, byte[].class);
+
+        assertThat(response.status(), is(Status.OK_200));
+        assertThat(response.entity().length, is(entity.length));
+    }
+
+    @Test
+    void testUpstreamNotFound() {
+        ClientResponseTyped<String> response = client.get("/api/missing")
+                .request(String.class);
+
+        assertThat(response.status(), is(Status.NOT_FOUND_404));
+    }
+
+    @Test
+    void testUpstreamDown() {
+        ClientResponseTyped<String> response = client.get("/down/anything")
+                .request(String.class);
+
+        assertThat(response.status(), is(Status.BAD_GATEWAY_502));
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.proxy;
+
+import io.helidon.http.HeaderNames;
+import io.helidon.http.WritableHeaders;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ProxyHeadersTest {
+    @Test
+    void testHopByHopNotCopied() {
+        WritableHeaders<?> from = WritableHeaders.create()
+                .set(HeaderNames.CONTENT_TYPE, "text/plain")
+                .set(HeaderNames.TRANSFER_ENCODING, "chunked")
+                .set(HeaderNames.CONNECTION, "keep-alive, X-Internal")
+                .set(HeaderNames.create("Keep-Alive"), "timeout=5")
+                .set(HeaderNames.create("X-Internal"), "secret");
+        WritableHeaders<?> to = WritableHeaders.create();
+
+        ProxyHeaders.copy(from, to);
+
+        assertThat(to.contains(HeaderNames.CONTENT_TYPE), is(true));
+        assertThat(to.contains(HeaderNames.TRANSFER_ENCODING), is(false));
+        assertThat(to.contains(HeaderNames.CONNECTION), is(false));
+        assertThat(to.contains(HeaderNames.create("Keep-Alive")), is(false));
+        assertThat(to.contains(HeaderNames.create("X-Internal")), is(false));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -134,4 +134,27 @@ interface BaseHandlerConfigBlueprint {
      */
     @Option.Configured
     Optional<Integer> recordCacheCapacity();
+
+    /**
+     * Whether to serve precompressed variants of resources.
+     * If a client accepts {@code br} or {@code gzip} content encoding, and a resource with the same name and {@code .br}
+     * or {@code .gz} suffix exists next to the requested resource (in the same directory, or on classpath), the variant
+     * is sent instead of the original resource, with the {@code Content-Encoding} header.
+     *
+     * @return whether to serve precompressed variants, defaults to {@code false}
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean precompressed();
+
+    /**
+     * Whether to cache gzip compressed content in the memory cache.
+     * When enabled, content served from the memory cache to clients that accept {@code gzip} content encoding is compressed
+     * only once, and the compressed bytes are cached as a separate entry of the memory cache (counted towards its capacity).
+     *
+     * @return whether to cache compressed content, defaults to {@code false}
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean cacheCompressed();
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.staticcontent;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+
+import io.helidon.common.configurable.LruCache;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.Method;
+import io.helidon.webserver.http.ServerRequest;
+import io.helidon.webserver.http.ServerResponse;
+
+/**
+ * Handles a resource that has precompressed variants (such as {@code app.js.gz} next to {@code app.js}).
+ * The variant is chosen based on the {@code Accept-Encoding} header of the request; range requests are always served
+ * from the original resource.
+ *
+ * @param identity handler of the original resource
+ * @param encoded  handlers of precompressed variants by content encoding
+ */
+record CachedHandlerEncoded(CachedHandler identity, Map<String, CachedHandler> encoded) implements CachedHandler {
+    @Override
+    public boolean handle(LruCache<String, CachedHandler> cache,
+                          Method method,
+                          ServerRequest request,
+                          ServerResponse response,
+                          String requestedResource) throws IOException {
+
+        response.headers().set(EncodedContent.VARY_ACCEPT_ENCODING);
+
+        if (request.headers().contains(HeaderNames.RANGE)) {
+            return identity.handle(cache, method, request, response, requestedResource);
+        }
+
+        Optional<String> encoding = EncodedContent.select(request.headers(), encoded.keySet());
+        if (encoding.isEmpty()) {
+            return identity.handle(cache, method, request, response, requestedResource);
+        }
+
+        // content encoding header makes sure the server does not compress the content again,
+        // and gives the encoded representation its own ETag
+        response.headers().set(EncodedContent.contentEncodingHeader(encoding.get()));
+        return encoded.get(encoding.get()).handle(cache, method, request, response, requestedResource);
+    }
+}
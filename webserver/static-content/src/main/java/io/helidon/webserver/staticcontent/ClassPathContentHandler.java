@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,7 +26,9 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Paths;
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -115,7 +117,7 @@ class ClassPathContentHandler extends FileBasedContentHandler {
 
         if (cached.isPresent()) {
             // this requested resource is cached and can be safely returned
-            return cached.get().handle(handlerCache(), method, request, response, requestedResource);
+            return handleCached(cached.get(), method, request, response, requestedResource);
         }
 
         // if it is not cached, find the resource and cache it (or return 404 and do not cache)
@@ -123,6 +125,8 @@ class ClassPathContentHandler extends FileBasedContentHandler {
         // try to find the resource on classpath (cannot use root URL and then resolve, as root and sub-resource
         // may be from different jar files/directories
         URL url = classLoader.getResource(requestedResource);
+        // name of the resource the url points to
+        String resource = requestedResource;
 
         String welcomeFileName = welcomePageName();
         if (welcomeFileName != null) {
@@ -140,14 +144,11 @@ class ClassPathContentHandler extends FileBasedContentHandler {
                     if (inMemoryMaybe.isPresent()) {
                         // reference to the same definition, never times out
                         cacheInMemory(requestedResource, inMemoryMaybe.get());
-                        return inMemoryMaybe.get().handle(handlerCache(),
-                                                          method,
-                                                          request,
-                                                          response,
-                                                          requestedResource);
+                        return handleCached(inMemoryMaybe.get(), method, request, response, requestedResource);
                     }
 
                     url = welcomeUrl;
+                    resource = welcomeFileResource;
                 } else {
                     // must redirect
                     String redirectLocation = rawPath + "/";
@@ -172,24 +173,55 @@ class ClassPathContentHandler extends FileBasedContentHandler {
         }
 
         // now read the URL - we have direct support for files and jar files, others are handled by stream only
-        Optional<CachedHandler> handler = cachedHandler(requestedResource, url);
+        Optional<CachedHandler> handler = cachedHandler(requestedResource, resource, url);
 
         if (handler.isEmpty()) {
             return false;
         }
 
         CachedHandler cachedHandler = handler.get();
-        cacheHandler(requestedResource, cachedHandler);
+        if (!(cachedHandler instanceof CachedHandlerInMemory)) {
+            // in-memory handlers are found through the memory cache, so the content is released once evicted from it
+            cacheHandler(requestedResource, cachedHandler);
+        }
 
-        return cachedHandler.handle(handlerCache(), method, request, response, requestedResource);
+        return handleCached(cachedHandler, method, request, response, requestedResource);
     }
 
     Optional<CachedHandler> cachedHandler(String requestedResource, URL url) throws IOException, URISyntaxException {
-        return switch (url.getProtocol()) {
-        case "file" -> fileHandler(Paths.get(url.toURI()));
-        case "jar" -> jarHandler(requestedResource, url);
-        default -> urlStreamHandler(url);
-        };
+        return cachedHandler(requestedResource, requestedResource, url);
+    }
+
+    /**
+     * Create a handler for a classpath resource, including its precompressed variants (if enabled and present).
+     *
+     * @param requestedResource requested resource, used as the key of in-memory cache
+     * @param resource          name of the classpath resource (may differ from requested resource for welcome files)
+     * @param url               URL of the resource
+     * @return handler, or empty if the resource cannot be served
+     */
+    Optional<CachedHandler> cachedHandler(String requestedResource, String resource, URL url)
+            throws IOException, URISyntaxException {
+        MediaType contentType = detectType(fileName(url));
+        if (!precompressed()) {
+            return cachedHandler(requestedResource, url, contentType, true);
+        }
+
+        Map<String, CachedHandler> encoded = new HashMap<>();
+        for (String encoding : EncodedContent.ENCODINGS) {
+            URL variantUrl = classLoader.getResource(resource + EncodedContent.suffix(encoding));
+            if (variantUrl != null) {
+                // variant uses the media type of the original resource, and is never cached in memory
+                Optional<CachedHandler> variant = cachedHandler(requestedResource, variantUrl, contentType, false);
+                variant.ifPresent(it -> encoded.put(encoding, it));
+            }
+        }
+        if (encoded.isEmpty()) {
+            return cachedHandler(requestedResource, url, contentType, true);
+        }
+        // the original is only sent to clients that do not accept the variants, so it is not cached in memory either
+        return cachedHandler(requestedResource, url, contentType, false)
+                .map(identity -> new CachedHandlerEncoded(identity, encoded));
     }
 
     static String cleanRoot(String location) {
@@ -249,7 +281,21 @@ class ClassPathContentHandler extends FileBasedContentHandler {
         return rawPath.endsWith("/") ? result + "/" : result;
     }
 
-    private Optional<CachedHandler> jarHandler(String requestedResource, URL url) throws IOException {
+    private Optional<CachedHandler> cachedHandler(String requestedResource,
+                                                  URL url,
+                                                  MediaType contentType,
+                                                  boolean inMemory) throws IOException, URISyntaxException {
+        return switch (url.getProtocol()) {
+        case "file" -> Optional.of(fileHandler(Paths.get(url.toURI()), contentType));
+        case "jar" -> jarHandler(requestedResource, url, contentType, inMemory);
+        default -> urlStreamHandler(url, contentType);
+        };
+    }
+
+    private Optional<CachedHandler> jarHandler(String requestedResource,
+                                               URL url,
+                                               MediaType contentType,
+                                               boolean inMemory) throws IOException {
         JarURLConnection jarUrlConnection = (JarURLConnection) url.openConnection();
         JarEntry jarEntry = jarUrlConnection.getJarEntry();
 
@@ -259,7 +305,6 @@ class ClassPathContentHandler extends FileBasedContentHandler {
         }
 
         var contentLength = jarEntry.getSize();
-        var contentType = detectType(fileName(url));
         Optional<Instant> lastModified;
 
         JarFile jarFile = jarUrlConnection.getJarFile();
@@ -279,7 +324,7 @@ class ClassPathContentHandler extends FileBasedContentHandler {
         1. The file will be cached in memory
         2. The file will be handled through CachedHandlerJar (and possibly extracted to a temporary directory)
          */
-        if (contentLength <= Integer.MAX_VALUE && canCacheInMemory((int) contentLength)) {
+        if (inMemory && contentLength <= Integer.MAX_VALUE && canCacheInMemory((int) contentLength)) {
             // we may be able to cache this entry
             var cached = cacheInMemory(requestedResource,
                                        (int) contentLength,
@@ -342,8 +387,8 @@ class ClassPathContentHandler extends FileBasedContentHandler {
         };
     }
 
-    private Optional<CachedHandler> urlStreamHandler(URL url) {
-        return Optional.of(new CachedHandlerUrlStream(detectType(fileName(url)), url));
+    private Optional<CachedHandler> urlStreamHandler(URL url, MediaType contentType) {
+        return Optional.of(new CachedHandlerUrlStream(contentType, url));
     }
 
     private void addToInMemoryCache(String resource) throws IOException {
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.staticcontent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+import io.helidon.http.Header;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.HeaderValues;
+import io.helidon.http.ServerRequestHeaders;
+
+/**
+ * Content encodings supported for precompressed and compressed static content.
+ */
+final class EncodedContent {
+    static final String GZIP = "gzip";
+    static final String BROTLI = "br";
+    /**
+     * Encodings in order of preference, if a client accepts more than one of them with the same quality.
+     */
+    static final List<String> ENCODINGS = List.of(BROTLI, GZIP);
+    static final Header VARY_ACCEPT_ENCODING = HeaderValues.createCached(HeaderNames.VARY, "Accept-Encoding");
+
+    private static final Map<String, String> SUFFIXES = Map.of(BROTLI, ".br",
+                                                               GZIP, ".gz");
+    private static final Map<String, Header> CONTENT_ENCODING_HEADERS =
+            Map.of(BROTLI, HeaderValues.createCached(HeaderNames.CONTENT_ENCODING, BROTLI),
+                   GZIP, HeaderValues.createCached(HeaderNames.CONTENT_ENCODING, GZIP));
+
+    private EncodedContent() {
+    }
+
+    /**
+     * File name suffix of a precompressed variant of a resource.
+     *
+     * @param encoding content encoding
+     * @return suffix, such as {@code .gz}
+     */
+    static String suffix(String encoding) {
+        return SUFFIXES.get(encoding);
+    }
+
+    /**
+     * Content encoding header for the encoding.
+     *
+     * @param encoding content encoding
+     * @return header to send with the response
+     */
+    static Header contentEncodingHeader(String encoding) {
+        return CONTENT_ENCODING_HEADERS.get(encoding);
+    }
+
+    /**
+     * Select the encoding to use for a response from the available encodings, based on the {@code Accept-Encoding}
+     * request header.
+     *
+     * @param headers   request headers
+     * @param available encodings available for the requested resource
+     * @return selected encoding, or empty if the resource should be sent as is
+     */
+    static Optional<String> select(ServerRequestHeaders headers, Set<String> available) {
+        if (available.isEmpty() || !headers.contains(HeaderNames.ACCEPT_ENCODING)) {
+            return Optional.empty();
+        }
+        String selected = null;
+        double selectedQ = 0;
+        for (String encoding : ENCODINGS) {
+            if (!available.contains(encoding)) {
+                continue;
+            }
+            double q = quality(headers.get(HeaderNames.ACCEPT_ENCODING).allValues(), encoding);
+            if (q > selectedQ) {
+                selected = encoding;
+                selectedQ = q;
+            }
+        }
+        return Optional.ofNullable(selected);
+    }
+
+    /**
+     * Compress bytes using gzip.
+     *
+     * @param bytes bytes to compress
+     * @return compressed bytes
+     */
+    static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(bytes.length / 2);
+        try (GZIPOutputStream out = new GZIPOutputStream(baos)) {
+            out.write(bytes);
+        } catch (IOException e) {
+            // cannot happen when writing to memory
+            throw new UncheckedIOException(e);
+        }
+        return baos.toByteArray();
+    }
+
+    // quality of the encoding as accepted by the client, zero if not acceptable
+    private static double quality(List<String> acceptEncoding, String encoding) {
+        double wildcard = 0;
+        for (String headerValue : acceptEncoding) {
+            for (String value : headerValue.split(",")) {
+                String name = value;
+                double q = 1;
+                int index = value.indexOf(';');
+                if (index != -1) {
+                    name = value.substring(0, index);
+                    q = parseQ(value.substring(index + 1));
+                }
+                name = name.trim();
+                if (name.equalsIgnoreCase(encoding)) {
+                    return q;
+                }
+                if ("*".equals(name)) {
+                    wildcard = q;
+                }
+            }
+        }
+        return wildcard;
+    }
+
+    private static double parseQ(String parameter) {
+        // q=0.8
+        int index = parameter.indexOf('=');
+        if (index == -1) {
+            return 1;
+        }
+        try {
+            return Double.parseDouble(parameter.substring(index + 1).trim());
+        } catch (NumberFormatException e) {
+            // invalid quality, do not use this encoding
+            return 0;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,16 +17,13 @@
 package io.helidon.webserver.staticcontent;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.io.UncheckedIOException;
-import java.nio.ByteBuffer;
-import java.nio.channels.Channels;
-import java.nio.channels.SeekableByteChannel;
-import java.nio.channels.WritableByteChannel;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -86,35 +83,23 @@ abstract class FileBasedContentHandler extends StaticContentHandler {
                 range.setContentRange(response);
 
                 // only send a part of the file
-                try (OutputStream out = response.outputStream(); SeekableByteChannel channel = Files.newByteChannel(path)) {
-                    WritableByteChannel outChannel = Channels.newChannel(out);
-                    channel.position(range.offset());
-                    long toRead = range.length();
-                    ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(toRead, 1000));
-                    while (toRead != 0) {
-                        int read = channel.read(buffer);
-                        int toWrite = (int) Math.min(toRead, read);
-                        buffer.flip();
-                        buffer.limit(toWrite);
-                        outChannel.write(buffer);
-                        buffer.flip();
-                        toRead -= toWrite;
-                    }
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                    response.send(channel, range.offset(), range.length());
                 }
             } else {
                 // multipart response not yet supported, send all
-                processContentLength(path, response.headers());
-                // send the full file
-                try (InputStream in = Files.newInputStream(path); OutputStream out = response.outputStream()) {
-                    in.transferTo(out);
-                }
+                sendFile(response, path);
             }
         } else {
-            processContentLength(path, response.headers());
-            // send the full file
-            try (InputStream in = Files.newInputStream(path); OutputStream out = response.outputStream()) {
-                in.transferTo(out);
-            }
+            sendFile(response, path);
+        }
+    }
+
+    // send the full file, transferred directly to the socket where supported by the response
+    private static void sendFile(ServerResponse response, Path path) throws IOException {
+        processContentLength(path, response.headers());
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            response.send(channel, 0, channel.size());
         }
     }
 
@@ -130,12 +115,36 @@ abstract class FileBasedContentHandler extends StaticContentHandler {
         return Optional.ofNullable(customMediaTypes.get(fileSuffix));
     }
 
-    Optional<CachedHandler> fileHandler(Path path) {
+    CachedHandler fileHandler(Path path, MediaType mediaType) {
         // we know the file exists and is a file
-        return Optional.of(new CachedHandlerPath(path,
-                                                 detectType(fileName(path)),
-                                                 FileBasedContentHandler::lastModified,
-                                                 ServerResponseHeaders::lastModified));
+        return new CachedHandlerPath(path,
+                                     mediaType,
+                                     FileBasedContentHandler::lastModified,
+                                     ServerResponseHeaders::lastModified);
+    }
+
+    /**
+     * Handler of a file on file system, including its precompressed variants (if enabled and present).
+     *
+     * @param path path of the file
+     * @return handler to cache
+     */
+    CachedHandler pathHandler(Path path) {
+        MediaType mediaType = detectType(fileName(path));
+        CachedHandler identity = fileHandler(path, mediaType);
+        if (!precompressed()) {
+            return identity;
+        }
+
+        Map<String, CachedHandler> encoded = new HashMap<>();
+        for (String encoding : EncodedContent.ENCODINGS) {
+            Path variant = path.resolveSibling(fileName(path) + EncodedContent.suffix(encoding));
+            if (Files.isRegularFile(variant)) {
+                // variant uses the media type of the original file
+                encoded.put(encoding, fileHandler(variant, mediaType));
+            }
+        }
+        return encoded.isEmpty() ? identity : new CachedHandlerEncoded(identity, encoded);
     }
 
     MediaType detectType(String fileName) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,7 +26,6 @@ import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.helidon.http.Method;
-import io.helidon.http.ServerResponseHeaders;
 import io.helidon.webserver.http.ServerRequest;
 import io.helidon.webserver.http.ServerResponse;
 
@@ -102,7 +101,7 @@ class FileSystemContentHandler extends FileBasedContentHandler {
 
         if (cached.isPresent()) {
             // this requested resource is cached and can be safely returned
-            return cached.get().handle(handlerCache(), method, req, res, requestedResource);
+            return handleCached(cached.get(), method, req, res, requestedResource);
         }
 
         // if it is not cached, find the resource and cache it (or return 404 and do not cache)
@@ -136,11 +135,7 @@ class FileSystemContentHandler extends FileBasedContentHandler {
                     if (inMemoryMaybe.isPresent()) {
                         // reference to the same definition, never times out
                         cacheInMemory(requestedResource, inMemoryMaybe.get());
-                        return inMemoryMaybe.get().handle(handlerCache(),
-                                                          method,
-                                                          req,
-                                                          res,
-                                                          requestedResource);
+                        return handleCached(inMemoryMaybe.get(), method, req, res, requestedResource);
                     }
 
                     // Try to find welcome file
@@ -155,12 +150,9 @@ class FileSystemContentHandler extends FileBasedContentHandler {
             }
         }
 
-        CachedHandler handler = new CachedHandlerPath(path,
-                                                      detectType(fileName(path)),
-                                                      FileBasedContentHandler::lastModified,
-                                                      ServerResponseHeaders::lastModified);
+        CachedHandler handler = pathHandler(path);
         cacheHandler(requestedResource, handler);
-        return handler.handle(handlerCache(), method, req, res, requestedResource);
+        return handleCached(handler, method, req, res, requestedResource);
     }
 
     private void addToInMemoryCache(String resource) throws IOException {
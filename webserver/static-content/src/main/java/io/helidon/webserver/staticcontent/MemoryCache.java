@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,14 +16,21 @@
 
 package io.helidon.webserver.staticcontent;
 
-import java.util.HashMap;
-import java.util.IdentityHashMap;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.locks.ReadWriteLock;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
 import io.helidon.builder.api.RuntimeType;
@@ -31,25 +38,72 @@ import io.helidon.builder.api.RuntimeType;
 /**
  * Memory cache to allow in-memory storage of static content, rather than reading it from file system each time the
  * resource is requested.
+ * <p>
+ * The cache is weighted by the number of bytes of cached content. Once the configured capacity is reached, entries are
+ * evicted in least recently used order; with {@link io.helidon.webserver.staticcontent.MemoryCache.EvictionPolicy#TINY_LFU}
+ * a new entry is only admitted if it is accessed more frequently than the entries it would evict.
+ * Lookups do not block - accesses are recorded into a buffer that is applied to the eviction policy
+ * by whichever thread obtains the eviction lock.
  */
 public class MemoryCache implements RuntimeType.Api<MemoryCacheConfig> {
+    private static final System.Logger LOGGER = System.getLogger(MemoryCache.class.getName());
+    // maximal number of access records waiting to be applied to the eviction policy, further records are dropped
+    private static final int ACCESS_BUFFER_SIZE = 1024;
+    // number of access records that trigger an attempt to apply them
+    private static final int ACCESS_DRAIN_THRESHOLD = 64;
+    private static final int SKETCH_WIDTH = 4096;
+    // content encoding of resources cached as they are
+    private static final String IDENTITY = "identity";
+    private static final AtomicLong HANDLER_IDS = new AtomicLong();
+    // statistics of handlers without metrics, never read
+    private static final HandlerStats NO_STATS = new HandlerStats(() -> 0);
+
     private final MemoryCacheConfig config;
     private final long maxSize;
-    // cache is Map<instance of handler -> Map<resource path -> CachedHandlerInMemory>>
-    private final Map<StaticContentHandler, Map<String, CachedHandlerInMemory>> cache = new IdentityHashMap<>();
-    private final ReadWriteLock cacheLock = new ReentrantReadWriteLock();
+    private final long timeToLiveNanos;
+    private final boolean frequencyAdmission;
+    private final LongSupplier ticker;
+    private final boolean metricsEnabled;
+
+    // resources explicitly configured to be cached, these are never evicted
+    private final Map<Key, CachedHandlerInMemory> pinned = new ConcurrentHashMap<>();
+    // resources cached on demand, subject to eviction
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    // access ordered, guarded by eviction lock
+    private final LinkedHashMap<Key, Entry> accessOrder = new LinkedHashMap<>(16, 0.75f, true);
+    // guarded by eviction lock
+    private final FrequencySketch sketch;
+    private final Queue<Key> accessBuffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger accessBufferSize = new AtomicInteger();
+
+    private final AtomicLong pinnedSize = new AtomicLong();
+    private final AtomicLong evictableSize = new AtomicLong();
+    // statistics of each handler that uses this cache, for metrics of the handler
+    private final Map<StaticContentHandler, HandlerStats> handlerStats = new ConcurrentHashMap<>();
 
-    private final ReentrantLock sizeLock = new ReentrantLock();
-    private long currentSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
 
-    private MemoryCache(MemoryCacheConfig config) {
+    private MemoryCache(MemoryCacheConfig config, LongSupplier ticker) {
         this.config = config;
+        this.ticker = ticker;
         if (config.enabled()) {
             long configuredMax = config.capacity().toBytes();
             this.maxSize = configuredMax == 0 ? Long.MAX_VALUE : configuredMax;
         } else {
             this.maxSize = 0;
         }
+        this.timeToLiveNanos = config.timeToLive()
+                .map(java.time.Duration::toNanos)
+                .orElse(0L);
+        this.frequencyAdmission = config.evictionPolicy() == EvictionPolicy.TINY_LFU;
+        this.sketch = new FrequencySketch(maxSize == 0 ? 16 : SKETCH_WIDTH);
+        this.metricsEnabled = config.enableMetrics() && maxSize != 0;
     }
 
     /**
@@ -68,7 +122,7 @@ public class MemoryCache implements RuntimeType.Api<MemoryCacheConfig> {
      * @return a new configured memory cache
      */
     public static MemoryCache create(MemoryCacheConfig config) {
-        return new MemoryCache(config);
+        return new MemoryCache(config, System::nanoTime);
     }
 
     /**
@@ -93,87 +147,409 @@ public class MemoryCache implements RuntimeType.Api<MemoryCacheConfig> {
         return builder().enabled(false).build();
     }
 
+    // for tests, to control expiration of entries
+    static MemoryCache create(MemoryCacheConfig config, LongSupplier ticker) {
+        return new MemoryCache(config, ticker);
+    }
+
     @Override
     public MemoryCacheConfig prototype() {
         return config;
     }
 
+    /**
+     * Current statistics of this cache.
+     *
+     * @return cache statistics
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(),
+                         misses.sum(),
+                         evictions.sum(),
+                         expirations.sum(),
+                         rejections.sum(),
+                         size(),
+                         pinned.size() + entries.size());
+    }
+
+    /**
+     * Register a handler that started using this cache. If metrics are enabled, meters of the handler are registered,
+     * tagged with the name of the cache and the context of the handler, and are removed when the handler
+     * {@link #clear(StaticContentHandler) clears} its content.
+     *
+     * @param staticContentHandler handler using this cache
+     * @param context              context root of the handler
+     */
+    void register(StaticContentHandler staticContentHandler, String context) {
+        if (!metricsEnabled) {
+            return;
+        }
+        handlerStats.computeIfAbsent(staticContentHandler, handler -> {
+            HandlerStats stats = new HandlerStats(() -> size(handler));
+            try {
+                stats.metrics = MemoryCacheMetrics.register(config.name(),
+                                                            context,
+                                                            String.valueOf(HANDLER_IDS.incrementAndGet()),
+                                                            stats);
+            } catch (LinkageError e) {
+                // metrics API is an optional dependency
+                LOGGER.log(System.Logger.Level.WARNING, "Metrics of static content memory cache \"" + config.name()
+                        + "\" are enabled, but metrics API is not available", e);
+            }
+            return stats;
+        });
+    }
+
     void clear(StaticContentHandler staticContentHandler) {
+        HandlerStats stats = handlerStats.remove(staticContentHandler);
+        if (stats != null && stats.metrics != null) {
+            stats.metrics.remove();
+        }
+        pinned.keySet().removeIf(key -> key.handler() == staticContentHandler);
+        evictionLock.lock();
         try {
-            cacheLock.writeLock().lock();
-            cache.remove(staticContentHandler);
+            Iterator<Map.Entry<Key, Entry>> iterator = accessOrder.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Key, Entry> next = iterator.next();
+                if (next.getKey().handler() == staticContentHandler) {
+                    iterator.remove();
+                    entries.remove(next.getKey());
+                    evictableSize.addAndGet(-next.getValue().weight());
+                }
+            }
         } finally {
-            cacheLock.writeLock().unlock();
+            evictionLock.unlock();
         }
+        // pinned size is only an approximation after clear, recompute it
+        pinnedSize.set(pinned.values()
+                               .stream()
+                               .mapToLong(CachedHandlerInMemory::contentLength)
+                               .sum());
     }
 
     /**
      * Is there a possibility to cache the bytes.
-     * There may be a race, so {@link #cache(StaticContentHandler, String, int, java.util.function.Supplier)} may still return
-     * empty.
+     * Other entries may need to be evicted to make space, and the entry may be rejected by the eviction policy, so
+     * {@link #cache(StaticContentHandler, String, int, java.util.function.Supplier)} may still return empty.
      *
-     * @return if there is space in the cache for the number of bytes requested
+     * @return if the number of bytes requested fits into the cache
      */
     boolean available(int bytes) {
-        return maxSize != 0 && (currentSize + bytes) <= maxSize;
+        return maxSize != 0 && bytes <= maxSize - pinnedSize.get();
+    }
+
+    Optional<CachedHandlerInMemory> cache(StaticContentHandler handler,
+                                          String resource,
+                                          int size,
+                                          Supplier<CachedHandlerInMemory> handlerSupplier) {
+        return cache(handler, resource, IDENTITY, size, handlerSupplier);
     }
 
+    // cache an encoded (compressed) representation of a resource
     Optional<CachedHandlerInMemory> cache(StaticContentHandler handler,
                                           String resource,
+                                          String encoding,
                                           int size,
                                           Supplier<CachedHandlerInMemory> handlerSupplier) {
+        if (!available(size)) {
+            // either we are not enabled, or the size would be bigger than maximal size
+            return Optional.empty();
+        }
+        // admission is best effort, if another thread is updating the cache, the content is served without caching
+        if (!evictionLock.tryLock()) {
+            return Optional.empty();
+        }
         try {
-            sizeLock.lock();
-            if (maxSize == 0 || currentSize + size > maxSize) {
-                // either we are not enabled, or the size would be bigger than maximal size
+            Key key = new Key(handler, resource, encoding);
+            drainAccessBuffer();
+
+            Entry existing = accessOrder.get(key);
+            if (existing != null) {
+                if (!existing.expired(ticker.getAsLong())) {
+                    return Optional.of(existing.handler());
+                }
+                remove(key, existing);
+                expirations.increment();
+                handlerStats(handler).expirations.increment();
+            }
+
+            if (!makeSpace(key, size)) {
+                rejections.increment();
+                handlerStats(handler).rejections.increment();
                 return Optional.empty();
             }
-            // increase current size
-            currentSize += size;
-        } finally {
-            sizeLock.unlock();
-        }
-        try {
-            cacheLock.writeLock().lock();
+
             CachedHandlerInMemory cachedHandlerInMemory = handlerSupplier.get();
-            cache.computeIfAbsent(handler, k -> new HashMap<>())
-                    .put(resource, cachedHandlerInMemory);
+            long expiresAt = timeToLiveNanos == 0 ? 0 : ticker.getAsLong() + timeToLiveNanos;
+            Entry entry = new Entry(cachedHandlerInMemory, size, expiresAt);
+            accessOrder.put(key, entry);
+            entries.put(key, entry);
+            evictableSize.addAndGet(size);
             return Optional.of(cachedHandlerInMemory);
         } finally {
-            cacheLock.writeLock().unlock();
+            evictionLock.unlock();
         }
     }
 
     // hard add to cache, even if disabled (for explicitly configured resources to cache in memory)
     void cache(StaticContentHandler handler, String resource, CachedHandlerInMemory inMemoryHandler) {
-        try {
-            sizeLock.lock();
-            if (maxSize != 0) {
-                // only increase current size if enabled, otherwise it does not matter
-                currentSize += inMemoryHandler.contentLength();
+        CachedHandlerInMemory previous = pinned.put(new Key(handler, resource), inMemoryHandler);
+        pinnedSize.addAndGet(inMemoryHandler.contentLength() - (previous == null ? 0 : previous.contentLength()));
+    }
+
+    Optional<CachedHandlerInMemory> get(StaticContentHandler handler, String resource) {
+        return get(handler, resource, IDENTITY);
+    }
+
+    // get an encoded (compressed) representation of a resource
+    Optional<CachedHandlerInMemory> get(StaticContentHandler handler, String resource, String encoding) {
+        Key key = new Key(handler, resource, encoding);
+        HandlerStats stats = handlerStats(handler);
+        CachedHandlerInMemory pinnedHandler = pinned.get(key);
+        if (pinnedHandler != null) {
+            hits.increment();
+            stats.hits.increment();
+            return Optional.of(pinnedHandler);
+        }
+        if (maxSize == 0) {
+            return Optional.empty();
+        }
+
+        recordAccess(key);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            stats.misses.increment();
+            return Optional.empty();
+        }
+        if (entry.expired(ticker.getAsLong())) {
+            misses.increment();
+            stats.misses.increment();
+            expire(key, entry);
+            return Optional.empty();
+        }
+        hits.increment();
+        stats.hits.increment();
+        return Optional.of(entry.handler());
+    }
+
+    // find entries to evict in least recently used order; returns false if the candidate is not admitted
+    private boolean makeSpace(Key candidate, int size) {
+        long available = maxSize - pinnedSize.get() - evictableSize.get();
+        if (size <= available) {
+            return true;
+        }
+        long now = ticker.getAsLong();
+        List<Map.Entry<Key, Entry>> victims = new ArrayList<>();
+        int victimFrequency = 0;
+        for (Map.Entry<Key, Entry> next : accessOrder.entrySet()) {
+            victims.add(next);
+            available += next.getValue().weight();
+            if (!next.getValue().expired(now)) {
+                victimFrequency = Math.max(victimFrequency, sketch.frequency(next.getKey().hashCode()));
+            }
+            if (size <= available) {
+                break;
             }
-        } finally {
-            sizeLock.unlock();
         }
-        try {
-            cacheLock.writeLock().lock();
-            cache.computeIfAbsent(handler, k -> new HashMap<>())
-                    .put(resource, inMemoryHandler);
-        } finally {
-            cacheLock.writeLock().unlock();
+        if (size > available) {
+            return false;
         }
+        if (frequencyAdmission && sketch.frequency(candidate.hashCode()) <= victimFrequency) {
+            // the candidate is not used more often than the content we would have to evict
+            return false;
+        }
+        for (Map.Entry<Key, Entry> victim : victims) {
+            remove(victim.getKey(), victim.getValue());
+            HandlerStats stats = handlerStats(victim.getKey().handler());
+            if (victim.getValue().expired(now)) {
+                expirations.increment();
+                stats.expirations.increment();
+            } else {
+                evictions.increment();
+                stats.evictions.increment();
+            }
+        }
+        return true;
     }
 
-    Optional<CachedHandlerInMemory> get(StaticContentHandler handler, String resource) {
+    private void expire(Key key, Entry entry) {
+        evictionLock.lock();
         try {
-            cacheLock.readLock().lock();
-            Map<String, CachedHandlerInMemory> resourceCache = cache.get(handler);
-            if (resourceCache == null) {
-                return Optional.empty();
+            if (accessOrder.get(key) == entry) {
+                remove(key, entry);
+                expirations.increment();
+                handlerStats(key.handler()).expirations.increment();
             }
-            return Optional.ofNullable(resourceCache.get(resource));
         } finally {
-            cacheLock.readLock().unlock();
+            evictionLock.unlock();
+        }
+    }
+
+    // must be called with eviction lock
+    private void remove(Key key, Entry entry) {
+        accessOrder.remove(key);
+        entries.remove(key, entry);
+        evictableSize.addAndGet(-entry.weight());
+    }
+
+    private void recordAccess(Key key) {
+        if (accessBufferSize.incrementAndGet() > ACCESS_BUFFER_SIZE) {
+            // buffer is full, this access is not recorded (lossy, same as the sketch itself)
+            accessBufferSize.decrementAndGet();
+        } else {
+            accessBuffer.offer(key);
+        }
+        if (accessBufferSize.get() >= ACCESS_DRAIN_THRESHOLD && evictionLock.tryLock()) {
+            try {
+                drainAccessBuffer();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    // must be called with eviction lock
+    private void drainAccessBuffer() {
+        Key key;
+        while ((key = accessBuffer.poll()) != null) {
+            accessBufferSize.decrementAndGet();
+            sketch.increment(key.hashCode());
+            // moves the entry to the end of access order
+            accessOrder.get(key);
+        }
+    }
+
+    private long size() {
+        return pinnedSize.get() + evictableSize.get();
+    }
+
+    private HandlerStats handlerStats(StaticContentHandler handler) {
+        if (!metricsEnabled) {
+            return NO_STATS;
+        }
+        HandlerStats stats = handlerStats.get(handler);
+        return stats == null ? NO_STATS : stats;
+    }
+
+    // size of content of a single handler, only computed when metrics are read
+    private long size(StaticContentHandler handler) {
+        long size = 0;
+        for (Map.Entry<Key, CachedHandlerInMemory> entry : pinned.entrySet()) {
+            if (entry.getKey().handler() == handler) {
+                size += entry.getValue().contentLength();
+            }
+        }
+        for (Map.Entry<Key, Entry> entry : entries.entrySet()) {
+            if (entry.getKey().handler() == handler) {
+                size += entry.getValue().weight();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Policy used to choose which entries are evicted when the cache is full.
+     */
+    public enum EvictionPolicy {
+        /**
+         * Least recently used entries are evicted to make space for any new entry.
+         */
+        LRU,
+        /**
+         * Least recently used entries are evicted, but only if the new entry is accessed more frequently than
+         * the entries to be evicted (TinyLFU admission). This prevents content requested only once from replacing
+         * frequently used content.
+         */
+        TINY_LFU
+    }
+
+    /**
+     * Statistics of a memory cache.
+     *
+     * @param hits        number of requests served from the cache
+     * @param misses      number of requests for content not (or no longer) in the cache
+     * @param evictions   number of entries evicted to make space for new entries
+     * @param expirations number of entries removed because their time to live elapsed
+     * @param rejections  number of times content was not cached because it was not admitted by the eviction policy
+     * @param size        current size of cached content in bytes
+     * @param entries     current number of cached entries
+     */
+    public record Stats(long hits,
+                        long misses,
+                        long evictions,
+                        long expirations,
+                        long rejections,
+                        long size,
+                        int entries) {
+    }
+
+    // statistics of a single handler, read by its meters
+    static final class HandlerStats {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private final LongAdder expirations = new LongAdder();
+        private final LongAdder rejections = new LongAdder();
+        private final LongSupplier size;
+        // null if metrics are not available
+        private volatile MemoryCacheMetrics metrics;
+
+        private HandlerStats(LongSupplier size) {
+            this.size = size;
+        }
+
+        long hits() {
+            return hits.sum();
+        }
+
+        long misses() {
+            return misses.sum();
+        }
+
+        long evictions() {
+            return evictions.sum();
+        }
+
+        long expirations() {
+            return expirations.sum();
+        }
+
+        long rejections() {
+            return rejections.sum();
+        }
+
+        long size() {
+            return size.getAsLong();
+        }
+    }
+
+    private record Entry(CachedHandlerInMemory handler, int weight, long expiresAt) {
+        boolean expired(long now) {
+            return expiresAt != 0 && now - expiresAt >= 0;
+        }
+    }
+
+    // handlers do not implement equals, we use identity
+    private record Key(StaticContentHandler handler, String resource, String encoding) {
+        private Key(StaticContentHandler handler, String resource) {
+            this(handler, resource, IDENTITY);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            return o instanceof Key other
+                    && handler == other.handler
+                    && resource.equals(other.resource)
+                    && encoding.equals(other.encoding);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * System.identityHashCode(handler) + resource.hashCode()) + encoding.hashCode();
         }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,14 +16,18 @@
 
 package io.helidon.webserver.staticcontent;
 
+import java.time.Duration;
+import java.util.Optional;
+
 import io.helidon.builder.api.Option;
 import io.helidon.builder.api.Prototype;
 import io.helidon.common.Size;
 
 /**
  * Configuration of memory cache for static content.
- * The memory cache will cache the first {@link #capacity() bytes} that fit into the configured memory size for the
- * duration of the service uptime.
+ * The memory cache stores content up to the configured {@link #capacity()}. When the capacity is reached, entries are
+ * evicted according to the configured {@link #evictionPolicy()}. Resources explicitly configured to be cached in memory
+ * are never evicted.
  */
 @Prototype.Blueprint
 @Prototype.Configured
@@ -50,4 +54,43 @@ interface MemoryCacheConfigBlueprint extends Prototype.Factory<MemoryCache> {
     @Option.Default("50 mB")
     @Option.Configured
     Size capacity();
+
+    /**
+     * Policy used to choose entries to evict when the cache is full.
+     *
+     * @return eviction policy, defaults to {@link io.helidon.webserver.staticcontent.MemoryCache.EvictionPolicy#TINY_LFU}
+     */
+    @Option.Default("TINY_LFU")
+    @Option.Configured
+    MemoryCache.EvictionPolicy evictionPolicy();
+
+    /**
+     * Time to live of cached entries. An entry is removed from the cache once this time elapses since it was cached,
+     * and the content is read again on the next request.
+     * Resources explicitly configured to be cached in memory do not expire.
+     *
+     * @return time to live of cached entries, entries do not expire if not configured
+     */
+    @Option.Configured
+    Optional<Duration> timeToLive();
+
+    /**
+     * Whether to register metrics of this cache (hits, misses, evictions, and size) with the global meter registry.
+     * Meters are registered for each static content handler using this cache, tagged with its context, and are removed
+     * when the handler is stopped. Requires {@code helidon-metrics-api} (and an implementation) on the classpath.
+     *
+     * @return whether metrics are enabled, defaults to {@code false}
+     */
+    @Option.DefaultBoolean(false)
+    @Option.Configured
+    boolean enableMetrics();
+
+    /**
+     * Name of this cache, used as the {@code cache} tag of metrics.
+     *
+     * @return name of the cache
+     */
+    @Option.Default("static-content")
+    @Option.Configured
+    String name();
 }
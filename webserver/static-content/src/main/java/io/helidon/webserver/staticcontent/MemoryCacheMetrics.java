@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webserver.staticcontent;
+
+import java.util.List;
+
+import io.helidon.metrics.api.Meter;
+import io.helidon.metrics.api.MeterRegistry;
+import io.helidon.metrics.api.Metrics;
+import io.helidon.metrics.api.MetricsFactory;
+import io.helidon.metrics.api.Tag;
+
+import static io.helidon.metrics.api.Meter.Scope.VENDOR;
+
+/**
+ * Meters of a single static content handler using a {@link io.helidon.webserver.staticcontent.MemoryCache}.
+ * Only loaded when metrics are enabled, as the metrics API is an optional dependency.
+ */
+final class MemoryCacheMetrics {
+    private final MeterRegistry meterRegistry;
+    private final List<Meter> meters;
+
+    private MemoryCacheMetrics(MeterRegistry meterRegistry, List<Meter> meters) {
+        this.meterRegistry = meterRegistry;
+        this.meters = meters;
+    }
+
+    static MemoryCacheMetrics register(String cacheName, String context, String handlerId, MemoryCache.HandlerStats stats) {
+        MetricsFactory metricsFactory = MetricsFactory.getInstance();
+        MeterRegistry meterRegistry = Metrics.globalRegistry();
+        List<Tag> tags = List.of(Tag.create("cache", cacheName),
+                                 Tag.create("context", context),
+                                 Tag.create("handler", handlerId));
+
+        List<Meter> meters = List.of(
+                meterRegistry.getOrCreate(metricsFactory.functionalCounterBuilder("static_content_cache_hits",
+                                                                                  stats,
+                                                                                  MemoryCache.HandlerStats::hits)
+                                                  .scope(VENDOR)
+                                                  .tags(tags)),
+                meterRegistry.getOrCreate(metricsFactory.functionalCounterBuilder("static_content_cache_misses",
+                                                                                  stats,
+                                                                                  MemoryCache.HandlerStats::misses)
+                                                  .scope(VENDOR)
+                                                  .tags(tags)),
+                // entries removed to make space for new entries
+                meterRegistry.getOrCreate(metricsFactory.functionalCounterBuilder("static_content_cache_evictions",
+                                                                                  stats,
+                                                                                  MemoryCache.HandlerStats::evictions)
+                                                  .scope(VENDOR)
+                                                  .tags(tags)),
+                meterRegistry.getOrCreate(metricsFactory.functionalCounterBuilder("static_content_cache_expirations",
+                                                                                  stats,
+                                                                                  MemoryCache.HandlerStats::expirations)
+                                                  .scope(VENDOR)
+                                                  .tags(tags)),
+                // content not admitted to the cache by the eviction policy
+                meterRegistry.getOrCreate(metricsFactory.functionalCounterBuilder("static_content_cache_rejections",
+                                                                                  stats,
+                                                                                  MemoryCache.HandlerStats::rejections)
+                                                  .scope(VENDOR)
+                                                  .tags(tags)),
+                meterRegistry.getOrCreate(metricsFactory.gaugeBuilder("static_content_cache_size_bytes",
+                                                                      stats,
+                                                                      MemoryCache.HandlerStats::size)
+                                                  .scope(VENDOR)
+                                                  .tags(tags)));
+        return new MemoryCacheMetrics(meterRegistry, meters);
+    }
+
+    void remove() {
+        meters.forEach(meterRegistry::remove);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2025, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -85,6 +85,7 @@ class SingleFileClassPathContentHandler extends ClassPathContentHandler {
         var handler = cacheHandler(location)
                 .orElseThrow(() -> new IllegalStateException("Handler must be cached during startup " + location));
 
-        return handler.handle(handlerCache(), method, request, response, requestedPath);
+        // cached under the location, requested path may be anything
+        return handleCached(handler, method, request, response, location);
     }
 }
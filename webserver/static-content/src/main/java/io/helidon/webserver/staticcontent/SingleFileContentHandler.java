@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,7 +22,6 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import io.helidon.http.Method;
-import io.helidon.http.ServerResponseHeaders;
 import io.helidon.webserver.http.ServerRequest;
 import io.helidon.webserver.http.ServerResponse;
 
@@ -62,7 +61,7 @@ class SingleFileContentHandler extends FileBasedContentHandler {
         if ("".equals(requestedPath) || "/".equals(requestedPath)) {
             Optional<CachedHandler> cachedHandler = cacheHandler(".");
             if (cachedHandler.isPresent()) {
-                return cachedHandler.get().handle(handlerCache(), method, req, res, requestedPath);
+                return handleCached(cachedHandler.get(), method, req, res, ".");
             }
             return doHandle(method, req, res);
         }
@@ -74,14 +73,11 @@ class SingleFileContentHandler extends FileBasedContentHandler {
     }
 
     private boolean doHandle(Method method, ServerRequest req, ServerResponse res) throws IOException {
-        return cacheFileHandler().handle(handlerCache(), method, req, res, ".");
+        return handleCached(cacheFileHandler(), method, req, res, ".");
     }
 
     private CachedHandler cacheFileHandler() {
-        CachedHandler handler = new CachedHandlerPath(path,
-                                                      detectType(fileName(path)),
-                                                      FileBasedContentHandler::lastModified,
-                                                      ServerResponseHeaders::lastModified);
+        CachedHandler handler = pathHandler(path);
         cacheHandler(".", handler);
 
         return handler;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,7 @@ import java.time.ZonedDateTime;
 import java.time.chrono.ChronoZonedDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
@@ -54,12 +55,17 @@ import io.helidon.webserver.http.ServerResponse;
 @SuppressWarnings("removal") // will be replaced with HttpService once removed, or made package local
 abstract class StaticContentHandler implements StaticContentService {
     private static final System.Logger LOGGER = System.getLogger(StaticContentHandler.class.getName());
+    // encodings we can compress content with for the memory cache
+    private static final Set<String> COMPRESSED_ENCODINGS = Set.of(EncodedContent.GZIP);
 
     private final LruCache<String, CachedHandler> handlerCache;
     private final String welcomeFilename;
     private final Function<String, String> resolvePathFunction;
     private final AtomicInteger webServerCounter = new AtomicInteger();
     private final MemoryCache memoryCache;
+    private final boolean precompressed;
+    private final boolean cacheCompressed;
+    private final String context;
 
     StaticContentHandler(BaseHandlerConfig config) {
         this.welcomeFilename = config.welcome().orElse(null);
@@ -68,11 +74,16 @@ abstract class StaticContentHandler implements StaticContentService {
                 .update(it -> config.recordCacheCapacity().ifPresent(it::capacity))
                 .build();
         this.memoryCache = config.memoryCache().orElseGet(MemoryCache::create);
+        this.precompressed = config.precompressed();
+        this.cacheCompressed = config.cacheCompressed();
+        this.context = config.context();
     }
 
     /**
      * Put {@code etag} parameter (if provided ) into the response headers, than validates {@code If-Match} and
      * {@code If-None-Match} headers and react accordingly.
+     * If the response already has a {@code Content-Encoding} header, the encoding is appended to the ETag, so
+     * each encoded representation of a resource has its own strong ETag (RFC 9110, section 8.8.3).
      *
      * @param etag            the proposed ETag. If {@code null} then method returns false
      * @param requestHeaders  an HTTP request headers
@@ -84,6 +95,9 @@ abstract class StaticContentHandler implements StaticContentService {
             return;
         }
         etag = unquoteETag(etag);
+        if (responseHeaders.contains(HeaderNames.CONTENT_ENCODING)) {
+            etag = etag + "-" + responseHeaders.get(HeaderNames.CONTENT_ENCODING).get();
+        }
 
         Header newEtag = HeaderValues.create(HeaderNames.ETAG, true, false, '"' + etag + '"');
         // Put ETag into the response
@@ -182,7 +196,9 @@ abstract class StaticContentHandler implements StaticContentService {
 
     @Override
     public void beforeStart() {
-        webServerCounter.incrementAndGet();
+        if (webServerCounter.incrementAndGet() == 1) {
+            memoryCache.register(this, context);
+        }
     }
 
     @Override
@@ -269,6 +285,51 @@ abstract class StaticContentHandler implements StaticContentService {
         return welcomeFilename;
     }
 
+    /**
+     * Whether precompressed variants of resources should be served.
+     *
+     * @return whether to look for precompressed variants
+     */
+    boolean precompressed() {
+        return precompressed;
+    }
+
+    /**
+     * Handle a request using a cached handler.
+     * If caching of compressed content is enabled, content cached in memory is sent gzip compressed to clients that
+     * accept it, and the compressed content is cached in memory as well.
+     *
+     * @param handler           cached handler
+     * @param method            GET or HEAD HTTP method
+     * @param request           an HTTP request
+     * @param response          an HTTP response
+     * @param requestedResource requested resource
+     * @return {@code true} only if static content was found and processed
+     * @throws java.io.IOException if resource is not acceptable
+     */
+    boolean handleCached(CachedHandler handler,
+                         Method method,
+                         ServerRequest request,
+                         ServerResponse response,
+                         String requestedResource) throws IOException {
+        if (cacheCompressed && handler instanceof CachedHandlerInMemory inMemory) {
+            // the representation depends on the accepted encodings, even when the content is sent as is
+            response.headers().set(EncodedContent.VARY_ACCEPT_ENCODING);
+
+            if (!request.headers().contains(HeaderNames.RANGE)
+                    && EncodedContent.select(request.headers(), COMPRESSED_ENCODINGS).isPresent()) {
+                Optional<CachedHandlerInMemory> compressed = compressedInMemory(requestedResource, inMemory);
+                if (compressed.isPresent()) {
+                    // content encoding header makes sure the server does not compress the content again,
+                    // and gives the compressed representation its own ETag
+                    response.headers().set(EncodedContent.contentEncodingHeader(EncodedContent.GZIP));
+                    return compressed.get().handle(handlerCache, method, request, response, requestedResource);
+                }
+            }
+        }
+        return handler.handle(handlerCache, method, request, response, requestedResource);
+    }
+
     /**
      * Cache in memory.
      * Only use when explicitly requested by a user, we NEVER clear the cache during runtime. If you cache too much,
@@ -352,6 +413,32 @@ abstract class StaticContentHandler implements StaticContentService {
         cacheInMemory(resource, inMemoryResource);
     }
 
+    private Optional<CachedHandlerInMemory> compressedInMemory(String resource, CachedHandlerInMemory identity) {
+        Optional<CachedHandlerInMemory> cached = memoryCache.get(this, resource, EncodedContent.GZIP);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        if (!canCacheInMemory(identity.contentLength())) {
+            // content would be compressed on each request anyway, leave it to the server
+            return Optional.empty();
+        }
+        byte[] bytes = EncodedContent.gzip(identity.bytes());
+        if (bytes.length >= identity.contentLength()) {
+            // content that does not compress, sent as is
+            return Optional.empty();
+        }
+        CachedHandlerInMemory compressed = new CachedHandlerInMemory(identity.mediaType(),
+                                                                     identity.lastModified(),
+                                                                     identity.setLastModifiedHeader(),
+                                                                     bytes,
+                                                                     bytes.length,
+                                                                     HeaderValues.create(HeaderNames.CONTENT_LENGTH,
+                                                                                         bytes.length));
+        // even if not admitted to the cache, we have already done the work
+        return memoryCache.cache(this, resource, EncodedContent.GZIP, bytes.length, () -> compressed)
+                .or(() -> Optional.of(compressed));
+    }
+
     private static String unquoteETag(String etag) {
         if (etag == null || etag.isEmpty()) {
             return etag;
@@ -28,6 +28,7 @@ module io.helidon.webserver.staticcontent {
 
     requires static io.helidon.common.features.api;
     requires static io.helidon.config.metadata;
+    requires static io.helidon.metrics.api;
 
     requires transitive io.helidon.common.configurable;
     requires transitive io.helidon.webserver;
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.staticcontent;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import io.helidon.http.HeaderNames;
+import io.helidon.http.ServerRequestHeaders;
+import io.helidon.http.WritableHeaders;
+
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.common.testing.junit5.OptionalMatcher.optionalEmpty;
+import static io.helidon.common.testing.junit5.OptionalMatcher.optionalValue;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class EncodedContentTest {
+    private static final Set<String> ALL = Set.of(EncodedContent.BROTLI, EncodedContent.GZIP);
+
+    @Test
+    void testPreferBrotli() {
+        assertThat(EncodedContent.select(headers("gzip, deflate, br"), ALL), optionalValue(is(EncodedContent.BROTLI)));
+        assertThat(EncodedContent.select(headers("gzip, deflate, br"), Set.of(EncodedContent.GZIP)),
+                   optionalValue(is(EncodedContent.GZIP)));
+    }
+
+    @Test
+    void testQuality() {
+        assertThat(EncodedContent.select(headers("br;q=0.5, gzip;q=0.8"), ALL), optionalValue(is(EncodedContent.GZIP)));
+        assertThat(EncodedContent.select(headers("br;q=0, gzip;q=0"), ALL), optionalEmpty());
+        assertThat(EncodedContent.select(headers("*;q=0.1, br;q=0"), ALL), optionalValue(is(EncodedContent.GZIP)));
+    }
+
+    @Test
+    void testNotAccepted() {
+        assertThat(EncodedContent.select(headers("deflate"), ALL), optionalEmpty());
+        assertThat(EncodedContent.select(ServerRequestHeaders.create(), ALL), optionalEmpty());
+        assertThat(EncodedContent.select(headers("gzip"), Set.of()), optionalEmpty());
+    }
+
+    @Test
+    void testGzip() throws IOException {
+        byte[] bytes = "Hello World! Hello World! Hello World!".getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = EncodedContent.gzip(bytes);
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertThat(in.readAllBytes(), is(bytes));
+        }
+    }
+
+    private static ServerRequestHeaders headers(String acceptEncoding) {
+        return ServerRequestHeaders.create(WritableHeaders.create()
+                                                   .add(HeaderNames.ACCEPT_ENCODING, acceptEncoding));
+    }
+}
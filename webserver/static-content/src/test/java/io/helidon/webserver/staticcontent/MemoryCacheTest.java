@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.staticcontent;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.helidon.common.Size;
+import io.helidon.common.media.type.MediaTypes;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.HeaderValues;
+import io.helidon.metrics.api.FunctionalCounter;
+import io.helidon.metrics.api.Meter;
+import io.helidon.metrics.api.MeterRegistry;
+import io.helidon.metrics.api.Metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.common.testing.junit5.OptionalMatcher.optionalEmpty;
+import static io.helidon.common.testing.junit5.OptionalMatcher.optionalPresent;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class MemoryCacheTest {
+    private StaticContentHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = mock(StaticContentHandler.class);
+    }
+
+    @Test
+    void testLruEviction() {
+        MemoryCache cache = MemoryCache.create(builder -> builder.capacity(Size.create(10))
+                .evictionPolicy(MemoryCache.EvictionPolicy.LRU));
+
+        assertThat(cache.cache(handler, "a", 5, () -> content(5)), optionalPresent());
+        assertThat(cache.cache(handler, "b", 5, () -> content(5)), optionalPresent());
+        // a is now more recently used than b
+        assertThat(cache.get(handler, "a"), optionalPresent());
+
+        assertThat(cache.cache(handler, "c", 5, () -> content(5)), optionalPresent());
+
+        assertThat(cache.get(handler, "a"), optionalPresent());
+        assertThat(cache.get(handler, "b"), optionalEmpty());
+        assertThat(cache.get(handler, "c"), optionalPresent());
+
+        MemoryCache.Stats stats = cache.stats();
+        assertThat(stats.evictions(), is(1L));
+        assertThat(stats.size(), is(10L));
+        assertThat(stats.entries(), is(2));
+    }
+
+    @Test
+    void testTinyLfuRejectsInfrequentContent() {
+        MemoryCache cache = MemoryCache.create(builder -> builder.capacity(Size.create(10))
+                .evictionPolicy(MemoryCache.EvictionPolicy.TINY_LFU));
+
+        assertThat(cache.cache(handler, "a", 5, () -> content(5)), optionalPresent());
+        assertThat(cache.cache(handler, "b", 5, () -> content(5)), optionalPresent());
+        for (int i = 0; i < 3; i++) {
+            cache.get(handler, "a");
+            cache.get(handler, "b");
+        }
+
+        // requested once, must not replace frequently used content
+        assertThat(cache.get(handler, "c"), optionalEmpty());
+        assertThat(cache.cache(handler, "c", 5, () -> content(5)), optionalEmpty());
+
+        assertThat(cache.get(handler, "a"), optionalPresent());
+        assertThat(cache.get(handler, "b"), optionalPresent());
+        assertThat(cache.stats().rejections(), is(1L));
+        assertThat(cache.stats().evictions(), is(0L));
+    }
+
+    @Test
+    void testTimeToLive() {
+        AtomicLong now = new AtomicLong();
+        MemoryCache cache = MemoryCache.create(MemoryCache.builder()
+                                                       .capacity(Size.create(10))
+                                                       .timeToLive(Duration.ofSeconds(1))
+                                                       .buildPrototype(),
+                                               now::get);
+
+        assertThat(cache.cache(handler, "a", 5, () -> content(5)), optionalPresent());
+        assertThat(cache.get(handler, "a"), optionalPresent());
+
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+
+        assertThat(cache.get(handler, "a"), optionalEmpty());
+        MemoryCache.Stats stats = cache.stats();
+        assertThat(stats.expirations(), is(1L));
+        assertThat(stats.hits(), is(1L));
+        assertThat(stats.misses(), is(1L));
+        assertThat(stats.size(), is(0L));
+    }
+
+    @Test
+    void testMetricsPerHandler() {
+        MemoryCache cache = MemoryCache.create(builder -> builder.capacity(Size.create(10))
+                .enableMetrics(true)
+                .name("test-metrics"));
+        StaticContentHandler other = mock(StaticContentHandler.class);
+        cache.register(handler, "/first");
+        cache.register(other, "/second");
+
+        assertThat(cache.cache(handler, "a", 5, () -> content(5)), optionalPresent());
+        cache.get(handler, "a");
+        cache.get(other, "a");
+
+        MeterRegistry registry = Metrics.globalRegistry();
+        Collection<Meter> hits = hits(registry);
+        assertThat(hits, hasSize(2));
+        assertThat(hits(registry, "/first").count(), is(1L));
+        assertThat(hits(registry, "/second").count(), is(0L));
+
+        cache.clear(handler);
+        assertThat(hits(registry), hasSize(1));
+        cache.clear(other);
+        assertThat(hits(registry), empty());
+    }
+
+    @Test
+    void testPinnedContentIsNotEvicted() {
+        MemoryCache cache = MemoryCache.create(builder -> builder.capacity(Size.create(10))
+                .evictionPolicy(MemoryCache.EvictionPolicy.LRU));
+
+        cache.cache(handler, "pinned", content(5));
+        assertThat(cache.cache(handler, "a", 5, () -> content(5)), optionalPresent());
+        assertThat(cache.cache(handler, "b", 5, () -> content(5)), optionalPresent());
+
+        assertThat(cache.get(handler, "pinned"), optionalPresent());
+        assertThat(cache.get(handler, "a"), optionalEmpty());
+        assertThat(cache.get(handler, "b"), optionalPresent());
+        // larger than capacity that is not pinned
+        assertThat(cache.available(6), is(false));
+    }
+
+    private static CachedHandlerInMemory content(int size) {
+        return new CachedHandlerInMemory(MediaTypes.TEXT_PLAIN,
+                                         null,
+                                         null,
+                                         new byte[size],
+                                         size,
+                                         HeaderValues.create(HeaderNames.CONTENT_LENGTH, size));
+    }
+
+    private static Collection<Meter> hits(MeterRegistry registry) {
+        return registry.meters(meter -> meter.id().name().equals("static_content_cache_hits")
+                && "test-metrics".equals(meter.id().tagsMap().get("cache")));
+    }
+
+    private static FunctionalCounter hits(MeterRegistry registry, String context) {
+        return hits(registry).stream()
+                .filter(meter -> context.equals(meter.id().tagsMap().get("context")))
+                .map(FunctionalCounter.class::cast)
+                .findFirst()
+                .orElseThrow();
+    }
+}
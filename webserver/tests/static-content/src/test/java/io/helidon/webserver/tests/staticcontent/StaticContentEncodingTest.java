@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.tests.staticcontent;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import io.helidon.http.HeaderNames;
+import io.helidon.http.Status;
+import io.helidon.webclient.http1.Http1Client;
+import io.helidon.webclient.http1.Http1ClientRequest;
+import io.helidon.webclient.http1.Http1ClientResponse;
+import io.helidon.webserver.spi.ServerFeature;
+import io.helidon.webserver.staticcontent.MemoryCache;
+import io.helidon.webserver.staticcontent.StaticContentFeature;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpFeatures;
+
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.common.testing.http.junit5.HttpHeaderMatcher.hasHeader;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Identity and gzip encoded representations of the same resource must have different ETags.
+ */
+@ServerTest
+class StaticContentEncodingTest {
+    private static final String FILE_NAME = "app.txt";
+    private static final byte[] CONTENT = "Helidon static content\n".repeat(100).getBytes(StandardCharsets.UTF_8);
+    private static final Path STATIC_DIR = createStaticDir();
+
+    private final Http1Client client;
+
+    StaticContentEncodingTest(Http1Client client) {
+        this.client = client;
+    }
+
+    @SetUpFeatures
+    static List<ServerFeature> setupFeatures() {
+        return List.of(StaticContentFeature.builder()
+                               .addPath(path -> path.context("/precompressed")
+                                       .location(STATIC_DIR)
+                                       .precompressed(true))
+                               .addPath(path -> path.context("/memory")
+                                       .location(STATIC_DIR)
+                                       .memoryCache(MemoryCache.builder().build())
+                                       .addCachedFile(FILE_NAME)
+                                       .cacheCompressed(true))
+                               .build());
+    }
+
+    @Test
+    void testPrecompressedEtag() throws IOException {
+        testEtags("/precompressed/" + FILE_NAME);
+    }
+
+    @Test
+    void testCachedCompressedEtag() throws IOException {
+        testEtags("/memory/" + FILE_NAME);
+    }
+
+    private void testEtags(String path) throws IOException {
+        String identityEtag;
+        try (Http1ClientResponse response = client.get(path).request()) {
+            assertThat(response.status(), is(Status.OK_200));
+            assertThat(response.headers(), hasHeader(HeaderNames.VARY, "Accept-Encoding"));
+            assertThat(response.headers().contains(HeaderNames.CONTENT_ENCODING), is(false));
+            assertThat(Arrays.equals(response.as(byte[].class), CONTENT), is(true));
+            identityEtag = response.headers().get(HeaderNames.ETAG).get();
+        }
+
+        String gzipEtag;
+        try (Http1ClientResponse response = gzip(path).request()) {
+            assertThat(response.status(), is(Status.OK_200));
+            assertThat(response.headers(), hasHeader(HeaderNames.VARY, "Accept-Encoding"));
+            assertThat(response.headers(), hasHeader(HeaderNames.CONTENT_ENCODING, "gzip"));
+            assertThat(Arrays.equals(gunzip(response.as(byte[].class)), CONTENT), is(true));
+            gzipEtag = response.headers().get(HeaderNames.ETAG).get();
+        }
+
+        assertThat(gzipEtag, not(identityEtag));
+
+        // ETag of the identity representation must not validate the gzip representation
+        try (Http1ClientResponse response = gzip(path)
+                .header(HeaderNames.IF_NONE_MATCH, identityEtag)
+                .request()) {
+            assertThat(response.status(), is(Status.OK_200));
+            assertThat(response.headers(), hasHeader(HeaderNames.CONTENT_ENCODING, "gzip"));
+        }
+
+        try (Http1ClientResponse response = gzip(path)
+                .header(HeaderNames.IF_NONE_MATCH, gzipEtag)
+                .request()) {
+            assertThat(response.status(), is(Status.NOT_MODIFIED_304));
+        }
+    }
+
+    private Http1ClientRequest gzip(String path) {
+        return client.get(path)
+                .header(HeaderNames.ACCEPT_ENCODING, "gzip");
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static Path createStaticDir() {
+        try {
+            Path dir = Files.createTempDirectory("helidon-static-encoding-");
+            Path file = dir.resolve(FILE_NAME);
+            Files.write(file, CONTENT);
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (OutputStream out = new GZIPOutputStream(compressed)) {
+                out.write(CONTENT);
+            }
+            Path gzFile = dir.resolve(FILE_NAME + ".gz");
+            Files.write(gzFile, compressed.toByteArray());
+
+            gzFile.toFile().deleteOnExit();
+            file.toFile().deleteOnExit();
+            dir.toFile().deleteOnExit();
+            return dir;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to prepare static content for the test", e);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.tests.staticcontent;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import io.helidon.http.HeaderNames;
+import io.helidon.http.Status;
+import io.helidon.webclient.http1.Http1Client;
+import io.helidon.webclient.http1.Http1ClientResponse;
+import io.helidon.webserver.WebServerConfig;
+import io.helidon.webserver.spi.ServerFeature;
+import io.helidon.webserver.staticcontent.StaticContentFeature;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpFeatures;
+import io.helidon.webserver.testing.junit5.SetUpServer;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.common.testing.http.junit5.HttpHeaderMatcher.hasHeader;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Files served over a plain connection are transferred directly from the file channel to the socket.
+ * The write queue is enabled, so status line and headers must be flushed before the file content.
+ */
+@ServerTest
+class StaticContentFileTransferTest {
+    private static final int FILE_SIZE = 256 * 1024;
+    private static final byte[] CONTENT = content();
+    private static final Path STATIC_FILE = createStaticFile();
+
+    private final Http1Client client;
+
+    StaticContentFileTransferTest(Http1Client client) {
+        this.client = client;
+    }
+
+    @SetUpServer
+    static void setupServer(WebServerConfig.Builder builder) {
+        builder.useNio(true)
+                .writeQueueLength(32);
+    }
+
+    @SetUpFeatures
+    static List<ServerFeature> setupFeatures() {
+        return List.of(StaticContentFeature.builder()
+                               .addPath(path -> path.context("/file")
+                                       .location(STATIC_FILE))
+                               .build());
+    }
+
+    @RepeatedTest(5)
+    void testFullFile() {
+        try (Http1ClientResponse response = client.get("/file").request()) {
+            assertThat(response.status(), is(Status.OK_200));
+            assertThat(response.headers(), hasHeader(HeaderNames.CONTENT_LENGTH, String.valueOf(FILE_SIZE)));
+            assertThat(Arrays.equals(response.as(byte[].class), CONTENT), is(true));
+        }
+    }
+
+    @Test
+    void testRange() {
+        try (Http1ClientResponse response = client.get("/file")
+                .header(HeaderNames.RANGE, "bytes=1000-50999")
+                .request()) {
+            assertThat(response.status(), is(Status.PARTIAL_CONTENT_206));
+            assertThat(response.headers(), hasHeader(HeaderNames.CONTENT_LENGTH, "50000"));
+            assertThat(response.headers(), hasHeader(HeaderNames.CONTENT_RANGE, "bytes 1000-50999/" + FILE_SIZE));
+            assertThat(Arrays.equals(response.as(byte[].class), Arrays.copyOfRange(CONTENT, 1000, 51000)), is(true));
+        }
+    }
+
+    @Test
+    void testRangeSuffix() {
+        try (Http1ClientResponse response = client.get("/file")
+                .header(HeaderNames.RANGE, "bytes=-100")
+                .request()) {
+            assertThat(response.status(), is(Status.PARTIAL_CONTENT_206));
+            assertThat(Arrays.equals(response.as(byte[].class), Arrays.copyOfRange(CONTENT, FILE_SIZE - 100, FILE_SIZE)),
+                       is(true));
+        }
+    }
+
+    private static byte[] content() {
+        byte[] content = new byte[FILE_SIZE];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i % 251);
+        }
+        return content;
+    }
+
+    private static Path createStaticFile() {
+        try {
+            Path file = Files.createTempFile("helidon-file-transfer-", ".bin");
+            Files.write(file, CONTENT);
+            file.toFile().deleteOnExit();
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to prepare static content for the test", e);
+        }
+    }
+}
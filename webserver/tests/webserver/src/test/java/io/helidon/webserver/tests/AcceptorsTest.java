@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.tests;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import io.helidon.webclient.http1.Http1Client;
+import io.helidon.webserver.ListenerStatistics;
+import io.helidon.webserver.WebServer;
+import io.helidon.webserver.WebServerConfig;
+import io.helidon.webserver.http.HttpRules;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+import io.helidon.webserver.testing.junit5.SetUpServer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+
+@ServerTest
+class AcceptorsTest {
+    private final Http1Client client;
+
+    AcceptorsTest(Http1Client client) {
+        this.client = client;
+    }
+
+    @SetUpServer
+    static void setupServer(WebServerConfig.Builder builder) {
+        builder.acceptors(4)
+                .reusePort(true)
+                .enableAcceptorMetrics(true);
+    }
+
+    @SetUpRoute
+    static void routing(HttpRules rules) {
+        rules.get("/", (req, res) -> res.send("hello"));
+    }
+
+    @Test
+    void testNewConnections() {
+        // each request opens a new connection, so all acceptors are used
+        for (int i = 0; i < 32; i++) {
+            String response = client.get()
+                    .keepAlive(false)
+                    .requestEntity(String.class);
+            assertThat(response, is("hello"));
+        }
+    }
+
+    @Test
+    void testAcceptorStatistics() {
+        for (int i = 0; i < 8; i++) {
+            client.get()
+                    .keepAlive(false)
+                    .requestEntity(String.class);
+        }
+
+        AtomicLong accepted = new AtomicLong();
+        ListenerStatistics.Observer observer = new StatisticsObserver(statistic -> {
+            if (statistic.name().equals("acceptor_connections_accepted")
+                    && WebServer.DEFAULT_SOCKET_NAME.equals(statistic.tags().get("socketName"))) {
+                accepted.addAndGet(statistic.value());
+            }
+        }, statistic -> { });
+        ListenerStatistics.observe(observer);
+        ListenerStatistics.stopObserving(observer);
+        assertThat(accepted.get(), greaterThanOrEqualTo(8L));
+    }
+
+    @Test
+    void testStatisticsUnregisteredOnStop() {
+        List<String> registered = new CopyOnWriteArrayList<>();
+        List<String> unregistered = new CopyOnWriteArrayList<>();
+        ListenerStatistics.Observer observer = new StatisticsObserver(statistic -> {
+            if ("statistics".equals(statistic.tags().get("socketName"))) {
+                registered.add(statistic.name());
+            }
+        }, statistic -> {
+            if ("statistics".equals(statistic.tags().get("socketName"))) {
+                unregistered.add(statistic.name());
+            }
+        });
+        ListenerStatistics.observe(observer);
+        try {
+            WebServer server = WebServer.builder()
+                    .port(0)
+                    .putSocket("statistics", listener -> listener.port(0)
+                            .name("statistics")
+                            .acceptors(2)
+                            .enableAcceptorMetrics(true))
+                    .build();
+
+            // statistics are published only while the listener is running
+            assertThat(registered, is(List.of()));
+            server.start();
+            assertThat(registered, hasSize(4));
+            assertThat(unregistered, is(List.of()));
+            server.stop();
+            assertThat(unregistered, containsInAnyOrder(registered.toArray()));
+        } finally {
+            ListenerStatistics.stopObserving(observer);
+        }
+    }
+
+    private record StatisticsObserver(Consumer<ListenerStatistics.Statistic> onRegistered,
+                                      Consumer<ListenerStatistics.Statistic> onUnregistered)
+            implements ListenerStatistics.Observer {
+        @Override
+        public void registered(ListenerStatistics.Statistic statistic) {
+            onRegistered.accept(statistic);
+        }
+
+        @Override
+        public void unregistered(ListenerStatistics.Statistic statistic) {
+            onUnregistered.accept(statistic);
+        }
+    }
+}
@@ -46,6 +46,7 @@ import io.helidon.common.socket.PlainSocket;
 import io.helidon.common.socket.SocketWriter;
 import io.helidon.common.socket.TlsNioSocket;
 import io.helidon.common.socket.TlsSocket;
+import io.helidon.common.socket.WriteQueueStats;
 import io.helidon.common.task.InterruptableTask;
 import io.helidon.common.tls.Tls;
 import io.helidon.http.HttpException;
@@ -77,6 +78,7 @@ class ConnectionHandler implements InterruptableTask<Void>, ConnectionContext {
     private final Router router;
     private final Tls tls;
     private final ListenerConfig listenerConfig;
+    private final WriteQueueStats writeQueueStats;
 
     private ServerConnection connection;
     private HelidonSocket helidonSocket;
@@ -92,7 +94,8 @@ class ConnectionHandler implements InterruptableTask<Void>, ConnectionContext {
                       SocketChannel socket,
                       String serverChannelId,
                       Router router,
-                      Tls tls) {
+                      Tls tls,
+                      WriteQueueStats writeQueueStats) {
         this.listenerContext = listenerContext;
         this.connectionSemaphore = connectionSemaphore;
         this.requestLimit = requestLimit;
@@ -104,6 +107,7 @@ class ConnectionHandler implements InterruptableTask<Void>, ConnectionContext {
         this.router = router;
         this.tls = tls;
         this.listenerConfig = listenerContext.config();
+        this.writeQueueStats = writeQueueStats;
     }
 
     @Override
@@ -137,7 +141,8 @@ class ConnectionHandler implements InterruptableTask<Void>, ConnectionContext {
             writer = SocketWriter.create(listenerContext.executor(),
                                          helidonSocket,
                                          listenerConfig.writeQueueLength(),
-                                         listenerConfig.smartAsyncWrites());
+                                         listenerConfig.smartAsyncWrites(),
+                                         writeQueueStats);
         } catch (RuntimeException e) {
             // these exceptions are thrown to the executor service
             if (LOGGER.isLoggable(TRACE)) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -146,6 +146,45 @@ interface ListenerConfigBlueprint {
     @Option.DefaultInt(1024)
     int backlog();
 
+    /**
+     * Number of threads accepting new connections on this listener.
+     * A single acceptor is sufficient for most use cases. Use more acceptors when the listener must handle
+     * bursts of new connections (such as mass reconnects of clients after a load balancer restart).
+     *
+     * @return number of acceptor threads, defaults to {@code 1}
+     * @see #reusePort()
+     */
+    @Option.Configured
+    @Option.DefaultInt(1)
+    int acceptors();
+
+    /**
+     * Whether each acceptor should bind its own server socket to the listener port using
+     * {@link java.net.StandardSocketOptions#SO_REUSEPORT}, so the operating system distributes new
+     * connections between the acceptors.
+     * If disabled, all acceptors share a single server socket.
+     * <p>
+     * This option is only used if {@link #acceptors()} is greater than {@code 1}, and is ignored (with a warning)
+     * when the operating system does not support {@code SO_REUSEPORT}, or when listening on a UNIX domain socket.
+     * Each server socket uses the configured {@link #backlog()}.
+     *
+     * @return whether to use {@code SO_REUSEPORT}, defaults to {@code false}
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean reusePort();
+
+    /**
+     * Whether to expose metrics of each acceptor of this listener (number of accepted connections, and number of
+     * connections that failed to be handed over to a connection handler).
+     * Metrics are exposed by the metrics observer, see {@link io.helidon.webserver.ListenerStatistics}.
+     *
+     * @return whether to enable acceptor metrics, defaults to {@code false}
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean enableAcceptorMetrics();
+
     /**
      * Maximal number of bytes an entity may have.
      * If {@link io.helidon.http.HeaderNames#CONTENT_LENGTH} is used, this is checked immediately,
@@ -190,6 +229,18 @@ interface ListenerConfigBlueprint {
     @Option.DefaultBoolean(false)
     boolean smartAsyncWrites();
 
+    /**
+     * Whether to expose metrics of write queues of connections of this listener: number of buffers waiting in the queues,
+     * number of gathering writes (batches) and buffers written, and the largest batch.
+     * Metrics are only collected for connections using a write queue, see {@link #writeQueueLength()}.
+     * Metrics are exposed by the metrics observer, see {@link io.helidon.webserver.ListenerStatistics}.
+     *
+     * @return whether to enable write queue metrics, defaults to {@code false}
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean enableWriteQueueMetrics();
+
     /**
      * Initial buffer size in bytes of {@link java.io.BufferedOutputStream} created internally to
      * write data to a socket connection. Default is {@code 4096}. Set buffer size to a value
@@ -201,6 +252,18 @@ interface ListenerConfigBlueprint {
     @Option.DefaultInt(4096)
     int writeBufferSize();
 
+    /**
+     * Whether to pool byte arrays of buffers used to write responses on connections of this listener.
+     * Pooled arrays are reused once a buffer is written to the socket, which lowers allocation rate and garbage
+     * collection pressure when serving many small responses.
+     *
+     * @return whether to use buffer pooling, defaults to {@code false}
+     * @see io.helidon.common.buffers.BufferPool
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean bufferPooling();
+
     /**
      * Grace period in ISO 8601 duration format to allow running tasks to complete before listener's shutdown.
      * Default is {@code 500} milliseconds.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package io.helidon.webserver;
 
 import java.util.concurrent.ExecutorService;
 
+import io.helidon.common.buffers.BufferPool;
 import io.helidon.common.context.Context;
 import io.helidon.http.encoding.ContentEncodingContext;
 import io.helidon.http.media.MediaContext;
@@ -70,4 +71,24 @@ public interface ListenerContext {
      * @return executor service
      */
     ExecutorService executor();
+
+    /**
+     * Pool of buffers used to write data to connections of this listener.
+     * Buffers obtained from the pool must be released, which is done by the connection writer once the buffer is written.
+     *
+     * @return buffer pool, unpooled unless {@link io.helidon.webserver.ListenerConfig#bufferPooling()} is enabled
+     */
+    default BufferPool bufferPool() {
+        return BufferPool.unpooled();
+    }
+
+    /**
+     * Statistics of this listener, published to {@link io.helidon.webserver.ListenerStatistics.Observer observers}
+     * while the listener is running.
+     *
+     * @return listener statistics, statistics registered with the default implementation are never published
+     */
+    default ListenerStatistics statistics() {
+        return new ListenerStatistics();
+    }
 }
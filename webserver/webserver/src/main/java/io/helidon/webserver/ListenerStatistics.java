@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Statistics of a server listener and of protocols running on it, such as connections accepted by each acceptor
+ * thread.
+ * <p>
+ * WebServer does not depend on metrics. Statistics enabled in configuration are registered here, and the metrics
+ * observer (if used) exposes each of them as a vendor meter, the same way it provides
+ * {@link io.helidon.webserver.KeyPerformanceIndicatorSupport.Metrics}.
+ * <p>
+ * Statistics are published to observers only while the listener is running; when the listener stops, observers
+ * are notified that its statistics were unregistered.
+ */
+public final class ListenerStatistics {
+    private static final Lock LOCK = new ReentrantLock();
+    // statistics of all running listeners
+    private static final List<Statistic> PUBLISHED = new ArrayList<>();
+    private static final List<Observer> OBSERVERS = new ArrayList<>();
+
+    // guarded by LOCK
+    private final List<Statistic> statistics = new ArrayList<>();
+    private final Map<Class<?>, Object> shared = new ConcurrentHashMap<>();
+    // guarded by LOCK
+    private boolean published;
+
+    ListenerStatistics() {
+    }
+
+    /**
+     * Observe statistics of running listeners. The observer is invoked for each statistic registered so far, and for
+     * each statistic registered or unregistered later.
+     *
+     * @param observer observer of statistics
+     */
+    public static void observe(Observer observer) {
+        LOCK.lock();
+        try {
+            OBSERVERS.add(observer);
+            PUBLISHED.forEach(observer::registered);
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Stop observing statistics.
+     *
+     * @param observer observer previously registered with {@link #observe(Observer)}
+     */
+    public static void stopObserving(Observer observer) {
+        LOCK.lock();
+        try {
+            OBSERVERS.remove(observer);
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Register a monotonically increasing statistic.
+     *
+     * @param name  name of the statistic
+     * @param tags  tags of the statistic, such as the socket name
+     * @param value supplier of the current value
+     */
+    public void counter(String name, Map<String, String> tags, LongSupplier value) {
+        register(new Statistic(name, Type.COUNTER, Map.copyOf(tags), value));
+    }
+
+    /**
+     * Register a statistic that can increase and decrease.
+     *
+     * @param name  name of the statistic
+     * @param tags  tags of the statistic, such as the socket name
+     * @param value supplier of the current value
+     */
+    public void gauge(String name, Map<String, String> tags, LongSupplier value) {
+        register(new Statistic(name, Type.GAUGE, Map.copyOf(tags), value));
+    }
+
+    /**
+     * Get an instance shared by all connections of this listener, such as statistics of a protocol, creating it on
+     * first use.
+     *
+     * @param type    type of the instance
+     * @param factory factory to create the instance, may register statistics of this listener
+     * @param <T>     type of the instance
+     * @return instance shared by the listener
+     */
+    public <T> T shared(Class<T> type, Supplier<T> factory) {
+        return type.cast(shared.computeIfAbsent(type, it -> factory.get()));
+    }
+
+    // listener started, publish its statistics
+    void publish() {
+        LOCK.lock();
+        try {
+            if (published) {
+                return;
+            }
+            published = true;
+            for (Statistic statistic : statistics) {
+                PUBLISHED.add(statistic);
+                OBSERVERS.forEach(it -> it.registered(statistic));
+            }
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    // listener stopped, unregister its statistics
+    void unpublish() {
+        LOCK.lock();
+        try {
+            if (!published) {
+                return;
+            }
+            published = false;
+            for (Statistic statistic : statistics) {
+                PUBLISHED.remove(statistic);
+                OBSERVERS.forEach(it -> it.unregistered(statistic));
+            }
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    private void register(Statistic statistic) {
+        LOCK.lock();
+        try {
+            statistics.add(statistic);
+            if (published) {
+                PUBLISHED.add(statistic);
+                OBSERVERS.forEach(it -> it.registered(statistic));
+            }
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Observer of statistics of running listeners.
+     */
+    public interface Observer {
+        /**
+         * A statistic was registered by a running listener, or the listener was started.
+         *
+         * @param statistic registered statistic
+         */
+        void registered(Statistic statistic);
+
+        /**
+         * The listener of a statistic was stopped, and its value is no longer updated.
+         *
+         * @param statistic unregistered statistic
+         */
+        void unregistered(Statistic statistic);
+    }
+
+    /**
+     * Type of a statistic.
+     */
+    public enum Type {
+        /**
+         * Monotonically increasing value.
+         */
+        COUNTER,
+        /**
+         * Value that can increase and decrease.
+         */
+        GAUGE
+    }
+
+    /**
+     * A single registered statistic.
+     */
+    public static final class Statistic {
+        private final String name;
+        private final Type type;
+        private final Map<String, String> tags;
+        private final LongSupplier value;
+
+        private Statistic(String name, Type type, Map<String, String> tags, LongSupplier value) {
+            this.name = name;
+            this.type = type;
+            this.tags = tags;
+            this.value = value;
+        }
+
+        /**
+         * Name of the statistic.
+         *
+         * @return name
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * Type of the statistic.
+         *
+         * @return type
+         */
+        public Type type() {
+            return type;
+        }
+
+        /**
+         * Tags of the statistic.
+         *
+         * @return tags
+         */
+        public Map<String, String> tags() {
+            return tags;
+        }
+
+        /**
+         * Current value of the statistic.
+         *
+         * @return current value
+         */
+        public long value() {
+            return value.getAsLong();
+        }
+
+        @Override
+        public String toString() {
+            return name + tags;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.net.SocketException;
 import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
 import java.net.UnixDomainSocketAddress;
 import java.nio.channels.AsynchronousCloseException;
 import java.nio.channels.ServerSocketChannel;
@@ -41,16 +42,19 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.net.ssl.SSLParameters;
 
 import io.helidon.common.HelidonServiceLoader;
 import io.helidon.common.LazyValue;
+import io.helidon.common.buffers.BufferPool;
 import io.helidon.common.concurrency.limits.FixedLimit;
 import io.helidon.common.concurrency.limits.Limit;
 import io.helidon.common.concurrency.limits.NoopSemaphore;
 import io.helidon.common.context.Context;
 import io.helidon.common.socket.SocketOptions;
+import io.helidon.common.socket.WriteQueueStats;
 import io.helidon.common.task.HelidonTaskExecutor;
 import io.helidon.common.tls.Tls;
 import io.helidon.http.encoding.ContentEncodingContext;
@@ -92,12 +96,16 @@ class ServerListener implements ListenerContext {
     private final Semaphore connectionSemaphore;
     private final Limit requestLimit;
     private final Map<String, ServerConnection> activeConnections = new ConcurrentHashMap<>();
+    private final AcceptorCounters[] acceptorCounters;
+    private final BufferPool bufferPool;
+    private final ListenerStatistics statistics = new ListenerStatistics();
+    // null if write queue metrics are disabled
+    private final WriteQueueStats writeQueueStats;
 
     private volatile boolean running;
     private volatile boolean inCheckpoint;
     private volatile int connectedPort;
-    private volatile ServerSocketChannel serverSocket;
-    private volatile Thread serverThread;
+    private volatile List<Acceptor> acceptors = List.of();
     private volatile CompletableFuture<Void> closeFuture;
 
     @SuppressWarnings("unchecked")
@@ -150,8 +158,20 @@ class ServerListener implements ListenerContext {
                 .parent(serverContext)
                 .build());
         this.gracePeriod = listenerConfig.shutdownGracePeriod();
-
-        initServerThread();
+        this.bufferPool = listenerConfig.bufferPooling() ? BufferPool.create() : BufferPool.unpooled();
+        this.acceptorCounters = new AcceptorCounters[listenerConfig.acceptors()];
+        for (int i = 0; i < acceptorCounters.length; i++) {
+            acceptorCounters[i] = new AcceptorCounters();
+        }
+        if (listenerConfig.enableAcceptorMetrics()) {
+            initAcceptorMetrics();
+        }
+        if (listenerConfig.enableWriteQueueMetrics()) {
+            this.writeQueueStats = WriteQueueStats.create();
+            initWriteQueueMetrics();
+        } else {
+            this.writeQueueStats = null;
+        }
 
         // to read requests and execute tasks
         this.readerExecutor = ExecutorsFactory.newServerListenerReaderExecutor();
@@ -177,13 +197,29 @@ class ServerListener implements ListenerContext {
         ith.start();
     }
 
-    private void initServerThread() {
-        this.closeFuture = new CompletableFuture<>();
-        this.serverThread = Thread.ofPlatform()
-                .inheritInheritableThreadLocals(true)
-                .daemon(false)
-                .name("server-" + socketName + "-listener")
-                .unstarted(this::listen);
+    private void initAcceptorMetrics() {
+        for (int i = 0; i < acceptorCounters.length; i++) {
+            AcceptorCounters counters = acceptorCounters[i];
+            Map<String, String> tags = Map.of("socketName", socketName,
+                                              "acceptor", String.valueOf(i));
+
+            // connections accepted and handed over to a connection handler
+            statistics.counter("acceptor_connections_accepted", tags, counters.accepted::sum);
+            // connections accepted, but failed to be handed over to a connection handler
+            statistics.counter("acceptor_connections_failed", tags, counters.failed::sum);
+        }
+    }
+
+    private void initWriteQueueMetrics() {
+        Map<String, String> tags = Map.of("socketName", socketName);
+
+        // buffers waiting in write queues of all connections
+        statistics.gauge("write_queue_depth", tags, writeQueueStats::queueDepth);
+        // gathering writes done by connection writer threads
+        statistics.counter("write_queue_batches", tags, writeQueueStats::batches);
+        // buffers written by connection writer threads
+        statistics.counter("write_queue_buffers", tags, writeQueueStats::buffers);
+        statistics.gauge("write_queue_batch_size_max", tags, writeQueueStats::maxBatchSize);
     }
 
     @Override
@@ -216,6 +252,16 @@ class ServerListener implements ListenerContext {
         return sharedExecutor;
     }
 
+    @Override
+    public BufferPool bufferPool() {
+        return bufferPool;
+    }
+
+    @Override
+    public ListenerStatistics statistics() {
+        return statistics;
+    }
+
     @Override
     public String toString() {
         return socketName + " (" + configuredAddress + ")";
@@ -239,79 +285,115 @@ class ServerListener implements ListenerContext {
         }
         running = false;
         suspend(true);
+        statistics.unpublish();
         router.afterStop();
     }
 
     private void suspend(boolean shutdownExecutors) {
-        try {
-            // Stop listening for connections
-            serverSocket.close();
-            if (configuredAddress instanceof UnixDomainSocketAddress udsa) {
-                try {
-                    // UNIX socket files are created automatically, but they are not deleted when the channel is closed
-                    Files.deleteIfExists(udsa.getPath());
-                } catch (IOException e) {
-                    LOGGER.log(WARNING, "Failed to delete UNIX socket file " + udsa.getPath().toAbsolutePath(), e);
-                }
+        // Stop listening for connections
+        acceptors.forEach(Acceptor::close);
+        if (configuredAddress instanceof UnixDomainSocketAddress udsa) {
+            try {
+                // UNIX socket files are created automatically, but they are not deleted when the channel is closed
+                Files.deleteIfExists(udsa.getPath());
+            } catch (IOException e) {
+                LOGGER.log(WARNING, "Failed to delete UNIX socket file " + udsa.getPath().toAbsolutePath(), e);
+            }
+        }
+        // Stop handling any new requests on all active connections
+        activeConnections().forEach(connection -> connection.close(false));
+        if (shutdownExecutors) {
+            // Shutdown reader executor
+            readerExecutor.terminate(gracePeriod.toMillis(), TimeUnit.MILLISECONDS);
+            if (!readerExecutor.isTerminated()) {
+                LOGGER.log(DEBUG, "Some tasks in reader executor did not terminate gracefully");
+                readerExecutor.forceTerminate();
             }
-            // Stop handling any new requests on all active connections
-            activeConnections().forEach(connection -> connection.close(false));
-            if (shutdownExecutors) {
-                // Shutdown reader executor
-                readerExecutor.terminate(gracePeriod.toMillis(), TimeUnit.MILLISECONDS);
-                if (!readerExecutor.isTerminated()) {
-                    LOGGER.log(DEBUG, "Some tasks in reader executor did not terminate gracefully");
-                    readerExecutor.forceTerminate();
-                }
 
-                // Shutdown shared executor
-                try {
-                    sharedExecutor.shutdown();
-                    boolean done = sharedExecutor.awaitTermination(gracePeriod.toMillis(), TimeUnit.MILLISECONDS);
-                    if (!done) {
-                        List<Runnable> running = sharedExecutor.shutdownNow();
-                        if (!running.isEmpty()) {
-                            LOGGER.log(DEBUG, running.size() + " tasks in shared executor did not terminate gracefully");
-                        }
+            // Shutdown shared executor
+            try {
+                sharedExecutor.shutdown();
+                boolean done = sharedExecutor.awaitTermination(gracePeriod.toMillis(), TimeUnit.MILLISECONDS);
+                if (!done) {
+                    List<Runnable> running = sharedExecutor.shutdownNow();
+                    if (!running.isEmpty()) {
+                        LOGGER.log(DEBUG, running.size() + " tasks in shared executor did not terminate gracefully");
                     }
-                } catch (InterruptedException e) {
-                    // falls through
                 }
+            } catch (InterruptedException e) {
+                // falls through
             }
-            // Interrupt and close any active connections
-            activeConnections().forEach(connection -> connection.close(true));
-        } catch (IOException e) {
-            LOGGER.log(INFO, "Exception thrown on socket close", e);
         }
-        serverThread.interrupt();
+        // Interrupt and close any active connections
+        activeConnections().forEach(connection -> connection.close(true));
+
+        acceptors.forEach(Acceptor::interrupt);
         closeFuture.join();
     }
 
     void start() {
         router.beforeStart();
         startIt();
+        statistics.publish();
     }
 
     private void startIt() {
+        int acceptorCount = listenerConfig.acceptors();
+        boolean reusePort = acceptorCount > 1 && listenerConfig.reusePort();
+        List<ServerSocketChannel> serverSockets = new ArrayList<>(reusePort ? acceptorCount : 1);
         try {
-            if (configuredAddress instanceof UnixDomainSocketAddress) {
-                serverSocket = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
-            } else {
-                serverSocket = ServerSocketChannel.open();
-            }
             if (tls.enabled()) {
                 // basic validation of the configuration
                 tls.newEngine();
             }
-            listenerConfig.configureSocket(serverSocket);
+            ServerSocketChannel serverSocket = openServerSocket();
+            serverSockets.add(serverSocket);
+
+            if (reusePort && !serverSocket.supportedOptions().contains(StandardSocketOptions.SO_REUSEPORT)) {
+                LOGGER.log(WARNING, "SO_REUSEPORT is not supported for socket '" + socketName
+                        + "', all " + acceptorCount + " acceptors will share a single server socket");
+                reusePort = false;
+            }
+            if (reusePort) {
+                serverSocket.setOption(StandardSocketOptions.SO_REUSEPORT, true);
+            }
 
             serverSocket.bind(configuredAddress, listenerConfig.backlog());
             this.connectedPort = serverSocket.getLocalAddress() instanceof InetSocketAddress ias ? ias.getPort() : -1;
+
+            if (reusePort) {
+                // if configured with port 0, all other sockets must bind the port assigned to the first one
+                SocketAddress boundAddress = serverSocket.getLocalAddress();
+                for (int i = 1; i < acceptorCount; i++) {
+                    ServerSocketChannel nextSocket = openServerSocket();
+                    serverSockets.add(nextSocket);
+                    nextSocket.setOption(StandardSocketOptions.SO_REUSEPORT, true);
+                    nextSocket.bind(boundAddress, listenerConfig.backlog());
+                }
+            }
         } catch (IOException e) {
+            for (ServerSocketChannel serverSocket : serverSockets) {
+                try {
+                    serverSocket.close();
+                } catch (IOException ex) {
+                    e.addSuppressed(ex);
+                }
+            }
             throw new UncheckedIOException("Failed to start server", e);
         }
 
-        String serverChannelId = "0x" + HexFormat.of().toHexDigits(System.identityHashCode(serverSocket));
+        List<Acceptor> newAcceptors = new ArrayList<>(acceptorCount);
+        for (int i = 0; i < acceptorCount; i++) {
+            newAcceptors.add(new Acceptor(i, serverSockets.get(reusePort ? i : 0), acceptorCounters[i]));
+        }
+        this.acceptors = List.copyOf(newAcceptors);
+        CompletableFuture<?>[] closeFutures = new CompletableFuture<?>[acceptors.size()];
+        for (int i = 0; i < closeFutures.length; i++) {
+            closeFutures[i] = acceptors.get(i).closeFuture();
+        }
+        this.closeFuture = CompletableFuture.allOf(closeFutures);
+
+        String serverChannelId = acceptors.getFirst().serverChannelId;
 
         running = true;
 
@@ -342,6 +424,11 @@ class ServerListener implements ListenerContext {
             }
 
 
+            if (LOGGER.isLoggable(DEBUG) && acceptorCount > 1) {
+                LOGGER.log(DEBUG, "[" + serverChannelId + "] " + acceptorCount + " acceptors"
+                        + (reusePort ? ", each with its own server socket (SO_REUSEPORT)" : ", sharing a server socket"));
+            }
+
             if (LOGGER.isLoggable(TRACE)) {
                 if (listenerConfig.writeQueueLength() <= 1) {
                     LOGGER.log(System.Logger.Level.TRACE, "[" + serverChannelId + "] direct writes");
@@ -355,7 +442,18 @@ class ServerListener implements ListenerContext {
             }
         }
 
-        serverThread.start();
+        acceptors.forEach(Acceptor::start);
+    }
+
+    private ServerSocketChannel openServerSocket() throws IOException {
+        ServerSocketChannel serverSocket;
+        if (configuredAddress instanceof UnixDomainSocketAddress) {
+            serverSocket = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        } else {
+            serverSocket = ServerSocketChannel.open();
+        }
+        listenerConfig.configureSocket(serverSocket);
+        return serverSocket;
     }
 
     boolean hasTls() {
@@ -387,84 +485,6 @@ class ServerListener implements ListenerContext {
         LOGGER.log(TRACE, message);
     }
 
-    private void listen() {
-        String serverChannelId = "0x" + HexFormat.of().toHexDigits(System.identityHashCode(serverSocket));
-
-        while (running) {
-            try {
-                // this must be done before we accept, and the semaphore must be released when connection is finished
-                connectionSemaphore.acquire();
-                // if accept fails itself, we consider it end of story, the listener is broken
-                SocketChannel socket = serverSocket.accept();
-
-                try {
-                    connectionOptions.configureSocket(socket);
-                    ConnectionHandler handler = new ConnectionHandler(this,
-                                                                      connectionSemaphore,
-                                                                      requestLimit,
-                                                                      connectionProviders,
-                                                                      activeConnections,
-                                                                      socket,
-                                                                      serverChannelId,
-                                                                      router,
-                                                                      tls);
-                    readerExecutor.execute(handler);
-                } catch (RejectedExecutionException e) {
-                    LOGGER.log(ERROR, "Executor rejected handler for new connection", e);
-
-                    // the socket was never handled
-                    try {
-                        socket.close();
-                    } catch (IOException ex) {
-                        LOGGER.log(TRACE, "Failed to close socket that was rejected for execution", e);
-                    }
-
-                    // we never started the handler, so we must release the semaphore here
-                    connectionSemaphore.release();
-                } catch (Exception e) {
-                    // we may get an SSL handshake errors, which should only fail one socket, not the listener
-                    LOGGER.log(TRACE, "Failed to handle accepted socket", e);
-                    // the socket was never handled
-                    try {
-                        socket.close();
-                    } catch (IOException ex) {
-                        LOGGER.log(TRACE,
-                                   "Failed to close socket that failed start execution (see previous trace for reason)",
-                                   e);
-                    }
-
-                    // we never started the handler, so we must release the semaphore here
-                    connectionSemaphore.release();
-                }
-            } catch (AsynchronousCloseException e) {
-                if (inCheckpoint) {
-                    break;
-                } else if (running) {
-                    stop();
-                }
-            } catch (SocketException e) {
-                if (!e.getMessage().contains("Socket closed")) {
-                    LOGGER.log(ERROR, "Got a socket exception while listening, this server socket is terminating now", e);
-                }
-                if (inCheckpoint) {
-                    break;
-                } else if (running) {
-                    stop();
-                }
-            } catch (Throwable e) {
-                LOGGER.log(ERROR, "Got a throwable while listening, this server socket is terminating now", e);
-                if (inCheckpoint) {
-                    break;
-                } else if (running) {
-                    stop();
-                }
-            }
-        }
-
-        LOGGER.log(INFO, String.format("[%s] %s socket closed.", serverChannelId, socketName));
-        closeFuture.complete(null);
-    }
-
     private List<ServerConnection> activeConnections() {
         return new ArrayList<>(activeConnections.values());
     }
@@ -472,13 +492,142 @@ class ServerListener implements ListenerContext {
     void suspend() {
         inCheckpoint = true;
         suspend(false);
-        serverThread = null;
+        acceptors = List.of();
         closeFuture = null;
     }
 
     void resume() {
-        initServerThread();
         startIt();
         inCheckpoint = false;
     }
+
+    private static final class AcceptorCounters {
+        private final LongAdder accepted = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+    }
+
+    private final class Acceptor {
+        private final ServerSocketChannel serverSocket;
+        private final AcceptorCounters counters;
+        private final String serverChannelId;
+        private final Thread thread;
+        private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
+
+        private Acceptor(int index, ServerSocketChannel serverSocket, AcceptorCounters counters) {
+            this.serverSocket = serverSocket;
+            this.counters = counters;
+            this.serverChannelId = "0x" + HexFormat.of().toHexDigits(System.identityHashCode(serverSocket));
+            this.thread = Thread.ofPlatform()
+                    .inheritInheritableThreadLocals(true)
+                    .daemon(false)
+                    .name(listenerConfig.acceptors() == 1
+                                  ? "server-" + socketName + "-listener"
+                                  : "server-" + socketName + "-listener-" + index)
+                    .unstarted(this::listen);
+        }
+
+        void start() {
+            thread.start();
+        }
+
+        void interrupt() {
+            thread.interrupt();
+        }
+
+        void close() {
+            try {
+                // when acceptors share a server socket, it is closed multiple times, which is a no-op
+                serverSocket.close();
+            } catch (IOException e) {
+                LOGGER.log(INFO, "Exception thrown on socket close", e);
+            }
+        }
+
+        CompletableFuture<Void> closeFuture() {
+            return closeFuture;
+        }
+
+        private void listen() {
+            while (running) {
+                try {
+                    // this must be done before we accept, and the semaphore must be released when connection is finished
+                    connectionSemaphore.acquire();
+                    // if accept fails itself, we consider it end of story, the listener is broken
+                    SocketChannel socket = serverSocket.accept();
+
+                    try {
+                        connectionOptions.configureSocket(socket);
+                        ConnectionHandler handler = new ConnectionHandler(ServerListener.this,
+                                                                          connectionSemaphore,
+                                                                          requestLimit,
+                                                                          connectionProviders,
+                                                                          activeConnections,
+                                                                          socket,
+                                                                          serverChannelId,
+                                                                          router,
+                                                                          tls,
+                                                                          writeQueueStats);
+                        readerExecutor.execute(handler);
+                        counters.accepted.increment();
+                    } catch (RejectedExecutionException e) {
+                        LOGGER.log(ERROR, "Executor rejected handler for new connection", e);
+                        counters.failed.increment();
+
+                        // the socket was never handled
+                        try {
+                            socket.close();
+                        } catch (IOException ex) {
+                            LOGGER.log(TRACE, "Failed to close socket that was rejected for execution", e);
+                        }
+
+                        // we never started the handler, so we must release the semaphore here
+                        connectionSemaphore.release();
+                    } catch (Exception e) {
+                        // we may get an SSL handshake errors, which should only fail one socket, not the listener
+                        LOGGER.log(TRACE, "Failed to handle accepted socket", e);
+                        counters.failed.increment();
+                        // the socket was never handled
+                        try {
+                            socket.close();
+                        } catch (IOException ex) {
+                            LOGGER.log(TRACE,
+                                       "Failed to close socket that failed start execution (see previous trace for reason)",
+                                       e);
+                        }
+
+                        // we never started the handler, so we must release the semaphore here
+                        connectionSemaphore.release();
+                    }
+                } catch (AsynchronousCloseException e) {
+                    if (inCheckpoint) {
+                        break;
+                    } else if (running) {
+                        stop();
+                    }
+                } catch (SocketException e) {
+                    if (!e.getMessage().contains("Socket closed")) {
+                        LOGGER.log(ERROR,
+                                   "Got a socket exception while listening, this server socket is terminating now",
+                                   e);
+                    }
+                    if (inCheckpoint) {
+                        break;
+                    } else if (running) {
+                        stop();
+                    }
+                } catch (Throwable e) {
+                    LOGGER.log(ERROR, "Got a throwable while listening, this server socket is terminating now", e);
+                    if (inCheckpoint) {
+                        break;
+                    } else if (running) {
+                        stop();
+                    }
+                }
+            }
+
+            LOGGER.log(INFO, String.format("[%s] %s socket closed.", serverChannelId, socketName));
+            closeFuture.complete(null);
+        }
+    }
 }
+
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -84,6 +84,12 @@ class ServerToHttpFeatureBuilder implements HttpRouting.Builder {
         return this;
     }
 
+    @Override
+    public HttpRouting.Builder compiledRouting(boolean compiledRouting) {
+        registrations.add(Registration.createCompiledRouting(compiledRouting));
+        return this;
+    }
+
     @Override
     public HttpRouting.Builder security(HttpSecurity security) {
         registrations.add(Registration.create(security));
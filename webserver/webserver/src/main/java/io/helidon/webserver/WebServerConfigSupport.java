@@ -161,6 +161,10 @@ class WebServerConfigSupport {
                     target.putListenerSocketOption(StandardSocketOptions.SO_REUSEADDR, true);
                 }
             }
+            if (target.acceptors() < 1) {
+                throw new IllegalArgumentException("Number of acceptors of listener " + target.name()
+                                                           + " must be at least 1, but is: " + target.acceptors());
+            }
             if (target.requestedUriDiscoveryContext().isEmpty()) {
                 target.requestedUriDiscoveryContext(RequestedUriDiscoveryContext.builder()
                                                             .socketId(target.name())
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package io.helidon.webserver.http;
 
+import java.util.Iterator;
 import java.util.List;
 
 import io.helidon.http.HttpPrologue;
@@ -30,6 +31,10 @@ abstract class HttpRouteBase implements HttpRoute {
         throw new IllegalStateException("This is not a list route");
     }
 
+    Iterator<HttpRouteBase> routes(HttpPrologue prologue) {
+        throw new IllegalStateException("This is not a list route");
+    }
+
     boolean isList() {
         return false;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -89,4 +89,8 @@ class HttpRouteImpl extends HttpRouteBase implements HttpRoute {
     public String toString() {
         return methodPredicate + " (" + pathMatcher + "): " + handler;
     }
+
+    Predicate<Method> methodPredicate() {
+        return methodPredicate;
+    }
 }
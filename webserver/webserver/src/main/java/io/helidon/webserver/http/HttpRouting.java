@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -463,6 +463,25 @@ public interface HttpRouting extends Routing, Prototype.Api {
          */
         Builder security(HttpSecurity security);
 
+        /**
+         * Whether to compile routes into an index when the server starts.
+         * <p>
+         * When enabled, path matchers of all routes (exact, prefix and path templates) are compiled into a segment trie
+         * with a separate table for each HTTP method, so only routes that may match the request are evaluated.
+         * Routes are still evaluated in the order of registration, so routing behaves the same as without compilation.
+         * Routes that use regular expressions, and custom routes, are always evaluated.
+         * This is beneficial for routings with a high number of routes.
+         * <p>
+         * Defaults to {@code false}. Custom builder implementations that do not support compiled routing ignore
+         * this option.
+         *
+         * @param compiledRouting whether to compile routes
+         * @return updated builder
+         */
+        default Builder compiledRouting(boolean compiledRouting) {
+            return this;
+        }
+
         /**
          * Create a copy of this builder that has the same routes, but is not backed by the same lists/maps.
          * Modifications to the routes of the copy will not modify routes of this builder.
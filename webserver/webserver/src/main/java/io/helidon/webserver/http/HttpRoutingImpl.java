@@ -43,6 +43,7 @@ final class HttpRoutingImpl implements HttpRouting {
     private final List<HttpFeature> features;
     private final int maxReRouteCount;
     private final HttpSecurity security;
+    private final boolean compiledRouting;
 
     HttpRoutingImpl(RealBuilder builder) {
         ErrorHandlers errorHandlers = ErrorHandlers.create(builder.errorHandlers);
@@ -51,6 +52,7 @@ final class HttpRoutingImpl implements HttpRouting {
         this.features = List.copyOf(builder.features);
         this.maxReRouteCount = builder.maxReRouteCount;
         this.security = builder.security;
+        this.compiledRouting = builder.compiledRouting;
     }
 
     static BuilderImpl builder() {
@@ -78,6 +80,9 @@ final class HttpRoutingImpl implements HttpRouting {
     public void beforeStart() {
         filters.beforeStart();
         rootRoute.beforeStart();
+        if (compiledRouting) {
+            rootRoute.compile();
+        }
         features.forEach(ServerLifecycle::beforeStart);
     }
 
@@ -222,15 +227,21 @@ final class HttpRoutingImpl implements HttpRouting {
         private final HttpRoutingFeature mainRouting = new HttpRoutingFeature();
         private HttpSecurity security = HttpSecurity.create();
         private int maxReRouteCount = 10;
+        private boolean compiledRouting;
 
         private BuilderImpl() {
         }
 
-        private BuilderImpl(List<HttpFeature> features, HttpRoutingFeature mainRouting, HttpSecurity security, int maxReroute) {
+        private BuilderImpl(List<HttpFeature> features,
+                            HttpRoutingFeature mainRouting,
+                            HttpSecurity security,
+                            int maxReroute,
+                            boolean compiledRouting) {
             this.features.addAll(features);
             this.mainRouting.copyFrom(mainRouting);
             this.security = security;
             this.maxReRouteCount = maxReroute;
+            this.compiledRouting = compiledRouting;
         }
 
         @Override
@@ -243,7 +254,8 @@ final class HttpRoutingImpl implements HttpRouting {
 
             RealBuilder realBuilder = new RealBuilder(features,
                 security,
-                maxReRouteCount);
+                maxReRouteCount,
+                compiledRouting);
 
             // now we need to do the final setup in the correct order
             for (HttpFeature feature : features) {
@@ -305,9 +317,15 @@ final class HttpRoutingImpl implements HttpRouting {
             return this;
         }
 
+        @Override
+        public Builder compiledRouting(boolean compiledRouting) {
+            this.compiledRouting = compiledRouting;
+            return this;
+        }
+
         @Override
         public Builder copy() {
-            return new BuilderImpl(features, mainRouting, security, maxReRouteCount);
+            return new BuilderImpl(features, mainRouting, security, maxReRouteCount, compiledRouting);
         }
     }
 
@@ -319,15 +337,18 @@ final class HttpRoutingImpl implements HttpRouting {
 
         private HttpSecurity security;
         private int maxReRouteCount;
+        private boolean compiledRouting;
 
         private RealBuilder(List<HttpFeature> features,
             HttpSecurity security,
-            int maxReRouteCount) {
+            int maxReRouteCount,
+            boolean compiledRouting) {
 
             // we need a new instance, as features may add additional features
             this.features = new ArrayList<>(features);
             this.security = security;
             this.maxReRouteCount = maxReRouteCount;
+            this.compiledRouting = compiledRouting;
         }
 
         @Override
@@ -385,6 +406,12 @@ final class HttpRoutingImpl implements HttpRouting {
             return this;
         }
 
+        @Override
+        public Builder compiledRouting(boolean compiledRouting) {
+            this.compiledRouting = compiledRouting;
+            return this;
+        }
+
         @Override
         public Builder copy() {
             throw new UnsupportedOperationException("This builder should only be used internally by Helidon and never copied");
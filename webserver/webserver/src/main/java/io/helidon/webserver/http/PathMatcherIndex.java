@@ -0,0 +1,377 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.http;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.helidon.common.uri.UriPath;
+import io.helidon.http.PathMatcher;
+import io.helidon.http.PathMatchers;
+
+/**
+ * Segment trie compiled from a set of {@link io.helidon.http.PathMatcher path matchers}.
+ * <p>
+ * The index is used to narrow down the set of matchers that may accept a path, without evaluating each of them.
+ * Each matcher is registered with an id (usually its registration order), and {@link #candidates(io.helidon.common.uri.UriPath)}
+ * returns the ids of all matchers that may match the path, in ascending order.
+ * The result is a superset of the matching matchers - the caller must still invoke the matcher itself
+ * to get the match result (and path parameters).
+ * <p>
+ * Exact, prefix and pattern matchers created through {@link io.helidon.http.PathMatchers} are compiled into the trie,
+ * where each {@code {param}} segment is a wildcard node. Patterns that contain regular expressions, optional sequences,
+ * or parameters spanning multiple segments, and all custom matchers, are always returned as candidates.
+ */
+final class PathMatcherIndex {
+    private static final int[] NO_IDS = new int[0];
+    // the built-in matchers are not public types, they are recognized by their class and described by their
+    // matching element
+    private static final Class<?> EXACT = PathMatchers.exact("/").getClass();
+    private static final Class<?> PREFIX = PathMatchers.prefix("/").getClass();
+    private static final Class<?> PATTERN = PathMatchers.pattern("/{param}").getClass();
+    private static final Class<?> ANY = PathMatchers.any().getClass();
+
+    private final Node root;
+    private final long[] always;
+    private final int[] allIds;
+
+    private PathMatcherIndex(Builder builder) {
+        this.root = builder.root;
+
+        int words = (builder.maxId >> 6) + 1;
+        this.always = new long[words];
+        for (int id : builder.always) {
+            this.always[id >> 6] |= 1L << id;
+        }
+        long[] all = new long[words];
+        for (int id : builder.ids) {
+            all[id >> 6] |= 1L << id;
+        }
+        this.allIds = toIds(all);
+    }
+
+    /**
+     * A new builder for an index.
+     *
+     * @return a new builder
+     */
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Ids of matchers that may match the provided path, sorted in ascending order.
+     * The returned array must not be modified.
+     *
+     * @param uriPath path to find candidates for
+     * @return ids of candidate matchers
+     */
+    int[] candidates(UriPath uriPath) {
+        String path = uriPath.path();
+        if (path.isEmpty() || path.charAt(0) != '/') {
+            // we only compile absolute paths, let the matchers decide
+            return allIds;
+        }
+        long[] matched = always.clone();
+        collect(root, path, 1, matched);
+        return toIds(matched);
+    }
+
+    /**
+     * Ids of all registered matchers, sorted in ascending order.
+     * The returned array must not be modified.
+     *
+     * @return ids of all matchers
+     */
+    int[] all() {
+        return allIds;
+    }
+
+    @Override
+    public String toString() {
+        return "PathMatcherIndex of " + allIds.length + " matchers";
+    }
+
+    private static void collect(Node node, String path, int start, long[] matched) {
+        mark(node.prefix, matched);
+        if (start > path.length()) {
+            // all segments consumed
+            mark(node.exact, matched);
+            return;
+        }
+        int end = path.indexOf('/', start);
+        if (end == -1) {
+            end = path.length();
+        }
+        if (!node.literals.isEmpty()) {
+            Node child = node.literals.get(path.substring(start, end));
+            if (child != null) {
+                collect(child, path, end + 1, matched);
+            }
+        }
+        if (node.parameter != null) {
+            collect(node.parameter, path, end + 1, matched);
+        }
+    }
+
+    private static void mark(int[] ids, long[] matched) {
+        for (int id : ids) {
+            matched[id >> 6] |= 1L << id;
+        }
+    }
+
+    private static int[] toIds(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        if (count == 0) {
+            return NO_IDS;
+        }
+        int[] result = new int[count];
+        int index = 0;
+        for (int i = 0; i < bits.length; i++) {
+            long word = bits[i];
+            while (word != 0) {
+                int bit = Long.numberOfTrailingZeros(word);
+                result[index++] = (i << 6) + bit;
+                word &= word - 1;
+            }
+        }
+        return result;
+    }
+
+    // segments of an absolute path, "/" is a single empty segment
+    private static List<String> segments(String path) {
+        return Arrays.asList(path.substring(1).split("/", -1));
+    }
+
+    // null for segments that are a single segment parameter, null result if the pattern cannot be compiled
+    private static List<String> patternSegments(String pattern) {
+        if (pattern.isEmpty()) {
+            return List.of();
+        }
+        if (pattern.charAt(0) != '/'
+                || pattern.indexOf('[') != -1
+                || pattern.indexOf('\\') != -1
+                || pattern.indexOf('*') != -1
+                || pattern.indexOf(':') != -1
+                || pattern.contains("{+")) {
+            return null;
+        }
+        List<String> result = new ArrayList<>();
+        for (String segment : segments(pattern)) {
+            int open = 0;
+            int close = 0;
+            for (int i = 0; i < segment.length(); i++) {
+                char c = segment.charAt(i);
+                if (c == '{') {
+                    open++;
+                } else if (c == '}') {
+                    close++;
+                }
+            }
+            if (open == 0) {
+                result.add(segment);
+            } else if (open == close) {
+                result.add(null);
+            } else {
+                // parameter spans multiple segments
+                return null;
+            }
+        }
+        return result;
+    }
+
+    private static int[] append(int[] ids, int id) {
+        int[] result = Arrays.copyOf(ids, ids.length + 1);
+        result[ids.length] = id;
+        return result;
+    }
+
+    /**
+     * Fluent API builder for {@link io.helidon.webserver.http.PathMatcherIndex}.
+     * A builder can only build a single index.
+     */
+    static final class Builder {
+        private final Node root = new Node();
+        private final List<Integer> always = new ArrayList<>();
+        private final List<Integer> ids = new ArrayList<>();
+        private int maxId;
+
+        private Builder() {
+        }
+
+        /**
+         * Build the index.
+         *
+         * @return a new index
+         */
+        PathMatcherIndex build() {
+            return new PathMatcherIndex(this);
+        }
+
+        /**
+         * Add a matcher that is used with {@link io.helidon.http.PathMatcher#match(io.helidon.common.uri.UriPath)}.
+         *
+         * @param id      id of the matcher, must not be negative
+         * @param matcher path matcher
+         * @return updated builder
+         */
+        Builder add(int id, PathMatcher matcher) {
+            registerId(id);
+
+            Class<?> type = matcher.getClass();
+            if (type == EXACT) {
+                String path = matcher.matchingElement().orElseThrow();
+                if (path.indexOf('%') != -1) {
+                    // exact matcher also compares the raw path
+                    always.add(id);
+                } else {
+                    Node node = node(segments(path));
+                    node.exact = append(node.exact, id);
+                }
+            } else if (type == PATTERN) {
+                String source = matcher.matchingElement().orElseThrow();
+                boolean prefix = source.endsWith("/*");
+                List<String> segments = patternSegments(prefix ? source.substring(0, source.length() - 2) : source);
+                if (segments == null) {
+                    always.add(id);
+                } else {
+                    Node node = node(segments);
+                    if (prefix) {
+                        node.prefix = append(node.prefix, id);
+                    } else {
+                        node.exact = append(node.exact, id);
+                    }
+                }
+            } else {
+                addPrefixMatcher(id, matcher);
+            }
+            return this;
+        }
+
+        /**
+         * Add a matcher that is used with {@link io.helidon.http.PathMatcher#prefixMatch(io.helidon.common.uri.UriPath)}.
+         *
+         * @param id      id of the matcher, must not be negative
+         * @param matcher path matcher
+         * @return updated builder
+         */
+        Builder addPrefix(int id, PathMatcher matcher) {
+            registerId(id);
+
+            Class<?> type = matcher.getClass();
+            if (type == EXACT) {
+                String path = matcher.matchingElement().orElseThrow();
+                if ("/".equals(path)) {
+                    root.prefix = append(root.prefix, id);
+                } else {
+                    Node node = node(segments(path));
+                    node.prefix = append(node.prefix, id);
+                }
+            } else if (type == PATTERN) {
+                String source = matcher.matchingElement().orElseThrow();
+                if (source.endsWith("/*")) {
+                    source = source.substring(0, source.length() - 2);
+                }
+                List<String> segments = patternSegments(source);
+                if (segments == null) {
+                    always.add(id);
+                } else {
+                    Node node = node(segments);
+                    node.prefix = append(node.prefix, id);
+                }
+            } else {
+                addPrefixMatcher(id, matcher);
+            }
+            return this;
+        }
+
+        /**
+         * Add an id that is always a candidate, regardless of the path.
+         *
+         * @param id id to add, must not be negative
+         * @return updated builder
+         */
+        Builder addAlways(int id) {
+            registerId(id);
+            always.add(id);
+            return this;
+        }
+
+        private void addPrefixMatcher(int id, PathMatcher matcher) {
+            Class<?> type = matcher.getClass();
+            if (type == ANY) {
+                root.prefix = append(root.prefix, id);
+            } else if (type == PREFIX && !partialSegmentPrefix(matcher)) {
+                // matching element of a prefix matcher is the prefix without trailing slash, followed by "/*"
+                String element = matcher.matchingElement().orElseThrow();
+                String prefix = element.substring(0, element.length() - 2);
+                Node node = prefix.isEmpty()
+                        ? root
+                        : node(segments(prefix));
+                node.prefix = append(node.prefix, id);
+            } else {
+                // prefix without trailing slash matches partial segments, custom matchers can do anything
+                always.add(id);
+            }
+        }
+
+        // a prefix created without a trailing slash (such as "/foo") also matches "/foobar"
+        private static boolean partialSegmentPrefix(PathMatcher matcher) {
+            String element = matcher.matchingElement().orElseThrow();
+            String prefix = element.substring(0, element.length() - 2);
+            return matcher.match(UriPath.create(prefix + "-")).accepted();
+        }
+
+        private void registerId(int id) {
+            if (id < 0) {
+                throw new IllegalArgumentException("Matcher id must not be negative, but is: " + id);
+            }
+            ids.add(id);
+            maxId = Math.max(maxId, id);
+        }
+
+        private Node node(List<String> segments) {
+            Node current = root;
+            for (String segment : segments) {
+                if (segment == null) {
+                    if (current.parameter == null) {
+                        current.parameter = new Node();
+                    }
+                    current = current.parameter;
+                } else {
+                    current = current.literals.computeIfAbsent(segment, it -> new Node());
+                }
+            }
+            return current;
+        }
+    }
+
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private Node parameter;
+        // ids of matchers that match exactly the path of this node
+        private int[] exact = NO_IDS;
+        // ids of matchers that match the path of this node and any path below it
+        private int[] prefix = NO_IDS;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -86,6 +86,17 @@ public interface Registration {
         return new Registrations.MaxRerouteCountRegistration(maxReRouteCount);
     }
 
+    /**
+     * Create a registration for configuration of compiled routing.
+     *
+     * @param compiledRouting whether to compile routes
+     * @return a new registration
+     * @see io.helidon.webserver.http.HttpRouting.Builder#compiledRouting(boolean)
+     */
+    static Registration createCompiledRouting(boolean compiledRouting) {
+        return new Registrations.CompiledRoutingRegistration(compiledRouting);
+    }
+
     /**
      * Create a registration for HTTP security instance.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -40,22 +40,21 @@ class RouteCrawler {
     private CrawlerItem next;
     private RouteCrawler subCrawler;
 
-    RouteCrawler(ConnectionContext ctx, RoutingRequest request, List<HttpRouteBase> rootRoute) {
+    RouteCrawler(ConnectionContext ctx, RoutingRequest request, HttpRouteBase rootRoute) {
         this.ctx = ctx;
-        this.routeIterator = rootRoute.iterator();
         this.matchingPath = request.prologue().uriPath();
         this.prologue = request.prologue();
+        this.routeIterator = rootRoute.routes(prologue);
         this.request = request;
         this.parent = null;
     }
 
     RouteCrawler(ConnectionContext ctx,
                  RoutingRequest request,
-                 List<HttpRouteBase> rootRoute,
+                 HttpRouteBase rootRoute,
                  RoutedPath parent,
                  UriPath child) {
         this.ctx = ctx;
-        this.routeIterator = rootRoute.iterator();
         this.matchingPath = child;
         this.request = request;
         this.parent = parent;
@@ -68,6 +67,7 @@ class RouteCrawler {
                                             child,
                                             prologue.query(),
                                             prologue.fragment());
+        this.routeIterator = rootRoute.routes(this.prologue);
     }
 
     boolean hasNext() {
@@ -95,7 +95,7 @@ class RouteCrawler {
                 if (accepts.accepted()) {
                     subCrawler = new RouteCrawler(ctx,
                                                   request,
-                                                  nextRoute.routes(),
+                                                  nextRoute,
                                                   accepts.matchedPath(),
                                                   accepts.unmatchedPath());
                     if (subCrawler.hasNext()) {
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.http;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import io.helidon.http.HttpPrologue;
+import io.helidon.http.Method;
+import io.helidon.http.MethodPredicate;
+
+/**
+ * Compiled routes of a single {@link io.helidon.webserver.http.ServiceRoute}.
+ * <p>
+ * There is one path index per HTTP method used by the routes (each containing routes accepting that method and
+ * routes accepting any method), and one index for other methods. The index only provides candidates in registration
+ * order, each candidate is still asked to accept the request, so semantics of routing are not changed.
+ */
+final class RouteIndex {
+    private final HttpRouteBase[] routes;
+    private final Map<Method, PathMatcherIndex> byMethod;
+    private final PathMatcherIndex otherMethods;
+
+    private RouteIndex(HttpRouteBase[] routes, Map<Method, PathMatcherIndex> byMethod, PathMatcherIndex otherMethods) {
+        this.routes = routes;
+        this.byMethod = byMethod;
+        this.otherMethods = otherMethods;
+    }
+
+    static RouteIndex create(List<HttpRouteBase> routeList) {
+        HttpRouteBase[] routes = routeList.toArray(new HttpRouteBase[0]);
+        Set<Method>[] methods = methods(routes);
+
+        Set<Method> allMethods = new LinkedHashSet<>();
+        for (Set<Method> routeMethods : methods) {
+            if (routeMethods != null) {
+                allMethods.addAll(routeMethods);
+            }
+        }
+
+        Map<Method, PathMatcherIndex> byMethod = new HashMap<>();
+        for (Method method : allMethods) {
+            byMethod.put(method, index(routes, methods, method));
+        }
+        return new RouteIndex(routes, byMethod, index(routes, methods, null));
+    }
+
+    Iterator<HttpRouteBase> candidates(HttpPrologue prologue) {
+        PathMatcherIndex index = byMethod.get(prologue.method());
+        if (index == null) {
+            index = otherMethods;
+        }
+        return new CandidateIterator(routes, index.candidates(prologue.uriPath()));
+    }
+
+    @Override
+    public String toString() {
+        return "RouteIndex of " + routes.length + " routes, " + byMethod.size() + " methods";
+    }
+
+    // null for routes that accept any method (or where we cannot find out)
+    @SuppressWarnings("unchecked")
+    private static Set<Method>[] methods(HttpRouteBase[] routes) {
+        Set<Method>[] result = new Set[routes.length];
+        for (int i = 0; i < routes.length; i++) {
+            if (routes[i] instanceof HttpRouteImpl impl) {
+                Predicate<Method> predicate = impl.methodPredicate();
+                if (predicate instanceof MethodPredicate methodPredicate
+                        && !methodPredicate.acceptedMethods().isEmpty()) {
+                    result[i] = methodPredicate.acceptedMethods();
+                }
+            }
+        }
+        return result;
+    }
+
+    private static PathMatcherIndex index(HttpRouteBase[] routes, Set<Method>[] methods, Method method) {
+        PathMatcherIndex.Builder builder = PathMatcherIndex.builder();
+        for (int i = 0; i < routes.length; i++) {
+            Set<Method> routeMethods = methods[i];
+            if (routeMethods != null && (method == null || !routeMethods.contains(method))) {
+                continue;
+            }
+            HttpRouteBase route = routes[i];
+            if (route instanceof HttpRouteImpl impl) {
+                builder.add(i, impl.pathMatcher().orElseThrow());
+            } else if (route instanceof ServiceRoute service) {
+                builder.addPrefix(i, service.pathMatcher().orElseThrow());
+            } else {
+                // custom routes may accept anything
+                builder.addAlways(i);
+            }
+        }
+        return builder.build();
+    }
+
+    private static final class CandidateIterator implements Iterator<HttpRouteBase> {
+        private final HttpRouteBase[] routes;
+        private final int[] candidates;
+        private int index;
+
+        private CandidateIterator(HttpRouteBase[] routes, int[] candidates) {
+            this.routes = routes;
+            this.candidates = candidates;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < candidates.length;
+        }
+
+        @Override
+        public HttpRouteBase next() {
+            if (index >= candidates.length) {
+                throw new NoSuchElementException();
+            }
+            return routes[candidates[index++]];
+        }
+    }
+}
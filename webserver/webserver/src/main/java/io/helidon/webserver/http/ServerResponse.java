@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,12 @@
 
 package io.helidon.webserver.http;
 
+import java.io.EOFException;
+import java.io.IOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -127,6 +132,41 @@ public interface ServerResponse {
         send(Arrays.copyOfRange(bytes, position, length));
     }
 
+    /**
+     * Send a region of a file as the response entity. Content length of the response is set to {@code length}.
+     * <p>
+     * Implementations may transfer the data directly from the file to the connection without copying it
+     * through user space (such as when using a plain HTTP/1 connection with no content encoding).
+     * The default implementation copies the data through {@link #outputStream()}.
+     * The channel is not closed, and its position is not modified.
+     *
+     * @param file     file channel to read the entity from
+     * @param position position in the file of the first byte to send
+     * @param length   number of bytes to send
+     * @throws java.io.UncheckedIOException in case the file cannot be read
+     */
+    default void send(FileChannel file, long position, long length) {
+        contentLength(length);
+        try (OutputStream out = outputStream()) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(length, 8192));
+            long current = position;
+            long end = position + length;
+            while (current < end) {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), end - current));
+                int read = file.read(buffer, current);
+                if (read == -1) {
+                    throw new EOFException("File is shorter than expected, read " + (current - position)
+                                                   + " bytes of " + length);
+                }
+                out.write(buffer.array(), 0, read);
+                current += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Send an entity, a {@link io.helidon.http.media.MediaContext} will be used to serialize the entity.
      *
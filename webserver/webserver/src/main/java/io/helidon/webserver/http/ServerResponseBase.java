@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -228,7 +228,7 @@ public abstract class ServerResponseBase<T extends ServerResponseBase<T>> implem
 
     /**
      * Entity bytes encoded using content encoding. Does not attempt encoding
-     * if entity is empty.
+     * if entity is empty, or if it is already encoded (content encoding header is set).
      *
      * @param configuredEntity plain bytes
      * @return encoded bytes or same entity array if encoding is disabled
@@ -239,7 +239,7 @@ public abstract class ServerResponseBase<T extends ServerResponseBase<T>> implem
 
     /**
      * Entity bytes encoded using content encoding. Does not attempt encoding
-     * if entity is empty.
+     * if entity is empty, or if it is already encoded (content encoding header is set).
      *
      * @param configuredEntity plain bytes
      * @param position starting position
@@ -248,7 +248,9 @@ public abstract class ServerResponseBase<T extends ServerResponseBase<T>> implem
      */
     protected byte[] entityBytes(byte[] configuredEntity, int position, int length) {
         byte[] entity = configuredEntity;
-        if (contentEncodingContext.contentEncodingEnabled() && length > 0) {
+        if (contentEncodingContext.contentEncodingEnabled()
+                && length > 0
+                && !headers().contains(HeaderNames.CONTENT_ENCODING)) {
             ContentEncoder encoder = contentEncodingContext.encoder(requestHeaders);
             // we want to preserve optimization here, let's create a new byte array
             ByteArrayOutputStream baos = new ByteArrayOutputStream(length);
@@ -281,6 +283,17 @@ public abstract class ServerResponseBase<T extends ServerResponseBase<T>> implem
         return outputStream;
     }
 
+    /**
+     * Whether the entity of this response would be encoded by {@link #contentEncode(java.io.OutputStream)}.
+     *
+     * @return {@code true} if a content encoder other than identity would be used for the entity
+     */
+    protected boolean contentEncoded() {
+        return contentEncodingContext.contentEncodingEnabled()
+                && !headers().contains(HeaderNames.CONTENT_ENCODING)
+                && contentEncodingContext.encoder(requestHeaders) != ContentEncoder.NO_OP;
+    }
+
     /**
      * Execute before send runnables.
      */
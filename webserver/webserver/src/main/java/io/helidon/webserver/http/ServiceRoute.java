@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package io.helidon.webserver.http;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -33,6 +34,8 @@ class ServiceRoute extends HttpRouteBase implements HttpRoute {
     private final PathMatcher pathMatcher;
     private final List<HttpRouteBase> routes;
 
+    private volatile RouteIndex index;
+
     ServiceRoute(HttpService theService,
                  Predicate<Method> methodPredicate,
                  PathMatcher pathMatcher,
@@ -90,6 +93,15 @@ class ServiceRoute extends HttpRouteBase implements HttpRoute {
         return routes;
     }
 
+    @Override
+    Iterator<HttpRouteBase> routes(HttpPrologue prologue) {
+        RouteIndex routeIndex = index;
+        if (routeIndex == null) {
+            return routes.iterator();
+        }
+        return routeIndex.candidates(prologue);
+    }
+
     @Override
     boolean isList() {
         return true;
@@ -101,6 +113,19 @@ class ServiceRoute extends HttpRouteBase implements HttpRoute {
     }
 
     RouteCrawler crawler(ConnectionContext ctx, RoutingRequest request) {
-        return new RouteCrawler(ctx, request, routes);
+        return new RouteCrawler(ctx, request, this);
+    }
+
+    /**
+     * Compile routes of this service (and all nested services) into a route index, so routing does not
+     * need to evaluate each route.
+     */
+    void compile() {
+        for (HttpRouteBase route : routes) {
+            if (route instanceof ServiceRoute service) {
+                service.compile();
+            }
+        }
+        this.index = RouteIndex.create(routes);
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -676,7 +676,7 @@ public class Http1Connection implements ServerConnection, InterruptableTask<Void
                                                                   message);
 
         // write response
-        BufferData buffer = BufferData.growing(128);
+        BufferData buffer = ctx.listenerContext().bufferPool().growing(128);
         ServerResponseHeaders headers = response.headers();
 
         // we are escaping the connection loop, the connection will be closed
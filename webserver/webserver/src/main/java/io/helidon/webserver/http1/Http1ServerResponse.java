@@ -20,6 +20,7 @@ import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
@@ -31,9 +32,11 @@ import java.util.function.UnaryOperator;
 import io.helidon.common.GenericType;
 import io.helidon.common.HelidonServiceLoader;
 import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.BufferPool;
 import io.helidon.common.buffers.DataWriter;
 import io.helidon.common.media.type.MediaType;
 import io.helidon.common.media.type.MediaTypes;
+import io.helidon.common.socket.HelidonSocket;
 import io.helidon.http.DateTime;
 import io.helidon.http.Header;
 import io.helidon.http.HeaderNames;
@@ -228,6 +231,33 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
         }
     }
 
+    @Override
+    public void send(FileChannel file, long position, long length) {
+        HelidonSocket socket = fileTransferSocket();
+        if (socket == null) {
+            // TLS, content encoding, output stream filters, or trailers - data must go through the output stream
+            super.send(file, position, length);
+            return;
+        }
+        if (isNoEntityStatus && length > 0) {
+            status(noEntityInternalError(status()));
+            return;
+        }
+
+        beforeSend();
+        contentLength(length);
+        BufferData headerBuffer = responseBuffer(BufferData.EMPTY_BYTES);
+        bytesWritten = headerBuffer.available() + length;
+        isSent = true;
+        request.reset();
+        dataWriter.write(headerBuffer);
+        // status line and headers may still be queued in an asynchronous writer, they must be on the wire
+        // before we write to the socket directly
+        dataWriter.flush();
+        socket.transferFrom(file, position, length);
+        afterSend();
+    }
+
     @Override
     public boolean isSent() {
         return isSent;
@@ -397,6 +427,23 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
         }
     }
 
+    // socket that can be used to transfer file content directly, or null if the entity must be copied
+    private HelidonSocket fileTransferSocket() {
+        if (outputStreamFilter != null
+                || headers.contains(HeaderNames.TRAILER)
+                || headers.contains(HeaderNames.TRANSFER_ENCODING)
+                || contentEncoded()) {
+            return null;
+        }
+        HelidonSocket socket;
+        try {
+            socket = ctx.serverSocket();
+        } catch (UnsupportedOperationException e) {
+            return null;
+        }
+        return socket.supportsFileTransfer() ? socket : null;
+    }
+
     private BufferData responseBuffer(byte[] bytes) {
         return responseBuffer(bytes, 0, bytes.length);
     }
@@ -426,7 +473,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
         sendListener.headers(ctx, headers);
 
         // give some space for code and headers + entity
-        BufferData responseBuffer = BufferData.growing(256 + length);
+        BufferData responseBuffer = ctx.listenerContext().bufferPool().growing(256 + length);
 
         nonEntityBytes(headers, usedStatus, responseBuffer, keepAlive, validateHeaders);
         if (forcedChunkedEncoding) {
@@ -641,7 +688,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
                 if (beforeTrailers != null) {
                     beforeTrailers.accept(ServerResponseTrailers.wrap(trailers));
                 }
-                BufferData buffer = BufferData.growing(128);
+                BufferData buffer = bufferPool().growing(128);
                 writeHeaders(trailers, buffer, this.validateHeaders);
                 buffer.write('\r');        // "\r\n" - empty line after headers
                 buffer.write('\n');
@@ -660,6 +707,11 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
             return responseBytesTotal;
         }
 
+        // buffers passed to the data writer are released once written
+        private BufferPool bufferPool() {
+            return ctx.listenerContext().bufferPool();
+        }
+
         /**
          * Send terminating chunk without trailers {@code  "0\r\n\r\n"} or when trailers are expected {@code  "0\r\n"}.
          *
@@ -699,7 +751,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
                     sendListener.status(ctx, usedStatus);
                     sendListener.headers(ctx, headers);
                     // write headers and payload part in one buffer to avoid TCP/ACK delay problems
-                    BufferData growing = BufferData.growing(256 + buffer.available());
+                    BufferData growing = bufferPool().growing(256 + buffer.available());
                     nonEntityBytes(headers, usedStatus, growing, keepAlive, validateHeaders);
                     // check not exceeding content-length
                     bytesWritten += buffer.available();
@@ -761,7 +813,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
             Status usedStatus = status.get();
             sendListener.status(ctx, usedStatus);
             sendListener.headers(ctx, headers);
-            BufferData bufferData = BufferData.growing(contentLength + 256);
+            BufferData bufferData = bufferPool().growing(contentLength + 256);
             nonEntityBytes(headers, usedStatus, bufferData, keepAlive, validateHeaders);
 
             if (firstBuffer != null) {
@@ -794,7 +846,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
             Status usedStatus = status.get();
             sendListener.status(ctx, usedStatus);
             sendListener.headers(ctx, headers);
-            BufferData bufferData = BufferData.growing(256);
+            BufferData bufferData = bufferPool().growing(256);
             nonEntityBytes(headers, usedStatus, bufferData, keepAlive, validateHeaders);
             sendListener.data(ctx, bufferData);
             responseBytesTotal += bufferData.available();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -157,6 +157,11 @@ class HttpRoutingTest {
             return null;
         }
 
+        @Override
+        public HttpRouting.Builder compiledRouting(boolean compiledRouting) {
+            return null;
+        }
+
         @Override
         public HttpRouting build() {
             return null;
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.http;
+
+import java.util.List;
+
+import io.helidon.common.uri.UriPath;
+import io.helidon.http.PathMatcher;
+import io.helidon.http.PathMatchers;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class PathMatcherIndexTest {
+    private static final List<PathMatcher> MATCHERS = List.of(
+            PathMatchers.create("/"),                   // 0
+            PathMatchers.create("/greet"),              // 1
+            PathMatchers.create("/greet/{name}"),       // 2
+            PathMatchers.create("/static/*"),           // 3
+            PathMatchers.create("/users/{id}/orders"),  // 4
+            PathMatchers.create("/{id:\\d+}"),          // 5 - regular expression, always a candidate
+            PathMatchers.create("/greet/world"),        // 6
+            PathMatchers.any(),                         // 7
+            PathMatchers.create("/a/{x}/*"));           // 8
+
+    private static PathMatcherIndex index;
+
+    @BeforeAll
+    static void init() {
+        PathMatcherIndex.Builder builder = PathMatcherIndex.builder();
+        for (int i = 0; i < MATCHERS.size(); i++) {
+            builder.add(i, MATCHERS.get(i));
+        }
+        index = builder.build();
+    }
+
+    @Test
+    void testRoot() {
+        assertThat(index.candidates(UriPath.create("/")), is(new int[] {0, 5, 7}));
+    }
+
+    @Test
+    void testExactAndTemplate() {
+        assertThat(index.candidates(UriPath.create("/greet")), is(new int[] {1, 5, 7}));
+        assertThat(index.candidates(UriPath.create("/greet/world")), is(new int[] {2, 5, 6, 7}));
+        assertThat(index.candidates(UriPath.create("/greet/jack")), is(new int[] {2, 5, 7}));
+        assertThat(index.candidates(UriPath.create("/users/42/orders")), is(new int[] {4, 5, 7}));
+        assertThat(index.candidates(UriPath.create("/users/42")), is(new int[] {5, 7}));
+    }
+
+    @Test
+    void testPrefix() {
+        assertThat(index.candidates(UriPath.create("/static")), is(new int[] {3, 5, 7}));
+        assertThat(index.candidates(UriPath.create("/static/js/app.js")), is(new int[] {3, 5, 7}));
+        assertThat(index.candidates(UriPath.create("/a/b/c/d")), is(new int[] {5, 7, 8}));
+        assertThat(index.candidates(UriPath.create("/staticx")), is(new int[] {5, 7}));
+    }
+
+    @Test
+    void testCandidatesContainAllMatches() {
+        List<String> paths = List.of("/", "/greet", "/greet/", "/greet/world", "/static", "/static/", "/static/a/b",
+                                     "/users/1/orders", "/users//orders", "/42", "/a/b/", "/a/b/c", "/unknown/path");
+        for (String path : paths) {
+            UriPath uriPath = UriPath.create(path);
+            int[] candidates = index.candidates(uriPath);
+            for (int i = 0; i < MATCHERS.size(); i++) {
+                if (MATCHERS.get(i).match(uriPath).accepted()) {
+                    assertThat("Matcher " + MATCHERS.get(i) + " should be a candidate for " + path,
+                               contains(candidates, i),
+                               is(true));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testPrefixMatch() {
+        PathMatcherIndex prefixIndex = PathMatcherIndex.builder()
+                .addPrefix(0, PathMatchers.create("/greet"))
+                .addPrefix(1, PathMatchers.create("/users/{id}"))
+                .addPrefix(2, PathMatchers.create("/"))
+                .addAlways(3)
+                .build();
+
+        assertThat(prefixIndex.candidates(UriPath.create("/greet/hello")), is(new int[] {0, 2, 3}));
+        assertThat(prefixIndex.candidates(UriPath.create("/users/1/orders/2")), is(new int[] {1, 2, 3}));
+        assertThat(prefixIndex.candidates(UriPath.create("/other")), is(new int[] {2, 3}));
+    }
+
+    private static boolean contains(int[] candidates, int id) {
+        for (int candidate : candidates) {
+            if (candidate == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.http;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import io.helidon.http.HttpPrologue;
+import io.helidon.http.Method;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+class RouteIndexTest {
+    private static final Handler HANDLER = (req, res) -> res.send("done");
+
+    private static HttpRoute getGreet;
+    private static HttpRoute postGreet;
+    private static HttpRoute anyGreetName;
+    private static HttpRoute getUsers;
+    private static ServiceRoute root;
+
+    @BeforeAll
+    static void init() {
+        getGreet = HttpRoute.builder().methods(Method.GET).path("/greet").handler(HANDLER).build();
+        postGreet = HttpRoute.builder().methods(Method.POST).path("/greet").handler(HANDLER).build();
+        anyGreetName = HttpRoute.builder().path("/greet/{name}").handler(HANDLER).build();
+        getUsers = HttpRoute.builder().methods(Method.GET, Method.HEAD).path("/users/*").handler(HANDLER).build();
+
+        ServiceRules rules = new ServiceRules();
+        rules.route(getGreet)
+                .route(postGreet)
+                .route(anyGreetName)
+                .route(getUsers);
+        root = rules.build();
+        root.compile();
+    }
+
+    @Test
+    void testMethodTables() {
+        assertThat(candidates(Method.GET, "/greet"), contains(getGreet));
+        assertThat(candidates(Method.POST, "/greet"), contains(postGreet));
+        assertThat(candidates(Method.PUT, "/greet"), is(empty()));
+    }
+
+    @Test
+    void testAnyMethodRoute() {
+        assertThat(candidates(Method.GET, "/greet/jack"), contains(anyGreetName));
+        assertThat(candidates(Method.DELETE, "/greet/jack"), contains(anyGreetName));
+    }
+
+    @Test
+    void testPrefixRoute() {
+        assertThat(candidates(Method.HEAD, "/users/42/orders"), contains(getUsers));
+        assertThat(candidates(Method.POST, "/users/42/orders"), is(empty()));
+    }
+
+    private static List<HttpRouteBase> candidates(Method method, String path) {
+        HttpPrologue prologue = HttpPrologue.create("HTTP/1.1", "HTTP", "1.1", method, path, false);
+        List<HttpRouteBase> result = new ArrayList<>();
+        Iterator<HttpRouteBase> iterator = root.routes(prologue);
+        iterator.forEachRemaining(result::add);
+        return result;
+    }
+}